@@ -0,0 +1,104 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 加密基准测试套件运行器。
+ *
+ * <p>依次以 1、2、4……直至 CPU 核数的线程数运行 {@code benchmark.crypto} 包下的全部基准测试，
+ * 每种线程数输出一份 JSON 报告 {@code crypto-t<线程数>.json}。报告文件名固定，
+ * 可直接用 JMH Visualizer 等工具与历史报告对比以发现性能回退。</p>
+ *
+ * <p>运行方式：{@code java -cp benchmarks.jar io.github.pangju666.framework.boot.benchmark.crypto.CryptoBenchmarkRunner [JMH 参数]}。
+ * 支持全部 JMH 命令行参数，例如 {@code -p algorithm=AES_GCM,AES_SIV} 只运行部分算法、
+ * {@code -t 8} 只以 8 个线程运行、指定正则只运行部分基准测试；报告目录通过系统属性
+ * {@value #REPORT_DIR_PROPERTY} 指定，默认为 {@value #DEFAULT_REPORT_DIR}。</p>
+ *
+ * @author pangju666
+ * @see CryptoDataTypeBenchmark
+ * @see CryptoUtilsEncodingBenchmark
+ * @since 2.1.0
+ */
+public final class CryptoBenchmarkRunner {
+	/**
+	 * 报告目录系统属性名。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String REPORT_DIR_PROPERTY = "benchmark.report.dir";
+	/**
+	 * 默认报告目录。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String DEFAULT_REPORT_DIR = "target/jmh-reports";
+	/**
+	 * 未指定基准测试时默认运行的基准测试正则。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String DEFAULT_INCLUDE = CryptoBenchmarkRunner.class.getPackageName().replace(".", "\\.") + "\\.";
+
+	private CryptoBenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		Path reportDir = Path.of(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+		Files.createDirectories(reportDir);
+
+		List<Integer> threadCounts = commandLineOptions.getThreads().hasValue() ?
+			List.of(commandLineOptions.getThreads().get()) : getDefaultThreadCounts();
+		for (int threads : threadCounts) {
+			OptionsBuilder builder = new OptionsBuilder();
+			builder.parent(commandLineOptions);
+			if (commandLineOptions.getIncludes().isEmpty()) {
+				builder.include(DEFAULT_INCLUDE);
+			}
+			Options options = builder
+				.threads(threads)
+				.resultFormat(ResultFormatType.JSON)
+				.result(reportDir.resolve("crypto-t" + threads + ".json").toString())
+				.build();
+			new Runner(options).run();
+		}
+	}
+
+	private static List<Integer> getDefaultThreadCounts() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		List<Integer> threadCounts = new ArrayList<>();
+		for (int threads = 1; threads < processors; threads *= 2) {
+			threadCounts.add(threads);
+		}
+		threadCounts.add(processors);
+		return threadCounts;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.framework.boot.crypto.enums.CryptoAlgorithm;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * 加密基准测试公共方法。
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+final class CryptoBenchmarks {
+	/**
+	 * 对称算法使用的口令。
+	 *
+	 * @since 2.1.0
+	 */
+	static final String PASSWORD = "benchmark-secret-key";
+
+	private CryptoBenchmarks() {
+	}
+
+	/**
+	 * 创建算法对应的加密工厂。
+	 *
+	 * @param algorithm 加密算法
+	 * @return 加密工厂
+	 * @since 2.1.0
+	 */
+	static CryptoFactory newFactory(CryptoAlgorithm algorithm) {
+		return switch (algorithm) {
+			case RSA -> new RSACryptoFactory(16);
+			case AES256 -> new AES256CryptoFactory(16);
+			case BASIC -> new BasicCryptoFactory(16);
+			case STRONG -> new StrongCryptoFactory(16);
+			case AES_GCM -> new AESGCMCryptoFactory(16);
+			case RSA_ENVELOPE -> new RSAEnvelopeCryptoFactory(16);
+			case AES_SIV -> new AESSIVCryptoFactory(16);
+		};
+	}
+
+	/**
+	 * 创建算法对应的加/解密密钥。
+	 *
+	 * <p>RSA 类算法生成 2048 位密钥对，返回 Base64 编码的公钥与私钥；其他算法加/解密均使用 {@link #PASSWORD}。</p>
+	 *
+	 * @param algorithm 加密算法
+	 * @return 长度为 2 的数组，依次为加密密钥与解密密钥
+	 * @throws NoSuchAlgorithmException 当前 JVM 不支持 RSA 时抛出
+	 * @since 2.1.0
+	 */
+	static String[] newKeys(CryptoAlgorithm algorithm) throws NoSuchAlgorithmException {
+		if (algorithm != CryptoAlgorithm.RSA && algorithm != CryptoAlgorithm.RSA_ENVELOPE) {
+			return new String[]{PASSWORD, PASSWORD};
+		}
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		return new String[]{
+			Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+			Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded())
+		};
+	}
+
+	/**
+	 * 生成固定种子的随机字节。
+	 *
+	 * @param size 字节数
+	 * @return 随机字节
+	 * @since 2.1.0
+	 */
+	static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 生成固定种子的随机数字串。
+	 *
+	 * @param digits 位数
+	 * @return 首位非 0 的数字串
+	 * @since 2.1.0
+	 */
+	static String randomDigits(int digits) {
+		Random random = new Random(digits);
+		StringBuilder builder = new StringBuilder(digits);
+		builder.append(1 + random.nextInt(9));
+		for (int i = 1; i < digits; i++) {
+			builder.append(random.nextInt(10));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 生成固定种子的随机文本（中英文混合）。
+	 *
+	 * @param length 字符数
+	 * @return 随机文本
+	 * @since 2.1.0
+	 */
+	static String randomText(int length) {
+		Random random = new Random(length);
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(random.nextInt(4) == 0 ? (char) ('一' + random.nextInt(0x5000)) :
+				(char) ('a' + random.nextInt(26)));
+		}
+		return builder.toString();
+	}
+}
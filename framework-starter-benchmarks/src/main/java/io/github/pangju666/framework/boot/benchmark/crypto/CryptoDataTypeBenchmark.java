@@ -0,0 +1,126 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.framework.boot.crypto.enums.CryptoAlgorithm;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 加密工厂全量基准测试。
+ *
+ * <p>覆盖每种 {@link CryptoAlgorithm} × 数据类型（字节数组、文本、{@link BigInteger}、{@link BigDecimal}）×
+ * 载荷大小的加/解密耗时。载荷大小对字节数组为字节数，对文本为字符数，对数字为十进制位数。</p>
+ *
+ * <p>线程数与 JSON 报告由 {@link CryptoBenchmarkRunner} 统一控制；也可通过
+ * {@code java -jar benchmarks.jar CryptoDataTypeBenchmark -p algorithm=AES_GCM -t 4 -rf json} 单独运行部分组合。</p>
+ *
+ * @author pangju666
+ * @see CryptoBenchmarkRunner
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptoDataTypeBenchmark {
+	@Param({"RSA", "AES256", "BASIC", "STRONG", "AES_GCM", "RSA_ENVELOPE", "AES_SIV"})
+	private CryptoAlgorithm algorithm;
+
+	@Param({"16", "256", "4096"})
+	private int payloadSize;
+
+	private CryptoFactory factory;
+	private String encryptKey;
+	private String decryptKey;
+
+	private byte[] binary;
+	private String text;
+	private BigInteger integer;
+	private BigDecimal decimal;
+
+	private byte[] encryptedBinary;
+	private String encryptedText;
+	private BigInteger encryptedInteger;
+	private BigDecimal encryptedDecimal;
+
+	@Setup
+	public void setup() throws NoSuchAlgorithmException {
+		factory = CryptoBenchmarks.newFactory(algorithm);
+		String[] keys = CryptoBenchmarks.newKeys(algorithm);
+		encryptKey = keys[0];
+		decryptKey = keys[1];
+
+		binary = CryptoBenchmarks.randomBytes(payloadSize);
+		text = CryptoBenchmarks.randomText(payloadSize);
+		String digits = CryptoBenchmarks.randomDigits(payloadSize);
+		integer = new BigInteger(digits);
+		decimal = new BigDecimal(integer, Math.min(2, payloadSize - 1));
+
+		encryptedBinary = factory.getBinaryEncryptor(encryptKey).encrypt(binary);
+		encryptedText = factory.getTextEncryptor(encryptKey).encrypt(text);
+		encryptedInteger = factory.getIntegerNumberEncryptor(encryptKey).encrypt(integer);
+		encryptedDecimal = factory.getDecimalNumberEncryptor(encryptKey).encrypt(decimal);
+	}
+
+	@Benchmark
+	public byte[] encryptBinary() {
+		return factory.getBinaryEncryptor(encryptKey).encrypt(binary);
+	}
+
+	@Benchmark
+	public byte[] decryptBinary() {
+		return factory.getBinaryDecryptor(decryptKey).decrypt(encryptedBinary);
+	}
+
+	@Benchmark
+	public String encryptText() {
+		return factory.getTextEncryptor(encryptKey).encrypt(text);
+	}
+
+	@Benchmark
+	public String decryptText() {
+		return factory.getTextDecryptor(decryptKey).decrypt(encryptedText);
+	}
+
+	@Benchmark
+	public BigInteger encryptInteger() {
+		return factory.getIntegerNumberEncryptor(encryptKey).encrypt(integer);
+	}
+
+	@Benchmark
+	public BigInteger decryptInteger() {
+		return factory.getIntegerNumberDecryptor(decryptKey).decrypt(encryptedInteger);
+	}
+
+	@Benchmark
+	public BigDecimal encryptDecimal() {
+		return factory.getDecimalNumberEncryptor(encryptKey).encrypt(decimal);
+	}
+
+	@Benchmark
+	public BigDecimal decryptDecimal() {
+		return factory.getDecimalNumberDecryptor(decryptKey).decrypt(encryptedDecimal);
+	}
+}
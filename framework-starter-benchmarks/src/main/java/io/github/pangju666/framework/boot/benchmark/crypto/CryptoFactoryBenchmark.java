@@ -0,0 +1,100 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.framework.boot.crypto.enums.CryptoAlgorithm;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyHandle;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对称加密工厂基准测试。
+ *
+ * <p>对比基于口令的加密工厂（每次调用都执行口令派生）与 {@link AESGCMCryptoFactory}（每个口令只派生一次密钥）
+ * 在字段级加密典型负载（短文本、小数）下的单次加/解密耗时，以及通过 {@link CryptoKeyHandle}
+ * 获取加密器（无需每次计算密钥摘要）时的差异。</p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptoFactoryBenchmark {
+	private static final String KEY = "benchmark-secret-key";
+	private static final String TEXT = "13800138000";
+	private static final BigDecimal DECIMAL = new BigDecimal("12345.67");
+
+	@Param({"AES256", "BASIC", "STRONG", "AES_GCM", "AES_SIV"})
+	private CryptoAlgorithm algorithm;
+
+	private CryptoFactory factory;
+	private CryptoKeyHandle keyHandle;
+	private String encryptedText;
+	private BigDecimal encryptedDecimal;
+
+	@Setup
+	public void setup() {
+		factory = switch (algorithm) {
+			case AES256 -> new AES256CryptoFactory(16);
+			case BASIC -> new BasicCryptoFactory(16);
+			case STRONG -> new StrongCryptoFactory(16);
+			case AES_GCM -> new AESGCMCryptoFactory(16);
+			case AES_SIV -> new AESSIVCryptoFactory(16);
+			default -> throw new IllegalArgumentException("不支持的算法：" + algorithm);
+		};
+		keyHandle = CryptoKeyHandle.of(KEY);
+		encryptedText = factory.getTextEncryptor(KEY).encrypt(TEXT);
+		encryptedDecimal = factory.getDecimalNumberEncryptor(KEY).encrypt(DECIMAL);
+	}
+
+	@Benchmark
+	public String encryptText() {
+		return factory.getTextEncryptor(KEY).encrypt(TEXT);
+	}
+
+	@Benchmark
+	public String encryptTextWithKeyHandle() {
+		return keyHandle.getTextEncryptor(factory).encrypt(TEXT);
+	}
+
+	@Benchmark
+	public String decryptText() {
+		return factory.getTextDecryptor(KEY).decrypt(encryptedText);
+	}
+
+	@Benchmark
+	public BigDecimal encryptDecimal() {
+		return factory.getDecimalNumberEncryptor(KEY).encrypt(DECIMAL);
+	}
+
+	@Benchmark
+	public BigDecimal decryptDecimal() {
+		return factory.getDecimalNumberDecryptor(KEY).decrypt(encryptedDecimal);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.framework.boot.crypto.enums.CryptoAlgorithm;
+import io.github.pangju666.framework.boot.crypto.enums.Encoding;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
+import org.apache.commons.codec.DecoderException;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CryptoUtils} 字符串加/解密基准测试。
+ *
+ * <p>对比 {@link Encoding#BASE64} 与 {@link Encoding#HEX} 两种密文编码在不同载荷大小（字符数）下的加/解密耗时，
+ * 以及编码本身在整体耗时中的占比（与 {@link CryptoDataTypeBenchmark} 中同算法的文本加/解密对比）。</p>
+ *
+ * @author pangju666
+ * @see CryptoBenchmarkRunner
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CryptoUtilsEncodingBenchmark {
+	@Param({"AES256", "AES_GCM", "AES_SIV"})
+	private CryptoAlgorithm algorithm;
+
+	@Param({"BASE64", "HEX"})
+	private Encoding encoding;
+
+	@Param({"16", "256", "4096"})
+	private int payloadSize;
+
+	private CryptoFactory factory;
+	private String encryptKey;
+	private String decryptKey;
+	private String text;
+	private String encryptedText;
+
+	@Setup
+	public void setup() throws NoSuchAlgorithmException {
+		factory = CryptoBenchmarks.newFactory(algorithm);
+		String[] keys = CryptoBenchmarks.newKeys(algorithm);
+		encryptKey = keys[0];
+		decryptKey = keys[1];
+		text = CryptoBenchmarks.randomText(payloadSize);
+		encryptedText = CryptoUtils.encryptString(factory, text, encryptKey, encoding);
+	}
+
+	@Benchmark
+	public String encryptString() {
+		return CryptoUtils.encryptString(factory, text, encryptKey, encoding);
+	}
+
+	@Benchmark
+	public String decryptString() throws DecoderException {
+		return CryptoUtils.decryptString(factory, encryptedText, decryptKey, encoding);
+	}
+}
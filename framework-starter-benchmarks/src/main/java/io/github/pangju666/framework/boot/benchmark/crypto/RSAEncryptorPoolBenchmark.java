@@ -0,0 +1,104 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.commons.crypto.encryption.binary.RSABinaryEncryptor;
+import io.github.pangju666.commons.crypto.key.RSAKeyPair;
+import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSA 加密器实例池多线程基准测试。
+ *
+ * <p>对比所有线程共享单个 {@link RSABinaryEncryptor} 与 {@link RSACryptoFactory} 返回的池化加密器
+ * 在 RSA‑OAEP 解密下的吞吐量随线程数的变化。</p>
+ *
+ * <p>运行方式：直接执行 {@link #main(String[])} 依次以 1、2、4……直至 CPU 核数的线程数运行；
+ * 或通过 {@code java -jar benchmarks.jar RSAEncryptorPoolBenchmark -t <线程数>} 指定线程数。</p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RSAEncryptorPoolBenchmark {
+	private static final byte[] PLAINTEXT = "13800138000".getBytes(StandardCharsets.UTF_8);
+
+	private BinaryEncryptor sharedDecryptor;
+	private BinaryEncryptor pooledDecryptor;
+	private byte[] ciphertext;
+
+	public static void main(String[] args) throws RunnerException {
+		int processors = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; ; threads = Math.min(threads * 2, processors)) {
+			Options options = new OptionsBuilder()
+				.include(RSAEncryptorPoolBenchmark.class.getSimpleName())
+				.threads(threads)
+				.build();
+			new Runner(options).run();
+			if (threads == processors) {
+				break;
+			}
+		}
+	}
+
+	@Setup
+	public void setup() throws NoSuchAlgorithmException, InvalidKeySpecException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		String publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+		String privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+
+		RSABinaryEncryptor encryptor = new RSABinaryEncryptor(new RSAOEAPWithSHA256Transformation());
+		encryptor.setPrivateKey(RSAKeyPair.fromBase64String(null, privateKey).privateKey());
+		encryptor.initialize();
+		sharedDecryptor = encryptor;
+
+		RSACryptoFactory factory = new RSACryptoFactory(16);
+		pooledDecryptor = factory.getBinaryDecryptor(privateKey);
+		ciphertext = factory.getBinaryEncryptor(publicKey).encrypt(PLAINTEXT);
+	}
+
+	@Benchmark
+	public byte[] sharedEncryptor() {
+		return sharedDecryptor.decrypt(ciphertext);
+	}
+
+	@Benchmark
+	public byte[] pooledEncryptor() {
+		return pooledDecryptor.decrypt(ciphertext);
+	}
+}
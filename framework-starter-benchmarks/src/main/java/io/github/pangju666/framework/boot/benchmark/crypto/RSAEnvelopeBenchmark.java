@@ -0,0 +1,82 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.crypto;
+
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSA 分段加密与 RSA + AES‑GCM 信封加密基准测试。
+ *
+ * <p>对比 {@link RSACryptoFactory}（按 RSA 块大小分段）与 {@link RSAEnvelopeCryptoFactory}（每条消息一次 RSA 运算）
+ * 在不同消息大小下的加/解密耗时。</p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RSAEnvelopeBenchmark {
+	@Param({"RSA", "RSA_ENVELOPE"})
+	private String algorithm;
+
+	@Param({"64", "1024", "65536"})
+	private int payloadSize;
+
+	private CryptoFactory factory;
+	private String publicKey;
+	private String privateKey;
+	private byte[] payload;
+	private byte[] ciphertext;
+
+	@Setup
+	public void setup() throws NoSuchAlgorithmException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		KeyPair keyPair = generator.generateKeyPair();
+		publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+		privateKey = Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+
+		factory = "RSA".equals(algorithm) ? new RSACryptoFactory(16) : new RSAEnvelopeCryptoFactory(16);
+		payload = new byte[payloadSize];
+		new Random(payloadSize).nextBytes(payload);
+		ciphertext = factory.getBinaryEncryptor(publicKey).encrypt(payload);
+	}
+
+	@Benchmark
+	public byte[] encrypt() {
+		return factory.getBinaryEncryptor(publicKey).encrypt(payload);
+	}
+
+	@Benchmark
+	public byte[] decrypt() {
+		return factory.getBinaryDecryptor(privateKey).decrypt(ciphertext);
+	}
+}
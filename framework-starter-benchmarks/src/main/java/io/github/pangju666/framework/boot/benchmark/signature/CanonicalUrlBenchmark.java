@@ -0,0 +1,87 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.benchmark.signature;
+
+import io.github.pangju666.framework.boot.web.signature.CanonicalUrlBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求参数签名规范化 URL 构建基准测试。
+ *
+ * <p>对比 {@link CanonicalUrlBuilder} 与原有实现（拆分查询字符串、前缀过滤、拼接后整体编码）
+ * 在不同查询参数数量下的耗时与内存分配（配合 {@code -prof gc} 查看）。</p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CanonicalUrlBenchmark {
+	private static final String REQUEST_URL = "https://api.example.com/v1/orders/search";
+	private static final String SIGNATURE_PARAM_NAME = "apiSignature";
+	private static final String APP_ID_PARAM_NAME = "apiAppId";
+
+	@Param({"2", "16", "64"})
+	private int paramCount;
+
+	private StringBuffer requestUrl;
+	private String queryString;
+
+	@Setup
+	public void setup() {
+		requestUrl = new StringBuffer(REQUEST_URL);
+		StringBuilder builder = new StringBuilder()
+			.append(APP_ID_PARAM_NAME).append("=app-1&")
+			.append(SIGNATURE_PARAM_NAME).append("=0123456789abcdef0123456789abcdef");
+		for (int i = 0; i < paramCount; i++) {
+			builder.append("&param").append(i).append("=value-").append(i).append("%20中文");
+		}
+		queryString = builder.toString();
+	}
+
+	@Benchmark
+	public String canonicalUrlBuilder() {
+		return CanonicalUrlBuilder.build(requestUrl, queryString, SIGNATURE_PARAM_NAME, APP_ID_PARAM_NAME);
+	}
+
+	@Benchmark
+	public String legacy() {
+		String url = requestUrl.toString();
+		List<String> queryParams = new ArrayList<>();
+		for (String queryParam : queryString.split("&")) {
+			if (!Strings.CS.startsWithAny(queryParam, SIGNATURE_PARAM_NAME, APP_ID_PARAM_NAME)) {
+				queryParams.add(queryParam);
+			}
+		}
+		if (queryParams.isEmpty()) {
+			return URLEncoder.encode(url, StandardCharsets.UTF_8);
+		}
+		return URLEncoder.encode(url + "?" + StringUtils.join(queryParams, "&"), StandardCharsets.UTF_8);
+	}
+}
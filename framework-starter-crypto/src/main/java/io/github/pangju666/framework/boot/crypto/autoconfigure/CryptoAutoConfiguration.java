@@ -18,32 +18,45 @@ package io.github.pangju666.framework.boot.crypto.autoconfigure;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
+import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 
 /**
  * 加密工厂自动配置。
  * <p>
  * 在 Spring Boot 应用启动时，按需向容器注册加密工厂 Bean，包括
  * {@link AES256CryptoFactory}、{@link RSACryptoFactory}、
- * {@link StrongCryptoFactory}、{@link BasicCryptoFactory}。
+ * {@link StrongCryptoFactory}、{@link BasicCryptoFactory}、{@link AESGCMCryptoFactory}、
+ * {@link RSAEnvelopeCryptoFactory}、{@link AESSIVCryptoFactory}。
  * 当容器中不存在同类型 Bean 时，为其提供默认实现。
  * </p>
  * <p>
  * 属性映射：统一从 {@link CryptoProperties#getMaxCacheCryptoKeySize()} 读取缓存上限，
  * 对应配置键为 {@code pangju.crypto.max-cache-crypto-key-size}，用于限制各工厂内部
- * 加密器缓存的最大条目数。
+ * 加密器缓存的最大条目数；RSA 与 RSA 信封工厂的实例池大小读取自 {@link CryptoProperties#getRsaEncryptorPoolSize()}。
  * </p>
  * <p>
  * 条件启用：仅当类路径存在 {@link RSAKeyPair} 时生效。
  * </p>
+ * <p>
+ * 同时注册 {@link CryptoKeyCacheRefreshListener}，在配置刷新时清空密钥占位符解析缓存。
+ * </p>
+ * <p>
+ * 指标监控：当 {@code pangju.crypto.metrics.enabled=true} 时，各工厂的加密器缓存启用统计记录，
+ * 并由 {@link CryptoMetricsConfiguration} 注册指标采集。
+ * </p>
  *
  * @author pangju666
  * @since 1.0.0
@@ -52,6 +65,7 @@ import org.springframework.context.annotation.Bean;
 @AutoConfiguration
 @ConditionalOnClass({RSAKeyPair.class, Caffeine.class})
 @EnableConfigurationProperties(CryptoProperties.class)
+@Import(CryptoMetricsConfiguration.class)
 public class CryptoAutoConfiguration {
 	/**
 	 * 注册 AES‑256 算法加密工厂。
@@ -66,7 +80,7 @@ public class CryptoAutoConfiguration {
 	@ConditionalOnMissingBean(AES256CryptoFactory.class)
 	@Bean
 	public AES256CryptoFactory aes256CryptoFactory(CryptoProperties properties) {
-		return new AES256CryptoFactory(properties.getMaxCacheCryptoKeySize());
+		return new AES256CryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getMetrics().isEnabled());
 	}
 
 	/**
@@ -82,7 +96,8 @@ public class CryptoAutoConfiguration {
 	@ConditionalOnMissingBean(RSACryptoFactory.class)
 	@Bean
 	public RSACryptoFactory rsaCryptoFactory(CryptoProperties properties) {
-		return new RSACryptoFactory(properties.getMaxCacheCryptoKeySize());
+		return new RSACryptoFactory(properties.getMaxCacheCryptoKeySize(), new RSAOEAPWithSHA256Transformation(),
+			properties.getRsaEncryptorPoolSize(), properties.getMetrics().isEnabled());
 	}
 
 	/**
@@ -98,7 +113,7 @@ public class CryptoAutoConfiguration {
 	@ConditionalOnMissingBean(StrongCryptoFactory.class)
 	@Bean
 	public StrongCryptoFactory strongCryptoFactory(CryptoProperties properties) {
-		return new StrongCryptoFactory(properties.getMaxCacheCryptoKeySize());
+		return new StrongCryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getMetrics().isEnabled());
 	}
 
 	/**
@@ -114,6 +129,70 @@ public class CryptoAutoConfiguration {
 	@ConditionalOnMissingBean(BasicCryptoFactory.class)
 	@Bean
 	public BasicCryptoFactory basicCryptoFactory(CryptoProperties properties) {
-		return new BasicCryptoFactory(properties.getMaxCacheCryptoKeySize());
+		return new BasicCryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getMetrics().isEnabled());
+	}
+
+	/**
+	 * 注册 AES‑GCM 算法加密工厂。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效。
+	 * </p>
+	 *
+	 * @param properties 加密相关配置属性
+	 * @return AES‑GCM 加密工厂实例
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(AESGCMCryptoFactory.class)
+	@Bean
+	public AESGCMCryptoFactory aesGcmCryptoFactory(CryptoProperties properties) {
+		return new AESGCMCryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getMetrics().isEnabled());
+	}
+
+	/**
+	 * 注册 RSA + AES‑GCM 信封加密工厂。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效。
+	 * </p>
+	 *
+	 * @param properties 加密相关配置属性
+	 * @return 信封加密工厂实例
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(RSAEnvelopeCryptoFactory.class)
+	@Bean
+	public RSAEnvelopeCryptoFactory rsaEnvelopeCryptoFactory(CryptoProperties properties) {
+		return new RSAEnvelopeCryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getRsaEncryptorPoolSize(),
+			properties.getMetrics().isEnabled());
+	}
+
+	/**
+	 * 注册 AES‑SIV 确定性加密工厂。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效。
+	 * </p>
+	 *
+	 * @param properties 加密相关配置属性
+	 * @return AES‑SIV 加密工厂实例
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(AESSIVCryptoFactory.class)
+	@Bean
+	public AESSIVCryptoFactory aesSivCryptoFactory(CryptoProperties properties) {
+		return new AESSIVCryptoFactory(properties.getMaxCacheCryptoKeySize(), properties.getMetrics().isEnabled());
+	}
+
+	/**
+	 * 注册密钥解析缓存刷新监听器。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效。
+	 * </p>
+	 *
+	 * @return 密钥解析缓存刷新监听器
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(CryptoKeyCacheRefreshListener.class)
+	@Bean
+	public CryptoKeyCacheRefreshListener cryptoKeyCacheRefreshListener() {
+		return new CryptoKeyCacheRefreshListener();
 	}
 }
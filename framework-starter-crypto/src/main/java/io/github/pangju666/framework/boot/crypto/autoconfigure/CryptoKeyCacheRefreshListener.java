@@ -0,0 +1,78 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.autoconfigure;
+
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 配置刷新时清空密钥解析缓存的监听器。
+ * <p>
+ * 监听 Spring Cloud 的 {@code EnvironmentChangeEvent} 与 {@code RefreshScopeRefreshedEvent}，
+ * 事件发布时调用 {@link CryptoUtils#clearKeyCache()}，使轮换后的密钥在下次解析时生效。
+ * 事件类型按类名匹配，不要求类路径中存在 Spring Cloud；不存在时该监听器不会收到任何事件。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoUtils#getKey(String)
+ * @since 2.1.0
+ */
+public class CryptoKeyCacheRefreshListener implements GenericApplicationListener {
+	/**
+	 * 触发缓存清空的事件类名。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Set<String> REFRESH_EVENT_CLASS_NAMES = Set.of(
+		"org.springframework.cloud.context.environment.EnvironmentChangeEvent",
+		"org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent");
+
+	/**
+	 * 判断是否为配置刷新事件（包括其子类）。
+	 *
+	 * @param eventType 事件类型
+	 * @return 是配置刷新事件时返回 {@code true}
+	 * @since 2.1.0
+	 */
+	@Override
+	public boolean supportsEventType(ResolvableType eventType) {
+		Class<?> eventClass = eventType.toClass();
+		while (Objects.nonNull(eventClass) && eventClass != Object.class) {
+			if (REFRESH_EVENT_CLASS_NAMES.contains(eventClass.getName())) {
+				return true;
+			}
+			eventClass = eventClass.getSuperclass();
+		}
+		return false;
+	}
+
+	/**
+	 * 清空密钥解析缓存。
+	 *
+	 * @param event 配置刷新事件
+	 * @since 2.1.0
+	 */
+	@Override
+	public void onApplicationEvent(ApplicationEvent event) {
+		CryptoUtils.clearKeyCache();
+	}
+}
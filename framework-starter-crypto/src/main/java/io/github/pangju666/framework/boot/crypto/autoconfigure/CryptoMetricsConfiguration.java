@@ -0,0 +1,61 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.autoconfigure;
+
+import io.github.pangju666.framework.boot.crypto.metrics.CryptoMetricsBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 加密工厂指标自动配置。
+ *
+ * <p><strong>条件说明</strong></p>
+ * <ul>
+ *   <li>类条件：依赖 Micrometer 的 {@link MeterRegistry}。</li>
+ *   <li>属性条件：{@code pangju.crypto.metrics.enabled=true}，默认不启用，未启用时不产生任何额外开销。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see CryptoMetricsBeanPostProcessor
+ * @since 2.1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBooleanProperty(prefix = "pangju.crypto.metrics", name = "enabled")
+class CryptoMetricsConfiguration {
+	/**
+	 * 注册加密工厂指标采集后置处理器。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效；声明为静态方法，避免提前初始化配置类。
+	 * </p>
+	 *
+	 * @param meterRegistryProvider 指标注册表提供者
+	 * @return 加密工厂指标采集后置处理器
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(CryptoMetricsBeanPostProcessor.class)
+	@Bean
+	public static CryptoMetricsBeanPostProcessor cryptoMetricsBeanPostProcessor(
+		ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		return new CryptoMetricsBeanPostProcessor(meterRegistryProvider);
+	}
+}
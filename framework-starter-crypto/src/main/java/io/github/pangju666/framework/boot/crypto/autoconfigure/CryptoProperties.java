@@ -40,6 +40,35 @@ public class CryptoProperties {
      * @since 1.0.0
      */
     private int maxCacheCryptoKeySize = 16;
+	/**
+	 * RSA 加密器实例池大小。
+	 *
+	 * <p>每个 RSA 密钥最多保留的空闲加密器实例数（RSA 信封加密器为内部 {@link javax.crypto.Cipher} 实例数）；
+	 * 并发超出时临时新建实例，用完后丢弃。</p>
+	 * <p>对应属性：{@code pangju.crypto.rsa-encryptor-pool-size}</p>
+	 * <p>默认值：CPU 核数</p>
+	 *
+	 * @since 2.1.0
+	 */
+	private int rsaEncryptorPoolSize = Runtime.getRuntime().availableProcessors();
+	/**
+	 * 是否允许在容器中不存在对应 Bean 时直接构造加密工厂。
+	 *
+	 * <p>用于 Jackson 加解密组件获取加密工厂；关闭后仅使用容器中的加密工厂 Bean，不存在时拒绝创建，
+	 * 避免产生缓存规模与配置不一致的重复工厂实例，建议生产环境关闭。
+	 * 无论是否开启，容器中已定义对应类型的 Bean 时都不会直接构造。</p>
+	 * <p>对应属性：{@code pangju.crypto.factory-fallback-enabled}</p>
+	 * <p>默认值：{@code true}</p>
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean factoryFallbackEnabled = true;
+	/**
+	 * 指标监控配置。
+	 *
+	 * @since 2.1.0
+	 */
+	private Metrics metrics = new Metrics();
 
 	public int getMaxCacheCryptoKeySize() {
 		return maxCacheCryptoKeySize;
@@ -48,4 +77,55 @@ public class CryptoProperties {
 	public void setMaxCacheCryptoKeySize(int maxCacheCryptoKeySize) {
 		this.maxCacheCryptoKeySize = maxCacheCryptoKeySize;
 	}
+
+	public int getRsaEncryptorPoolSize() {
+		return rsaEncryptorPoolSize;
+	}
+
+	public void setRsaEncryptorPoolSize(int rsaEncryptorPoolSize) {
+		this.rsaEncryptorPoolSize = rsaEncryptorPoolSize;
+	}
+
+	public boolean isFactoryFallbackEnabled() {
+		return factoryFallbackEnabled;
+	}
+
+	public void setFactoryFallbackEnabled(boolean factoryFallbackEnabled) {
+		this.factoryFallbackEnabled = factoryFallbackEnabled;
+	}
+
+	public Metrics getMetrics() {
+		return metrics;
+	}
+
+	public void setMetrics(Metrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * 指标监控配置。
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static class Metrics {
+		/**
+		 * 是否启用加密工厂指标（加/解密耗时、明文字节数与加密器缓存统计）。
+		 *
+		 * <p>需类路径存在 Micrometer 且容器中存在 {@code MeterRegistry}；关闭时不创建代理，也不记录缓存统计。</p>
+		 * <p>对应属性：{@code pangju.crypto.metrics.enabled}</p>
+		 * <p>默认值：{@code false}</p>
+		 *
+		 * @since 2.1.0
+		 */
+		private boolean enabled = false;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
 }
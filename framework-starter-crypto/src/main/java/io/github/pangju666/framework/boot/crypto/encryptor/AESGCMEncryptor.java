@@ -0,0 +1,359 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.springframework.util.Assert;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * AES‑GCM 加密器。
+ * <p>
+ * 构造时由口令派生一次 256 位 AES 密钥并持有 {@link SecretKeySpec}，之后每次加/解密不再执行口令派生，
+ * 仅初始化 {@link Cipher}。同一实例同时实现二进制、文本、整型与高精度小数四类加密器接口（转换规则见 {@link AbstractBinaryEncryptor}），
+ * 可被多线程共享。
+ * </p>
+ * <p>
+ * 密文格式：<code>版本号(1 字节) | IV(12 字节) | 密文 | 认证标签(16 字节)</code>，
+ * 版本号同时作为附加认证数据参与认证，篡改任一部分都会导致解密失败。
+ * </p>
+ * <p>
+ * 密钥派生：<code>PBKDF2WithHmacSHA256</code>，使用固定盐值与 {@value #DERIVE_ITERATIONS} 次迭代，
+ * 保证相同口令在不同实例、不同进程间派生出相同密钥。
+ * </p>
+ * <p>
+ * 流式加解密：流头为 <code>流格式版本号(1 字节) | 随机盐值(16 字节)</code>，
+ * 每个流使用 HKDF‑SHA256 由密钥与盐值派生独立的流密钥，分块格式见 {@link StreamEncryptor}。
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+public class AESGCMEncryptor extends AbstractBinaryEncryptor implements StreamEncryptor {
+	/**
+	 * 当前密文格式版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte VERSION = 1;
+	/**
+	 * IV 长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int IV_LENGTH = 12;
+	/**
+	 * 认证标签长度（位）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int TAG_LENGTH = 128;
+	/**
+	 * 口令派生密钥的迭代次数。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int DERIVE_ITERATIONS = 100000;
+	/**
+	 * 当前流式密文格式版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte STREAM_VERSION = 0x10;
+
+	/**
+	 * 加密算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	/**
+	 * 口令派生算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String DERIVE_ALGORITHM = "PBKDF2WithHmacSHA256";
+	/**
+	 * 口令派生使用的固定盐值。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final byte[] DERIVE_SALT = "io.github.pangju666.framework.boot.crypto.AESGCM".getBytes(StandardCharsets.UTF_8);
+	/**
+	 * 派生密钥长度（位）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int KEY_LENGTH = 256;
+	/**
+	 * 密文头长度（版本号 + IV）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int HEADER_LENGTH = 1 + IV_LENGTH;
+	/**
+	 * 认证标签长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int TAG_BYTES = TAG_LENGTH / Byte.SIZE;
+	/**
+	 * 流密钥派生使用的随机盐值长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int STREAM_SALT_LENGTH = 16;
+	/**
+	 * 流密钥派生算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String STREAM_KEY_ALGORITHM = "HmacSHA256";
+	/**
+	 * 流密钥派生使用的上下文信息。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final byte[] STREAM_KEY_INFO = "io.github.pangju666.framework.boot.crypto.AESGCM.stream".getBytes(StandardCharsets.UTF_8);
+	/**
+	 * 随机 IV 生成器。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/**
+	 * 派生得到的 AES 密钥。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKey secretKey;
+	/**
+	 * 可复用的 {@link Cipher} 实例池，避免每次调用都查找算法提供者（不使用 ThreadLocal，兼容虚拟线程）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Queue<Cipher> cipherPool = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 使用口令构造加密器，构造时完成一次密钥派生。
+	 *
+	 * @param password 口令
+	 * @throws IllegalArgumentException 当口令为空时抛出
+	 * @since 2.1.0
+	 */
+	public AESGCMEncryptor(String password) {
+		this(deriveKey(password));
+	}
+
+	/**
+	 * 使用已有的 AES 密钥构造加密器。
+	 *
+	 * @param secretKey AES 密钥（128/192/256 位）
+	 * @throws IllegalArgumentException 当密钥为 null 或算法不是 AES 时抛出
+	 * @since 2.1.0
+	 */
+	public AESGCMEncryptor(SecretKey secretKey) {
+		Assert.notNull(secretKey, "secretKey 不可为 null");
+		Assert.isTrue("AES".equalsIgnoreCase(secretKey.getAlgorithm()), "secretKey 必须为 AES 密钥");
+
+		this.secretKey = secretKey;
+	}
+
+	/**
+	 * 由口令派生 256 位 AES 密钥。
+	 *
+	 * @param password 口令
+	 * @return AES 密钥
+	 * @throws IllegalArgumentException 当口令为空时抛出
+	 * @since 2.1.0
+	 */
+	public static SecretKeySpec deriveKey(String password) {
+		Assert.hasText(password, "password 不可为空");
+
+		PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), DERIVE_SALT, DERIVE_ITERATIONS, KEY_LENGTH);
+		try {
+			byte[] key = SecretKeyFactory.getInstance(DERIVE_ALGORITHM).generateSecret(keySpec).getEncoded();
+			return new SecretKeySpec(key, "AES");
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		} finally {
+			keySpec.clearPassword();
+		}
+	}
+
+	/**
+	 * 加密字节数组。
+	 *
+	 * @param binary 明文字节数组
+	 * @return 带版本号与 IV 的密文；输入为 null 时返回 null
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] encrypt(byte[] binary) {
+		if (Objects.isNull(binary)) {
+			return null;
+		}
+
+		byte[] iv = new byte[IV_LENGTH];
+		RANDOM.nextBytes(iv);
+		byte[] output = new byte[HEADER_LENGTH + binary.length + TAG_BYTES];
+		output[0] = VERSION;
+		System.arraycopy(iv, 0, output, 1, IV_LENGTH);
+		Cipher cipher = borrowCipher();
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH, iv));
+			cipher.updateAAD(output, 0, 1);
+			cipher.doFinal(binary, 0, binary.length, output, HEADER_LENGTH);
+			cipherPool.offer(cipher);
+			return output;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 解密字节数组。
+	 *
+	 * @param encryptedBinary 由 {@link #encrypt(byte[])} 生成的密文
+	 * @return 明文字节数组；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当密文格式、版本号不正确或认证失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] decrypt(byte[] encryptedBinary) {
+		if (Objects.isNull(encryptedBinary)) {
+			return null;
+		}
+		if (encryptedBinary.length < HEADER_LENGTH + TAG_BYTES || encryptedBinary[0] != VERSION) {
+			throw new EncryptionOperationNotPossibleException("不支持的密文格式");
+		}
+
+		Cipher cipher = borrowCipher();
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH, encryptedBinary, 1, IV_LENGTH));
+			cipher.updateAAD(encryptedBinary, 0, 1);
+			byte[] result = cipher.doFinal(encryptedBinary, HEADER_LENGTH, encryptedBinary.length - HEADER_LENGTH);
+			cipherPool.offer(cipher);
+			return result;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 包装输出流，写入的明文将以分块格式加密后写入 {@code output}。
+	 *
+	 * @param output 密文输出流
+	 * @return 明文输出流，必须关闭才会写入最后一个分块
+	 * @throws IOException 当写入流头失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public OutputStream encryptStream(OutputStream output) throws IOException {
+		Assert.notNull(output, "output 不可为 null");
+
+		byte[] header = new byte[1 + STREAM_SALT_LENGTH];
+		RANDOM.nextBytes(header);
+		header[0] = STREAM_VERSION;
+		return new ChunkedAEADOutputStream(output, deriveStreamKey(header), header);
+	}
+
+	/**
+	 * 包装输入流，读取由 {@link #encryptStream(OutputStream)} 生成的分块密文并返回明文。
+	 *
+	 * @param input 密文输入流
+	 * @return 明文输入流
+	 * @throws IOException 当流头读取失败或版本号不正确时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public InputStream decryptStream(InputStream input) throws IOException {
+		Assert.notNull(input, "input 不可为 null");
+
+		byte[] header = new byte[1 + STREAM_SALT_LENGTH];
+		new DataInputStream(input).readFully(header);
+		if (header[0] != STREAM_VERSION) {
+			throw new IOException("不支持的密文流格式");
+		}
+		return new ChunkedAEADInputStream(input, deriveStreamKey(header), header);
+	}
+
+	/**
+	 * 使用 HKDF‑SHA256（RFC 5869）由密钥与流头中的盐值派生流密钥。
+	 *
+	 * @param header 流头
+	 * @return 256 位 AES 流密钥
+	 * @throws IOException 当密钥不可导出或派生失败时抛出
+	 * @since 2.1.0
+	 */
+	private SecretKey deriveStreamKey(byte[] header) throws IOException {
+		byte[] keyMaterial = secretKey.getEncoded();
+		if (Objects.isNull(keyMaterial)) {
+			throw new IOException("密钥不可导出，无法派生流密钥");
+		}
+		try {
+			Mac mac = Mac.getInstance(STREAM_KEY_ALGORITHM);
+			mac.init(new SecretKeySpec(header, 1, STREAM_SALT_LENGTH, STREAM_KEY_ALGORITHM));
+			byte[] pseudoRandomKey = mac.doFinal(keyMaterial);
+			mac.init(new SecretKeySpec(pseudoRandomKey, STREAM_KEY_ALGORITHM));
+			mac.update(STREAM_KEY_INFO);
+			mac.update((byte) 1);
+			return new SecretKeySpec(mac.doFinal(), "AES");
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * 从实例池获取 {@link Cipher}，池为空时新建。
+	 * <p>
+	 * 调用方仅在操作成功后归还实例，失败的实例直接丢弃。
+	 * </p>
+	 *
+	 * @return {@link Cipher} 实例
+	 * @since 2.1.0
+	 */
+	private Cipher borrowCipher() {
+		Cipher cipher = cipherPool.poll();
+		if (Objects.nonNull(cipher)) {
+			return cipher;
+		}
+		try {
+			return Cipher.getInstance(TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+}
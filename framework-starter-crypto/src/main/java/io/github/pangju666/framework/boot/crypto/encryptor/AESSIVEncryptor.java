@@ -0,0 +1,394 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.springframework.util.Assert;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * AES‑SIV 确定性加密器（RFC 5297）。
+ * <p>
+ * 相同密钥下相同明文总是生成相同密文，可直接用于数据库等值查询与索引（如加密后的手机号、证件号）；
+ * 同时保持认证加密特性，篡改密文会导致解密失败。代价是会暴露“两条密文的明文是否相同”，不应用于低基数字段。
+ * 同一实例同时实现二进制、文本、整型与高精度小数四类加密器接口（转换规则见 {@link AbstractBinaryEncryptor}），
+ * 可被多线程共享。
+ * </p>
+ * <p>
+ * 密文格式：<code>版本号(1 字节) | 合成 IV(16 字节) | 密文</code>，合成 IV 由 S2V（AES‑CMAC）对明文计算，
+ * 再作为 AES‑CTR 的初始计数器加密明文。
+ * </p>
+ * <p>
+ * 密钥：512 位 SIV 密钥，前 256 位用于 S2V，后 256 位用于 CTR。由口令构造时使用 <code>PBKDF2WithHmacSHA256</code>、
+ * 固定盐值与 {@value AESGCMEncryptor#DERIVE_ITERATIONS} 次迭代派生，保证相同口令在不同实例、不同进程间生成相同密文。
+ * </p>
+ *
+ * @author pangju666
+ * @see AESGCMEncryptor
+ * @since 2.1.0
+ */
+public class AESSIVEncryptor extends AbstractBinaryEncryptor {
+	/**
+	 * 当前密文格式版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte VERSION = 1;
+	/**
+	 * 合成 IV 长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int SIV_LENGTH = 16;
+
+	/**
+	 * 口令派生算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String DERIVE_ALGORITHM = "PBKDF2WithHmacSHA256";
+	/**
+	 * 口令派生使用的固定盐值。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final byte[] DERIVE_SALT = "io.github.pangju666.framework.boot.crypto.AESSIV".getBytes(StandardCharsets.UTF_8);
+	/**
+	 * SIV 密钥长度（位）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int KEY_LENGTH = 512;
+	/**
+	 * 密文头长度（版本号 + 合成 IV）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int HEADER_LENGTH = 1 + SIV_LENGTH;
+	/**
+	 * AES 分组长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int BLOCK_SIZE = 16;
+	/**
+	 * 全零分组。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final byte[] ZERO_BLOCK = new byte[BLOCK_SIZE];
+
+	/**
+	 * S2V 使用的 AES 密钥。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKeySpec macKey;
+	/**
+	 * CTR 使用的 AES 密钥。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKeySpec ctrKey;
+	/**
+	 * CMAC 子密钥 K1。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] cmacSubKey1;
+	/**
+	 * CMAC 子密钥 K2。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] cmacSubKey2;
+	/**
+	 * 已使用 {@link #macKey} 初始化的 <code>AES/ECB/NoPadding</code> 实例池（不使用 ThreadLocal，兼容虚拟线程）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Queue<Cipher> macCipherPool = new ConcurrentLinkedQueue<>();
+	/**
+	 * <code>AES/CTR/NoPadding</code> 实例池，每次使用前按合成 IV 重新初始化。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Queue<Cipher> ctrCipherPool = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * 使用口令构造加密器，构造时完成一次密钥派生。
+	 *
+	 * @param password 口令
+	 * @throws IllegalArgumentException 当口令为空时抛出
+	 * @since 2.1.0
+	 */
+	public AESSIVEncryptor(String password) {
+		this(deriveKey(password));
+	}
+
+	/**
+	 * 使用 SIV 密钥构造加密器。
+	 *
+	 * @param key SIV 密钥，长度为 32、48 或 64 字节（前一半用于 S2V，后一半用于 CTR）
+	 * @throws IllegalArgumentException 当密钥为 null 或长度不合法时抛出
+	 * @since 2.1.0
+	 */
+	public AESSIVEncryptor(byte[] key) {
+		Assert.notNull(key, "key 不可为 null");
+		Assert.isTrue(key.length == 32 || key.length == 48 || key.length == 64, "key 长度必须为 32、48 或 64 字节");
+
+		int half = key.length / 2;
+		this.macKey = new SecretKeySpec(key, 0, half, "AES");
+		this.ctrKey = new SecretKeySpec(key, half, half, "AES");
+		try {
+			Cipher macCipher = createMacCipher();
+			this.cmacSubKey1 = doubling(macCipher.doFinal(ZERO_BLOCK));
+			this.cmacSubKey2 = doubling(cmacSubKey1);
+			macCipherPool.offer(macCipher);
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 由口令派生 512 位 SIV 密钥。
+	 *
+	 * @param password 口令
+	 * @return SIV 密钥
+	 * @throws IllegalArgumentException 当口令为空时抛出
+	 * @since 2.1.0
+	 */
+	public static byte[] deriveKey(String password) {
+		Assert.hasText(password, "password 不可为空");
+
+		PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), DERIVE_SALT, AESGCMEncryptor.DERIVE_ITERATIONS,
+			KEY_LENGTH);
+		try {
+			return SecretKeyFactory.getInstance(DERIVE_ALGORITHM).generateSecret(keySpec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		} finally {
+			keySpec.clearPassword();
+		}
+	}
+
+	/**
+	 * 确定性加密字节数组。
+	 *
+	 * @param binary 明文字节数组
+	 * @return 带版本号与合成 IV 的密文，相同明文总是得到相同密文；输入为 null 时返回 null
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] encrypt(byte[] binary) {
+		if (Objects.isNull(binary)) {
+			return null;
+		}
+
+		try {
+			byte[] siv = s2v(binary);
+			byte[] output = new byte[HEADER_LENGTH + binary.length];
+			output[0] = VERSION;
+			System.arraycopy(siv, 0, output, 1, SIV_LENGTH);
+			Cipher ctrCipher = borrowCtrCipher(siv);
+			ctrCipher.doFinal(binary, 0, binary.length, output, HEADER_LENGTH);
+			ctrCipherPool.offer(ctrCipher);
+			return output;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 解密字节数组并校验合成 IV。
+	 *
+	 * @param encryptedBinary 由 {@link #encrypt(byte[])} 生成的密文
+	 * @return 明文字节数组；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当密文格式、版本号不正确或认证失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] decrypt(byte[] encryptedBinary) {
+		if (Objects.isNull(encryptedBinary)) {
+			return null;
+		}
+		if (encryptedBinary.length < HEADER_LENGTH || encryptedBinary[0] != VERSION) {
+			throw new EncryptionOperationNotPossibleException("不支持的密文格式");
+		}
+
+		try {
+			byte[] siv = Arrays.copyOfRange(encryptedBinary, 1, HEADER_LENGTH);
+			Cipher ctrCipher = borrowCtrCipher(siv);
+			byte[] result = ctrCipher.doFinal(encryptedBinary, HEADER_LENGTH, encryptedBinary.length - HEADER_LENGTH);
+			ctrCipherPool.offer(ctrCipher);
+			if (!MessageDigest.isEqual(siv, s2v(result))) {
+				throw new EncryptionOperationNotPossibleException("密文认证失败");
+			}
+			return result;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 计算 S2V（RFC 5297 2.4 节）。
+	 *
+	 * @param components 字符串向量，最后一个元素为明文，之前的元素为附加认证数据（字段加密时不使用）
+	 * @return 合成 IV
+	 * @throws GeneralSecurityException 当 AES 运算失败时抛出
+	 * @since 2.1.0
+	 */
+	private byte[] s2v(byte[]... components) throws GeneralSecurityException {
+		Cipher macCipher = borrowMacCipher();
+		byte[] d = cmac(macCipher, ZERO_BLOCK);
+		for (int i = 0; i < components.length - 1; i++) {
+			d = doubling(d);
+			byte[] mac = cmac(macCipher, components[i]);
+			for (int j = 0; j < BLOCK_SIZE; j++) {
+				d[j] ^= mac[j];
+			}
+		}
+
+		byte[] plaintext = components[components.length - 1];
+		byte[] t;
+		if (plaintext.length >= BLOCK_SIZE) {
+			t = plaintext.clone();
+			int offset = t.length - BLOCK_SIZE;
+			for (int i = 0; i < BLOCK_SIZE; i++) {
+				t[offset + i] ^= d[i];
+			}
+		} else {
+			t = doubling(d);
+			for (int i = 0; i < plaintext.length; i++) {
+				t[i] ^= plaintext[i];
+			}
+			t[plaintext.length] ^= (byte) 0x80;
+		}
+		byte[] siv = cmac(macCipher, t);
+		macCipherPool.offer(macCipher);
+		return siv;
+	}
+
+	/**
+	 * 计算 AES‑CMAC（RFC 4493）。
+	 *
+	 * @param macCipher 已使用 {@link #macKey} 初始化的 ECB 实例
+	 * @param message   消息
+	 * @return 16 字节认证码
+	 * @throws GeneralSecurityException 当 AES 运算失败时抛出
+	 * @since 2.1.0
+	 */
+	private byte[] cmac(Cipher macCipher, byte[] message) throws GeneralSecurityException {
+		int blocks = Math.max(1, (message.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+		boolean complete = message.length > 0 && message.length % BLOCK_SIZE == 0;
+		byte[] x = new byte[BLOCK_SIZE];
+		for (int block = 0; block < blocks - 1; block++) {
+			for (int i = 0; i < BLOCK_SIZE; i++) {
+				x[i] ^= message[block * BLOCK_SIZE + i];
+			}
+			x = macCipher.doFinal(x);
+		}
+
+		int offset = (blocks - 1) * BLOCK_SIZE;
+		int remain = message.length - offset;
+		byte[] subKey = complete ? cmacSubKey1 : cmacSubKey2;
+		for (int i = 0; i < BLOCK_SIZE; i++) {
+			byte value = i < remain ? message[offset + i] : (i == remain ? (byte) 0x80 : 0);
+			x[i] ^= (byte) (value ^ subKey[i]);
+		}
+		return macCipher.doFinal(x);
+	}
+
+	/**
+	 * GF(2^128) 上乘以 x（RFC 5297 中的 dbl 运算）。
+	 *
+	 * @param block 16 字节分组
+	 * @return 新的 16 字节分组
+	 * @since 2.1.0
+	 */
+	private static byte[] doubling(byte[] block) {
+		byte[] result = new byte[BLOCK_SIZE];
+		for (int i = 0; i < BLOCK_SIZE - 1; i++) {
+			result[i] = (byte) ((block[i] << 1) | ((block[i + 1] & 0xFF) >>> 7));
+		}
+		result[BLOCK_SIZE - 1] = (byte) (block[BLOCK_SIZE - 1] << 1);
+		if ((block[0] & 0x80) != 0) {
+			result[BLOCK_SIZE - 1] ^= (byte) 0x87;
+		}
+		return result;
+	}
+
+	/**
+	 * 从实例池获取已初始化的 ECB {@link Cipher}，池为空时新建。
+	 *
+	 * @return ECB {@link Cipher}
+	 * @throws GeneralSecurityException 当创建失败时抛出
+	 * @since 2.1.0
+	 */
+	private Cipher borrowMacCipher() throws GeneralSecurityException {
+		Cipher cipher = macCipherPool.poll();
+		return Objects.nonNull(cipher) ? cipher : createMacCipher();
+	}
+
+	/**
+	 * 从实例池获取 CTR {@link Cipher} 并使用合成 IV 初始化，池为空时新建。
+	 * <p>
+	 * 按 RFC 5297 要求，初始计数器为清除第 63 位与第 31 位（自右向左）后的合成 IV。
+	 * </p>
+	 *
+	 * @param siv 合成 IV
+	 * @return 已初始化的 CTR {@link Cipher}
+	 * @throws GeneralSecurityException 当创建或初始化失败时抛出
+	 * @since 2.1.0
+	 */
+	private Cipher borrowCtrCipher(byte[] siv) throws GeneralSecurityException {
+		Cipher cipher = ctrCipherPool.poll();
+		if (Objects.isNull(cipher)) {
+			cipher = Cipher.getInstance("AES/CTR/NoPadding");
+		}
+		byte[] counter = siv.clone();
+		counter[8] &= 0x7F;
+		counter[12] &= 0x7F;
+		cipher.init(Cipher.ENCRYPT_MODE, ctrKey, new IvParameterSpec(counter));
+		return cipher;
+	}
+
+	/**
+	 * 创建并使用 {@link #macKey} 初始化 <code>AES/ECB/NoPadding</code>。
+	 *
+	 * @return ECB {@link Cipher}
+	 * @throws GeneralSecurityException 当创建或初始化失败时抛出
+	 * @since 2.1.0
+	 */
+	private Cipher createMacCipher() throws GeneralSecurityException {
+		Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, macKey);
+		return cipher;
+	}
+}
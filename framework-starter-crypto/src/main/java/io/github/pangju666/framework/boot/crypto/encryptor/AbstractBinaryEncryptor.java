@@ -0,0 +1,146 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 基于二进制加解密的加密器基类。
+ * <p>
+ * 子类只需实现字节数组的加/解密，文本、整型与高精度小数的加/解密由本类统一转换：
+ * <ul>
+ *     <li>文本：按 UTF-8 编码后加密，密文以 Base64 输出。</li>
+ *     <li>整型：对 {@link BigInteger#toByteArray()} 加密，密文字节转换为 {@link BigInteger}。
+ *     要求密文首字节为非零正数（如格式版本号），以保证密文字节可无损还原。</li>
+ *     <li>高精度小数：仅加密非标度值，保留原始标度。</li>
+ * </ul>
+ * </p>
+ *
+ * @author pangju666
+ * @since 2.1.0
+ */
+public abstract class AbstractBinaryEncryptor implements BinaryEncryptor, TextEncryptor, IntegerNumberEncryptor,
+	DecimalNumberEncryptor {
+	/**
+	 * 加密文本。
+	 *
+	 * @param message 明文（按 UTF-8 编码）
+	 * @return Base64 编码的密文；输入为 null 时返回 null
+	 * @since 2.1.0
+	 */
+	@Override
+	public String encrypt(String message) {
+		if (Objects.isNull(message)) {
+			return null;
+		}
+		return Base64.getEncoder().encodeToString(encrypt(message.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * 解密文本。
+	 *
+	 * @param encryptedMessage Base64 编码的密文
+	 * @return 明文；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当密文无法解码或解密失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public String decrypt(String encryptedMessage) {
+		if (Objects.isNull(encryptedMessage)) {
+			return null;
+		}
+		byte[] encryptedBinary;
+		try {
+			encryptedBinary = Base64.getDecoder().decode(encryptedMessage);
+		} catch (IllegalArgumentException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+		return new String(decrypt(encryptedBinary), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 加密大整数。
+	 *
+	 * @param number 明文大整数
+	 * @return 密文大整数；输入为 null 时返回 null
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigInteger encrypt(BigInteger number) {
+		if (Objects.isNull(number)) {
+			return null;
+		}
+		return new BigInteger(encrypt(number.toByteArray()));
+	}
+
+	/**
+	 * 解密大整数。
+	 *
+	 * @param encryptedNumber 密文大整数
+	 * @return 明文大整数；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当解密失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigInteger decrypt(BigInteger encryptedNumber) {
+		if (Objects.isNull(encryptedNumber)) {
+			return null;
+		}
+		return new BigInteger(decrypt(encryptedNumber.toByteArray()));
+	}
+
+	/**
+	 * 加密高精度小数，仅加密非标度值，保留原始标度。
+	 *
+	 * @param number 明文小数
+	 * @return 密文小数；输入为 null 时返回 null
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigDecimal encrypt(BigDecimal number) {
+		if (Objects.isNull(number)) {
+			return null;
+		}
+		return new BigDecimal(encrypt(number.unscaledValue()), number.scale());
+	}
+
+	/**
+	 * 解密高精度小数。
+	 *
+	 * @param encryptedNumber 密文小数
+	 * @return 明文小数；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当解密失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigDecimal decrypt(BigDecimal encryptedNumber) {
+		if (Objects.isNull(encryptedNumber)) {
+			return null;
+		}
+		return new BigDecimal(decrypt(encryptedNumber.unscaledValue()), encryptedNumber.scale());
+	}
+}
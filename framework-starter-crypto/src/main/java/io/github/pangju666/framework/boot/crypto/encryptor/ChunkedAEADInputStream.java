@@ -0,0 +1,232 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+
+/**
+ * 分块 AES‑GCM 解密输入流，读取 {@link ChunkedAEADOutputStream} 写出的分块。
+ * <p>
+ * 每次只读取并认证一个分块，认证通过后才返回其中的明文，任意时刻最多缓存一个分块。
+ * 流头由调用方读取并校验后传入，用作每个分块的附加认证数据。
+ * </p>
+ * <p>
+ * 在读到最后分块之前遇到流结束视为截断，抛出 {@link EOFException}；最后分块之后的数据不会被读取。
+ * </p>
+ *
+ * @author pangju666
+ * @see ChunkedAEADOutputStream
+ * @since 2.1.0
+ */
+final class ChunkedAEADInputStream extends InputStream {
+	/**
+	 * 密文输入流（已读取流头）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final InputStream input;
+	/**
+	 * 当前流专用的 AES 密钥。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKey streamKey;
+	/**
+	 * 流头，用作每个分块的附加认证数据。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] header;
+	/**
+	 * 当前流独占的 AES‑GCM {@link Cipher}，每个分块按分块 IV 重新初始化。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cipher cipher;
+	/**
+	 * 分块密文缓冲区（密文 + 认证标签），所有分块复用。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] chunk = new byte[ChunkedAEADOutputStream.CHUNK_SIZE + ChunkedAEADOutputStream.TAG_BYTES];
+	/**
+	 * 已认证的明文分块缓冲区。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] buffer = new byte[ChunkedAEADOutputStream.CHUNK_SIZE];
+	/**
+	 * 明文分块缓冲区中下一个待读取字节的位置。
+	 *
+	 * @since 2.1.0
+	 */
+	private int position;
+	/**
+	 * 明文分块缓冲区中有效明文的长度。
+	 *
+	 * @since 2.1.0
+	 */
+	private int limit;
+	/**
+	 * 下一个分块的序号。
+	 *
+	 * @since 2.1.0
+	 */
+	private int counter;
+	/**
+	 * 是否已读取并认证最后分块。
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean finished;
+
+	/**
+	 * 构造解密输入流。
+	 *
+	 * @param input     已读取流头的密文输入流
+	 * @param streamKey 当前流专用的 AES 密钥
+	 * @param header    已读取的流头
+	 * @throws IOException 当创建 {@link Cipher} 失败时抛出
+	 * @since 2.1.0
+	 */
+	ChunkedAEADInputStream(InputStream input, SecretKey streamKey, byte[] header) throws IOException {
+		this.input = input;
+		this.streamKey = streamKey;
+		this.header = header;
+		try {
+			this.cipher = Cipher.getInstance(ChunkedAEADOutputStream.TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * 读取一个明文字节，当前分块读完后读取并认证下一个分块。
+	 *
+	 * @return 明文字节；最后分块读完后返回 -1
+	 * @throws IOException 当密文流被截断、分块格式错误或认证失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public int read() throws IOException {
+		while (position == limit) {
+			if (!readChunk()) {
+				return -1;
+			}
+		}
+		return buffer[position++] & 0xFF;
+	}
+
+	/**
+	 * 读取明文到字节数组片段，单次最多返回当前分块剩余的明文。
+	 *
+	 * @param b   目标字节数组
+	 * @param off 起始位置
+	 * @param len 最大读取长度
+	 * @return 实际读取的字节数；最后分块读完后返回 -1
+	 * @throws IOException 当密文流被截断、分块格式错误或认证失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		while (position == limit) {
+			if (!readChunk()) {
+				return -1;
+			}
+		}
+		int length = Math.min(len, limit - position);
+		System.arraycopy(buffer, position, b, off, length);
+		position += length;
+		return length;
+	}
+
+	/**
+	 * 返回当前分块中已认证但尚未读取的明文字节数。
+	 *
+	 * @return 可无阻塞读取的字节数
+	 * @since 2.1.0
+	 */
+	@Override
+	public int available() {
+		return limit - position;
+	}
+
+	/**
+	 * 关闭底层密文输入流。
+	 *
+	 * @throws IOException 当关闭失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	/**
+	 * 读取并认证下一个分块，认证通过后将明文写入明文分块缓冲区。
+	 *
+	 * @return 读取到分块返回 {@code true}；已读取最后分块返回 {@code false}
+	 * @throws IOException 当密文流被截断、分块格式错误或认证失败时抛出
+	 * @since 2.1.0
+	 */
+	private boolean readChunk() throws IOException {
+		if (finished) {
+			return false;
+		}
+		byte[] chunkHeader = input.readNBytes(4);
+		if (chunkHeader.length < 4) {
+			throw new EOFException("密文流被截断");
+		}
+		int value = ((chunkHeader[0] & 0xFF) << 24) | ((chunkHeader[1] & 0xFF) << 16) |
+			((chunkHeader[2] & 0xFF) << 8) | (chunkHeader[3] & 0xFF);
+		boolean last = (value & ChunkedAEADOutputStream.LAST_CHUNK_FLAG) != 0;
+		int length = value & ~ChunkedAEADOutputStream.LAST_CHUNK_FLAG;
+		if (length < ChunkedAEADOutputStream.TAG_BYTES || length > chunk.length) {
+			throw new IOException("不支持的密文分块格式");
+		}
+		if (input.readNBytes(chunk, 0, length) < length) {
+			throw new EOFException("密文流被截断");
+		}
+
+		try {
+			cipher.init(Cipher.DECRYPT_MODE, streamKey, new GCMParameterSpec(AESGCMEncryptor.TAG_LENGTH,
+				ChunkedAEADOutputStream.chunkIv(counter, last)));
+			cipher.updateAAD(header);
+			limit = cipher.doFinal(chunk, 0, length, buffer, 0);
+		} catch (AEADBadTagException e) {
+			throw new IOException("密文分块认证失败", e);
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+		position = 0;
+		++counter;
+		finished = last;
+		return true;
+	}
+}
@@ -0,0 +1,279 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+
+/**
+ * 分块 AES‑GCM 加密输出流。
+ * <p>
+ * 明文按 {@value #CHUNK_SIZE} 字节分块，每块独立使用 AES‑GCM 加密并认证，任意时刻最多缓存一个分块。
+ * </p>
+ * <p>
+ * 流格式：<code>流头 | 分块 0 | 分块 1 | ... | 最后分块</code>，每个分块为
+ * <code>分块头(4 字节，大端：最高位为最后分块标记，其余位为分块密文长度) | 密文 | 认证标签(16 字节)</code>。
+ * </p>
+ * <p>
+ * 分块 IV 为 <code>0(7 字节) | 分块序号(4 字节，大端) | 最后分块标记(1 字节)</code>，流头作为每个分块的附加认证数据，
+ * 因此分块被篡改、重排、删除或流被截断都会导致解密失败。由于 IV 不含随机部分，调用方必须保证每个流使用不同的密钥。
+ * </p>
+ *
+ * @author pangju666
+ * @see ChunkedAEADInputStream
+ * @since 2.1.0
+ */
+final class ChunkedAEADOutputStream extends OutputStream {
+	/**
+	 * 明文分块大小（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	static final int CHUNK_SIZE = 64 * 1024;
+	/**
+	 * 认证标签长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	static final int TAG_BYTES = AESGCMEncryptor.TAG_LENGTH / Byte.SIZE;
+	/**
+	 * 分块头中的最后分块标记位。
+	 *
+	 * @since 2.1.0
+	 */
+	static final int LAST_CHUNK_FLAG = 0x80000000;
+	/**
+	 * 加密算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	/**
+	 * 密文输出流。
+	 *
+	 * @since 2.1.0
+	 */
+	private final OutputStream output;
+	/**
+	 * 当前流专用的 AES 密钥。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKey streamKey;
+	/**
+	 * 流头，同时作为每个分块的附加认证数据。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] header;
+	/**
+	 * 当前流独占的 AES‑GCM {@link Cipher}，每个分块按分块 IV 重新初始化。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cipher cipher;
+	/**
+	 * 明文分块缓冲区。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] buffer = new byte[CHUNK_SIZE];
+	/**
+	 * 分块输出缓冲区（分块头 + 密文 + 认证标签），所有分块复用。
+	 *
+	 * @since 2.1.0
+	 */
+	private final byte[] chunk = new byte[4 + CHUNK_SIZE + TAG_BYTES];
+	/**
+	 * 明文分块缓冲区中已写入的字节数。
+	 *
+	 * @since 2.1.0
+	 */
+	private int position;
+	/**
+	 * 下一个分块的序号。
+	 *
+	 * @since 2.1.0
+	 */
+	private int counter;
+	/**
+	 * 流是否已关闭。
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean closed;
+
+	/**
+	 * 构造加密输出流并立即写入流头。
+	 *
+	 * @param output    密文输出流
+	 * @param streamKey 当前流专用的 AES 密钥
+	 * @param header    流头，同时作为每个分块的附加认证数据
+	 * @throws IOException 当写入流头或创建 {@link Cipher} 失败时抛出
+	 * @since 2.1.0
+	 */
+	ChunkedAEADOutputStream(OutputStream output, SecretKey streamKey, byte[] header) throws IOException {
+		this.output = output;
+		this.streamKey = streamKey;
+		this.header = header;
+		try {
+			this.cipher = Cipher.getInstance(TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+		output.write(header);
+	}
+
+	/**
+	 * 写入一个字节，当前分块写满后加密写出。
+	 *
+	 * @param b 明文字节
+	 * @throws IOException 当流已关闭或写出分块失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (position == CHUNK_SIZE) {
+			writeChunk(false);
+		}
+		buffer[position++] = (byte) b;
+	}
+
+	/**
+	 * 写入字节数组片段，按分块大小缓存，分块写满后加密写出。
+	 *
+	 * @param b   明文字节数组
+	 * @param off 起始位置
+	 * @param len 写入长度
+	 * @throws IOException 当流已关闭或写出分块失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		ensureOpen();
+		while (len > 0) {
+			// 缓冲区满且仍有数据时才写出，保证最后分块由 close 写出
+			if (position == CHUNK_SIZE) {
+				writeChunk(false);
+			}
+			int length = Math.min(len, CHUNK_SIZE - position);
+			System.arraycopy(b, off, buffer, position, length);
+			position += length;
+			off += length;
+			len -= length;
+		}
+	}
+
+	/**
+	 * 刷新底层输出流。
+	 * <p>
+	 * 不会写出未满的分块，已缓存的明文在分块写满或流关闭时写出。
+	 * </p>
+	 *
+	 * @throws IOException 当刷新失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		output.flush();
+	}
+
+	/**
+	 * 写出最后分块并关闭底层输出流。
+	 *
+	 * @throws IOException 当写出或关闭失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try (output) {
+			writeChunk(true);
+		}
+	}
+
+	/**
+	 * 加密缓冲区中的明文并写出一个分块。
+	 *
+	 * @param last 是否为最后分块
+	 * @throws IOException 当分块序号溢出、加密或写出失败时抛出
+	 * @since 2.1.0
+	 */
+	private void writeChunk(boolean last) throws IOException {
+		if (counter == -1) {
+			throw new IOException("数据过长，分块序号溢出");
+		}
+		try {
+			cipher.init(Cipher.ENCRYPT_MODE, streamKey, new GCMParameterSpec(AESGCMEncryptor.TAG_LENGTH,
+				chunkIv(counter, last)));
+			cipher.updateAAD(header);
+			int length = cipher.doFinal(buffer, 0, position, chunk, 4);
+			int chunkHeader = last ? length | LAST_CHUNK_FLAG : length;
+			chunk[0] = (byte) (chunkHeader >>> 24);
+			chunk[1] = (byte) (chunkHeader >>> 16);
+			chunk[2] = (byte) (chunkHeader >>> 8);
+			chunk[3] = (byte) chunkHeader;
+			output.write(chunk, 0, 4 + length);
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+		position = 0;
+		++counter;
+	}
+
+	/**
+	 * 校验流未关闭。
+	 *
+	 * @throws IOException 当流已关闭时抛出
+	 * @since 2.1.0
+	 */
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("流已关闭");
+		}
+	}
+
+	/**
+	 * 生成分块 IV。
+	 *
+	 * @param counter 分块序号
+	 * @param last    是否为最后分块
+	 * @return 12 字节 IV
+	 * @since 2.1.0
+	 */
+	static byte[] chunkIv(int counter, boolean last) {
+		byte[] iv = new byte[AESGCMEncryptor.IV_LENGTH];
+		iv[7] = (byte) (counter >>> 24);
+		iv[8] = (byte) (counter >>> 16);
+		iv[9] = (byte) (counter >>> 8);
+		iv[10] = (byte) counter;
+		iv[11] = (byte) (last ? 1 : 0);
+		return iv;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 有界无锁加密器实例池。
+ * <p>
+ * 用于包装非线程安全或内部加锁的加密器（如基于单个 {@link javax.crypto.Cipher} 的 RSA 加密器），
+ * 使每次操作独占一个实例，从而让并发调用随 CPU 核数扩展。
+ * </p>
+ * <p>
+ * 行为：
+ * <ul>
+ *     <li>构造时立即创建一个实例放入池中，使初始化错误（如密钥无效）尽早暴露。</li>
+ *     <li>借出时优先复用空闲实例，池为空时通过 {@code factory} 新建实例，不会阻塞调用方。</li>
+ *     <li>操作成功后归还实例；空闲实例数达到 {@code maxIdle} 时直接丢弃多余实例。</li>
+ *     <li>操作抛出异常时丢弃该实例，避免复用状态异常的实例。</li>
+ *     <li>不使用 ThreadLocal，兼容虚拟线程。</li>
+ * </ul>
+ * </p>
+ *
+ * @param <E> 加密器类型
+ * @author pangju666
+ * @since 2.1.0
+ */
+public final class EncryptorPool<E> {
+	/**
+	 * 加密器实例工厂。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Supplier<E> factory;
+	/**
+	 * 最大空闲实例数。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int maxIdle;
+	/**
+	 * 空闲实例队列。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Queue<E> idleEncryptors = new ConcurrentLinkedQueue<>();
+	/**
+	 * 空闲实例计数（{@link ConcurrentLinkedQueue#size()} 为线性复杂度，单独计数）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final AtomicInteger idleCount = new AtomicInteger();
+
+	/**
+	 * 构造加密器实例池，并立即创建一个实例放入池中。
+	 *
+	 * @param factory 加密器实例工厂
+	 * @param maxIdle 最大空闲实例数，建议与 CPU 核数相当
+	 * @throws IllegalArgumentException 当 {@code factory} 为 null 或 {@code maxIdle} 小于等于 0 时抛出
+	 * @since 2.1.0
+	 */
+	public EncryptorPool(Supplier<E> factory, int maxIdle) {
+		Assert.notNull(factory, "factory 不可为 null");
+		Assert.isTrue(maxIdle > 0, "maxIdle 必须大于0");
+
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+		release(factory.get());
+	}
+
+	/**
+	 * 借出一个加密器实例执行操作，操作成功后归还实例。
+	 *
+	 * @param operation 加解密操作
+	 * @param <R>       操作结果类型
+	 * @return 操作结果
+	 * @since 2.1.0
+	 */
+	public <R> R execute(Function<? super E, R> operation) {
+		E encryptor = borrow();
+		R result = operation.apply(encryptor);
+		release(encryptor);
+		return result;
+	}
+
+	/**
+	 * 获取当前空闲实例数。
+	 *
+	 * @return 空闲实例数
+	 * @since 2.1.0
+	 */
+	public int getIdleCount() {
+		return idleCount.get();
+	}
+
+	/**
+	 * 借出一个加密器实例，池为空时新建。
+	 * <p>
+	 * 供同包内操作会抛出受检异常、无法使用 {@link #execute(Function)} 的场景使用，
+	 * 调用方仅在操作成功后调用 {@link #release(Object)} 归还实例。
+	 * </p>
+	 *
+	 * @return 加密器实例
+	 * @since 2.1.0
+	 */
+	E borrow() {
+		E encryptor = idleEncryptors.poll();
+		if (Objects.nonNull(encryptor)) {
+			idleCount.decrementAndGet();
+			return encryptor;
+		}
+		return factory.get();
+	}
+
+	/**
+	 * 归还加密器实例，空闲实例数已达上限时丢弃。
+	 *
+	 * @param encryptor 加密器实例
+	 * @since 2.1.0
+	 */
+	void release(E encryptor) {
+		if (idleCount.incrementAndGet() <= maxIdle) {
+			idleEncryptors.offer(encryptor);
+		} else {
+			idleCount.decrementAndGet();
+		}
+	}
+}
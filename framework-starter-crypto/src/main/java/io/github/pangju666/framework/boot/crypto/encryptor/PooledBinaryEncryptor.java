@@ -0,0 +1,86 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.springframework.util.Assert;
+
+/**
+ * 基于 {@link EncryptorPool} 的二进制加密器。
+ * <p>
+ * 每次加/解密从池中借出一个独占的 {@link BinaryEncryptor} 实例执行，输出格式与被池化的加密器完全一致，可被多线程共享。
+ * </p>
+ *
+ * @author pangju666
+ * @see EncryptorPool
+ * @since 2.1.0
+ */
+public final class PooledBinaryEncryptor implements BinaryEncryptor {
+	/**
+	 * 加密器实例池。
+	 *
+	 * @since 2.1.0
+	 */
+	private final EncryptorPool<? extends BinaryEncryptor> pool;
+
+	/**
+	 * 使用加密器实例池构造。
+	 *
+	 * @param pool 加密器实例池
+	 * @throws IllegalArgumentException 当 {@code pool} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	public PooledBinaryEncryptor(EncryptorPool<? extends BinaryEncryptor> pool) {
+		Assert.notNull(pool, "pool 不可为 null");
+
+		this.pool = pool;
+	}
+
+	/**
+	 * 加密。
+	 *
+	 * @param binary 明文
+	 * @return 密文
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] encrypt(byte[] binary) {
+		return pool.execute(encryptor -> encryptor.encrypt(binary));
+	}
+
+	/**
+	 * 解密。
+	 *
+	 * @param encryptedBinary 密文
+	 * @return 明文
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] decrypt(byte[] encryptedBinary) {
+		return pool.execute(encryptor -> encryptor.decrypt(encryptedBinary));
+	}
+
+	/**
+	 * 获取加密器实例池。
+	 *
+	 * @return 加密器实例池
+	 * @since 2.1.0
+	 */
+	public EncryptorPool<? extends BinaryEncryptor> getPool() {
+		return pool;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+
+/**
+ * 基于 {@link EncryptorPool} 的高精度小数加密器。
+ * <p>
+ * 每次加/解密从池中借出一个独占的 {@link DecimalNumberEncryptor} 实例执行，输出格式与被池化的加密器完全一致，可被多线程共享。
+ * </p>
+ *
+ * @author pangju666
+ * @see EncryptorPool
+ * @since 2.1.0
+ */
+public final class PooledDecimalNumberEncryptor implements DecimalNumberEncryptor {
+	/**
+	 * 加密器实例池。
+	 *
+	 * @since 2.1.0
+	 */
+	private final EncryptorPool<? extends DecimalNumberEncryptor> pool;
+
+	/**
+	 * 使用加密器实例池构造。
+	 *
+	 * @param pool 加密器实例池
+	 * @throws IllegalArgumentException 当 {@code pool} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	public PooledDecimalNumberEncryptor(EncryptorPool<? extends DecimalNumberEncryptor> pool) {
+		Assert.notNull(pool, "pool 不可为 null");
+
+		this.pool = pool;
+	}
+
+	/**
+	 * 加密。
+	 *
+	 * @param number 明文
+	 * @return 密文
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigDecimal encrypt(BigDecimal number) {
+		return pool.execute(encryptor -> encryptor.encrypt(number));
+	}
+
+	/**
+	 * 解密。
+	 *
+	 * @param encryptedNumber 密文
+	 * @return 明文
+	 * @since 2.1.0
+	 */
+	@Override
+	public BigDecimal decrypt(BigDecimal encryptedNumber) {
+		return pool.execute(encryptor -> encryptor.decrypt(encryptedNumber));
+	}
+
+	/**
+	 * 获取加密器实例池。
+	 *
+	 * @return 加密器实例池
+	 * @since 2.1.0
+	 */
+	public EncryptorPool<? extends DecimalNumberEncryptor> getPool() {
+		return pool;
+	}
+}
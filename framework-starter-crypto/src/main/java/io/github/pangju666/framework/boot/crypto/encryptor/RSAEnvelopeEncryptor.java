@@ -0,0 +1,382 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.springframework.util.Assert;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.Objects;
+
+/**
+ * RSA + AES‑GCM 信封加密器。
+ * <p>
+ * 每条消息随机生成一个 256 位 AES 数据密钥，消息内容使用 AES‑GCM 加密，仅数据密钥使用 RSA‑OAEP 加密。
+ * 无论消息多大，每次加/解密只执行一次 RSA 运算，且不需要按 RSA 块大小分段。
+ * </p>
+ * <p>
+ * 密文格式：<code>版本号(1 字节) | 数据密钥密文长度(2 字节，大端) | 数据密钥密文 | IV(12 字节) | 密文 | 认证标签(16 字节)</code>，
+ * IV 之前的全部字节作为附加认证数据参与认证。
+ * </p>
+ * <p>
+ * RSA 填充：<code>RSA/ECB/OAEPPadding</code>，摘要与 MGF1 均为 SHA‑256。
+ * </p>
+ * <p>
+ * 加密需要公钥，解密需要私钥；内部的 {@link Cipher} 实例按模式使用有界的 {@link EncryptorPool} 池化
+ * （不使用 ThreadLocal，兼容虚拟线程），实例可被多线程共享。文本与数字的转换规则见 {@link AbstractBinaryEncryptor}。
+ * </p>
+ * <p>
+ * 流式加解密：流头为 <code>流格式版本号(1 字节) | 数据密钥密文长度(2 字节，大端) | 数据密钥密文</code>，
+ * 每个流随机生成独立的数据密钥，分块格式见 {@link StreamEncryptor}。
+ * </p>
+ *
+ * @author pangju666
+ * @see AESGCMEncryptor
+ * @since 2.1.0
+ */
+public class RSAEnvelopeEncryptor extends AbstractBinaryEncryptor implements StreamEncryptor {
+	/**
+	 * 当前密文格式版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte VERSION = 1;
+	/**
+	 * 数据密钥长度（字节）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int DATA_KEY_LENGTH = 32;
+	/**
+	 * 当前流式密文格式版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte STREAM_VERSION = 0x10;
+	/**
+	 * 默认的 {@link Cipher} 实例池最大空闲实例数（CPU 核数）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * RSA 加密算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String RSA_TRANSFORMATION = "RSA/ECB/OAEPPadding";
+	/**
+	 * RSA‑OAEP 参数（SHA‑256 摘要，MGF1 使用 SHA‑256）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final OAEPParameterSpec OAEP_PARAMETER_SPEC = new OAEPParameterSpec("SHA-256", "MGF1",
+		MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+	/**
+	 * AES 加密算法名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String AES_TRANSFORMATION = "AES/GCM/NoPadding";
+	/**
+	 * 随机数据密钥与 IV 生成器。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	/**
+	 * RSA 公钥，为 null 时不支持加密。
+	 *
+	 * @since 2.1.0
+	 */
+	private final PublicKey publicKey;
+	/**
+	 * RSA 私钥，为 null 时不支持解密。
+	 *
+	 * @since 2.1.0
+	 */
+	private final PrivateKey privateKey;
+	/**
+	 * 已使用公钥初始化的 RSA {@link Cipher} 实例池，未设置公钥时为 null。
+	 *
+	 * @since 2.1.0
+	 */
+	private final EncryptorPool<Cipher> rsaEncryptCipherPool;
+	/**
+	 * 已使用私钥初始化的 RSA {@link Cipher} 实例池，未设置私钥时为 null。
+	 *
+	 * @since 2.1.0
+	 */
+	private final EncryptorPool<Cipher> rsaDecryptCipherPool;
+	/**
+	 * AES‑GCM {@link Cipher} 实例池，每次使用前按消息的数据密钥与 IV 重新初始化。
+	 *
+	 * @since 2.1.0
+	 */
+	private final EncryptorPool<Cipher> aesCipherPool;
+
+	/**
+	 * 构造信封加密器，公钥与私钥至少提供一个，{@link Cipher} 实例池最大空闲实例数为 {@link #DEFAULT_POOL_SIZE}。
+	 *
+	 * @param publicKey  RSA 公钥（可为 null，为 null 时不支持加密）
+	 * @param privateKey RSA 私钥（可为 null，为 null 时不支持解密）
+	 * @throws IllegalArgumentException 当公钥与私钥均为 null 或密钥无效时抛出
+	 * @since 2.1.0
+	 */
+	public RSAEnvelopeEncryptor(PublicKey publicKey, PrivateKey privateKey) {
+		this(publicKey, privateKey, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * 构造信封加密器，公钥与私钥至少提供一个。
+	 * <p>
+	 * 构造时会使用提供的密钥初始化一个 RSA {@link Cipher}，以便尽早暴露密钥错误。
+	 * 各 {@link Cipher} 实例池最多保留 {@code poolSize} 个空闲实例，并发超出时临时新建实例，用完后丢弃。
+	 * </p>
+	 *
+	 * @param publicKey  RSA 公钥（可为 null，为 null 时不支持加密）
+	 * @param privateKey RSA 私钥（可为 null，为 null 时不支持解密）
+	 * @param poolSize   各 {@link Cipher} 实例池的最大空闲实例数
+	 * @throws IllegalArgumentException 当公钥与私钥均为 null、密钥无效或 {@code poolSize} 小于等于 0 时抛出
+	 * @since 2.1.0
+	 */
+	public RSAEnvelopeEncryptor(PublicKey publicKey, PrivateKey privateKey, int poolSize) {
+		Assert.isTrue(Objects.nonNull(publicKey) || Objects.nonNull(privateKey), "publicKey 和 privateKey 不可同时为 null");
+		Assert.isTrue(poolSize > 0, "poolSize 必须大于0");
+
+		this.publicKey = publicKey;
+		this.privateKey = privateKey;
+		this.rsaEncryptCipherPool = Objects.nonNull(publicKey) ?
+			new EncryptorPool<>(() -> createRsaCipher(Cipher.ENCRYPT_MODE, publicKey), poolSize) : null;
+		this.rsaDecryptCipherPool = Objects.nonNull(privateKey) ?
+			new EncryptorPool<>(() -> createRsaCipher(Cipher.DECRYPT_MODE, privateKey), poolSize) : null;
+		this.aesCipherPool = new EncryptorPool<>(RSAEnvelopeEncryptor::createAesCipher, poolSize);
+	}
+
+	/**
+	 * 加密字节数组。
+	 *
+	 * @param binary 明文字节数组
+	 * @return 信封密文；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当未设置公钥或加密失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] encrypt(byte[] binary) {
+		if (Objects.isNull(binary)) {
+			return null;
+		}
+		if (Objects.isNull(publicKey)) {
+			throw new EncryptionOperationNotPossibleException("未设置 RSA 公钥，无法加密");
+		}
+
+		byte[] dataKey = new byte[DATA_KEY_LENGTH];
+		RANDOM.nextBytes(dataKey);
+		byte[] iv = new byte[AESGCMEncryptor.IV_LENGTH];
+		RANDOM.nextBytes(iv);
+
+		try {
+			Cipher rsaCipher = rsaEncryptCipherPool.borrow();
+			byte[] encryptedDataKey = rsaCipher.doFinal(dataKey);
+			rsaEncryptCipherPool.release(rsaCipher);
+
+			int aadLength = 3 + encryptedDataKey.length;
+			byte[] output = new byte[aadLength + iv.length + binary.length + AESGCMEncryptor.TAG_LENGTH / Byte.SIZE];
+			output[0] = VERSION;
+			output[1] = (byte) (encryptedDataKey.length >>> 8);
+			output[2] = (byte) encryptedDataKey.length;
+			System.arraycopy(encryptedDataKey, 0, output, 3, encryptedDataKey.length);
+			System.arraycopy(iv, 0, output, aadLength, iv.length);
+
+			Cipher aesCipher = aesCipherPool.borrow();
+			aesCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(dataKey, "AES"),
+				new GCMParameterSpec(AESGCMEncryptor.TAG_LENGTH, iv));
+			aesCipher.updateAAD(output, 0, aadLength);
+			aesCipher.doFinal(binary, 0, binary.length, output, aadLength + iv.length);
+			aesCipherPool.release(aesCipher);
+			return output;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 解密字节数组。
+	 *
+	 * @param encryptedBinary 由 {@link #encrypt(byte[])} 生成的信封密文
+	 * @return 明文字节数组；输入为 null 时返回 null
+	 * @throws EncryptionOperationNotPossibleException 当未设置私钥、密文格式或版本号不正确、认证失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public byte[] decrypt(byte[] encryptedBinary) {
+		if (Objects.isNull(encryptedBinary)) {
+			return null;
+		}
+		if (Objects.isNull(privateKey)) {
+			throw new EncryptionOperationNotPossibleException("未设置 RSA 私钥，无法解密");
+		}
+		if (encryptedBinary.length < 3 || encryptedBinary[0] != VERSION) {
+			throw new EncryptionOperationNotPossibleException("不支持的密文格式");
+		}
+		int encryptedDataKeyLength = ((encryptedBinary[1] & 0xFF) << 8) | (encryptedBinary[2] & 0xFF);
+		int aadLength = 3 + encryptedDataKeyLength;
+		int payloadOffset = aadLength + AESGCMEncryptor.IV_LENGTH;
+		if (encryptedBinary.length < payloadOffset + AESGCMEncryptor.TAG_LENGTH / Byte.SIZE) {
+			throw new EncryptionOperationNotPossibleException("不支持的密文格式");
+		}
+
+		try {
+			Cipher rsaCipher = rsaDecryptCipherPool.borrow();
+			byte[] dataKey = rsaCipher.doFinal(encryptedBinary, 3, encryptedDataKeyLength);
+			rsaDecryptCipherPool.release(rsaCipher);
+
+			Cipher aesCipher = aesCipherPool.borrow();
+			aesCipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(dataKey, "AES"),
+				new GCMParameterSpec(AESGCMEncryptor.TAG_LENGTH, encryptedBinary, aadLength, AESGCMEncryptor.IV_LENGTH));
+			aesCipher.updateAAD(encryptedBinary, 0, aadLength);
+			byte[] result = aesCipher.doFinal(encryptedBinary, payloadOffset, encryptedBinary.length - payloadOffset);
+			aesCipherPool.release(aesCipher);
+			return result;
+		} catch (GeneralSecurityException e) {
+			throw new EncryptionOperationNotPossibleException(e);
+		}
+	}
+
+	/**
+	 * 包装输出流，写入的明文将以分块格式加密后写入 {@code output}。
+	 *
+	 * @param output 密文输出流
+	 * @return 明文输出流，必须关闭才会写入最后一个分块
+	 * @throws IOException 当未设置公钥、数据密钥加密失败或写入流头失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public OutputStream encryptStream(OutputStream output) throws IOException {
+		Assert.notNull(output, "output 不可为 null");
+		if (Objects.isNull(publicKey)) {
+			throw new IOException("未设置 RSA 公钥，无法加密");
+		}
+
+		byte[] dataKey = new byte[DATA_KEY_LENGTH];
+		RANDOM.nextBytes(dataKey);
+		try {
+			Cipher rsaCipher = rsaEncryptCipherPool.borrow();
+			byte[] encryptedDataKey = rsaCipher.doFinal(dataKey);
+			rsaEncryptCipherPool.release(rsaCipher);
+
+			byte[] header = new byte[3 + encryptedDataKey.length];
+			header[0] = STREAM_VERSION;
+			header[1] = (byte) (encryptedDataKey.length >>> 8);
+			header[2] = (byte) encryptedDataKey.length;
+			System.arraycopy(encryptedDataKey, 0, header, 3, encryptedDataKey.length);
+			return new ChunkedAEADOutputStream(output, new SecretKeySpec(dataKey, "AES"), header);
+		} catch (GeneralSecurityException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * 包装输入流，读取由 {@link #encryptStream(OutputStream)} 生成的分块密文并返回明文。
+	 *
+	 * @param input 密文输入流
+	 * @return 明文输入流
+	 * @throws IOException 当未设置私钥、流头读取失败、版本号不正确或数据密钥解密失败时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public InputStream decryptStream(InputStream input) throws IOException {
+		Assert.notNull(input, "input 不可为 null");
+		if (Objects.isNull(privateKey)) {
+			throw new IOException("未设置 RSA 私钥，无法解密");
+		}
+
+		DataInputStream dataInput = new DataInputStream(input);
+		byte[] prefix = new byte[3];
+		dataInput.readFully(prefix);
+		if (prefix[0] != STREAM_VERSION) {
+			throw new IOException("不支持的密文流格式");
+		}
+		int encryptedDataKeyLength = ((prefix[1] & 0xFF) << 8) | (prefix[2] & 0xFF);
+		byte[] header = new byte[3 + encryptedDataKeyLength];
+		System.arraycopy(prefix, 0, header, 0, 3);
+		dataInput.readFully(header, 3, encryptedDataKeyLength);
+
+		try {
+			Cipher rsaCipher = rsaDecryptCipherPool.borrow();
+			byte[] dataKey = rsaCipher.doFinal(header, 3, encryptedDataKeyLength);
+			rsaDecryptCipherPool.release(rsaCipher);
+			return new ChunkedAEADInputStream(input, new SecretKeySpec(dataKey, "AES"), header);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("数据密钥解密失败", e);
+		}
+	}
+
+	/**
+	 * 创建并初始化 RSA‑OAEP {@link Cipher}。
+	 *
+	 * <p>
+	 * RSA {@link Cipher} 完成一次 {@code doFinal} 后会回到初始化后的状态，可直接归还实例池复用。
+	 * </p>
+	 *
+	 * @param mode 加密或解密模式
+	 * @param key  RSA 公钥或私钥
+	 * @return 已初始化的 RSA {@link Cipher}
+	 * @throws IllegalArgumentException 当创建或初始化失败（如密钥无效）时抛出
+	 * @since 2.1.0
+	 */
+	private static Cipher createRsaCipher(int mode, Key key) {
+		try {
+			Cipher cipher = Cipher.getInstance(RSA_TRANSFORMATION);
+			cipher.init(mode, key, OAEP_PARAMETER_SPEC);
+			return cipher;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalArgumentException("无效的 RSA 密钥", e);
+		}
+	}
+
+	/**
+	 * 创建 AES‑GCM {@link Cipher}。
+	 *
+	 * @return AES‑GCM {@link Cipher}
+	 * @throws IllegalStateException 当运行环境不支持 AES‑GCM 时抛出
+	 * @since 2.1.0
+	 */
+	private static Cipher createAesCipher() {
+		try {
+			return Cipher.getInstance(AES_TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("创建 " + AES_TRANSFORMATION + " 失败", e);
+		}
+	}
+}
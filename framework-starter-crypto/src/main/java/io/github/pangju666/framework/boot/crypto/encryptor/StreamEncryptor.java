@@ -0,0 +1,70 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.encryptor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 流式加/解密器接口。
+ * <p>
+ * 以包装 {@link OutputStream}/{@link InputStream} 的方式加/解密任意长度的数据，内存占用与数据大小无关，
+ * 适用于文件、GridFS 文件与大型 HTTP 请求/响应体。通道可通过 {@link java.nio.channels.Channels} 转换为流后使用。
+ * </p>
+ * <p>
+ * 流式密文格式：<code>流头 | 分块 0 | 分块 1 | ... | 最后分块</code>，流头由实现定义。
+ * 明文按 64 KiB 分块，每块独立使用 AES‑GCM 加密，格式为
+ * <code>分块头(4 字节，大端：最高位为最后分块标记，其余位为分块密文长度) | 密文 | 认证标签(16 字节)</code>。
+ * 分块 IV 由分块序号与最后分块标记构成，流头作为每个分块的附加认证数据，
+ * 因此分块被篡改、重排、删除或流被截断都会导致解密失败。该格式与 {@code encrypt(byte[])} 生成的密文格式不通用。
+ * </p>
+ *
+ * @author pangju666
+ * @see AESGCMEncryptor
+ * @see RSAEnvelopeEncryptor
+ * @since 2.1.0
+ */
+public interface StreamEncryptor {
+	/**
+	 * 包装输出流，写入包装流的明文将被加密后写入 {@code output}。
+	 * <p>
+	 * 必须关闭返回的流才会写入最后一个分块，关闭时会同时关闭 {@code output}。
+	 * </p>
+	 *
+	 * @param output 密文输出流
+	 * @return 明文输出流
+	 * @throws IOException 当写入流头失败时抛出
+	 * @throws IllegalArgumentException 当 {@code output} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	OutputStream encryptStream(OutputStream output) throws IOException;
+
+	/**
+	 * 包装输入流，从包装流读取到的是 {@code input} 中密文解密后的明文。
+	 * <p>
+	 * 每个分块在认证通过后才会返回给调用方；密文被篡改、截断或分块被重排时，读取会抛出 {@link IOException}。
+	 * </p>
+	 *
+	 * @param input 密文输入流
+	 * @return 明文输入流
+	 * @throws IOException 当读取流头失败或流头格式不正确时抛出
+	 * @throws IllegalArgumentException 当 {@code input} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	InputStream decryptStream(InputStream input) throws IOException;
+}
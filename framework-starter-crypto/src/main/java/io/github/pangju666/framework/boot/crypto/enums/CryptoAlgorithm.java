@@ -18,8 +18,11 @@ package io.github.pangju666.framework.boot.crypto.enums;
 
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory;
 
 /**
@@ -85,7 +88,55 @@ public enum CryptoAlgorithm {
 	 *
 	 * @since 1.0.0
 	 */
-	STRONG(StrongCryptoFactory.class);
+	STRONG(StrongCryptoFactory.class),
+	/**
+	 * AES‑GCM 对称加密算法。
+	 * <p>
+	 * 每个口令只派生一次 256 位密钥并缓存，每条消息使用随机 IV，密文带版本号并经过认证，
+	 * 适用于字段级加密等高频加解密场景。
+	 * </p>
+	 * <p>
+	 * 对应算法：<code>AES/GCM/NoPadding</code>（密钥由 <code>PBKDF2WithHmacSHA256</code> 派生）。
+	 * </p>
+	 * <p>
+	 * 关联工厂：{@link AESGCMCryptoFactory}
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	AES_GCM(AESGCMCryptoFactory.class),
+	/**
+	 * RSA + AES‑GCM 信封加密算法。
+	 * <p>
+	 * 每条消息生成随机 AES 数据密钥，仅数据密钥使用 RSA 加密，消息内容使用 AES‑GCM 加密；
+	 * 每次加/解密只执行一次 RSA 运算，适用于响应体等较大的数据。密钥格式与 {@link #RSA} 相同。
+	 * </p>
+	 * <p>
+	 * 对应算法：<code>RSA/ECB/OAEPPadding</code>（SHA‑256）+ <code>AES/GCM/NoPadding</code>
+	 * </p>
+	 * <p>
+	 * 关联工厂：{@link RSAEnvelopeCryptoFactory}
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	RSA_ENVELOPE(RSAEnvelopeCryptoFactory.class),
+	/**
+	 * AES‑SIV 确定性加密算法。
+	 * <p>
+	 * 相同密钥下相同明文总是生成相同密文，密文可用于数据库等值查询与索引（如手机号、证件号），
+	 * 同时保持认证加密特性。会暴露明文是否相同，仅应用于需要等值检索的高基数字段。
+	 * </p>
+	 * <p>
+	 * 对应算法：AES‑SIV（RFC 5297，密钥由 <code>PBKDF2WithHmacSHA256</code> 派生）
+	 * </p>
+	 * <p>
+	 * 关联工厂：{@link AESSIVCryptoFactory}
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	AES_SIV(AESSIVCryptoFactory.class);
 
 	/**
 	 * 与算法枚举关联的工厂类型。
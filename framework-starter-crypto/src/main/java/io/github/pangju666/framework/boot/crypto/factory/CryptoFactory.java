@@ -16,11 +16,16 @@
 
 package io.github.pangju666.framework.boot.crypto.factory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
 import org.jasypt.util.binary.BinaryEncryptor;
 import org.jasypt.util.numeric.DecimalNumberEncryptor;
 import org.jasypt.util.numeric.IntegerNumberEncryptor;
 import org.jasypt.util.text.TextEncryptor;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * 加/解密器工厂接口。
  * <p>
@@ -28,12 +33,17 @@ import org.jasypt.util.text.TextEncryptor;
  * 具体算法由各实现类决定（如 RSA、AES‑256、DES 等），密钥的含义也由实现确定：
  * 例如 RSA 工厂中加密器使用公钥、解密器使用私钥；其他内置实现中使用口令派生密钥。
  * </p>
+ * <p>
+ * 支持流式加解密的实现（{@link #supportsStream()} 返回 {@code true}）还可通过 {@link #getStreamEncryptor(String)}
+ * 与 {@link #getStreamDecryptor(String)} 以固定内存处理任意大小的数据。
+ * </p>
  *
  * @author pangju666
  * @see BinaryEncryptor
  * @see TextEncryptor
  * @see DecimalNumberEncryptor
  * @see IntegerNumberEncryptor
+ * @see StreamEncryptor
  * @since 1.0.0
  */
 public interface CryptoFactory {
@@ -136,4 +146,56 @@ public interface CryptoFactory {
 	default DecimalNumberEncryptor getDecimalNumberDecryptor(String key) {
 		return getDecimalNumberEncryptor(key);
 	}
+
+	/**
+	 * 是否支持流式加解密。
+	 *
+	 * @return 支持时返回 {@code true}，默认返回 {@code false}
+	 * @since 2.1.0
+	 */
+	default boolean supportsStream() {
+		return false;
+	}
+
+	/**
+	 * 获取流式加密器。
+	 *
+	 * @param key 密钥或口令
+	 * @return 流式加密器
+	 * @throws IllegalArgumentException 密钥不可用或格式不合法时抛出
+	 * @throws UnsupportedOperationException 当前实现不支持流式加解密时抛出（默认行为）
+	 * @since 2.1.0
+	 */
+	default StreamEncryptor getStreamEncryptor(String key) {
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " 不支持流式加解密");
+	}
+
+	/**
+	 * 获取流式解密器。
+	 * <p>
+	 * 默认返回与加密器相同的实例；具体实现可覆盖以使用不同密钥（如 RSA 私钥）。
+	 * </p>
+	 *
+	 * @param key 密钥或口令
+	 * @return 流式解密器
+	 * @throws IllegalArgumentException 密钥不可用或格式不合法时抛出
+	 * @throws UnsupportedOperationException 当前实现不支持流式加解密时抛出（默认行为）
+	 * @since 2.1.0
+	 */
+	default StreamEncryptor getStreamDecryptor(String key) {
+		return getStreamEncryptor(key);
+	}
+
+	/**
+	 * 获取工厂内部的加/解密器缓存，用于监控缓存命中率、淘汰次数等指标。
+	 * <p>
+	 * 只有构建时启用了统计记录（{@code recordStats}）的缓存才会产生有效的统计信息。
+	 * </p>
+	 *
+	 * @return 缓存名称到缓存的映射，默认返回空映射
+	 * @since 2.1.0
+	 */
+	default Map<String, Cache<String, ?>> getCaches() {
+		return Collections.emptyMap();
+	}
 }
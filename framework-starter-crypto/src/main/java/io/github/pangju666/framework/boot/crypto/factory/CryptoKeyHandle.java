@@ -0,0 +1,270 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.factory;
+
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 已解析密钥的句柄。
+ * <p>
+ * {@link CryptoFactory} 按字符串密钥获取加密器时，每次调用都需要计算密钥摘要作为缓存键。
+ * 调用方可在初始化阶段（如 Jackson 序列化器上下文化时）将密钥解析为句柄并持有，
+ * 之后通过句柄获取加密器：句柄按工厂实例保存首次获取到的加/解密器，后续调用只进行一次按工厂的查找，
+ * 不再计算摘要，也不产生额外的字符串分配。
+ * </p>
+ * <p>
+ * 句柄以对象标识区分（未重写 {@code equals}/{@code hashCode}），明文密钥仅作为私有字段保存，
+ * 不会作为任何映射的键，{@link #toString()} 也不会输出密钥内容。
+ * </p>
+ * <p>
+ * 线程安全：句柄可被多线程共享；并发首次获取时可能多次调用工厂，但工厂本身按密钥缓存，结果一致。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoFactory
+ * @since 2.1.0
+ */
+public final class CryptoKeyHandle {
+	/**
+	 * 明文密钥（已解析占位符）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String key;
+	/**
+	 * 工厂实例到已获取加/解密器的映射。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<CryptoFactory, ResolvedEncryptors> resolvedEncryptors = new ConcurrentHashMap<>(4);
+
+	private CryptoKeyHandle(String key) {
+		this.key = key;
+	}
+
+	/**
+	 * 使用已解析的密钥创建句柄。
+	 *
+	 * @param key 明文密钥（已解析占位符）
+	 * @return 密钥句柄
+	 * @throws IllegalArgumentException 当密钥为空时抛出
+	 * @since 2.1.0
+	 */
+	public static CryptoKeyHandle of(String key) {
+		Assert.hasText(key, "key 不可为空");
+
+		return new CryptoKeyHandle(key);
+	}
+
+	/**
+	 * 获取明文密钥。
+	 *
+	 * @return 明文密钥
+	 * @since 2.1.0
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * 获取字节数组加密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 字节数组加密器
+	 * @since 2.1.0
+	 */
+	public BinaryEncryptor getBinaryEncryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		BinaryEncryptor encryptor = resolved.binaryEncryptor;
+		if (Objects.isNull(encryptor)) {
+			encryptor = factory.getBinaryEncryptor(key);
+			resolved.binaryEncryptor = encryptor;
+		}
+		return encryptor;
+	}
+
+	/**
+	 * 获取字节数组解密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 字节数组解密器
+	 * @since 2.1.0
+	 */
+	public BinaryEncryptor getBinaryDecryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		BinaryEncryptor decryptor = resolved.binaryDecryptor;
+		if (Objects.isNull(decryptor)) {
+			decryptor = factory.getBinaryDecryptor(key);
+			resolved.binaryDecryptor = decryptor;
+		}
+		return decryptor;
+	}
+
+	/**
+	 * 获取文本加密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 文本加密器
+	 * @since 2.1.0
+	 */
+	public TextEncryptor getTextEncryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		TextEncryptor encryptor = resolved.textEncryptor;
+		if (Objects.isNull(encryptor)) {
+			encryptor = factory.getTextEncryptor(key);
+			resolved.textEncryptor = encryptor;
+		}
+		return encryptor;
+	}
+
+	/**
+	 * 获取文本解密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 文本解密器
+	 * @since 2.1.0
+	 */
+	public TextEncryptor getTextDecryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		TextEncryptor decryptor = resolved.textDecryptor;
+		if (Objects.isNull(decryptor)) {
+			decryptor = factory.getTextDecryptor(key);
+			resolved.textDecryptor = decryptor;
+		}
+		return decryptor;
+	}
+
+	/**
+	 * 获取整型数字加密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 整型数字加密器
+	 * @since 2.1.0
+	 */
+	public IntegerNumberEncryptor getIntegerNumberEncryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		IntegerNumberEncryptor encryptor = resolved.integerEncryptor;
+		if (Objects.isNull(encryptor)) {
+			encryptor = factory.getIntegerNumberEncryptor(key);
+			resolved.integerEncryptor = encryptor;
+		}
+		return encryptor;
+	}
+
+	/**
+	 * 获取整型数字解密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 整型数字解密器
+	 * @since 2.1.0
+	 */
+	public IntegerNumberEncryptor getIntegerNumberDecryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		IntegerNumberEncryptor decryptor = resolved.integerDecryptor;
+		if (Objects.isNull(decryptor)) {
+			decryptor = factory.getIntegerNumberDecryptor(key);
+			resolved.integerDecryptor = decryptor;
+		}
+		return decryptor;
+	}
+
+	/**
+	 * 获取高精度小数加密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 高精度小数加密器
+	 * @since 2.1.0
+	 */
+	public DecimalNumberEncryptor getDecimalNumberEncryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		DecimalNumberEncryptor encryptor = resolved.decimalEncryptor;
+		if (Objects.isNull(encryptor)) {
+			encryptor = factory.getDecimalNumberEncryptor(key);
+			resolved.decimalEncryptor = encryptor;
+		}
+		return encryptor;
+	}
+
+	/**
+	 * 获取高精度小数解密器。
+	 *
+	 * @param factory 加密工厂
+	 * @return 高精度小数解密器
+	 * @since 2.1.0
+	 */
+	public DecimalNumberEncryptor getDecimalNumberDecryptor(CryptoFactory factory) {
+		ResolvedEncryptors resolved = resolve(factory);
+		DecimalNumberEncryptor decryptor = resolved.decimalDecryptor;
+		if (Objects.isNull(decryptor)) {
+			decryptor = factory.getDecimalNumberDecryptor(key);
+			resolved.decimalDecryptor = decryptor;
+		}
+		return decryptor;
+	}
+
+	/**
+	 * 返回不包含密钥内容的描述。
+	 *
+	 * @return 句柄描述
+	 * @since 2.1.0
+	 */
+	@Override
+	public String toString() {
+		return "CryptoKeyHandle[******]";
+	}
+
+	/**
+	 * 获取指定工厂对应的加/解密器容器，不存在时创建。
+	 *
+	 * @param factory 加密工厂
+	 * @return 加/解密器容器
+	 * @since 2.1.0
+	 */
+	private ResolvedEncryptors resolve(CryptoFactory factory) {
+		Assert.notNull(factory, "factory 不可为 null");
+
+		ResolvedEncryptors resolved = resolvedEncryptors.get(factory);
+		if (Objects.isNull(resolved)) {
+			resolved = resolvedEncryptors.computeIfAbsent(factory, f -> new ResolvedEncryptors());
+		}
+		return resolved;
+	}
+
+	/**
+	 * 单个工厂下已获取的加/解密器。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class ResolvedEncryptors {
+		volatile BinaryEncryptor binaryEncryptor;
+		volatile BinaryEncryptor binaryDecryptor;
+		volatile TextEncryptor textEncryptor;
+		volatile TextEncryptor textDecryptor;
+		volatile IntegerNumberEncryptor integerEncryptor;
+		volatile IntegerNumberEncryptor integerDecryptor;
+		volatile DecimalNumberEncryptor decimalEncryptor;
+		volatile DecimalNumberEncryptor decimalDecryptor;
+	}
+}
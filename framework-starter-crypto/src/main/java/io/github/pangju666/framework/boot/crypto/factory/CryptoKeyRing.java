@@ -0,0 +1,375 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.factory;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.springframework.util.Assert;
+
+import java.util.Objects;
+
+/**
+ * 带版本号的密钥环，用于无停机密钥轮换。
+ * <p>
+ * 密钥环保存多个版本的密钥，并指定一个主版本：加密始终使用主版本密钥，并在密文前追加 2 字节密文头（魔数与版本号）；
+ * 解密时读取版本号，以数组下标在 O(1) 时间内定位对应版本的密钥。轮换时只需新增版本并切换主版本，
+ * 旧密文仍可解密，再由 {@link io.github.pangju666.framework.boot.crypto.rotation.ReEncryptionJob} 在后台逐批重新加密。
+ * </p>
+ * <p>
+ * 密文格式：<code>魔数(1 字节，{@code 0xCB}) | 密钥版本号(1 字节，1~255) | 工厂生成的密文</code>。
+ * 魔数与内置认证加密器的格式版本号（{@code 0x01}、{@code 0x10}）不同，因此这些算法的历史密文不会被误认为密钥环密文；
+ * 以随机盐或随机数开头的历史密文（如 PBE 算法）仍有约 1/65536 的概率与密文头相同，
+ * 配置历史密钥时 {@link #reEncrypt(CryptoFactory, byte[])} 会通过主版本密钥解密确认。
+ * </p>
+ * <p>
+ * 兼容未带版本号的历史密文：配置 {@link Builder#legacyKey(String)} 后，版本号未知或按版本解密失败的密文
+ * 会再使用历史密钥对完整密文解密一次。该回退依赖工厂算法能够识别错误密钥（认证加密算法如 AES‑GCM、AES‑SIV 可可靠识别），
+ * 迁移完成后应移除历史密钥。
+ * </p>
+ * <p>
+ * 各版本密钥以 {@link CryptoKeyHandle} 保存，可被多线程共享；密钥环本身不可变。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoKeyHandle
+ * @since 2.1.0
+ */
+public final class CryptoKeyRing {
+	/**
+	 * 最大密钥版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int MAX_VERSION = 255;
+	/**
+	 * 密钥环密文头的魔数。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final byte MAGIC = (byte) 0xCB;
+	/**
+	 * 密钥环密文头长度（魔数 + 版本号）。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int HEADER_LENGTH = 2;
+
+	/**
+	 * 按版本号索引的加密密钥句柄。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoKeyHandle[] encryptKeyHandles;
+	/**
+	 * 按版本号索引的解密密钥句柄。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoKeyHandle[] decryptKeyHandles;
+	/**
+	 * 主版本号。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int primaryVersion;
+	/**
+	 * 历史（无版本号）密文的解密密钥句柄，可为 null。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoKeyHandle legacyDecryptKeyHandle;
+
+	private CryptoKeyRing(Builder builder) {
+		this.encryptKeyHandles = builder.encryptKeyHandles.clone();
+		this.decryptKeyHandles = builder.decryptKeyHandles.clone();
+		this.primaryVersion = builder.primaryVersion;
+		this.legacyDecryptKeyHandle = builder.legacyDecryptKeyHandle;
+	}
+
+	/**
+	 * 创建密钥环构建器。
+	 *
+	 * @return 构建器
+	 * @since 2.1.0
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * 读取密文头中的密钥版本号。
+	 *
+	 * @param ciphertext 带密文头的密文
+	 * @return 版本号；密文为空或不以魔数开头（如历史密文）时返回 0
+	 * @since 2.1.0
+	 */
+	public static int getVersion(byte[] ciphertext) {
+		if (ArrayUtils.getLength(ciphertext) < HEADER_LENGTH || ciphertext[0] != MAGIC) {
+			return 0;
+		}
+		return ciphertext[1] & 0xFF;
+	}
+
+	/**
+	 * 获取主版本号。
+	 *
+	 * @return 主版本号
+	 * @since 2.1.0
+	 */
+	public int getPrimaryVersion() {
+		return primaryVersion;
+	}
+
+	/**
+	 * 判断是否包含指定版本的密钥。
+	 *
+	 * @param version 版本号
+	 * @return 包含时返回 {@code true}
+	 * @since 2.1.0
+	 */
+	public boolean containsVersion(int version) {
+		return version > 0 && version <= MAX_VERSION && Objects.nonNull(encryptKeyHandles[version]);
+	}
+
+	/**
+	 * 判断密文是否需要使用主版本密钥重新加密。
+	 * <p>
+	 * 仅根据密文头判断，不执行解密：版本号不是主版本（包括未知版本与不以魔数开头的历史密文）时返回 {@code true}。
+	 * 配置历史密钥时，密文头恰好与主版本相同的历史密文只能由 {@link #reEncrypt(CryptoFactory, byte[])} 识别。
+	 * </p>
+	 *
+	 * @param ciphertext 密文
+	 * @return 需要重新加密时返回 {@code true}；密文为空时返回 {@code false}
+	 * @since 2.1.0
+	 */
+	public boolean needsReEncryption(byte[] ciphertext) {
+		return ArrayUtils.isNotEmpty(ciphertext) && getVersion(ciphertext) != primaryVersion;
+	}
+
+	/**
+	 * 使用主版本密钥加密，并在密文前追加密文头。
+	 *
+	 * @param factory 加密工厂
+	 * @param rawData 明文；为空时直接返回
+	 * @return 带密文头的密文；若输入为空则返回原值
+	 * @since 2.1.0
+	 */
+	public byte[] encrypt(CryptoFactory factory, byte[] rawData) {
+		if (ArrayUtils.isEmpty(rawData)) {
+			return rawData;
+		}
+		byte[] ciphertext = encryptKeyHandles[primaryVersion].getBinaryEncryptor(factory).encrypt(rawData);
+		byte[] result = new byte[HEADER_LENGTH + ciphertext.length];
+		result[0] = MAGIC;
+		result[1] = (byte) primaryVersion;
+		System.arraycopy(ciphertext, 0, result, HEADER_LENGTH, ciphertext.length);
+		return result;
+	}
+
+	/**
+	 * 按密文头中的版本号选择密钥解密。
+	 *
+	 * @param factory    加密工厂
+	 * @param ciphertext 带密文头的密文（配置历史密钥时也可以是无密文头的历史密文）；为空时直接返回
+	 * @return 明文；若输入为空则返回原值
+	 * @throws EncryptionOperationNotPossibleException 当版本号未知且未配置历史密钥，或解密失败时抛出
+	 * @since 2.1.0
+	 */
+	public byte[] decrypt(CryptoFactory factory, byte[] ciphertext) {
+		if (ArrayUtils.isEmpty(ciphertext)) {
+			return ciphertext;
+		}
+		int version = getVersion(ciphertext);
+		CryptoKeyHandle keyHandle = version > 0 ? decryptKeyHandles[version] : null;
+		if (Objects.isNull(keyHandle)) {
+			if (Objects.isNull(legacyDecryptKeyHandle)) {
+				throw new EncryptionOperationNotPossibleException(version > 0 ? "未找到密钥版本：" + version :
+					"不是密钥环密文且未配置历史密钥");
+			}
+			return legacyDecryptKeyHandle.getBinaryDecryptor(factory).decrypt(ciphertext);
+		}
+
+		try {
+			return decryptVersioned(factory, keyHandle, ciphertext);
+		} catch (RuntimeException e) {
+			// 历史密文的开头恰好与密文头相同
+			if (Objects.isNull(legacyDecryptKeyHandle)) {
+				throw e;
+			}
+			return legacyDecryptKeyHandle.getBinaryDecryptor(factory).decrypt(ciphertext);
+		}
+	}
+
+	/**
+	 * 使用主版本密钥重新加密。
+	 * <p>
+	 * 配置历史密钥时，密文头为主版本的密文会先使用主版本密钥解密确认，
+	 * 解密失败则视为密文头恰好相同的历史密文，使用历史密钥解密后重新加密。
+	 * </p>
+	 *
+	 * @param factory    加密工厂
+	 * @param ciphertext 密文；为空时直接返回
+	 * @return 主版本密文；密文已是主版本时返回原值（同一数组实例）
+	 * @throws EncryptionOperationNotPossibleException 当解密失败时抛出
+	 * @since 2.1.0
+	 */
+	public byte[] reEncrypt(CryptoFactory factory, byte[] ciphertext) {
+		if (ArrayUtils.isEmpty(ciphertext)) {
+			return ciphertext;
+		}
+		if (!needsReEncryption(ciphertext)) {
+			if (Objects.isNull(legacyDecryptKeyHandle)) {
+				return ciphertext;
+			}
+			try {
+				decryptVersioned(factory, decryptKeyHandles[primaryVersion], ciphertext);
+				return ciphertext;
+			} catch (RuntimeException e) {
+				return encrypt(factory, legacyDecryptKeyHandle.getBinaryDecryptor(factory).decrypt(ciphertext));
+			}
+		}
+		return encrypt(factory, decrypt(factory, ciphertext));
+	}
+
+	/**
+	 * 去除密文头后使用指定版本的密钥解密。
+	 *
+	 * @param factory    加密工厂
+	 * @param keyHandle  密文头中版本号对应的解密密钥句柄
+	 * @param ciphertext 带密文头的密文
+	 * @return 明文
+	 * @since 2.1.0
+	 */
+	private byte[] decryptVersioned(CryptoFactory factory, CryptoKeyHandle keyHandle, byte[] ciphertext) {
+		byte[] versionedCiphertext = new byte[ciphertext.length - HEADER_LENGTH];
+		System.arraycopy(ciphertext, HEADER_LENGTH, versionedCiphertext, 0, versionedCiphertext.length);
+		return keyHandle.getBinaryDecryptor(factory).decrypt(versionedCiphertext);
+	}
+
+	/**
+	 * 输出主版本号与版本数量，不包含密钥内容。
+	 *
+	 * @return 描述字符串
+	 * @since 2.1.0
+	 */
+	@Override
+	public String toString() {
+		int count = 0;
+		for (CryptoKeyHandle keyHandle : encryptKeyHandles) {
+			if (Objects.nonNull(keyHandle)) {
+				++count;
+			}
+		}
+		return "CryptoKeyRing{primaryVersion=" + primaryVersion + ", versions=" + count +
+			", legacy=" + Objects.nonNull(legacyDecryptKeyHandle) + "}";
+	}
+
+	/**
+	 * 密钥环构建器。
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static final class Builder {
+		private final CryptoKeyHandle[] encryptKeyHandles = new CryptoKeyHandle[MAX_VERSION + 1];
+		private final CryptoKeyHandle[] decryptKeyHandles = new CryptoKeyHandle[MAX_VERSION + 1];
+		private int primaryVersion;
+		private CryptoKeyHandle legacyDecryptKeyHandle;
+
+		private Builder() {
+		}
+
+		/**
+		 * 添加加解密使用同一密钥的版本（如对称算法口令）。
+		 *
+		 * @param version 版本号（1~255）
+		 * @param key     明文密钥（已解析占位符，可使用 {@code CryptoUtils.getKey} 解析）
+		 * @return 当前构建器
+		 * @throws IllegalArgumentException 当版本号越界、重复或密钥为空时抛出
+		 * @since 2.1.0
+		 */
+		public Builder addKey(int version, String key) {
+			return addKey(version, key, key);
+		}
+
+		/**
+		 * 添加加解密使用不同密钥的版本（如 RSA 公钥/私钥）。
+		 *
+		 * @param version    版本号（1~255）
+		 * @param encryptKey 加密密钥
+		 * @param decryptKey 解密密钥
+		 * @return 当前构建器
+		 * @throws IllegalArgumentException 当版本号越界、重复或密钥为空时抛出
+		 * @since 2.1.0
+		 */
+		public Builder addKey(int version, String encryptKey, String decryptKey) {
+			Assert.isTrue(version > 0 && version <= MAX_VERSION, "version 必须在1~255之间");
+			Assert.isNull(encryptKeyHandles[version], "密钥版本重复：" + version);
+
+			encryptKeyHandles[version] = CryptoKeyHandle.of(encryptKey);
+			decryptKeyHandles[version] = Objects.equals(encryptKey, decryptKey) ? encryptKeyHandles[version] :
+				CryptoKeyHandle.of(decryptKey);
+			return this;
+		}
+
+		/**
+		 * 设置主版本号，加密始终使用主版本密钥；未设置时使用最大的版本号。
+		 *
+		 * @param primaryVersion 主版本号
+		 * @return 当前构建器
+		 * @since 2.1.0
+		 */
+		public Builder primaryVersion(int primaryVersion) {
+			this.primaryVersion = primaryVersion;
+			return this;
+		}
+
+		/**
+		 * 设置历史（无版本号）密文的解密密钥，用于迁移未使用密钥环加密的数据。
+		 *
+		 * @param decryptKey 历史解密密钥（对称算法即为原口令，RSA 算法为原私钥）
+		 * @return 当前构建器
+		 * @throws IllegalArgumentException 当密钥为空时抛出
+		 * @since 2.1.0
+		 */
+		public Builder legacyKey(String decryptKey) {
+			this.legacyDecryptKeyHandle = CryptoKeyHandle.of(decryptKey);
+			return this;
+		}
+
+		/**
+		 * 构建密钥环。
+		 *
+		 * @return 密钥环
+		 * @throws IllegalArgumentException 当未添加任何密钥或主版本不存在时抛出
+		 * @since 2.1.0
+		 */
+		public CryptoKeyRing build() {
+			if (primaryVersion == 0) {
+				for (int version = MAX_VERSION; version > 0; version--) {
+					if (Objects.nonNull(encryptKeyHandles[version])) {
+						primaryVersion = version;
+						break;
+					}
+				}
+			}
+			Assert.isTrue(primaryVersion > 0 && primaryVersion <= MAX_VERSION &&
+				Objects.nonNull(encryptKeyHandles[primaryVersion]), "主版本密钥不存在：" + primaryVersion);
+			return new CryptoKeyRing(this);
+		}
+	}
+}
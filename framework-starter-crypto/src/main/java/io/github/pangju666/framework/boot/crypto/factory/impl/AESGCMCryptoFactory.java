@@ -0,0 +1,184 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.factory.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.pangju666.framework.boot.crypto.encryptor.AESGCMEncryptor;
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * AES‑GCM 加密工厂实现。
+ * <p>
+ * 与 {@link AES256CryptoFactory} 等基于口令的加密工厂不同，本工厂对每个口令只派生一次密钥并缓存，
+ * 之后的每次加/解密仅执行 AES‑GCM 运算，不再重复口令派生，适用于字段级加密等高频调用场景。
+ * </p>
+ * <p>
+ * 对应算法：<code>AES/GCM/NoPadding</code>（密钥由 <code>PBKDF2WithHmacSHA256</code> 派生，每条消息使用随机 IV）。
+ * 密文格式见 {@link AESGCMEncryptor}。支持流式加解密，每个流使用由口令密钥派生的独立流密钥。
+ * </p>
+ *
+ * @author pangju666
+ * @see AESGCMEncryptor
+ * @since 2.1.0
+ */
+public class AESGCMCryptoFactory implements CryptoFactory {
+	/**
+	 * 口令到加密器的缓存，同一加密器同时用于二进制、文本、整型与高精度小数加解密。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, AESGCMEncryptor> encryptorCache;
+
+	/**
+	 * 构造 AES‑GCM 加密工厂并初始化内部缓存。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加密器缓存的最大条目数
+	 * @since 2.1.0
+	 */
+	public AESGCMCryptoFactory(int maxKeySize) {
+		this(maxKeySize, false);
+	}
+
+	/**
+	 * 构造 AES‑GCM 加密工厂并初始化内部缓存，可选记录缓存统计信息。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加密器缓存的最大条目数
+	 * @param recordStats 是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @since 2.1.0
+	 */
+	public AESGCMCryptoFactory(int maxKeySize, boolean recordStats) {
+		Assert.isTrue(maxKeySize > 0, "maxKeySize 必须大于0");
+
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxKeySize);
+		if (recordStats) {
+			cacheBuilder.recordStats();
+		}
+		this.encryptorCache = cacheBuilder.build();
+	}
+
+	/**
+	 * 获取并缓存字节数组加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 字节数组加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public BinaryEncryptor getBinaryEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存文本加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 文本加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public TextEncryptor getTextEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存整型数字加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 整型数字加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public IntegerNumberEncryptor getIntegerNumberEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存高精度小数加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 高精度小数加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public DecimalNumberEncryptor getDecimalNumberEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 支持流式加解密。
+	 *
+	 * @return {@code true}
+	 * @since 2.1.0
+	 */
+	@Override
+	public boolean supportsStream() {
+		return true;
+	}
+
+	/**
+	 * 获取并缓存流式加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 流式加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public StreamEncryptor getStreamEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存加密器，首次获取时完成密钥派生。
+	 *
+	 * @param key 口令（Password）
+	 * @return AES‑GCM 加密器
+	 * @since 2.1.0
+	 */
+	protected AESGCMEncryptor getEncryptor(String key) {
+		Assert.hasText(key, "key 不可为空");
+
+		return encryptorCache.get(DigestUtils.sha256Hex(key), k -> new AESGCMEncryptor(key));
+	}
+
+	/**
+	 * 获取内部加密器缓存。
+	 *
+	 * @return 缓存名称到缓存的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, Cache<String, ?>> getCaches() {
+		return Map.of(
+			"encryptor", encryptorCache
+		);
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.factory.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.pangju666.framework.boot.crypto.encryptor.AESSIVEncryptor;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * AES‑SIV 确定性加密工厂实现。
+ * <p>
+ * 相同口令下相同明文总是生成相同密文，密文可直接作为数据库等值查询条件或索引列（如加密后的手机号、证件号），
+ * 避免全表扫描后逐条解密。每个口令只派生一次密钥并缓存。
+ * </p>
+ * <p>
+ * 确定性加密会暴露明文是否相同，仅应用于需要等值检索的高基数字段；其余字段应使用 {@link AESGCMCryptoFactory} 等随机化算法。
+ * </p>
+ * <p>
+ * 对应算法：AES‑SIV（RFC 5297，AES‑CMAC + AES‑CTR，512 位密钥由 <code>PBKDF2WithHmacSHA256</code> 派生）。
+ * 密文格式见 {@link AESSIVEncryptor}。
+ * </p>
+ *
+ * @author pangju666
+ * @see AESSIVEncryptor
+ * @since 2.1.0
+ */
+public class AESSIVCryptoFactory implements CryptoFactory {
+	/**
+	 * 口令到加密器的缓存，同一加密器同时用于二进制、文本、整型与高精度小数加解密。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, AESSIVEncryptor> encryptorCache;
+
+	/**
+	 * 构造 AES‑SIV 加密工厂并初始化内部缓存。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加密器缓存的最大条目数
+	 * @since 2.1.0
+	 */
+	public AESSIVCryptoFactory(int maxKeySize) {
+		this(maxKeySize, false);
+	}
+
+	/**
+	 * 构造 AES‑SIV 加密工厂并初始化内部缓存，可选记录缓存统计信息。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加密器缓存的最大条目数
+	 * @param recordStats 是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @since 2.1.0
+	 */
+	public AESSIVCryptoFactory(int maxKeySize, boolean recordStats) {
+		Assert.isTrue(maxKeySize > 0, "maxKeySize 必须大于0");
+
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxKeySize);
+		if (recordStats) {
+			cacheBuilder.recordStats();
+		}
+		this.encryptorCache = cacheBuilder.build();
+	}
+
+	/**
+	 * 获取并缓存字节数组加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 字节数组加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public BinaryEncryptor getBinaryEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存文本加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 文本加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public TextEncryptor getTextEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存整型数字加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 整型数字加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public IntegerNumberEncryptor getIntegerNumberEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存高精度小数加密器（按口令）。
+	 *
+	 * @param key 口令（Password）
+	 * @return 高精度小数加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public DecimalNumberEncryptor getDecimalNumberEncryptor(String key) {
+		return getEncryptor(key);
+	}
+
+	/**
+	 * 获取并缓存加密器，首次获取时完成密钥派生。
+	 *
+	 * @param key 口令（Password）
+	 * @return AES‑SIV 加密器
+	 * @since 2.1.0
+	 */
+	protected AESSIVEncryptor getEncryptor(String key) {
+		Assert.hasText(key, "key 不可为空");
+
+		return encryptorCache.get(DigestUtils.sha256Hex(key), k -> new AESSIVEncryptor(key));
+	}
+
+	/**
+	 * 获取内部加密器缓存。
+	 *
+	 * @return 缓存名称到缓存的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, Cache<String, ?>> getCaches() {
+		return Map.of(
+			"encryptor", encryptorCache
+		);
+	}
+}
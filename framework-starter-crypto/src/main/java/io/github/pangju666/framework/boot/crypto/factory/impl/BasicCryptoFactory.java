@@ -30,6 +30,8 @@ import org.jasypt.util.text.BasicTextEncryptor;
 import org.jasypt.util.text.TextEncryptor;
 import org.springframework.util.Assert;
 
+import java.util.Map;
+
 /**
  * 基础强度加密工厂实现。
  * <p>
@@ -83,20 +85,32 @@ public class BasicCryptoFactory implements CryptoFactory {
 	 * @since 1.0.0
 	 */
 	public BasicCryptoFactory(int maxKeySize) {
+		this(maxKeySize, false);
+	}
+
+	/**
+	 * 构造 Basic 加密工厂并初始化内部缓存，可选记录缓存统计信息。
+	 *
+	 * <p>缓存策略：为二进制、文本、整型与高精度小数四类加密器分别创建独立的 Caffeine 缓存，
+	 * 每个缓存的最大条目数均受 {@code maxKeySize} 限制。</p>
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 每个加密器缓存的最大条目数
+	 * @param recordStats 是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @since 2.1.0
+	 */
+	public BasicCryptoFactory(int maxKeySize, boolean recordStats) {
 		Assert.isTrue(maxKeySize > 0, "maxKeySize 必须大于0");
 
-		this.binaryEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.textEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.integerEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.decimalEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxKeySize);
+		if (recordStats) {
+			cacheBuilder.recordStats();
+		}
+		this.binaryEncryptorCache = cacheBuilder.build();
+		this.textEncryptorCache = cacheBuilder.build();
+		this.integerEncryptorCache = cacheBuilder.build();
+		this.decimalEncryptorCache = cacheBuilder.build();
 	}
 
 	/**
@@ -170,4 +184,20 @@ public class BasicCryptoFactory implements CryptoFactory {
 			return encryptor;
 		});
 	}
+
+	/**
+	 * 获取内部加密器缓存。
+	 *
+	 * @return 缓存名称到缓存的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, Cache<String, ?>> getCaches() {
+		return Map.of(
+			"binaryEncryptor", binaryEncryptorCache,
+			"textEncryptor", textEncryptorCache,
+			"integerEncryptor", integerEncryptorCache,
+			"decimalEncryptor", decimalEncryptorCache
+		);
+	}
 }
@@ -25,6 +25,11 @@ import io.github.pangju666.commons.crypto.encryption.text.RSATextEncryptor;
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
 import io.github.pangju666.commons.crypto.transformation.RSATransformation;
 import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
+import io.github.pangju666.framework.boot.crypto.encryptor.EncryptorPool;
+import io.github.pangju666.framework.boot.crypto.encryptor.PooledBinaryEncryptor;
+import io.github.pangju666.framework.boot.crypto.encryptor.PooledDecimalNumberEncryptor;
+import io.github.pangju666.framework.boot.crypto.encryptor.PooledIntegerNumberEncryptor;
+import io.github.pangju666.framework.boot.crypto.encryptor.PooledTextEncryptor;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.jasypt.util.binary.BinaryEncryptor;
@@ -34,7 +39,7 @@ import org.jasypt.util.text.TextEncryptor;
 import org.springframework.util.Assert;
 
 import java.security.spec.InvalidKeySpecException;
-import java.util.Objects;
+import java.util.Map;
 
 /**
  * RSA 加密工厂实现。
@@ -45,6 +50,11 @@ import java.util.Objects;
  * <p>
  * 默认算法：<code>RSA/ECB/OAEPWithSHA-256AndMGF1Padding</code>
  * </p>
+ * <p>
+ * 并发：单个 RSA 加密器内部持有一个 {@link javax.crypto.Cipher}，多线程共享时会互相等待。
+ * 因此每个密钥对应一个 {@link EncryptorPool}，返回的加密器每次操作独占池中的一个实例，
+ * 池中最多保留 {@code poolSize} 个空闲实例，输出格式与直接使用 RSA 加密器一致。
+ * </p>
  *
  * @author pangju666
  * @since 1.0.0
@@ -52,56 +62,129 @@ import java.util.Objects;
  * @see RSATextEncryptor
  * @see RSAIntegerNumberEncryptor
  * @see RSADecimalNumberEncryptor
+ * @see EncryptorPool
  */
 public class RSACryptoFactory implements CryptoFactory {
 	/**
 	 * 公钥到二进制加密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledBinaryEncryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSABinaryEncryptor> binaryEncryptEncryptorCache;
 	/**
 	 * 私钥到二进制解密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledBinaryDecryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSABinaryEncryptor> binaryDecryptEncryptorCache;
 	/**
 	 * 公钥到文本加密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledTextEncryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSATextEncryptor> textEncryptEncryptorCache;
 	/**
 	 * 私钥到文本解密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledTextDecryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSATextEncryptor> textDecryptEncryptorCache;
 	/**
 	 * 公钥到整型数字加密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledIntegerEncryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSAIntegerNumberEncryptor> integerEncryptEncryptorCache;
 	/**
 	 * 私钥到整型数字解密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledIntegerDecryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSAIntegerNumberEncryptor> integerDecryptEncryptorCache;
 	/**
 	 * 公钥到高精度小数加密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledDecimalEncryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSADecimalNumberEncryptor> decimalEncryptEncryptorCache;
 	/**
 	 * 私钥到高精度小数解密器的缓存。
 	 *
 	 * @since 1.0.0
+	 * @deprecated 自 2.1.0 起本类改为缓存按密钥池化的加密器，不再读写该缓存，请使用 {@link #pooledDecimalDecryptEncryptorCache}；
+	 * 该字段仅为兼容已有子类而保留。
 	 */
+	@Deprecated(since = "2.1.0")
 	protected final Cache<String, RSADecimalNumberEncryptor> decimalDecryptEncryptorCache;
+	/**
+	 * 公钥到池化二进制加密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledBinaryEncryptor> pooledBinaryEncryptEncryptorCache;
+	/**
+	 * 私钥到池化二进制解密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledBinaryEncryptor> pooledBinaryDecryptEncryptorCache;
+	/**
+	 * 公钥到池化文本加密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledTextEncryptor> pooledTextEncryptEncryptorCache;
+	/**
+	 * 私钥到池化文本解密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledTextEncryptor> pooledTextDecryptEncryptorCache;
+	/**
+	 * 公钥到池化整型数字加密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledIntegerNumberEncryptor> pooledIntegerEncryptEncryptorCache;
+	/**
+	 * 私钥到池化整型数字解密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledIntegerNumberEncryptor> pooledIntegerDecryptEncryptorCache;
+	/**
+	 * 公钥到池化高精度小数加密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledDecimalNumberEncryptor> pooledDecimalEncryptEncryptorCache;
+	/**
+	 * 私钥到池化高精度小数解密器的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, PooledDecimalNumberEncryptor> pooledDecimalDecryptEncryptorCache;
 
     /**
      * RSA 加密方案（填充/摘要等参数）。
@@ -110,6 +193,12 @@ public class RSACryptoFactory implements CryptoFactory {
 	 * @since 1.0.0
 	 */
     protected final RSATransformation transformation;
+	/**
+	 * 每个密钥的加密器实例池最大空闲实例数。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final int poolSize;
 
     /**
      * 默认使用 OAEPWithSHA-256AndMGF1Padding 作为加密方案的构造方法。
@@ -129,6 +218,7 @@ public class RSACryptoFactory implements CryptoFactory {
      *
      * <p>缓存策略：为加/解密的二进制、文本、整型与高精度小数四类加密器分别创建独立的缓存，
      * 每个缓存的最大条目数受 {@code maxKeySize} 限制。</p>
+     * <p>实例池：每个密钥最多保留 CPU 核数个空闲加密器实例。</p>
      *
      * @param maxKeySize     每类加密器缓存的最大条目数（建议为正整数）
      * @param transformation RSA 加密方案
@@ -136,36 +226,68 @@ public class RSACryptoFactory implements CryptoFactory {
      * @since 1.0.0
      */
     public RSACryptoFactory(int maxKeySize, RSATransformation transformation) {
-        Assert.notNull(transformation, "transformation 不可为 null");
-
-        this.transformation = transformation;
-		
-		this.binaryEncryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.binaryDecryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.textEncryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.textDecryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.integerEncryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.integerDecryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.decimalEncryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
-		this.decimalDecryptEncryptorCache = Caffeine.newBuilder()
-			.maximumSize(maxKeySize)
-			.build();
+        this(maxKeySize, transformation, Runtime.getRuntime().availableProcessors());
     }
 
+	/**
+	 * 指定 RSA 加密方案与实例池大小的构造方法。
+	 *
+	 * <p>缓存策略：为加/解密的二进制、文本、整型与高精度小数四类加密器分别创建独立的缓存，
+	 * 每个缓存的最大条目数受 {@code maxKeySize} 限制。</p>
+	 *
+	 * @param maxKeySize     每类加密器缓存的最大条目数（建议为正整数）
+	 * @param transformation RSA 加密方案
+	 * @param poolSize       每个密钥的加密器实例池最大空闲实例数
+	 * @throws IllegalArgumentException 当 {@code transformation} 为 {@code null} 或 {@code poolSize} 小于等于 0 时抛出
+	 * @since 2.1.0
+	 */
+	public RSACryptoFactory(int maxKeySize, RSATransformation transformation, int poolSize) {
+		this(maxKeySize, transformation, poolSize, false);
+	}
+
+	/**
+	 * 指定 RSA 加密方案、实例池大小并可选记录缓存统计信息的构造方法。
+	 *
+	 * <p>缓存策略：为加/解密的二进制、文本、整型与高精度小数四类加密器分别创建独立的缓存，
+	 * 每个缓存的最大条目数受 {@code maxKeySize} 限制。</p>
+	 *
+	 * @param maxKeySize     每类加密器缓存的最大条目数（建议为正整数）
+	 * @param transformation RSA 加密方案
+	 * @param poolSize       每个密钥的加密器实例池最大空闲实例数
+	 * @param recordStats    是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @throws IllegalArgumentException 当 {@code transformation} 为 {@code null} 或 {@code poolSize} 小于等于 0 时抛出
+	 * @since 2.1.0
+	 */
+	public RSACryptoFactory(int maxKeySize, RSATransformation transformation, int poolSize, boolean recordStats) {
+		Assert.notNull(transformation, "transformation 不可为 null");
+		Assert.isTrue(poolSize > 0, "poolSize 必须大于0");
+
+		this.transformation = transformation;
+		this.poolSize = poolSize;
+
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxKeySize);
+		if (recordStats) {
+			cacheBuilder.recordStats();
+		}
+		this.pooledBinaryEncryptEncryptorCache = cacheBuilder.build();
+		this.pooledBinaryDecryptEncryptorCache = cacheBuilder.build();
+		this.pooledTextEncryptEncryptorCache = cacheBuilder.build();
+		this.pooledTextDecryptEncryptorCache = cacheBuilder.build();
+		this.pooledIntegerEncryptEncryptorCache = cacheBuilder.build();
+		this.pooledIntegerDecryptEncryptorCache = cacheBuilder.build();
+		this.pooledDecimalEncryptEncryptorCache = cacheBuilder.build();
+		this.pooledDecimalDecryptEncryptorCache = cacheBuilder.build();
+		this.binaryEncryptEncryptorCache = cacheBuilder.build();
+		this.binaryDecryptEncryptorCache = cacheBuilder.build();
+		this.textEncryptEncryptorCache = cacheBuilder.build();
+		this.textDecryptEncryptorCache = cacheBuilder.build();
+		this.integerEncryptEncryptorCache = cacheBuilder.build();
+		this.integerDecryptEncryptorCache = cacheBuilder.build();
+		this.decimalEncryptEncryptorCache = cacheBuilder.build();
+		this.decimalDecryptEncryptorCache = cacheBuilder.build();
+	}
+
     /**
      * 获取并缓存二进制加密器（使用公钥）。
      *
@@ -177,16 +299,14 @@ public class RSACryptoFactory implements CryptoFactory {
     public BinaryEncryptor getBinaryEncryptor(String publicKey) {
 		Assert.hasText(publicKey, "key 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(publicKey);
-		return binaryEncryptEncryptorCache.get(mapKey, k -> {
-			try {
+		return pooledBinaryEncryptEncryptorCache.get(DigestUtils.sha256Hex(publicKey), k -> {
+			RSAKeyPair keyPair = parsePublicKey(publicKey);
+			return new PooledBinaryEncryptor(new EncryptorPool<>(() -> {
 				RSABinaryEncryptor encryptor = new RSABinaryEncryptor(transformation);
-				encryptor.setPublicKey(RSAKeyPair.fromBase64String(publicKey, null).publicKey());
+				encryptor.setPublicKey(keyPair.publicKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 公钥", e);
-			}
+			}, poolSize));
 		});
     }
 
@@ -201,21 +321,14 @@ public class RSACryptoFactory implements CryptoFactory {
 	public TextEncryptor getTextEncryptor(String publicKey) {
 		Assert.hasText(publicKey, "key 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(publicKey);
-		return textEncryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryEncryptEncryptorCache.getIfPresent(publicKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSATextEncryptor(binaryEncryptor);
-				}
-
+		return pooledTextEncryptEncryptorCache.get(DigestUtils.sha256Hex(publicKey), k -> {
+			RSAKeyPair keyPair = parsePublicKey(publicKey);
+			return new PooledTextEncryptor(new EncryptorPool<>(() -> {
 				RSATextEncryptor encryptor = new RSATextEncryptor(transformation);
-				encryptor.setPublicKey(RSAKeyPair.fromBase64String(publicKey, null).publicKey());
+				encryptor.setPublicKey(keyPair.publicKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 公钥", e);
-			}
+			}, poolSize));
 		});
 	}
 
@@ -230,21 +343,14 @@ public class RSACryptoFactory implements CryptoFactory {
     public IntegerNumberEncryptor getIntegerNumberEncryptor(String publicKey) {
 		Assert.hasText(publicKey, "publicKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(publicKey);
-		return integerEncryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryEncryptEncryptorCache.getIfPresent(publicKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSAIntegerNumberEncryptor(binaryEncryptor);
-				}
-
+		return pooledIntegerEncryptEncryptorCache.get(DigestUtils.sha256Hex(publicKey), k -> {
+			RSAKeyPair keyPair = parsePublicKey(publicKey);
+			return new PooledIntegerNumberEncryptor(new EncryptorPool<>(() -> {
 				RSAIntegerNumberEncryptor encryptor = new RSAIntegerNumberEncryptor(transformation);
-				encryptor.setPublicKey(RSAKeyPair.fromBase64String(publicKey, null).publicKey());
+				encryptor.setPublicKey(keyPair.publicKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 公钥", e);
-			}
+			}, poolSize));
 		});
     }
 
@@ -259,21 +365,14 @@ public class RSACryptoFactory implements CryptoFactory {
     public DecimalNumberEncryptor getDecimalNumberEncryptor(String publicKey) {
 		Assert.hasText(publicKey, "publicKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(publicKey);
-		return decimalEncryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryEncryptEncryptorCache.getIfPresent(publicKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSADecimalNumberEncryptor(binaryEncryptor);
-				}
-
+		return pooledDecimalEncryptEncryptorCache.get(DigestUtils.sha256Hex(publicKey), k -> {
+			RSAKeyPair keyPair = parsePublicKey(publicKey);
+			return new PooledDecimalNumberEncryptor(new EncryptorPool<>(() -> {
 				RSADecimalNumberEncryptor encryptor = new RSADecimalNumberEncryptor(transformation);
-				encryptor.setPublicKey(RSAKeyPair.fromBase64String(publicKey, null).publicKey());
+				encryptor.setPublicKey(keyPair.publicKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 公钥", e);
-			}
+			}, poolSize));
 		});
     }
 
@@ -288,16 +387,14 @@ public class RSACryptoFactory implements CryptoFactory {
     public BinaryEncryptor getBinaryDecryptor(String protectedKey) {
 		Assert.hasText(protectedKey, "protectedKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(protectedKey);
-		return binaryDecryptEncryptorCache.get(mapKey, k -> {
-			try {
+		return pooledBinaryDecryptEncryptorCache.get(DigestUtils.sha256Hex(protectedKey), k -> {
+			RSAKeyPair keyPair = parsePrivateKey(protectedKey);
+			return new PooledBinaryEncryptor(new EncryptorPool<>(() -> {
 				RSABinaryEncryptor encryptor = new RSABinaryEncryptor(transformation);
-				encryptor.setPrivateKey(RSAKeyPair.fromBase64String( null, protectedKey).privateKey());
+				encryptor.setPrivateKey(keyPair.privateKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 私钥", e);
-			}
+			}, poolSize));
 		});
     }
 
@@ -312,21 +409,14 @@ public class RSACryptoFactory implements CryptoFactory {
 	public TextEncryptor getTextDecryptor(String protectedKey) {
 		Assert.hasText(protectedKey, "protectedKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(protectedKey);
-		return textDecryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryDecryptEncryptorCache.getIfPresent(protectedKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSATextEncryptor(binaryEncryptor);
-				}
-
+		return pooledTextDecryptEncryptorCache.get(DigestUtils.sha256Hex(protectedKey), k -> {
+			RSAKeyPair keyPair = parsePrivateKey(protectedKey);
+			return new PooledTextEncryptor(new EncryptorPool<>(() -> {
 				RSATextEncryptor encryptor = new RSATextEncryptor(transformation);
-				encryptor.setPrivateKey(RSAKeyPair.fromBase64String( null, protectedKey).privateKey());
+				encryptor.setPrivateKey(keyPair.privateKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 私钥", e);
-			}
+			}, poolSize));
 		});
 	}
 
@@ -341,21 +431,14 @@ public class RSACryptoFactory implements CryptoFactory {
     public IntegerNumberEncryptor getIntegerNumberDecryptor(String protectedKey) {
 		Assert.hasText(protectedKey, "protectedKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(protectedKey);
-		return integerDecryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryDecryptEncryptorCache.getIfPresent(protectedKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSAIntegerNumberEncryptor(binaryEncryptor);
-				}
-
+		return pooledIntegerDecryptEncryptorCache.get(DigestUtils.sha256Hex(protectedKey), k -> {
+			RSAKeyPair keyPair = parsePrivateKey(protectedKey);
+			return new PooledIntegerNumberEncryptor(new EncryptorPool<>(() -> {
 				RSAIntegerNumberEncryptor encryptor = new RSAIntegerNumberEncryptor(transformation);
-				encryptor.setPrivateKey(RSAKeyPair.fromBase64String( null, protectedKey).privateKey());
+				encryptor.setPrivateKey(keyPair.privateKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 私钥", e);
-			}
+			}, poolSize));
 		});
     }
 
@@ -370,21 +453,66 @@ public class RSACryptoFactory implements CryptoFactory {
     public DecimalNumberEncryptor getDecimalNumberDecryptor(String protectedKey) {
 		Assert.hasText(protectedKey, "protectedKey 不可为空");
 
-		String mapKey = DigestUtils.sha256Hex(protectedKey);
-		return decimalDecryptEncryptorCache.get(mapKey, k -> {
-			try {
-				RSABinaryEncryptor binaryEncryptor = binaryDecryptEncryptorCache.getIfPresent(protectedKey);
-				if (Objects.nonNull(binaryEncryptor)) {
-					return new RSADecimalNumberEncryptor(binaryEncryptor);
-				}
-
+		return pooledDecimalDecryptEncryptorCache.get(DigestUtils.sha256Hex(protectedKey), k -> {
+			RSAKeyPair keyPair = parsePrivateKey(protectedKey);
+			return new PooledDecimalNumberEncryptor(new EncryptorPool<>(() -> {
 				RSADecimalNumberEncryptor encryptor = new RSADecimalNumberEncryptor(transformation);
-				encryptor.setPrivateKey(RSAKeyPair.fromBase64String(null, protectedKey).privateKey());
+				encryptor.setPrivateKey(keyPair.privateKey());
 				encryptor.initialize();
 				return encryptor;
-			} catch (InvalidKeySpecException e) {
-				throw new IllegalArgumentException("无效的 RSA 私钥", e);
-			}
+			}, poolSize));
 		});
 	}
+
+	/**
+	 * 解析 Base64 编码的公钥。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 仅包含公钥的密钥对
+	 * @throws IllegalArgumentException 当公钥无效时抛出
+	 * @since 2.1.0
+	 */
+	protected RSAKeyPair parsePublicKey(String publicKey) {
+		try {
+			return RSAKeyPair.fromBase64String(publicKey, null);
+		} catch (InvalidKeySpecException e) {
+			throw new IllegalArgumentException("无效的 RSA 公钥", e);
+		}
+	}
+
+	/**
+	 * 解析 Base64 编码的私钥。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 仅包含私钥的密钥对
+	 * @throws IllegalArgumentException 当私钥无效时抛出
+	 * @since 2.1.0
+	 */
+	protected RSAKeyPair parsePrivateKey(String protectedKey) {
+		try {
+			return RSAKeyPair.fromBase64String(null, protectedKey);
+		} catch (InvalidKeySpecException e) {
+			throw new IllegalArgumentException("无效的 RSA 私钥", e);
+		}
+	}
+
+	/**
+	 * 获取内部加密器缓存。
+	 *
+	 * @return 缓存名称到缓存的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, Cache<String, ?>> getCaches() {
+		return Map.of(
+			"binaryEncryptEncryptor", pooledBinaryEncryptEncryptorCache,
+			"binaryDecryptEncryptor", pooledBinaryDecryptEncryptorCache,
+			"textEncryptEncryptor", pooledTextEncryptEncryptorCache,
+			"textDecryptEncryptor", pooledTextDecryptEncryptorCache,
+			"integerEncryptEncryptor", pooledIntegerEncryptEncryptorCache,
+			"integerDecryptEncryptor", pooledIntegerDecryptEncryptorCache,
+			"decimalEncryptEncryptor", pooledDecimalEncryptEncryptorCache,
+			"decimalDecryptEncryptor", pooledDecimalDecryptEncryptorCache
+		);
+	}
 }
@@ -0,0 +1,306 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.factory.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.pangju666.commons.crypto.key.RSAKeyPair;
+import io.github.pangju666.framework.boot.crypto.encryptor.RSAEnvelopeEncryptor;
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+import org.springframework.util.Assert;
+
+import java.security.spec.InvalidKeySpecException;
+import java.util.Map;
+
+/**
+ * RSA + AES‑GCM 信封加密工厂实现。
+ *
+ * <p>
+ * 与 {@link RSACryptoFactory} 直接按 RSA 块大小分段加密不同，本工厂为每条消息生成随机 AES 数据密钥，
+ * 仅使用 RSA 加密数据密钥，消息内容使用 AES‑GCM 加密，适用于响应体等较大的数据。
+ * 加密器使用公钥，解密器使用私钥；密钥以 Base64 形式传入，格式与 {@link RSACryptoFactory} 相同。
+ * </p>
+ * <p>
+ * 对应算法：<code>RSA/ECB/OAEPPadding</code>（SHA‑256）+ <code>AES/GCM/NoPadding</code>，密文格式见 {@link RSAEnvelopeEncryptor}。
+ * 支持流式加解密，每个流使用独立的数据密钥。
+ * </p>
+ *
+ * @author pangju666
+ * @see RSAEnvelopeEncryptor
+ * @since 2.1.0
+ */
+public class RSAEnvelopeCryptoFactory implements CryptoFactory {
+	/**
+	 * 公钥到加密器的缓存，同一加密器同时用于二进制、文本、整型与高精度小数加密。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, RSAEnvelopeEncryptor> encryptorCache;
+	/**
+	 * 私钥到解密器的缓存，同一解密器同时用于二进制、文本、整型与高精度小数解密。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final Cache<String, RSAEnvelopeEncryptor> decryptorCache;
+	/**
+	 * 每个加/解密器内部 {@link javax.crypto.Cipher} 实例池的最大空闲实例数。
+	 *
+	 * @since 2.1.0
+	 */
+	protected final int poolSize;
+
+	/**
+	 * 构造信封加密工厂并初始化内部缓存。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加/解密器缓存的最大条目数
+	 * @since 2.1.0
+	 */
+	public RSAEnvelopeCryptoFactory(int maxKeySize) {
+		this(maxKeySize, false);
+	}
+
+	/**
+	 * 构造信封加密工厂并初始化内部缓存，可选记录缓存统计信息。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize 加/解密器缓存的最大条目数
+	 * @param recordStats 是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @since 2.1.0
+	 */
+	public RSAEnvelopeCryptoFactory(int maxKeySize, boolean recordStats) {
+		this(maxKeySize, RSAEnvelopeEncryptor.DEFAULT_POOL_SIZE, recordStats);
+	}
+
+	/**
+	 * 构造信封加密工厂并初始化内部缓存，可选记录缓存统计信息。
+	 *
+	 * <p>参数校验：{@code maxKeySize} 与 {@code poolSize} 必须大于 0。</p>
+	 *
+	 * @param maxKeySize  加/解密器缓存的最大条目数
+	 * @param poolSize    每个加/解密器内部 {@link javax.crypto.Cipher} 实例池的最大空闲实例数
+	 * @param recordStats 是否记录缓存统计信息（命中、未命中与淘汰次数），用于指标监控
+	 * @since 2.1.0
+	 */
+	public RSAEnvelopeCryptoFactory(int maxKeySize, int poolSize, boolean recordStats) {
+		Assert.isTrue(maxKeySize > 0, "maxKeySize 必须大于0");
+		Assert.isTrue(poolSize > 0, "poolSize 必须大于0");
+
+		this.poolSize = poolSize;
+
+		Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+			.maximumSize(maxKeySize);
+		if (recordStats) {
+			cacheBuilder.recordStats();
+		}
+		this.encryptorCache = cacheBuilder.build();
+		this.decryptorCache = cacheBuilder.build();
+	}
+
+	/**
+	 * 获取并缓存二进制加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 二进制加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public BinaryEncryptor getBinaryEncryptor(String publicKey) {
+		return getEncryptor(publicKey);
+	}
+
+	/**
+	 * 获取并缓存文本加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 文本加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public TextEncryptor getTextEncryptor(String publicKey) {
+		return getEncryptor(publicKey);
+	}
+
+	/**
+	 * 获取并缓存整型数字加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 整型数字加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public IntegerNumberEncryptor getIntegerNumberEncryptor(String publicKey) {
+		return getEncryptor(publicKey);
+	}
+
+	/**
+	 * 获取并缓存高精度小数加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 高精度小数加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public DecimalNumberEncryptor getDecimalNumberEncryptor(String publicKey) {
+		return getEncryptor(publicKey);
+	}
+
+	/**
+	 * 获取并缓存二进制解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 二进制解密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public BinaryEncryptor getBinaryDecryptor(String protectedKey) {
+		return getDecryptor(protectedKey);
+	}
+
+	/**
+	 * 获取并缓存文本解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 文本解密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public TextEncryptor getTextDecryptor(String protectedKey) {
+		return getDecryptor(protectedKey);
+	}
+
+	/**
+	 * 获取并缓存整型数字解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 整型数字解密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public IntegerNumberEncryptor getIntegerNumberDecryptor(String protectedKey) {
+		return getDecryptor(protectedKey);
+	}
+
+	/**
+	 * 获取并缓存高精度小数解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 高精度小数解密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public DecimalNumberEncryptor getDecimalNumberDecryptor(String protectedKey) {
+		return getDecryptor(protectedKey);
+	}
+
+	/**
+	 * 支持流式加解密。
+	 *
+	 * @return {@code true}
+	 * @since 2.1.0
+	 */
+	@Override
+	public boolean supportsStream() {
+		return true;
+	}
+
+	/**
+	 * 获取并缓存流式加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 流式加密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public StreamEncryptor getStreamEncryptor(String publicKey) {
+		return getEncryptor(publicKey);
+	}
+
+	/**
+	 * 获取并缓存流式解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 流式解密器
+	 * @since 2.1.0
+	 */
+	@Override
+	public StreamEncryptor getStreamDecryptor(String protectedKey) {
+		return getDecryptor(protectedKey);
+	}
+
+	/**
+	 * 获取并缓存加密器（使用公钥）。
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥字符串
+	 * @return 信封加密器
+	 * @throws IllegalArgumentException 当公钥为空或无效时抛出
+	 * @since 2.1.0
+	 */
+	protected RSAEnvelopeEncryptor getEncryptor(String publicKey) {
+		Assert.hasText(publicKey, "publicKey 不可为空");
+
+		return encryptorCache.get(DigestUtils.sha256Hex(publicKey), k -> {
+			try {
+				return new RSAEnvelopeEncryptor(RSAKeyPair.fromBase64String(publicKey, null).publicKey(), null, poolSize);
+			} catch (InvalidKeySpecException e) {
+				throw new IllegalArgumentException("无效的 RSA 公钥", e);
+			}
+		});
+	}
+
+	/**
+	 * 获取并缓存解密器（使用私钥）。
+	 *
+	 * @param protectedKey Base64 编码的 PKCS#8 格式私钥字符串
+	 * @return 信封解密器
+	 * @throws IllegalArgumentException 当私钥为空或无效时抛出
+	 * @since 2.1.0
+	 */
+	protected RSAEnvelopeEncryptor getDecryptor(String protectedKey) {
+		Assert.hasText(protectedKey, "protectedKey 不可为空");
+
+		return decryptorCache.get(DigestUtils.sha256Hex(protectedKey), k -> {
+			try {
+				return new RSAEnvelopeEncryptor(null, RSAKeyPair.fromBase64String(null, protectedKey).privateKey(), poolSize);
+			} catch (InvalidKeySpecException e) {
+				throw new IllegalArgumentException("无效的 RSA 私钥", e);
+			}
+		});
+	}
+
+	/**
+	 * 获取内部加密器缓存。
+	 *
+	 * @return 缓存名称到缓存的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, Cache<String, ?>> getCaches() {
+		return Map.of(
+			"encryptor", encryptorCache,
+			"decryptor", decryptorCache
+		);
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+import org.jasypt.util.numeric.IntegerNumberEncryptor;
+import org.jasypt.util.text.TextEncryptor;
+
+import java.util.Objects;
+
+/**
+ * 加密工厂方法拦截器。
+ * <p>
+ * 按返回类型将工厂返回的加/解密器包装为记录指标的实现，其余方法原样返回。
+ * </p>
+ * <p>
+ * 工厂内部会缓存加/解密器，因此包装实例按被包装的加/解密器（按实例标识）缓存复用，
+ * 避免每次获取加/解密器都分配新的包装实例。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoMetricsBeanPostProcessor
+ * @since 2.1.0
+ */
+final class CryptoFactoryMetricsInterceptor implements MethodInterceptor {
+	/**
+	 * 每种加/解密器类型最多缓存的包装实例数量。
+	 *
+	 * @since 2.1.0
+	 */
+	static final int MAX_CACHED_ENCRYPTORS = 256;
+
+	/**
+	 * 字节数组加密器指标。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoMeters binaryMeters;
+	/**
+	 * 文本加密器指标。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoMeters textMeters;
+	/**
+	 * 整型数字加密器指标。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoMeters integerMeters;
+	/**
+	 * 高精度小数加密器指标。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoMeters decimalMeters;
+	/**
+	 * 流式加密明文字节计数器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Counter streamEncryptBytes;
+	/**
+	 * 流式解密明文字节计数器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Counter streamDecryptBytes;
+	/**
+	 * 字节数组加/解密器到包装实例的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cache<BinaryEncryptor, MeteredBinaryEncryptor> binaryEncryptors = newCache();
+	/**
+	 * 文本加/解密器到包装实例的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cache<TextEncryptor, MeteredTextEncryptor> textEncryptors = newCache();
+	/**
+	 * 整型数字加/解密器到包装实例的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cache<IntegerNumberEncryptor, MeteredIntegerNumberEncryptor> integerEncryptors = newCache();
+	/**
+	 * 高精度小数加/解密器到包装实例的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cache<DecimalNumberEncryptor, MeteredDecimalNumberEncryptor> decimalEncryptors = newCache();
+	/**
+	 * 流式加/解密器到包装实例的缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Cache<StreamEncryptor, MeteredStreamEncryptor> streamEncryptors = newCache();
+
+	CryptoFactoryMetricsInterceptor(MeterRegistry registry, String algorithm) {
+		this.binaryMeters = new CryptoMeters(registry, algorithm, "binary", true);
+		this.textMeters = new CryptoMeters(registry, algorithm, "text", false);
+		this.integerMeters = new CryptoMeters(registry, algorithm, "integer", false);
+		this.decimalMeters = new CryptoMeters(registry, algorithm, "decimal", false);
+		this.streamEncryptBytes = CryptoMeters.counter(registry, algorithm, "stream",
+			CryptoMetricsBeanPostProcessor.OPERATION_ENCRYPT);
+		this.streamDecryptBytes = CryptoMeters.counter(registry, algorithm, "stream",
+			CryptoMetricsBeanPostProcessor.OPERATION_DECRYPT);
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Object result = invocation.proceed();
+		if (Objects.isNull(result)) {
+			return null;
+		}
+
+		Class<?> returnType = invocation.getMethod().getReturnType();
+		if (returnType == BinaryEncryptor.class) {
+			return binaryEncryptors.get((BinaryEncryptor) result,
+				encryptor -> new MeteredBinaryEncryptor(encryptor, binaryMeters));
+		}
+		if (returnType == TextEncryptor.class) {
+			return textEncryptors.get((TextEncryptor) result,
+				encryptor -> new MeteredTextEncryptor(encryptor, textMeters));
+		}
+		if (returnType == IntegerNumberEncryptor.class) {
+			return integerEncryptors.get((IntegerNumberEncryptor) result,
+				encryptor -> new MeteredIntegerNumberEncryptor(encryptor, integerMeters));
+		}
+		if (returnType == DecimalNumberEncryptor.class) {
+			return decimalEncryptors.get((DecimalNumberEncryptor) result,
+				encryptor -> new MeteredDecimalNumberEncryptor(encryptor, decimalMeters));
+		}
+		if (returnType == StreamEncryptor.class) {
+			return streamEncryptors.get((StreamEncryptor) result,
+				encryptor -> new MeteredStreamEncryptor(encryptor, streamEncryptBytes, streamDecryptBytes));
+		}
+		return result;
+	}
+
+	/**
+	 * 创建包装实例缓存。
+	 * <p>
+	 * 使用弱引用键使缓存按实例标识（{@code ==}）比较被包装的加/解密器；
+	 * 包装实例持有被包装对象，因此条目由容量上限淘汰，工厂淘汰的加/解密器最多额外保留 {@link #MAX_CACHED_ENCRYPTORS} 个。
+	 * </p>
+	 *
+	 * @param <K> 被包装的加/解密器类型
+	 * @param <V> 包装实例类型
+	 * @return 包装实例缓存
+	 * @since 2.1.0
+	 */
+	private static <K, V> Cache<K, V> newCache() {
+		return Caffeine.newBuilder()
+			.weakKeys()
+			.maximumSize(MAX_CACHED_ENCRYPTORS)
+			.build();
+	}
+}
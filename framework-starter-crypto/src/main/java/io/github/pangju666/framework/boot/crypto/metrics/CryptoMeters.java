@@ -0,0 +1,90 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 单个算法下某一类加密器（二进制、文本、整型或高精度小数）的指标集合。
+ *
+ * @author pangju666
+ * @see CryptoMetricsBeanPostProcessor
+ * @since 2.1.0
+ */
+final class CryptoMeters {
+	/**
+	 * 加密耗时计时器。
+	 *
+	 * @since 2.1.0
+	 */
+	final Timer encryptTimer;
+	/**
+	 * 解密耗时计时器。
+	 *
+	 * @since 2.1.0
+	 */
+	final Timer decryptTimer;
+	/**
+	 * 加密处理的明文字节计数器，不统计字节数时为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	final Counter encryptBytes;
+	/**
+	 * 解密得到的明文字节计数器，不统计字节数时为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	final Counter decryptBytes;
+
+	/**
+	 * 注册（或复用已注册的）指标。
+	 *
+	 * @param registry   指标注册表
+	 * @param algorithm  算法标签值
+	 * @param type       加密器类型标签值
+	 * @param countBytes 是否注册字节计数器
+	 * @since 2.1.0
+	 */
+	CryptoMeters(MeterRegistry registry, String algorithm, String type, boolean countBytes) {
+		this.encryptTimer = timer(registry, algorithm, type, CryptoMetricsBeanPostProcessor.OPERATION_ENCRYPT);
+		this.decryptTimer = timer(registry, algorithm, type, CryptoMetricsBeanPostProcessor.OPERATION_DECRYPT);
+		this.encryptBytes = countBytes ? counter(registry, algorithm, type, CryptoMetricsBeanPostProcessor.OPERATION_ENCRYPT) : null;
+		this.decryptBytes = countBytes ? counter(registry, algorithm, type, CryptoMetricsBeanPostProcessor.OPERATION_DECRYPT) : null;
+	}
+
+	static Timer timer(MeterRegistry registry, String algorithm, String type, String operation) {
+		return Timer.builder(CryptoMetricsBeanPostProcessor.OPERATIONS_METER_NAME)
+			.description("加/解密操作耗时")
+			.tag(CryptoMetricsBeanPostProcessor.ALGORITHM_TAG, algorithm)
+			.tag(CryptoMetricsBeanPostProcessor.TYPE_TAG, type)
+			.tag(CryptoMetricsBeanPostProcessor.OPERATION_TAG, operation)
+			.register(registry);
+	}
+
+	static Counter counter(MeterRegistry registry, String algorithm, String type, String operation) {
+		return Counter.builder(CryptoMetricsBeanPostProcessor.BYTES_METER_NAME)
+			.description("加/解密处理的明文字节数")
+			.baseUnit("bytes")
+			.tag(CryptoMetricsBeanPostProcessor.ALGORITHM_TAG, algorithm)
+			.tag(CryptoMetricsBeanPostProcessor.TYPE_TAG, type)
+			.tag(CryptoMetricsBeanPostProcessor.OPERATION_TAG, operation)
+			.register(registry);
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.metrics;
+
+import io.github.pangju666.framework.boot.crypto.enums.CryptoAlgorithm;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.util.Objects;
+
+/**
+ * 加密工厂指标采集后置处理器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>为容器中的每个 {@link CryptoFactory} Bean 创建基于类的代理（保留原有 Bean 类型，按类型注入与查找不受影响），
+ *   将工厂返回的加/解密器包装为记录指标的实现。</li>
+ *   <li>将 {@link CryptoFactory#getCaches()} 返回的缓存通过 {@link CaffeineCacheMetrics} 注册为缓存指标，
+ *   缓存名称为 {@code Bean 名称.缓存名称}。</li>
+ *   <li>容器中不存在 {@link MeterRegistry} 时不做任何处理。</li>
+ * </ul>
+ *
+ * <p><strong>指标</strong></p>
+ * <ul>
+ *   <li>{@value #OPERATIONS_METER_NAME}：加/解密耗时计时器，标签为 {@code algorithm}、{@code type}
+ *   （{@code binary}、{@code text}、{@code integer}、{@code decimal}）与 {@code operation}（{@code encrypt}、{@code decrypt}）。</li>
+ *   <li>{@value #BYTES_METER_NAME}：明文字节计数器，加密统计输入明文、解密统计输出明文，
+ *   仅统计 {@code binary} 与 {@code stream} 两类，标签同上。</li>
+ *   <li>{@code cache.*}：Caffeine 缓存命中、未命中、淘汰等指标，需缓存构建时启用统计记录。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see CryptoFactory
+ * @see CaffeineCacheMetrics
+ * @since 2.1.0
+ */
+public class CryptoMetricsBeanPostProcessor implements BeanPostProcessor {
+	/**
+	 * 加/解密耗时计时器名称。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String OPERATIONS_METER_NAME = "pangju.crypto.operations";
+	/**
+	 * 明文字节计数器名称。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String BYTES_METER_NAME = "pangju.crypto.bytes";
+	/**
+	 * 算法标签名称，值为 {@link CryptoAlgorithm} 名称，无法匹配时为工厂类名。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String ALGORITHM_TAG = "algorithm";
+	/**
+	 * 加密器类型标签名称。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String TYPE_TAG = "type";
+	/**
+	 * 操作标签名称。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String OPERATION_TAG = "operation";
+	/**
+	 * 加密操作标签值。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String OPERATION_ENCRYPT = "encrypt";
+	/**
+	 * 解密操作标签值。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final String OPERATION_DECRYPT = "decrypt";
+
+	/**
+	 * 指标注册表提供者，延迟到处理第一个加密工厂时才获取。
+	 *
+	 * @since 2.1.0
+	 */
+	private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	/**
+	 * 使用指标注册表提供者构造。
+	 *
+	 * @param meterRegistryProvider 指标注册表提供者
+	 * @throws IllegalArgumentException 当 {@code meterRegistryProvider} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	public CryptoMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		Assert.notNull(meterRegistryProvider, "meterRegistryProvider 不可为 null");
+
+		this.meterRegistryProvider = meterRegistryProvider;
+	}
+
+	/**
+	 * 为加密工厂 Bean 注册缓存指标并创建记录指标的代理。
+	 *
+	 * @param bean     Bean 实例
+	 * @param beanName Bean 名称
+	 * @return 加密工厂返回代理（或已添加拦截器的原代理），其他 Bean 原样返回
+	 * @since 2.1.0
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!(bean instanceof CryptoFactory cryptoFactory)) {
+			return bean;
+		}
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+		if (Objects.isNull(meterRegistry)) {
+			return bean;
+		}
+
+		cryptoFactory.getCaches().forEach((cacheName, cache) ->
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, beanName + "." + cacheName));
+
+		CryptoFactoryMetricsInterceptor interceptor = new CryptoFactoryMetricsInterceptor(meterRegistry,
+			getAlgorithm(cryptoFactory));
+		if (bean instanceof Advised advised && !advised.isFrozen()) {
+			advised.addAdvice(0, interceptor);
+			return bean;
+		}
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(interceptor);
+		return proxyFactory.getProxy(ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * 获取加密工厂对应的算法标签值。
+	 *
+	 * @param cryptoFactory 加密工厂
+	 * @return {@link CryptoAlgorithm} 名称；无法匹配时返回工厂类名
+	 * @since 2.1.0
+	 */
+	protected String getAlgorithm(CryptoFactory cryptoFactory) {
+		for (CryptoAlgorithm algorithm : CryptoAlgorithm.values()) {
+			if (algorithm.getFactoryClass().isInstance(cryptoFactory)) {
+				return algorithm.name();
+			}
+		}
+		return ClassUtils.getUserClass(cryptoFactory).getSimpleName();
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.metrics;
+
+import org.jasypt.util.numeric.DecimalNumberEncryptor;
+
+import java.math.BigDecimal;
+
+/**
+ * 记录耗时的高精度小数加密器。
+ *
+ * @author pangju666
+ * @see CryptoMetricsBeanPostProcessor
+ * @since 2.1.0
+ */
+final class MeteredDecimalNumberEncryptor implements DecimalNumberEncryptor {
+	/**
+	 * 被包装的加密器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final DecimalNumberEncryptor delegate;
+	/**
+	 * 指标集合。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoMeters meters;
+
+	MeteredDecimalNumberEncryptor(DecimalNumberEncryptor delegate, CryptoMeters meters) {
+		this.delegate = delegate;
+		this.meters = meters;
+	}
+
+	@Override
+	public BigDecimal encrypt(BigDecimal number) {
+		return meters.encryptTimer.record(() -> delegate.encrypt(number));
+	}
+
+	@Override
+	public BigDecimal decrypt(BigDecimal encryptedNumber) {
+		return meters.decryptTimer.record(() -> delegate.decrypt(encryptedNumber));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.metrics;
+
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
+import io.micrometer.core.instrument.Counter;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 记录明文字节数的流式加密器。
+ * <p>
+ * 流的耗时取决于调用方的读写速度，因此只统计字节数，不记录耗时。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoMetricsBeanPostProcessor
+ * @since 2.1.0
+ */
+final class MeteredStreamEncryptor implements StreamEncryptor {
+	/**
+	 * 被包装的流式加密器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final StreamEncryptor delegate;
+	/**
+	 * 写入加密流的明文字节计数器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Counter encryptBytes;
+	/**
+	 * 从解密流读出的明文字节计数器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Counter decryptBytes;
+
+	MeteredStreamEncryptor(StreamEncryptor delegate, Counter encryptBytes, Counter decryptBytes) {
+		this.delegate = delegate;
+		this.encryptBytes = encryptBytes;
+		this.decryptBytes = decryptBytes;
+	}
+
+	@Override
+	public OutputStream encryptStream(OutputStream outputStream) throws IOException {
+		return new CountingOutputStream(delegate.encryptStream(outputStream), encryptBytes);
+	}
+
+	@Override
+	public InputStream decryptStream(InputStream inputStream) throws IOException {
+		return new CountingInputStream(delegate.decryptStream(inputStream), decryptBytes);
+	}
+
+	private static final class CountingOutputStream extends FilterOutputStream {
+		private final Counter counter;
+
+		CountingOutputStream(OutputStream out, Counter counter) {
+			super(out);
+			this.counter = counter;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			counter.increment();
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			counter.increment(len);
+		}
+	}
+
+	private static final class CountingInputStream extends FilterInputStream {
+		private final Counter counter;
+
+		CountingInputStream(InputStream in, Counter counter) {
+			super(in);
+			this.counter = counter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = in.read();
+			if (b != -1) {
+				counter.increment();
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = in.read(b, off, len);
+			if (n > 0) {
+				counter.increment(n);
+			}
+			return n;
+		}
+	}
+}
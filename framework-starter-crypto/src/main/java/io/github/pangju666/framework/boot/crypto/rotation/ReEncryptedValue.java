@@ -0,0 +1,33 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.rotation;
+
+/**
+ * 重新加密前后的密文。
+ * <p>
+ * 写回时应以 {@link #oldValue()} 作为条件，仅在记录仍为该密文时更新为 {@link #newValue()}，
+ * 避免覆盖读取之后被业务并发写入的新值。
+ * </p>
+ *
+ * @param oldValue 读取时编码后的原密文
+ * @param newValue 编码后的主版本密文
+ * @author pangju666
+ * @see ReEncryptionSource#save(java.util.Map)
+ * @since 2.1.0
+ */
+public record ReEncryptedValue(String oldValue, String newValue) {
+}
@@ -0,0 +1,221 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.rotation;
+
+import io.github.pangju666.framework.boot.crypto.enums.Encoding;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyRing;
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
+import org.apache.commons.codec.DecoderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 密钥轮换后的后台重新加密任务。
+ * <p>
+ * 按主键游标逐批读取 {@link ReEncryptionSource} 中的密文，将非主版本的密文使用 {@link CryptoKeyRing} 主版本密钥重新加密后写回。
+ * 每批之间暂停 {@code batchInterval}，以限制对数据库与 CPU 的压力，避免轮换期间出现延迟尖刺；
+ * 由于旧版本密文始终可解密，任务可在业务运行期间执行，也可随时停止后重新开始。
+ * </p>
+ * <p>
+ * 无法解码或解密的记录会被跳过并记录日志，不会中断任务，数量体现在 {@link Result#failed()} 中；
+ * 写回时已被业务修改的记录由 {@link ReEncryptionSource#save(Map)} 按原密文条件跳过，数量体现在 {@link Result#skipped()} 中。
+ * </p>
+ *
+ * @param <K> 主键类型
+ * @author pangju666
+ * @see CryptoKeyRing
+ * @see ReEncryptionSource
+ * @since 2.1.0
+ */
+public class ReEncryptionJob<K> {
+	/**
+	 * 日志记录器
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReEncryptionJob.class);
+
+	/**
+	 * 加密工厂。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoFactory factory;
+	/**
+	 * 密钥环。
+	 *
+	 * @since 2.1.0
+	 */
+	private final CryptoKeyRing keyRing;
+	/**
+	 * 密文编码方式。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Encoding encoding;
+	/**
+	 * 数据源。
+	 *
+	 * @since 2.1.0
+	 */
+	private final ReEncryptionSource<K> source;
+	/**
+	 * 每批读取的记录数。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int batchSize;
+	/**
+	 * 批次之间的暂停时间。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Duration batchInterval;
+	/**
+	 * 是否已请求停止。
+	 *
+	 * @since 2.1.0
+	 */
+	private volatile boolean stopped;
+
+	/**
+	 * 构造重新加密任务。
+	 *
+	 * <p>参数校验：{@code batchSize} 必须大于 0，{@code batchInterval} 不可为负数。</p>
+	 *
+	 * @param factory       加密工厂
+	 * @param keyRing       密钥环
+	 * @param encoding      密文编码方式
+	 * @param source        数据源
+	 * @param batchSize     每批读取的记录数
+	 * @param batchInterval 批次之间的暂停时间，{@link Duration#ZERO} 表示不暂停
+	 * @since 2.1.0
+	 */
+	public ReEncryptionJob(CryptoFactory factory, CryptoKeyRing keyRing, Encoding encoding,
+						   ReEncryptionSource<K> source, int batchSize, Duration batchInterval) {
+		Assert.notNull(factory, "factory 不可为 null");
+		Assert.notNull(keyRing, "keyRing 不可为 null");
+		Assert.notNull(encoding, "encoding 不可为 null");
+		Assert.notNull(source, "source 不可为 null");
+		Assert.isTrue(batchSize > 0, "batchSize 必须大于0");
+		Assert.isTrue(Objects.nonNull(batchInterval) && !batchInterval.isNegative(), "batchInterval 不可为负数");
+
+		this.factory = factory;
+		this.keyRing = keyRing;
+		this.encoding = encoding;
+		this.source = source;
+		this.batchSize = batchSize;
+		this.batchInterval = batchInterval;
+	}
+
+	/**
+	 * 在当前线程执行任务，直到全部记录处理完成、调用 {@link #stop()} 或线程被中断。
+	 *
+	 * @return 执行结果
+	 * @since 2.1.0
+	 */
+	public Result run() {
+		K cursor = null;
+		long scanned = 0;
+		long reEncrypted = 0;
+		long skipped = 0;
+		long failed = 0;
+		while (!stopped) {
+			Map<K, String> batch = source.fetch(cursor, batchSize);
+			if (Objects.isNull(batch) || batch.isEmpty()) {
+				break;
+			}
+
+			Map<K, ReEncryptedValue> updated = new LinkedHashMap<>();
+			for (Map.Entry<K, String> entry : batch.entrySet()) {
+				++scanned;
+				cursor = entry.getKey();
+				try {
+					String value = CryptoUtils.reEncryptString(factory, entry.getValue(), keyRing, encoding);
+					if (!Objects.equals(value, entry.getValue())) {
+						updated.put(entry.getKey(), new ReEncryptedValue(entry.getValue(), value));
+					}
+				} catch (DecoderException | RuntimeException e) {
+					++failed;
+					LOGGER.warn("密文重新加密失败，主键：{}", entry.getKey(), e);
+				}
+			}
+			if (!updated.isEmpty()) {
+				int saved = source.save(updated);
+				Assert.state(saved >= 0 && saved <= updated.size(), "ReEncryptionSource.save 返回的更新记录数超出范围：" + saved);
+				reEncrypted += saved;
+				skipped += updated.size() - saved;
+			}
+			if (batch.size() < batchSize) {
+				break;
+			}
+
+			if (!batchInterval.isZero()) {
+				try {
+					Thread.sleep(batchInterval.toMillis());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		return new Result(scanned, reEncrypted, skipped, failed);
+	}
+
+	/**
+	 * 使用指定执行器在后台执行任务。
+	 *
+	 * @param executor 执行器
+	 * @return 任务执行结果
+	 * @since 2.1.0
+	 */
+	public CompletableFuture<Result> start(Executor executor) {
+		Assert.notNull(executor, "executor 不可为 null");
+
+		return CompletableFuture.supplyAsync(this::run, executor);
+	}
+
+	/**
+	 * 请求停止任务，当前批次处理完成后生效；停止后的任务不会再次执行，需要继续时应重新构造任务。
+	 *
+	 * @since 2.1.0
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * 重新加密任务执行结果。
+	 *
+	 * @param scanned     已检查的记录数
+	 * @param reEncrypted 已重新加密并写回的记录数
+	 * @param skipped     已重新加密但写回前被并发修改、因而未写回的记录数
+	 * @param failed      无法解码或解密而被跳过的记录数
+	 * @since 2.1.0
+	 */
+	public record Result(long scanned, long reEncrypted, long skipped, long failed) {
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.rotation;
+
+import java.util.Map;
+
+/**
+ * 重新加密数据源。
+ * <p>
+ * 由业务方实现，按主键游标分页读取待检查的密文字段，并写回重新加密后的值，
+ * 例如基于 MyBatis‑Plus 的 <code>where id &gt; #{cursor} order by id limit #{batchSize}</code>，
+ * 或 MongoDB 的 <code>{_id: {$gt: cursor}}</code> 排序查询。
+ * </p>
+ * <p>
+ * 任务通常在业务运行期间执行，记录可能在读取之后、写回之前被业务修改，因此写回必须是条件更新：
+ * 仅当字段仍等于读取时的密文才更新，例如 <code>update t set col = #{newValue} where id = #{id} and col = #{oldValue}</code>，
+ * 或 MongoDB 的 <code>updateOne({_id: id, col: oldValue}, {$set: {col: newValue}})</code>。
+ * 条件不满足的记录不做修改，由任务计入 {@link ReEncryptionJob.Result#skipped()}，下次执行任务时会重新检查。
+ * </p>
+ *
+ * @param <K> 主键类型
+ * @author pangju666
+ * @see ReEncryptionJob
+ * @since 2.1.0
+ */
+public interface ReEncryptionSource<K> {
+	/**
+	 * 读取一批记录。
+	 *
+	 * @param cursor    上一批最后一条记录的主键，首次读取时为 null
+	 * @param batchSize 最大读取数量
+	 * @return 按主键升序排列的“主键 → 编码后的密文”映射（应使用有序映射，如 {@link java.util.LinkedHashMap}），
+	 * 没有更多记录时返回空映射
+	 * @since 2.1.0
+	 */
+	Map<K, String> fetch(K cursor, int batchSize);
+
+	/**
+	 * 按原密文条件写回重新加密后的密文。
+	 * <p>
+	 * 实现必须仅在记录当前值等于 {@link ReEncryptedValue#oldValue()} 时更新，不满足条件的记录保持不变且不计入返回值。
+	 * </p>
+	 *
+	 * @param reEncrypted “主键 → 重新加密前后的密文”映射，仅包含发生变化的记录
+	 * @return 实际更新的记录数
+	 * @since 2.1.0
+	 */
+	int save(Map<K, ReEncryptedValue> reEncrypted);
+}
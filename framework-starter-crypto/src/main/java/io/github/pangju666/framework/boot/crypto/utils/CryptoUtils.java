@@ -16,19 +16,38 @@
 
 package io.github.pangju666.framework.boot.crypto.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.pangju666.framework.boot.crypto.enums.Encoding;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyHandle;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyRing;
 import io.github.pangju666.framework.boot.spring.StaticSpringContext;
 import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Strings;
+import org.jasypt.util.binary.BinaryEncryptor;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 加解密工具类。
@@ -42,6 +61,40 @@ import java.util.Objects;
  * @see CryptoFactory
  */
 public class CryptoUtils {
+    /**
+     * 并行批量加解密时每个任务处理的元素数量，元素数量不超过该值时不会并行。
+     *
+     * @since 2.1.0
+     */
+    public static final int PARALLEL_BATCH_SIZE = 256;
+    /**
+     * 占位符解析结果缓存的最大条目数。
+     *
+     * @since 2.1.0
+     */
+    public static final int MAX_RESOLVED_KEY_CACHE_SIZE = 256;
+
+    /**
+     * 占位符到解析后密钥的缓存，避免每次请求都遍历属性源。
+     *
+     * @since 2.1.0
+     */
+    private static final Cache<String, String> RESOLVED_KEY_CACHE = Caffeine.newBuilder()
+        .maximumSize(MAX_RESOLVED_KEY_CACHE_SIZE)
+        .build();
+    /**
+     * 生成当前缓存内容时使用的环境，环境实例变化时缓存失效。
+     *
+     * @since 2.1.0
+     */
+    private static volatile Environment resolvedKeyEnvironment;
+    /**
+     * 缓存代数，每次清空缓存前递增；解析期间代数变化时丢弃写入的结果，避免并发解析写回清空前的旧密钥。
+     *
+     * @since 2.1.0
+     */
+    private static final AtomicLong RESOLVED_KEY_CACHE_GENERATION = new AtomicLong();
+
     protected CryptoUtils() {
     }
 
@@ -185,14 +238,631 @@ public class CryptoUtils {
         return factory.getDecimalNumberDecryptor(key).decrypt(rawData);
     }
 
+    /**
+     * 使用密钥句柄加密字节数组。
+     *
+     * <p>与 {@link #encrypt(CryptoFactory, byte[], String)} 等价，但通过 {@link CryptoKeyHandle} 获取加密器，
+     * 不再按调用计算密钥摘要，适用于热点路径。</p>
+     *
+     * @param factory   加解密工厂
+     * @param rawData   原始字节数据；为空时直接返回
+     * @param keyHandle 密钥句柄
+     * @return 加密后的字节数组；若输入为空则返回原值
+     * @since 2.1.0
+     */
+    public static byte[] encrypt(final CryptoFactory factory, final byte[] rawData, final CryptoKeyHandle keyHandle) {
+        if (ArrayUtils.isEmpty(rawData)) {
+            return rawData;
+        }
+        return keyHandle.getBinaryEncryptor(factory).encrypt(rawData);
+    }
+
+    /**
+     * 使用密钥句柄解密字节数组。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   密文字节数据；为空时直接返回
+     * @param keyHandle 密钥句柄
+     * @return 解密后的字节数组；若输入为空则返回原值
+     * @since 2.1.0
+     */
+    public static byte[] decrypt(final CryptoFactory factory, final byte[] rawData, final CryptoKeyHandle keyHandle) {
+        if (ArrayUtils.isEmpty(rawData)) {
+            return rawData;
+        }
+        return keyHandle.getBinaryDecryptor(factory).decrypt(rawData);
+    }
+
+    /**
+     * 使用密钥句柄加密字符串并按指定编码输出。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   原始字符串；为空白时直接返回
+     * @param keyHandle 密钥句柄
+     * @param encoding  输出编码方式（Base64 或 Hex）
+     * @return 编码后的密文字符串；若输入为空白则返回原值
+     * @since 2.1.0
+     */
+    public static String encryptString(final CryptoFactory factory, final String rawData, final CryptoKeyHandle keyHandle,
+                                       final Encoding encoding) {
+        if (StringUtils.isBlank(rawData)) {
+            return rawData;
+        }
+        byte[] result = encrypt(factory, rawData.getBytes(), keyHandle);
+        return switch (encoding) {
+            case BASE64 -> Base64.encodeBase64URLSafeString(result);
+            case HEX -> Hex.encodeHexString(result);
+        };
+    }
+
+    /**
+     * 使用密钥句柄解密字符串（先按指定编码解码，再进行解密）。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   编码后的密文字符串；为空白时直接返回
+     * @param keyHandle 密钥句柄
+     * @param encoding  输入的编码方式（Base64 或 Hex）
+     * @return 解密后的明文字符串；若输入为空白则返回原值
+     * @throws DecoderException 当编码内容解析失败时抛出（如 Hex 非法）
+     * @since 2.1.0
+     */
+    public static String decryptString(final CryptoFactory factory, final String rawData, final CryptoKeyHandle keyHandle,
+                                       final Encoding encoding) throws DecoderException {
+        if (StringUtils.isBlank(rawData)) {
+            return rawData;
+        }
+        byte[] result = switch (encoding) {
+            case BASE64 -> Base64.decodeBase64(rawData);
+            case HEX -> Hex.decodeHex(rawData);
+        };
+        return new String(decrypt(factory, result, keyHandle));
+    }
+
+    /**
+     * 使用密钥句柄加密大整数。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   原始大整数；为 null 时返回 null
+     * @param keyHandle 密钥句柄
+     * @return 加密后的大整数；为 null 时返回 null
+     * @since 2.1.0
+     */
+    public static BigInteger encryptBigInteger(final CryptoFactory factory, final BigInteger rawData,
+                                               final CryptoKeyHandle keyHandle) {
+        if (Objects.isNull(rawData)) {
+            return null;
+        }
+        return keyHandle.getIntegerNumberEncryptor(factory).encrypt(rawData);
+    }
+
+    /**
+     * 使用密钥句柄解密大整数。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   密文大整数；为 null 时返回 null
+     * @param keyHandle 密钥句柄
+     * @return 解密后的大整数；为 null 时返回 null
+     * @since 2.1.0
+     */
+    public static BigInteger decryptBigInteger(final CryptoFactory factory, final BigInteger rawData,
+                                               final CryptoKeyHandle keyHandle) {
+        if (Objects.isNull(rawData)) {
+            return null;
+        }
+        return keyHandle.getIntegerNumberDecryptor(factory).decrypt(rawData);
+    }
+
+    /**
+     * 使用密钥句柄加密高精度小数。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   原始小数；为 null 时返回 null
+     * @param keyHandle 密钥句柄
+     * @return 加密后的高精度小数；为 null 时返回 null
+     * @since 2.1.0
+     */
+    public static BigDecimal encryptBigDecimal(final CryptoFactory factory, final BigDecimal rawData,
+                                               final CryptoKeyHandle keyHandle) {
+        if (Objects.isNull(rawData)) {
+            return null;
+        }
+        return keyHandle.getDecimalNumberEncryptor(factory).encrypt(rawData);
+    }
+
+    /**
+     * 使用密钥句柄解密高精度小数。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   密文小数；为 null 时返回 null
+     * @param keyHandle 密钥句柄
+     * @return 解密后的高精度小数；为 null 时返回 null
+     * @since 2.1.0
+     */
+    public static BigDecimal decryptBigDecimal(final CryptoFactory factory, final BigDecimal rawData,
+                                               final CryptoKeyHandle keyHandle) {
+        if (Objects.isNull(rawData)) {
+            return null;
+        }
+        return keyHandle.getDecimalNumberDecryptor(factory).decrypt(rawData);
+    }
+
+    /**
+     * 使用密钥环的主版本密钥加密字节数组，密文带版本号。
+     *
+     * @param factory 加解密工厂
+     * @param rawData 原始字节数据；为空时直接返回
+     * @param keyRing 密钥环
+     * @return 带版本号的密文；若输入为空则返回原值
+     * @see CryptoKeyRing#encrypt(CryptoFactory, byte[])
+     * @since 2.1.0
+     */
+    public static byte[] encrypt(final CryptoFactory factory, final byte[] rawData, final CryptoKeyRing keyRing) {
+        return keyRing.encrypt(factory, rawData);
+    }
+
+    /**
+     * 按密文中的版本号从密钥环选择密钥解密字节数组。
+     *
+     * @param factory 加解密工厂
+     * @param rawData 带版本号的密文；为空时直接返回
+     * @param keyRing 密钥环
+     * @return 解密后的字节数组；若输入为空则返回原值
+     * @see CryptoKeyRing#decrypt(CryptoFactory, byte[])
+     * @since 2.1.0
+     */
+    public static byte[] decrypt(final CryptoFactory factory, final byte[] rawData, final CryptoKeyRing keyRing) {
+        return keyRing.decrypt(factory, rawData);
+    }
+
+    /**
+     * 使用密钥环的主版本密钥加密字符串并按指定编码输出。
+     *
+     * @param factory  加解密工厂
+     * @param rawData  原始字符串；为空白时直接返回
+     * @param keyRing  密钥环
+     * @param encoding 输出编码方式（Base64 或 Hex）
+     * @return 编码后的带版本号密文；若输入为空白则返回原值
+     * @since 2.1.0
+     */
+    public static String encryptString(final CryptoFactory factory, final String rawData, final CryptoKeyRing keyRing,
+                                       final Encoding encoding) {
+        if (StringUtils.isBlank(rawData)) {
+            return rawData;
+        }
+        byte[] result = keyRing.encrypt(factory, rawData.getBytes());
+        return switch (encoding) {
+            case BASE64 -> Base64.encodeBase64URLSafeString(result);
+            case HEX -> Hex.encodeHexString(result);
+        };
+    }
+
+    /**
+     * 按密文中的版本号从密钥环选择密钥解密字符串（先按指定编码解码，再进行解密）。
+     *
+     * @param factory  加解密工厂
+     * @param rawData  编码后的带版本号密文；为空白时直接返回
+     * @param keyRing  密钥环
+     * @param encoding 输入的编码方式（Base64 或 Hex）
+     * @return 解密后的明文字符串；若输入为空白则返回原值
+     * @throws DecoderException 当编码内容解析失败时抛出（如 Hex 非法）
+     * @since 2.1.0
+     */
+    public static String decryptString(final CryptoFactory factory, final String rawData, final CryptoKeyRing keyRing,
+                                       final Encoding encoding) throws DecoderException {
+        if (StringUtils.isBlank(rawData)) {
+            return rawData;
+        }
+        byte[] result = switch (encoding) {
+            case BASE64 -> Base64.decodeBase64(rawData);
+            case HEX -> Hex.decodeHex(rawData);
+        };
+        return new String(keyRing.decrypt(factory, result));
+    }
+
+    /**
+     * 使用密钥环的主版本密钥重新加密字符串密文。
+     *
+     * @param factory  加解密工厂
+     * @param rawData  编码后的密文；为空白时直接返回
+     * @param keyRing  密钥环
+     * @param encoding 密文的编码方式（Base64 或 Hex）
+     * @return 编码后的主版本密文；若输入为空白或已是主版本密文则返回原值
+     * @throws DecoderException 当编码内容解析失败时抛出（如 Hex 非法）
+     * @see CryptoKeyRing#reEncrypt(CryptoFactory, byte[])
+     * @since 2.1.0
+     */
+    public static String reEncryptString(final CryptoFactory factory, final String rawData, final CryptoKeyRing keyRing,
+                                         final Encoding encoding) throws DecoderException {
+        if (StringUtils.isBlank(rawData)) {
+            return rawData;
+        }
+        byte[] ciphertext = switch (encoding) {
+            case BASE64 -> Base64.decodeBase64(rawData);
+            case HEX -> Hex.decodeHex(rawData);
+        };
+        byte[] result = keyRing.reEncrypt(factory, ciphertext);
+        if (result == ciphertext) {
+            return rawData;
+        }
+        return switch (encoding) {
+            case BASE64 -> Base64.encodeBase64URLSafeString(result);
+            case HEX -> Hex.encodeHexString(result);
+        };
+    }
+
+    /**
+     * 批量加密字符串并按指定编码输出。
+     *
+     * <p>与逐个调用 {@link #encryptString(CryptoFactory, String, String, Encoding)} 结果一致，
+     * 但整个批次只解析一次加密器。</p>
+     *
+     * @param factory  加解密工厂
+     * @param rawData  原始字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param key      密钥或口令
+     * @param encoding 输出编码方式（Base64 或 Hex）
+     * @return 与输入顺序一致的密文字符串列表（固定大小）；若输入为空则返回原值
+     * @since 2.1.0
+     */
+    public static List<String> encryptAll(final CryptoFactory factory, final List<String> rawData, final String key,
+                                          final Encoding encoding) {
+        return encryptAll(factory, rawData, key, encoding, null);
+    }
+
+    /**
+     * 批量加密字符串，元素较多时使用指定执行器并行加密。
+     *
+     * <p>列表按 {@value #PARALLEL_BATCH_SIZE} 个元素拆分为任务提交到 {@code executor}，调用线程等待全部任务完成；
+     * 适用于 RSA、PBE 等计算密集的算法。并行度由执行器决定，建议使用有界线程池，
+     * 或使用虚拟线程执行器（计算任务由固定数量的载体线程执行）。</p>
+     *
+     * @param factory  加解密工厂
+     * @param rawData  原始字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param key      密钥或口令
+     * @param encoding 输出编码方式（Base64 或 Hex）
+     * @param executor 并行执行器；为 null 时在调用线程中顺序加密
+     * @return 与输入顺序一致的密文字符串列表（固定大小）；若输入为空则返回原值
+     * @since 2.1.0
+     */
+    public static List<String> encryptAll(final CryptoFactory factory, final List<String> rawData, final String key,
+                                          final Encoding encoding, final Executor executor) {
+        if (Objects.isNull(rawData) || rawData.isEmpty()) {
+            return rawData;
+        }
+        return encryptAll(factory.getBinaryEncryptor(key), rawData, encoding, executor);
+    }
+
+    /**
+     * 使用密钥句柄批量加密字符串，元素较多时使用指定执行器并行加密。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   原始字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param keyHandle 密钥句柄
+     * @param encoding  输出编码方式（Base64 或 Hex）
+     * @param executor  并行执行器；为 null 时在调用线程中顺序加密
+     * @return 与输入顺序一致的密文字符串列表（固定大小）；若输入为空则返回原值
+     * @see #encryptAll(CryptoFactory, List, String, Encoding, Executor)
+     * @since 2.1.0
+     */
+    public static List<String> encryptAll(final CryptoFactory factory, final List<String> rawData,
+                                          final CryptoKeyHandle keyHandle, final Encoding encoding,
+                                          final Executor executor) {
+        if (Objects.isNull(rawData) || rawData.isEmpty()) {
+            return rawData;
+        }
+        return encryptAll(keyHandle.getBinaryEncryptor(factory), rawData, encoding, executor);
+    }
+
+    /**
+     * 批量解密字符串（先按指定编码解码，再进行解密）。
+     *
+     * <p>与逐个调用 {@link #decryptString(CryptoFactory, String, String, Encoding)} 结果一致，
+     * 但整个批次只解析一次解密器。</p>
+     *
+     * @param factory  加解密工厂
+     * @param rawData  编码后的密文字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param key      密钥或口令
+     * @param encoding 输入的编码方式（Base64 或 Hex）
+     * @return 与输入顺序一致的明文字符串列表（固定大小）；若输入为空则返回原值
+     * @throws DecoderException 当任一元素编码内容解析失败时抛出（如 Hex 非法）
+     * @since 2.1.0
+     */
+    public static List<String> decryptAll(final CryptoFactory factory, final List<String> rawData, final String key,
+                                          final Encoding encoding) throws DecoderException {
+        return decryptAll(factory, rawData, key, encoding, null);
+    }
+
+    /**
+     * 批量解密字符串，元素较多时使用指定执行器并行解密。
+     *
+     * <p>任务拆分方式与 {@link #encryptAll(CryptoFactory, List, String, Encoding, Executor)} 相同。</p>
+     *
+     * @param factory  加解密工厂
+     * @param rawData  编码后的密文字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param key      密钥或口令
+     * @param encoding 输入的编码方式（Base64 或 Hex）
+     * @param executor 并行执行器；为 null 时在调用线程中顺序解密
+     * @return 与输入顺序一致的明文字符串列表（固定大小）；若输入为空则返回原值
+     * @throws DecoderException 当任一元素编码内容解析失败时抛出（如 Hex 非法）
+     * @since 2.1.0
+     */
+    public static List<String> decryptAll(final CryptoFactory factory, final List<String> rawData, final String key,
+                                          final Encoding encoding, final Executor executor) throws DecoderException {
+        if (Objects.isNull(rawData) || rawData.isEmpty()) {
+            return rawData;
+        }
+        return decryptAll(factory.getBinaryDecryptor(key), rawData, encoding, executor);
+    }
+
+    /**
+     * 使用密钥句柄批量解密字符串，元素较多时使用指定执行器并行解密。
+     *
+     * @param factory   加解密工厂
+     * @param rawData   编码后的密文字符串列表；为空时直接返回，其中的空白元素原样保留
+     * @param keyHandle 密钥句柄
+     * @param encoding  输入的编码方式（Base64 或 Hex）
+     * @param executor  并行执行器；为 null 时在调用线程中顺序解密
+     * @return 与输入顺序一致的明文字符串列表（固定大小）；若输入为空则返回原值
+     * @throws DecoderException 当任一元素编码内容解析失败时抛出（如 Hex 非法）
+     * @see #decryptAll(CryptoFactory, List, String, Encoding, Executor)
+     * @since 2.1.0
+     */
+    public static List<String> decryptAll(final CryptoFactory factory, final List<String> rawData,
+                                          final CryptoKeyHandle keyHandle, final Encoding encoding,
+                                          final Executor executor) throws DecoderException {
+        if (Objects.isNull(rawData) || rawData.isEmpty()) {
+            return rawData;
+        }
+        return decryptAll(keyHandle.getBinaryDecryptor(factory), rawData, encoding, executor);
+    }
+
+    /**
+     * 流式加密：从输入流读取明文，加密后写入输出流。
+     *
+     * <p>按分块处理，内存占用与数据大小无关；方法不会关闭 {@code input} 与 {@code output}。</p>
+     *
+     * @param factory 加解密工厂，必须支持流式加解密
+     * @param input   明文输入流
+     * @param output  密文输出流
+     * @param key     密钥或口令
+     * @return 读取的明文字节数
+     * @throws IOException                   当读写失败时抛出
+     * @throws UnsupportedOperationException 当工厂不支持流式加解密时抛出
+     * @see CryptoFactory#getStreamEncryptor(String)
+     * @since 2.1.0
+     */
+    public static long encryptStream(final CryptoFactory factory, final InputStream input, final OutputStream output,
+                                     final String key) throws IOException {
+        // 关闭加密流才会写出最后分块，这里屏蔽其对 output 的关闭
+        OutputStream unclosableOutput = new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+        try (OutputStream encryptOutput = factory.getStreamEncryptor(key).encryptStream(unclosableOutput)) {
+            return input.transferTo(encryptOutput);
+        }
+    }
+
+    /**
+     * 流式解密：从输入流读取密文，解密后写入输出流。
+     *
+     * <p>按分块处理，内存占用与数据大小无关；方法不会关闭 {@code input} 与 {@code output}。
+     * 由于分块逐个认证，认证失败前已写出的明文分块不会被撤回，调用方应在方法抛出异常时丢弃输出。</p>
+     *
+     * @param factory 加解密工厂，必须支持流式加解密
+     * @param input   密文输入流
+     * @param output  明文输出流
+     * @param key     密钥或口令
+     * @return 写出的明文字节数
+     * @throws IOException                   当读写失败、密文格式不正确或认证失败时抛出
+     * @throws UnsupportedOperationException 当工厂不支持流式加解密时抛出
+     * @see CryptoFactory#getStreamDecryptor(String)
+     * @since 2.1.0
+     */
+    public static long decryptStream(final CryptoFactory factory, final InputStream input, final OutputStream output,
+                                     final String key) throws IOException {
+        return factory.getStreamDecryptor(key).decryptStream(input).transferTo(output);
+    }
+
+    /**
+     * 包装输出流，写入包装流的字节将按指定编码转换为文本后写入 {@code output}。
+     *
+     * <p>按块编码，内存占用与数据大小无关；输出与 {@link #encryptString(CryptoFactory, String, String, Encoding)}
+     * 使用的编码一致（Base64 为 URL 安全且无填充，Hex 为小写）。必须关闭返回的流才会写出剩余内容，关闭时会同时关闭 {@code output}。</p>
+     *
+     * @param output   编码文本输出流
+     * @param encoding 输出编码方式（Base64 或 Hex）
+     * @return 待编码字节的输出流
+     * @throws IllegalArgumentException 当 {@code output} 或 {@code encoding} 为 null 时抛出
+     * @since 2.1.0
+     */
+    public static OutputStream encodingStream(final OutputStream output, final Encoding encoding) {
+		Assert.notNull(output, "output 不可为 null");
+		Assert.notNull(encoding, "encoding 不可为 null");
+
+        return switch (encoding) {
+            case BASE64 -> java.util.Base64.getUrlEncoder().withoutPadding().wrap(output);
+            case HEX -> new HexEncodingOutputStream(output);
+        };
+    }
+
+    /**
+     * 包装输入流，从包装流读取到的是 {@code input} 中编码文本解码后的字节。
+     *
+     * <p>按块解码，内存占用与数据大小无关；Base64 同时兼容标准与 URL 安全字母表，并忽略空白字符。
+     * 十六进制内容非法时，读取会抛出 cause 为 {@link DecoderException} 的 {@link IOException}。
+     * 关闭返回的流时会同时关闭 {@code input}。</p>
+     *
+     * @param input    编码文本输入流
+     * @param encoding 输入的编码方式（Base64 或 Hex）
+     * @return 解码后的字节输入流
+     * @throws IllegalArgumentException 当 {@code input} 或 {@code encoding} 为 null 时抛出
+     * @since 2.1.0
+     */
+    public static InputStream decodingStream(final InputStream input, final Encoding encoding) {
+		Assert.notNull(input, "input 不可为 null");
+		Assert.notNull(encoding, "encoding 不可为 null");
+
+        return switch (encoding) {
+            case BASE64 -> new Base64InputStream(input);
+            case HEX -> new HexDecodingInputStream(input);
+        };
+    }
+
+    /**
+     * 使用已解析的加密器批量加密字符串。
+     *
+     * @param encryptor 字节数组加密器
+     * @param rawData   非空的原始字符串列表
+     * @param encoding  输出编码方式
+     * @param executor  并行执行器（可为 null）
+     * @return 密文字符串列表
+     * @since 2.1.0
+     */
+    private static List<String> encryptAll(final BinaryEncryptor encryptor, final List<String> rawData,
+                                           final Encoding encoding, final Executor executor) {
+        String[] input = rawData.toArray(String[]::new);
+        String[] output = new String[input.length];
+        if (Objects.isNull(executor) || input.length <= PARALLEL_BATCH_SIZE) {
+            encryptRange(encryptor, input, output, encoding, 0, input.length);
+        } else {
+            runParallel(executor, input.length, (from, to) -> encryptRange(encryptor, input, output, encoding, from, to));
+        }
+        return Arrays.asList(output);
+    }
+
+    /**
+     * 使用已解析的解密器批量解密字符串。
+     *
+     * @param decryptor 字节数组解密器
+     * @param rawData   非空的密文字符串列表
+     * @param encoding  输入的编码方式
+     * @param executor  并行执行器（可为 null）
+     * @return 明文字符串列表
+     * @throws DecoderException 当任一元素编码内容解析失败时抛出
+     * @since 2.1.0
+     */
+    private static List<String> decryptAll(final BinaryEncryptor decryptor, final List<String> rawData,
+                                           final Encoding encoding, final Executor executor) throws DecoderException {
+        String[] input = rawData.toArray(String[]::new);
+        String[] output = new String[input.length];
+        if (Objects.isNull(executor) || input.length <= PARALLEL_BATCH_SIZE) {
+            decryptRange(decryptor, input, output, encoding, 0, input.length);
+        } else {
+            try {
+                runParallel(executor, input.length, (from, to) -> {
+                    try {
+                        decryptRange(decryptor, input, output, encoding, from, to);
+                    } catch (DecoderException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof DecoderException decoderException) {
+                    throw decoderException;
+                }
+                throw e;
+            }
+        }
+        return Arrays.asList(output);
+    }
+
+    /**
+     * 加密 {@code input} 中 {@code [from, to)} 区间的元素并写入 {@code output} 的相同位置。
+     *
+     * @since 2.1.0
+     */
+    private static void encryptRange(final BinaryEncryptor encryptor, final String[] input, final String[] output,
+                                     final Encoding encoding, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            String value = input[i];
+            if (StringUtils.isBlank(value)) {
+                output[i] = value;
+                continue;
+            }
+            byte[] result = encryptor.encrypt(value.getBytes());
+            output[i] = switch (encoding) {
+                case BASE64 -> Base64.encodeBase64URLSafeString(result);
+                case HEX -> Hex.encodeHexString(result);
+            };
+        }
+    }
+
+    /**
+     * 解密 {@code input} 中 {@code [from, to)} 区间的元素并写入 {@code output} 的相同位置。
+     *
+     * @since 2.1.0
+     */
+    private static void decryptRange(final BinaryEncryptor decryptor, final String[] input, final String[] output,
+                                     final Encoding encoding, final int from, final int to) throws DecoderException {
+        for (int i = from; i < to; i++) {
+            String value = input[i];
+            if (StringUtils.isBlank(value)) {
+                output[i] = value;
+                continue;
+            }
+            byte[] result = switch (encoding) {
+                case BASE64 -> Base64.decodeBase64(value);
+                case HEX -> Hex.decodeHex(value);
+            };
+            output[i] = ArrayUtils.isEmpty(result) ? new String(result) : new String(decryptor.decrypt(result));
+        }
+    }
+
+    /**
+     * 将 {@code [0, size)} 按 {@value #PARALLEL_BATCH_SIZE} 拆分为任务提交到执行器，并等待全部完成。
+     * <p>
+     * 任一任务失败时抛出 {@link CompletionException}（运行时异常会被解包后重新抛出）。
+     * </p>
+     *
+     * @param executor 执行器
+     * @param size     元素数量
+     * @param task     处理 {@code [from, to)} 区间的任务
+     * @since 2.1.0
+     */
+    private static void runParallel(final Executor executor, final int size, final RangeTask task) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>((size + PARALLEL_BATCH_SIZE - 1) / PARALLEL_BATCH_SIZE);
+        for (int from = 0; from < size; from += PARALLEL_BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + PARALLEL_BATCH_SIZE, size);
+            futures.add(CompletableFuture.runAsync(() -> task.run(start, end), executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException &&
+                !(runtimeException instanceof CompletionException)) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 区间任务。
+     *
+     * @since 2.1.0
+     */
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
     /**
      * 解析密钥字符串。
      *
      * <p>概述：支持明文密钥与占位符密钥。占位符形如 <code>${crypto.key}</code>；明文密钥直接返回入参。</p>
      *
      * <p>解析说明：</p>
-     * <p>占位符通过 {@code StaticSpringContext.getEnvironment().resolvePlaceholders(key)} 解析；
-     * 非占位符不经环境查找，直接返回原始入参。</p>
+     * <p>占位符通过 {@code StaticSpringContext.getEnvironment().resolvePlaceholders(key)} 解析，解析结果会被缓存，
+     * 后续调用不再遍历属性源；缓存在 {@link #clearKeyCache()} 被调用（如配置刷新事件）或环境实例变化时失效，
+     * 解析失败的结果不会被缓存。非占位符不经环境查找，直接返回原始入参。</p>
      *
      * @param key 明文密钥或占位符（如 <code>${crypto.key}</code>）
      * @return 解析后的明文密钥
@@ -206,11 +876,42 @@ public class CryptoUtils {
 
 		String cryptoKey = key;
         if (Strings.CS.startsWith(key, "${") && Strings.CS.endsWith(key, "}")) {
-			cryptoKey = StaticSpringContext.getEnvironment().resolvePlaceholders(key);
+			Environment environment = StaticSpringContext.getEnvironment();
+			if (environment != resolvedKeyEnvironment) {
+				clearKeyCache();
+				resolvedKeyEnvironment = environment;
+			}
+			String cachedKey = RESOLVED_KEY_CACHE.getIfPresent(key);
+			if (Objects.nonNull(cachedKey)) {
+				return cachedKey;
+			}
+
+			// 先读取代数再解析：解析期间若缓存被清空，写入的可能是旧密钥，需在写入后撤销
+			long generation = RESOLVED_KEY_CACHE_GENERATION.get();
+			cryptoKey = environment.resolvePlaceholders(key);
 			if (cryptoKey.equals(key)) {
 				throw new IllegalArgumentException("未找到密钥，属性：" + key);
 			}
+			RESOLVED_KEY_CACHE.put(key, cryptoKey);
+			if (RESOLVED_KEY_CACHE_GENERATION.get() != generation) {
+				RESOLVED_KEY_CACHE.invalidate(key);
+			}
         }
 		return cryptoKey;
     }
-}
\ No newline at end of file
+
+    /**
+     * 清空占位符解析结果缓存，下次调用 {@link #getKey(String)} 时重新从环境解析。
+     *
+     * <p>配置中心推送新密钥后应调用该方法；自动配置会在 Spring Cloud 的
+     * {@code EnvironmentChangeEvent} 与 {@code RefreshScopeRefreshedEvent} 事件发布时自动调用。</p>
+     *
+     * <p>先递增缓存代数再清空缓存：清空前已开始的解析即使在清空后写入，也会因代数变化被撤销，不会留下旧密钥。</p>
+     *
+     * @since 2.1.0
+     */
+    public static void clearKeyCache() {
+        RESOLVED_KEY_CACHE_GENERATION.incrementAndGet();
+        RESOLVED_KEY_CACHE.invalidateAll();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.utils;
+
+import org.apache.commons.codec.DecoderException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * 十六进制解码输入流，从包装流读取到的是 {@code input} 中十六进制文本解码后的字节。
+ * <p>
+ * 按块读取与解码，任意时刻最多缓存一个块；大小写字母均可识别。
+ * 遇到非十六进制字符或字符数为奇数时读取抛出 {@link IOException}，其 cause 为 {@link DecoderException}。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoUtils#decodingStream(InputStream, io.github.pangju666.framework.boot.crypto.enums.Encoding)
+ * @since 2.1.0
+ */
+final class HexDecodingInputStream extends InputStream {
+	private static final int BUFFER_SIZE = 8192;
+
+	private final InputStream input;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private final byte[] single = new byte[1];
+
+	/**
+	 * 构造十六进制解码输入流。
+	 *
+	 * @param input 十六进制文本输入流
+	 * @since 2.1.0
+	 */
+	HexDecodingInputStream(InputStream input) {
+		this.input = input;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int length = read(single, 0, 1);
+		return length == -1 ? -1 : single[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		int length = input.readNBytes(buffer, 0, Math.min(len, BUFFER_SIZE / 2) * 2);
+		if (length == 0) {
+			return -1;
+		}
+		if ((length & 1) != 0) {
+			throw new IOException(new DecoderException("Odd number of characters."));
+		}
+		for (int i = 0; i < length; i += 2) {
+			b[off + i / 2] = (byte) ((toDigit(buffer[i]) << 4) | toDigit(buffer[i + 1]));
+		}
+		return length / 2;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return input.available() / 2;
+	}
+
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+
+	private static int toDigit(byte ch) throws IOException {
+		int digit = Character.digit(ch, 16);
+		if (digit == -1) {
+			throw new IOException(new DecoderException("Illegal hexadecimal character " + (char) (ch & 0xFF)));
+		}
+		return digit;
+	}
+}
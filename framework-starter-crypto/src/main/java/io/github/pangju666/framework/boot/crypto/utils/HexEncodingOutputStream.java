@@ -0,0 +1,82 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.crypto.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 十六进制编码输出流，写入包装流的字节将以小写十六进制文本写入 {@code output}。
+ * <p>
+ * 按块编码，任意时刻最多缓存一个块，输出与 {@code Hex.encodeHexString(byte[])} 一致。
+ * </p>
+ *
+ * @author pangju666
+ * @see HexDecodingInputStream
+ * @since 2.1.0
+ */
+final class HexEncodingOutputStream extends OutputStream {
+	private static final byte[] DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final int BUFFER_SIZE = 8192;
+
+	private final OutputStream output;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+
+	/**
+	 * 构造十六进制编码输出流。
+	 *
+	 * @param output 十六进制文本输出流
+	 * @since 2.1.0
+	 */
+	HexEncodingOutputStream(OutputStream output) {
+		this.output = output;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		output.write(DIGITS[(b >> 4) & 0x0F]);
+		output.write(DIGITS[b & 0x0F]);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		while (len > 0) {
+			int length = Math.min(len, BUFFER_SIZE / 2);
+			for (int i = 0; i < length; i++) {
+				int value = b[off + i];
+				buffer[i * 2] = DIGITS[(value >> 4) & 0x0F];
+				buffer[i * 2 + 1] = DIGITS[value & 0x0F];
+			}
+			output.write(buffer, 0, length * 2);
+			off += length;
+			len -= length;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		output.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		output.close();
+	}
+}
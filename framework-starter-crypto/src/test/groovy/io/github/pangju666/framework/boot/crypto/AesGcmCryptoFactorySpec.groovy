@@ -0,0 +1,117 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.encryptor.AESGCMEncryptor
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootContextLoader
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
+class AesGcmCryptoFactorySpec extends Specification {
+	@Autowired
+	AESGCMCryptoFactory factory
+
+	def "文本加解密"() {
+		when:
+		def enc = factory.getTextEncryptor("pwd").encrypt("hello中文")
+		def dec = factory.getTextDecryptor("pwd").decrypt(enc)
+		then:
+		dec == "hello中文"
+	}
+
+	def "字节加解密"() {
+		when:
+		def enc = factory.getBinaryEncryptor("pwd").encrypt("hello".bytes)
+		def dec = factory.getBinaryDecryptor("pwd").decrypt(enc)
+		then:
+		new String(dec) == "hello"
+	}
+
+	def "整数加解密 #value"() {
+		when:
+		def enc = factory.getIntegerNumberEncryptor("pwd").encrypt(value)
+		def dec = factory.getIntegerNumberDecryptor("pwd").decrypt(enc)
+		then:
+		dec == value
+
+		where:
+		value << [BigInteger.ZERO, BigInteger.valueOf(123), BigInteger.valueOf(-123), new BigInteger("123456789012345678901234567890")]
+	}
+
+	def "小数加解密 #value"() {
+		when:
+		def enc = factory.getDecimalNumberEncryptor("pwd").encrypt(value)
+		def dec = factory.getDecimalNumberDecryptor("pwd").decrypt(enc)
+		then:
+		dec == value
+		dec.scale() == value.scale()
+
+		where:
+		value << [12.34G, -0.001G, 100G]
+	}
+
+	def "密文包含版本号且每次使用随机IV"() {
+		given:
+		def encryptor = factory.getBinaryEncryptor("pwd")
+
+		when:
+		def first = encryptor.encrypt("hello".bytes)
+		def second = encryptor.encrypt("hello".bytes)
+
+		then:
+		first[0] == AESGCMEncryptor.VERSION
+		first.length == 1 + AESGCMEncryptor.IV_LENGTH + "hello".bytes.length + AESGCMEncryptor.TAG_LENGTH.intdiv(8)
+		first != second
+	}
+
+	def "不同实例使用相同口令可互相解密"() {
+		when:
+		def enc = new AESGCMCryptoFactory(1).getTextEncryptor("pwd").encrypt("hello")
+
+		then:
+		factory.getTextDecryptor("pwd").decrypt(enc) == "hello"
+	}
+
+	def "同口令缓存同实例"() {
+		expect:
+		factory.getTextEncryptor("pwd").is(factory.getBinaryEncryptor("pwd"))
+		factory.getIntegerNumberEncryptor("pwd").is(factory.getDecimalNumberEncryptor("pwd"))
+	}
+
+	@Unroll
+	def "密文无法解密 - #caseName"() {
+		given:
+		def enc = factory.getBinaryEncryptor("pwd").encrypt("hello".bytes)
+		mutate(enc)
+
+		when:
+		factory.getBinaryDecryptor(key).decrypt(enc)
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+
+		where:
+		caseName  | key     | mutate
+		"口令错误" | "other" | { byte[] b -> }
+		"密文篡改" | "pwd"   | { byte[] b -> b[b.length - 1] = (byte) (b[b.length - 1] ^ 1) }
+		"版本不符" | "pwd"   | { byte[] b -> b[0] = (byte) 2 }
+	}
+
+	@Unroll
+	def "非法参数抛异常 - #caseName"() {
+		when:
+		factory.getTextEncryptor(input)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		caseName   | input
+		"空口令"    | ""
+		"null口令"  | null
+	}
+}
@@ -0,0 +1,101 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.encryptor.AESSIVEncryptor
+import io.github.pangju666.framework.boot.crypto.enums.Encoding
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootContextLoader
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.HexFormat
+
+@ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
+class AesSivCryptoFactorySpec extends Specification {
+	@Autowired
+	AESSIVCryptoFactory factory
+
+	def "文本加解密"() {
+		when:
+		def enc = factory.getTextEncryptor("pwd").encrypt("hello中文")
+		def dec = factory.getTextDecryptor("pwd").decrypt(enc)
+		then:
+		dec == "hello中文"
+	}
+
+	@Unroll
+	def "字节加解密 size=#size"() {
+		given:
+		def data = new byte[size]
+		new Random(size).nextBytes(data)
+
+		expect:
+		factory.getBinaryDecryptor("pwd").decrypt(factory.getBinaryEncryptor("pwd").encrypt(data)) == data
+
+		where:
+		size << [0, 1, 15, 16, 17, 100]
+	}
+
+	def "数字加解密"() {
+		expect:
+		factory.getIntegerNumberDecryptor("pwd").decrypt(factory.getIntegerNumberEncryptor("pwd").encrypt(-123G)) == -123G
+		factory.getDecimalNumberDecryptor("pwd").decrypt(factory.getDecimalNumberEncryptor("pwd").encrypt(1.50G)).toPlainString() == "1.50"
+	}
+
+	def "相同口令与明文生成相同密文，可用于等值查询"() {
+		when:
+		def first = CryptoUtils.encryptString(factory, "13800138000", "pwd", Encoding.BASE64)
+		def second = CryptoUtils.encryptString(new AESSIVCryptoFactory(1), "13800138000", "pwd", Encoding.BASE64)
+
+		then:
+		first == second
+		first != CryptoUtils.encryptString(factory, "13800138001", "pwd", Encoding.BASE64)
+		first != CryptoUtils.encryptString(factory, "13800138000", "other", Encoding.BASE64)
+	}
+
+	def "符合RFC5297测试向量"() {
+		given:
+		def hex = HexFormat.of()
+		def encryptor = new AESSIVEncryptor(hex.parseHex("fffefdfcfbfaf9f8f7f6f5f4f3f2f1f0f0f1f2f3f4f5f6f7f8f9fafbfcfdfeff"))
+
+		when:
+		def s2v = AESSIVEncryptor.getDeclaredMethod("s2v", byte[][].class)
+		s2v.setAccessible(true)
+		byte[] siv = s2v.invoke(encryptor, [hex.parseHex("101112131415161718191a1b1c1d1e1f2021222324252627"),
+											hex.parseHex("112233445566778899aabbccddee")] as byte[][])
+
+		then:
+		hex.formatHex(siv) == "85632d07c6e8f37f950acd320a2ecc93"
+	}
+
+	@Unroll
+	def "密文无法解密 - #caseName"() {
+		given:
+		def enc = factory.getBinaryEncryptor("pwd").encrypt("hello".bytes)
+		mutate(enc)
+
+		when:
+		factory.getBinaryDecryptor(key).decrypt(enc)
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+
+		where:
+		caseName  | key     | mutate
+		"口令错误" | "other" | { byte[] b -> }
+		"密文篡改" | "pwd"   | { byte[] b -> b[b.length - 1] = (byte) (b[b.length - 1] ^ 1) }
+		"版本不符" | "pwd"   | { byte[] b -> b[0] = (byte) 2 }
+	}
+
+	def "非法密钥长度抛出IllegalArgumentException"() {
+		when:
+		new AESSIVEncryptor(new byte[20])
+
+		then:
+		thrown(IllegalArgumentException)
+	}
+}
@@ -3,8 +3,11 @@ package io.github.pangju666.framework.boot.crypto
 import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory
 
 import org.springframework.beans.factory.annotation.Autowired
@@ -19,12 +22,15 @@ class CryptoFactorySpec extends Specification {
 
 	def "从Spring中获取多个实现"() {
 		expect:
-		factories.size() == 4
+		factories.size() == 7
 		factories*.class.toSet() == [
 			AES256CryptoFactory,
 			BasicCryptoFactory,
 			StrongCryptoFactory,
-			RSACryptoFactory
+			RSACryptoFactory,
+			AESGCMCryptoFactory,
+			RSAEnvelopeCryptoFactory,
+			AESSIVCryptoFactory
 		] as Set
 	}
 
@@ -0,0 +1,65 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.enums.Encoding
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyHandle
+import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
+import org.jasypt.util.text.TextEncryptor
+import spock.lang.Specification
+
+class CryptoKeyHandleSpec extends Specification {
+	def factory = new AES256CryptoFactory(16)
+
+	def "句柄与字符串密钥加解密结果互通"() {
+		given:
+		def handle = CryptoKeyHandle.of("pwd")
+
+		expect:
+		CryptoUtils.decryptString(factory, CryptoUtils.encryptString(factory, "hello", handle, Encoding.BASE64), "pwd", Encoding.BASE64) == "hello"
+		CryptoUtils.decryptString(factory, CryptoUtils.encryptString(factory, "hello", "pwd", Encoding.HEX), handle, Encoding.HEX) == "hello"
+		new String(CryptoUtils.decrypt(factory, CryptoUtils.encrypt(factory, "hello".bytes, handle), handle)) == "hello"
+		CryptoUtils.decryptBigInteger(factory, CryptoUtils.encryptBigInteger(factory, 123G as BigInteger, handle), handle) == 123G
+		CryptoUtils.decryptBigDecimal(factory, CryptoUtils.encryptBigDecimal(factory, 12.34G, handle), handle) == 12.34G
+	}
+
+	def "同一工厂只向工厂获取一次加密器"() {
+		given:
+		def encryptor = Mock(TextEncryptor)
+		def mockFactory = Mock(CryptoFactory)
+		def handle = CryptoKeyHandle.of("pwd")
+
+		when:
+		3.times { handle.getTextEncryptor(mockFactory) }
+
+		then:
+		1 * mockFactory.getTextEncryptor("pwd") >> encryptor
+		handle.getTextEncryptor(mockFactory).is(encryptor)
+	}
+
+	def "不同工厂分别获取加密器"() {
+		given:
+		def handle = CryptoKeyHandle.of("pwd")
+		def other = new AES256CryptoFactory(16)
+
+		expect:
+		handle.getTextEncryptor(factory).is(factory.getTextEncryptor("pwd"))
+		handle.getTextEncryptor(other).is(other.getTextEncryptor("pwd"))
+	}
+
+	def "toString不输出密钥"() {
+		expect:
+		!CryptoKeyHandle.of("secret-pwd").toString().contains("secret-pwd")
+	}
+
+	def "空密钥抛出IllegalArgumentException"() {
+		when:
+		CryptoKeyHandle.of(key)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		key << ["", " ", null]
+	}
+}
@@ -0,0 +1,214 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.enums.Encoding
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyRing
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.rotation.ReEncryptedValue
+import io.github.pangju666.framework.boot.crypto.rotation.ReEncryptionJob
+import io.github.pangju666.framework.boot.crypto.rotation.ReEncryptionSource
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
+import org.apache.commons.codec.binary.Base64
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CryptoKeyRingSpec extends Specification {
+	def factory = new AESGCMCryptoFactory(16)
+
+	def "使用主版本加密并按版本号解密"() {
+		given:
+		def v1 = CryptoKeyRing.builder().addKey(1, "k1").build()
+		def v2 = CryptoKeyRing.builder().addKey(1, "k1").addKey(2, "k2").build()
+
+		when:
+		def old = v1.encrypt(factory, "hello".bytes)
+		def current = v2.encrypt(factory, "hello".bytes)
+
+		then:
+		v2.primaryVersion == 2
+		CryptoKeyRing.getVersion(old) == 1
+		CryptoKeyRing.getVersion(current) == 2
+		new String(v2.decrypt(factory, old)) == "hello"
+		new String(v2.decrypt(factory, current)) == "hello"
+		v2.needsReEncryption(old)
+		!v2.needsReEncryption(current)
+	}
+
+	def "重新加密为主版本密文"() {
+		given:
+		def v1 = CryptoKeyRing.builder().addKey(1, "k1").build()
+		def v2 = CryptoKeyRing.builder().addKey(1, "k1").addKey(2, "k2").build()
+		def old = CryptoUtils.encryptString(factory, "hello", v1, Encoding.HEX)
+
+		when:
+		def current = CryptoUtils.reEncryptString(factory, old, v2, Encoding.HEX)
+
+		then:
+		current != old
+		CryptoUtils.reEncryptString(factory, current, v2, Encoding.HEX).is(current)
+		CryptoUtils.decryptString(factory, current, CryptoKeyRing.builder().addKey(2, "k2").build(), Encoding.HEX) == "hello"
+	}
+
+	def "配置历史密钥后可解密无版本号密文"() {
+		given:
+		def legacy = CryptoUtils.encrypt(factory, "hello".bytes, "old")
+		def keyRing = CryptoKeyRing.builder().addKey(1, "k1").legacyKey("old").build()
+
+		when:
+		def current = keyRing.reEncrypt(factory, legacy)
+
+		then:
+		new String(keyRing.decrypt(factory, legacy)) == "hello"
+		current != legacy
+		CryptoKeyRing.getVersion(current) == 1
+		new String(CryptoKeyRing.builder().addKey(1, "k1").build().decrypt(factory, current)) == "hello"
+		keyRing.reEncrypt(factory, current).is(current)
+	}
+
+	def "首字节与主版本号相同的历史密文仍需重新加密"() {
+		given:
+		def legacy = CryptoUtils.encrypt(factory, "hello".bytes, "old")
+		def keyRing = CryptoKeyRing.builder().addKey(1, "k1").legacyKey("old").build()
+		def encoded = Base64.encodeBase64URLSafeString(legacy)
+
+		when:
+		def current = CryptoUtils.reEncryptString(factory, encoded, keyRing, Encoding.BASE64)
+
+		then:
+		legacy[0] == (byte) 1
+		CryptoKeyRing.getVersion(legacy) == 0
+		keyRing.needsReEncryption(legacy)
+		current != encoded
+		CryptoUtils.decryptString(factory, current, CryptoKeyRing.builder().addKey(1, "k1").build(), Encoding.BASE64) == "hello"
+	}
+
+	def "未知版本且无历史密钥时解密失败"() {
+		given:
+		def ciphertext = CryptoKeyRing.builder().addKey(3, "k3").build().encrypt(factory, "hello".bytes)
+
+		when:
+		CryptoKeyRing.builder().addKey(1, "k1").build().decrypt(factory, ciphertext)
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+	}
+
+	def "非法配置抛出IllegalArgumentException"() {
+		when:
+		configure(CryptoKeyRing.builder()).build()
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		configure << [
+			{ it },
+			{ it.addKey(0, "k") },
+			{ it.addKey(256, "k") },
+			{ it.addKey(1, "k").addKey(1, "k") },
+			{ it.addKey(1, "k").primaryVersion(2) }
+		]
+	}
+
+	def "后台任务分批重新加密并跳过无法解密的记录"() {
+		given:
+		def v1 = CryptoKeyRing.builder().addKey(1, "k1").build()
+		def v2 = CryptoKeyRing.builder().addKey(1, "k1").addKey(2, "k2").build()
+		def rows = new TreeMap<Integer, String>()
+		(1..25).each { rows[it] = CryptoUtils.encryptString(factory, "value-$it".toString(), it % 2 ? v1 : v2, Encoding.BASE64) }
+		rows[26] = "AQID"
+		def fetches = 0
+		def source = new ReEncryptionSource<Integer>() {
+			@Override
+			Map<Integer, String> fetch(Integer cursor, int batchSize) {
+				fetches++
+				def tail = cursor == null ? rows : rows.tailMap(cursor, false)
+				def batch = new LinkedHashMap<Integer, String>()
+				tail.entrySet().take(batchSize).each { batch[it.key] = it.value }
+				return batch
+			}
+
+			@Override
+			int save(Map<Integer, ReEncryptedValue> reEncrypted) {
+				return saveIfUnchanged(rows, reEncrypted)
+			}
+		}
+
+		when:
+		def result = new ReEncryptionJob<Integer>(factory, v2, Encoding.BASE64, source, 10, Duration.ofMillis(1)).run()
+
+		then:
+		result.scanned() == 26
+		result.reEncrypted() == 13
+		result.skipped() == 0
+		result.failed() == 1
+		fetches == 3
+		(1..25).every {
+			CryptoUtils.decryptString(factory, rows[it], CryptoKeyRing.builder().addKey(2, "k2").build(), Encoding.BASE64) == "value-$it"
+		}
+	}
+
+	def "读取后被并发修改的记录不会被覆盖"() {
+		given:
+		def v1 = CryptoKeyRing.builder().addKey(1, "k1").build()
+		def v2 = CryptoKeyRing.builder().addKey(1, "k1").addKey(2, "k2").build()
+		def rows = new TreeMap<Integer, String>()
+		(1..3).each { rows[it] = CryptoUtils.encryptString(factory, "value-$it".toString(), v1, Encoding.BASE64) }
+		def concurrent = CryptoUtils.encryptString(factory, "concurrent", v2, Encoding.BASE64)
+		def source = new ReEncryptionSource<Integer>() {
+			@Override
+			Map<Integer, String> fetch(Integer cursor, int batchSize) {
+				def tail = cursor == null ? rows : rows.tailMap(cursor, false)
+				def batch = new LinkedHashMap<Integer, String>()
+				tail.entrySet().take(batchSize).each { batch[it.key] = it.value }
+				if (!batch.isEmpty()) {
+					rows[2] = concurrent
+				}
+				return batch
+			}
+
+			@Override
+			int save(Map<Integer, ReEncryptedValue> reEncrypted) {
+				return saveIfUnchanged(rows, reEncrypted)
+			}
+		}
+
+		when:
+		def result = new ReEncryptionJob<Integer>(factory, v2, Encoding.BASE64, source, 10, Duration.ZERO).run()
+
+		then:
+		result.scanned() == 3
+		result.reEncrypted() == 2
+		result.skipped() == 1
+		result.failed() == 0
+		rows[2] == concurrent
+		[1, 3].every { !v2.needsReEncryption(Base64.decodeBase64(rows[it])) }
+	}
+
+	def "写回记录数超出范围时抛出IllegalStateException"() {
+		given:
+		def v1 = CryptoKeyRing.builder().addKey(1, "k1").build()
+		def v2 = CryptoKeyRing.builder().addKey(1, "k1").addKey(2, "k2").build()
+		def source = Mock(ReEncryptionSource)
+		source.fetch(null, 10) >> [1: CryptoUtils.encryptString(factory, "value", v1, Encoding.BASE64)]
+		source.save(_) >> 2
+
+		when:
+		new ReEncryptionJob<Integer>(factory, v2, Encoding.BASE64, source, 10, Duration.ZERO).run()
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	private static int saveIfUnchanged(Map<Integer, String> rows, Map<Integer, ReEncryptedValue> reEncrypted) {
+		int saved = 0
+		reEncrypted.each { id, value ->
+			if (rows[id] == value.oldValue()) {
+				rows[id] = value.newValue()
+				saved++
+			}
+		}
+		return saved
+	}
+}
@@ -0,0 +1,113 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.metrics.CryptoMetricsBeanPostProcessor
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.beans.factory.support.DefaultListableBeanFactory
+import spock.lang.Specification
+
+class CryptoMetricsSpec extends Specification {
+	def registry = new SimpleMeterRegistry()
+	CryptoMetricsBeanPostProcessor postProcessor
+	AESGCMCryptoFactory factory
+
+	def setup() {
+		def beanFactory = new DefaultListableBeanFactory()
+		beanFactory.registerSingleton("meterRegistry", registry)
+		postProcessor = new CryptoMetricsBeanPostProcessor(beanFactory.getBeanProvider(MeterRegistry))
+		factory = postProcessor.postProcessAfterInitialization(new AESGCMCryptoFactory(16, true), "aesGcmCryptoFactory") as AESGCMCryptoFactory
+	}
+
+	def "记录字节数组加解密耗时与明文字节数"() {
+		when:
+		def encrypted = factory.getBinaryEncryptor("pwd").encrypt(new byte[100])
+		def decrypted = factory.getBinaryDecryptor("pwd").decrypt(encrypted)
+
+		then:
+		decrypted == new byte[100]
+		timer("binary", "encrypt").count() == 1
+		timer("binary", "decrypt").count() == 1
+		bytes("binary", "encrypt") == 100
+		bytes("binary", "decrypt") == 100
+	}
+
+	def "记录文本加解密耗时"() {
+		when:
+		def encrypted = factory.getTextEncryptor("pwd").encrypt("hello")
+		factory.getTextDecryptor("pwd").decrypt(encrypted)
+
+		then:
+		timer("text", "encrypt").count() == 1
+		timer("text", "decrypt").count() == 1
+		registry.find(CryptoMetricsBeanPostProcessor.BYTES_METER_NAME).tag("type", "text").counter() == null
+	}
+
+	def "记录流式加解密明文字节数"() {
+		given:
+		def data = new byte[200_000]
+		new Random(1).nextBytes(data)
+		def encOutput = new ByteArrayOutputStream()
+		def decOutput = new ByteArrayOutputStream()
+
+		when:
+		CryptoUtils.encryptStream(factory, new ByteArrayInputStream(data), encOutput, "pwd")
+		CryptoUtils.decryptStream(factory, new ByteArrayInputStream(encOutput.toByteArray()), decOutput, "pwd")
+
+		then:
+		decOutput.toByteArray() == data
+		bytes("stream", "encrypt") == data.length
+		bytes("stream", "decrypt") == data.length
+	}
+
+	def "同一加密器复用包装实例"() {
+		expect:
+		factory.getTextEncryptor("pwd").is(factory.getTextEncryptor("pwd"))
+		factory.getBinaryEncryptor("pwd").is(factory.getBinaryEncryptor("pwd"))
+		factory.getStreamEncryptor("pwd").is(factory.getStreamEncryptor("pwd"))
+		!factory.getTextEncryptor("pwd").is(factory.getTextEncryptor("other"))
+	}
+
+	def "发布加密器缓存统计"() {
+		when:
+		factory.getTextEncryptor("pwd")
+		factory.getTextEncryptor("pwd")
+		factory.getTextEncryptor("other")
+
+		then:
+		cacheGets("hit") == 1
+		cacheGets("miss") == 2
+	}
+
+	def "非加密工厂或不存在MeterRegistry时原样返回"() {
+		given:
+		def bean = new Object()
+		def cryptoFactory = new AESGCMCryptoFactory(16)
+		def emptyProcessor = new CryptoMetricsBeanPostProcessor(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry))
+
+		expect:
+		postProcessor.postProcessAfterInitialization(bean, "bean").is(bean)
+		emptyProcessor.postProcessAfterInitialization(cryptoFactory, "aesGcmCryptoFactory").is(cryptoFactory)
+	}
+
+	def timer(String type, String operation) {
+		return registry.get(CryptoMetricsBeanPostProcessor.OPERATIONS_METER_NAME)
+			.tags("algorithm", "AES_GCM", "type", type, "operation", operation)
+			.timer()
+	}
+
+	def bytes(String type, String operation) {
+		return registry.get(CryptoMetricsBeanPostProcessor.BYTES_METER_NAME)
+			.tags("algorithm", "AES_GCM", "type", type, "operation", operation)
+			.counter()
+			.count()
+	}
+
+	def cacheGets(String result) {
+		return registry.get("cache.gets")
+			.tags("cache", "aesGcmCryptoFactory.encryptor", "result", result)
+			.functionCounter()
+			.count()
+	}
+}
@@ -1,6 +1,7 @@
 package io.github.pangju666.framework.boot.crypto
 
 import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoKeyCacheRefreshListener
 import io.github.pangju666.framework.boot.crypto.enums.Encoding
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory
 import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
@@ -9,11 +10,16 @@ import io.github.pangju666.framework.boot.spring.StaticSpringContext
 import org.apache.commons.codec.DecoderException
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootContextLoader
+import org.springframework.context.ApplicationEvent
+import org.springframework.context.event.ContextRefreshedEvent
+import org.springframework.core.ResolvableType
 import org.springframework.core.env.Environment
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.Executors
+
 @ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
 class CryptoUtilsSpec extends Specification {
 	@Autowired
@@ -147,6 +153,40 @@ class CryptoUtilsSpec extends Specification {
 		ex.message.contains('未找到密钥，属性：${missing.key}')
 	}
 
+	def "getKey缓存占位符解析结果并在清空后重新解析"() {
+		given:
+		def field = StaticSpringContext.class.getDeclaredField('ENVIRONMENT')
+		field.setAccessible(true)
+		def original = field.get(null)
+		def env = Mock(Environment)
+		field.set(null, env)
+
+		when:
+		def first = CryptoUtils.getKey('${rotating.key}')
+		def second = CryptoUtils.getKey('${rotating.key}')
+
+		then:
+		1 * env.resolvePlaceholders('${rotating.key}') >> 'v1'
+		first == 'v1'
+		second == 'v1'
+
+		when:
+		new CryptoKeyCacheRefreshListener().onApplicationEvent(new ApplicationEvent(this) {})
+		def rotated = CryptoUtils.getKey('${rotating.key}')
+
+		then:
+		1 * env.resolvePlaceholders('${rotating.key}') >> 'v2'
+		rotated == 'v2'
+
+		cleanup:
+		field.set(null, original)
+	}
+
+	def "配置刷新监听器仅响应配置刷新事件"() {
+		expect:
+		!new CryptoKeyCacheRefreshListener().supportsEventType(ResolvableType.forClass(ContextRefreshedEvent))
+	}
+
 	@Unroll
 	def "encryptString空白输入原样返回 - '#input'"(String input) {
 		expect:
@@ -166,4 +206,65 @@ class CryptoUtilsSpec extends Specification {
 		where:
 		input << ['', '   ']
 	}
+
+	@Unroll
+	def "批量加解密与逐个加解密结果一致 - #encoding"() {
+		given:
+		def raw = (0..<10).collect { it == 3 ? '' : "value-$it".toString() }
+
+		when:
+		def enc = CryptoUtils.encryptAll(factory, raw, 'pwd', encoding)
+
+		then:
+		enc.size() == raw.size()
+		enc[3] == ''
+		enc.withIndex().every { value, i -> i == 3 || CryptoUtils.decryptString(factory, value, 'pwd', encoding) == raw[i] }
+		CryptoUtils.decryptAll(factory, enc, 'pwd', encoding) == raw
+
+		where:
+		encoding << [Encoding.BASE64, Encoding.HEX]
+	}
+
+	def "批量加解密空列表直接返回原值"() {
+		given:
+		def empty = []
+
+		expect:
+		CryptoUtils.encryptAll(factory, empty, 'pwd', Encoding.BASE64).is(empty)
+		CryptoUtils.decryptAll(factory, empty, 'pwd', Encoding.BASE64).is(empty)
+		CryptoUtils.encryptAll(factory, null, 'pwd', Encoding.BASE64) == null
+	}
+
+	def "并行批量加解密保持顺序"() {
+		given:
+		def executor = Executors.newFixedThreadPool(4)
+		def raw = (0..<(CryptoUtils.PARALLEL_BATCH_SIZE * 3 + 7)).collect { "value-$it".toString() }
+
+		when:
+		def enc = CryptoUtils.encryptAll(factory, raw, 'pwd', Encoding.HEX, executor)
+		def dec = CryptoUtils.decryptAll(factory, enc, 'pwd', Encoding.HEX, executor)
+
+		then:
+		dec == raw
+
+		cleanup:
+		executor.shutdown()
+	}
+
+	def "并行批量解密时编码非法抛出DecoderException"() {
+		given:
+		def executor = Executors.newFixedThreadPool(4)
+		def raw = (0..<(CryptoUtils.PARALLEL_BATCH_SIZE * 2)).collect { "value-$it".toString() }
+		def enc = new ArrayList<>(CryptoUtils.encryptAll(factory, raw, 'pwd', Encoding.HEX, executor))
+		enc[enc.size() - 1] = 'zz'
+
+		when:
+		CryptoUtils.decryptAll(factory, enc, 'pwd', Encoding.HEX, executor)
+
+		then:
+		thrown(DecoderException)
+
+		cleanup:
+		executor.shutdown()
+	}
 }
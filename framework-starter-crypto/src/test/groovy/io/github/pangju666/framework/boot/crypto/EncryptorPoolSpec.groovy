@@ -0,0 +1,70 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.encryptor.EncryptorPool
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class EncryptorPoolSpec extends Specification {
+	def "构造时创建一个实例并在操作后复用"() {
+		given:
+		def created = new AtomicInteger()
+		def pool = new EncryptorPool<Object>({ created.incrementAndGet(); new Object() }, 2)
+
+		when:
+		def first = pool.execute { it }
+		def second = pool.execute { it }
+
+		then:
+		created.get() == 1
+		first.is(second)
+		pool.idleCount == 1
+	}
+
+	def "空闲实例数不超过上限"() {
+		given:
+		def pool = new EncryptorPool<Object>({ new Object() }, 2)
+
+		when:
+		pool.execute { a ->
+			pool.execute { b ->
+				pool.execute { c -> c }
+			}
+		}
+
+		then:
+		pool.idleCount == 2
+	}
+
+	def "操作失败时丢弃实例"() {
+		given:
+		def created = new AtomicInteger()
+		def pool = new EncryptorPool<Object>({ created.incrementAndGet(); new Object() }, 2)
+
+		when:
+		pool.execute { throw new IllegalStateException() }
+
+		then:
+		thrown(IllegalStateException)
+		pool.idleCount == 0
+
+		when:
+		pool.execute { it }
+
+		then:
+		created.get() == 2
+	}
+
+	def "非法参数抛出IllegalArgumentException"() {
+		when:
+		new EncryptorPool<Object>(factory, maxIdle)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		factory            | maxIdle
+		null               | 1
+		{ new Object() }   | 0
+	}
+}
@@ -1,5 +1,6 @@
 package io.github.pangju666.framework.boot.crypto
 
+import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation
 import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory
 
@@ -13,6 +14,8 @@ import java.security.KeyPair
 import java.security.KeyPairGenerator
 import java.security.spec.PKCS8EncodedKeySpec
 import java.security.spec.X509EncodedKeySpec
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
 
 @ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
 class RSACryptoFactorySpec extends Specification {
@@ -107,4 +110,29 @@ class RSACryptoFactorySpec extends Specification {
 		"空私钥"      | ""
 		"null私钥"    | null
 	}
+
+	def "多线程并发解密结果正确"() {
+		given:
+		def ciphertexts = (0..<64).collect { factory.getTextEncryptor(pubBase64).encrypt("message-" + it) }
+		def executor = Executors.newFixedThreadPool(8)
+
+		when:
+		def results = executor.invokeAll(ciphertexts.collect { enc ->
+			(Callable<String>) { factory.getTextDecryptor(priBase64).decrypt(enc) }
+		})*.get()
+
+		then:
+		results == (0..<64).collect { "message-" + it }
+
+		cleanup:
+		executor.shutdown()
+	}
+
+	def "实例池大小必须大于0"() {
+		when:
+		new RSACryptoFactory(16, new RSAOEAPWithSHA256Transformation(), 0)
+
+		then:
+		thrown(IllegalArgumentException)
+	}
 }
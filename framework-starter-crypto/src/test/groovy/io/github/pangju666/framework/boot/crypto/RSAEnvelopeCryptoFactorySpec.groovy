@@ -0,0 +1,102 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.encryptor.RSAEnvelopeEncryptor
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory
+import org.jasypt.exceptions.EncryptionOperationNotPossibleException
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootContextLoader
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.security.KeyPairGenerator
+
+@ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
+class RSAEnvelopeCryptoFactorySpec extends Specification {
+	static String pubBase64
+	static String priBase64
+
+	@Autowired
+	RSAEnvelopeCryptoFactory factory
+
+	def setupSpec() {
+		def generator = KeyPairGenerator.getInstance("RSA")
+		generator.initialize(2048)
+		def keyPair = generator.generateKeyPair()
+		pubBase64 = Base64.encoder.encodeToString(keyPair.public.encoded)
+		priBase64 = Base64.encoder.encodeToString(keyPair.private.encoded)
+	}
+
+	def "文本加解密"() {
+		when:
+		def enc = factory.getTextEncryptor(pubBase64).encrypt("hello中文")
+		def dec = factory.getTextDecryptor(priBase64).decrypt(enc)
+		then:
+		dec == "hello中文"
+	}
+
+	def "大于RSA块大小的字节数组加解密"() {
+		given:
+		def src = new byte[1024 * 1024]
+		new Random(1).nextBytes(src)
+
+		when:
+		def enc = factory.getBinaryEncryptor(pubBase64).encrypt(src)
+		def dec = factory.getBinaryDecryptor(priBase64).decrypt(enc)
+
+		then:
+		enc[0] == RSAEnvelopeEncryptor.VERSION
+		dec == src
+	}
+
+	def "整数与小数加解密"() {
+		expect:
+		factory.getIntegerNumberDecryptor(priBase64).decrypt(factory.getIntegerNumberEncryptor(pubBase64).encrypt(-123G as BigInteger)) == -123G
+		factory.getDecimalNumberDecryptor(priBase64).decrypt(factory.getDecimalNumberEncryptor(pubBase64).encrypt(12.34G)) == 12.34G
+	}
+
+	def "同键缓存同实例"() {
+		expect:
+		factory.getTextEncryptor(pubBase64).is(factory.getBinaryEncryptor(pubBase64))
+		factory.getTextDecryptor(priBase64).is(factory.getBinaryDecryptor(priBase64))
+	}
+
+	def "密文篡改时解密失败"() {
+		given:
+		def enc = factory.getBinaryEncryptor(pubBase64).encrypt("hello".bytes)
+		enc[index] = (byte) (enc[index] ^ 1)
+
+		when:
+		factory.getBinaryDecryptor(priBase64).decrypt(enc)
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+
+		where:
+		index << [0, 10, -1]
+	}
+
+	def "公钥加密器不可解密"() {
+		when:
+		def encryptor = factory.getBinaryEncryptor(pubBase64)
+		encryptor.decrypt(encryptor.encrypt("hello".bytes))
+
+		then:
+		thrown(EncryptionOperationNotPossibleException)
+	}
+
+	@Unroll
+	def "非法密钥抛异常 - #caseName"() {
+		when:
+		action.call(factory)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		caseName     | action
+		"空公钥"      | { RSAEnvelopeCryptoFactory f -> f.getTextEncryptor("") }
+		"null私钥"    | { RSAEnvelopeCryptoFactory f -> f.getTextDecryptor(null) }
+	}
+}
@@ -0,0 +1,141 @@
+package io.github.pangju666.framework.boot.crypto
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootContextLoader
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.security.KeyPairGenerator
+
+@ContextConfiguration(classes = CryptoAutoConfiguration.class, loader = SpringBootContextLoader.class)
+class StreamEncryptorSpec extends Specification {
+	static final int CHUNK_SIZE = 64 * 1024
+
+	static String pubBase64
+	static String priBase64
+
+	@Autowired
+	AESGCMCryptoFactory aesGcmCryptoFactory
+	@Autowired
+	RSAEnvelopeCryptoFactory rsaEnvelopeCryptoFactory
+	@Autowired
+	AES256CryptoFactory aes256CryptoFactory
+
+	def setupSpec() {
+		def generator = KeyPairGenerator.getInstance("RSA")
+		generator.initialize(2048)
+		def keyPair = generator.generateKeyPair()
+		pubBase64 = Base64.encoder.encodeToString(keyPair.public.encoded)
+		priBase64 = Base64.encoder.encodeToString(keyPair.private.encoded)
+	}
+
+	byte[] encrypt(boolean envelope, byte[] data) {
+		def output = new ByteArrayOutputStream()
+		def encryptor = envelope ? rsaEnvelopeCryptoFactory.getStreamEncryptor(pubBase64) :
+			aesGcmCryptoFactory.getStreamEncryptor("pwd")
+		encryptor.encryptStream(output).withCloseable { it.write(data) }
+		return output.toByteArray()
+	}
+
+	byte[] decrypt(boolean envelope, byte[] data) {
+		def decryptor = envelope ? rsaEnvelopeCryptoFactory.getStreamDecryptor(priBase64) :
+			aesGcmCryptoFactory.getStreamDecryptor("pwd")
+		return decryptor.decryptStream(new ByteArrayInputStream(data)).withCloseable { it.readAllBytes() }
+	}
+
+	@Unroll
+	def "流式加解密 envelope=#envelope size=#size"() {
+		given:
+		def data = new byte[size]
+		new Random(size).nextBytes(data)
+
+		expect:
+		decrypt(envelope, encrypt(envelope, data)) == data
+
+		where:
+		[envelope, size] << [[false, true], [0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, CHUNK_SIZE * 3]].combinations()
+	}
+
+	@Unroll
+	def "密文流被篡改或截断时抛出IOException envelope=#envelope - #caseName"() {
+		given:
+		def data = new byte[CHUNK_SIZE * 2 + 10]
+		new Random(1).nextBytes(data)
+		def enc = mutate(encrypt(envelope, data))
+
+		when:
+		decrypt(envelope, enc)
+
+		then:
+		thrown(IOException)
+
+		where:
+		[envelope, caseName, mutate] << [[false, true], [
+			["末尾篡改", { byte[] b -> b[b.length - 1] = (byte) (b[b.length - 1] ^ 1); b }],
+			["丢弃最后分块", { byte[] b -> Arrays.copyOf(b, b.length - 10 - 16 - 4) }],
+			["截断", { byte[] b -> Arrays.copyOf(b, b.length - 1) }],
+			["版本不符", { byte[] b -> b[0] = (byte) 1; b }]
+		]].combinations().collect { [it[0], it[1][0], it[1][1]] }
+	}
+
+	def "交换分块顺序后解密失败"() {
+		given:
+		def data = new byte[CHUNK_SIZE * 3]
+		new Random(2).nextBytes(data)
+		def enc = encrypt(false, data)
+		def headerLength = 17
+		def chunkLength = 4 + CHUNK_SIZE + 16
+		def swapped = enc.clone()
+		System.arraycopy(enc, headerLength, swapped, headerLength + chunkLength, chunkLength)
+		System.arraycopy(enc, headerLength + chunkLength, swapped, headerLength, chunkLength)
+
+		when:
+		decrypt(false, swapped)
+
+		then:
+		thrown(IOException)
+	}
+
+	def "相同明文每次生成不同密文流"() {
+		expect:
+		encrypt(false, "hello".bytes) != encrypt(false, "hello".bytes)
+	}
+
+	def "工具类流式加解密不关闭调用方的流"() {
+		given:
+		def data = new byte[CHUNK_SIZE + 100]
+		new Random(3).nextBytes(data)
+		def encOutput = new ByteArrayOutputStream()
+		def decOutput = new ByteArrayOutputStream()
+
+		when:
+		def encrypted = CryptoUtils.encryptStream(rsaEnvelopeCryptoFactory, new ByteArrayInputStream(data), encOutput, pubBase64)
+		encOutput.write(1)
+		def decrypted = CryptoUtils.decryptStream(rsaEnvelopeCryptoFactory,
+			new ByteArrayInputStream(encOutput.toByteArray()), decOutput, priBase64)
+
+		then:
+		encrypted == data.length
+		decrypted == data.length
+		decOutput.toByteArray() == data
+	}
+
+	def "不支持流式加解密的工厂抛出UnsupportedOperationException"() {
+		expect:
+		!aes256CryptoFactory.supportsStream()
+		aesGcmCryptoFactory.supportsStream()
+		rsaEnvelopeCryptoFactory.supportsStream()
+
+		when:
+		aes256CryptoFactory.getStreamEncryptor("pwd")
+
+		then:
+		thrown(UnsupportedOperationException)
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.jackson.crypto.autoconfigure;
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoProperties;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.jackson.crypto.utils.CryptoFactoryRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.Assert;
+
+/**
+ * 加密工厂注册表初始化器。
+ * <p>
+ * 创建时将 Spring 容器与 {@link CryptoProperties} 绑定到 {@link CryptoFactoryRegistry}，
+ * 使早于应用就绪的序列化也能从容器获取加密工厂，并按配置决定是否允许直接构造；
+ * 在所有单例初始化完成后，将容器中的全部 {@link CryptoFactory} Bean 预先注册到注册表，
+ * 替换此前直接构造的回退实例；加解密序列化器在每次加/解密时才从注册表获取工厂，
+ * 因此替换前已创建并被 Jackson 缓存的序列化器也会共享按配置创建的工厂。
+ * 容器关闭时解除绑定。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoFactoryRegistry
+ * @since 2.1.0
+ */
+public class CryptoFactoryRegistryInitializer implements SmartInitializingSingleton, DisposableBean {
+	/**
+	 * Spring 容器
+	 *
+	 * @since 2.1.0
+	 */
+	private final ListableBeanFactory beanFactory;
+
+	/**
+	 * 构造初始化器并绑定注册表。
+	 *
+	 * @param beanFactory      Spring 容器
+	 * @param cryptoProperties 加密模块配置属性
+	 * @throws IllegalArgumentException 当 {@code beanFactory} 或 {@code cryptoProperties} 为 {@code null} 时抛出
+	 * @since 2.1.0
+	 */
+	public CryptoFactoryRegistryInitializer(ListableBeanFactory beanFactory, CryptoProperties cryptoProperties) {
+		Assert.notNull(beanFactory, "beanFactory 不可为 null");
+		Assert.notNull(cryptoProperties, "cryptoProperties 不可为 null");
+
+		this.beanFactory = beanFactory;
+		CryptoFactoryRegistry.configure(beanFactory, cryptoProperties);
+	}
+
+	/**
+	 * 将容器中的单例加密工厂注册到注册表。
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		beanFactory.getBeansOfType(CryptoFactory.class, false, true)
+			.values()
+			.forEach(CryptoFactoryRegistry::registerManaged);
+	}
+
+	/**
+	 * 解除注册表与容器的绑定。
+	 *
+	 * @since 2.1.0
+	 */
+	@Override
+	public void destroy() {
+		CryptoFactoryRegistry.configure(null, null);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.jackson.crypto.autoconfigure;
+
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration;
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoProperties;
+import io.github.pangju666.framework.boot.jackson.crypto.utils.CryptoFactoryRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson 加解密自动配置。
+ * <p>
+ * 注册 {@link CryptoFactoryRegistryInitializer}，由 Spring 托管 {@link CryptoFactoryRegistry}：
+ * 预先加载容器中的加密工厂，并按 {@link CryptoProperties} 控制直接构造时的缓存规模与是否允许直接构造
+ * （配置键 {@code pangju.crypto.factory-fallback-enabled}）。
+ * </p>
+ * <p>
+ * 条件启用：仅当类路径存在 {@link JsonMapper} 时生效，并在 {@link CryptoAutoConfiguration} 之后加载。
+ * </p>
+ *
+ * @author pangju666
+ * @see CryptoFactoryRegistry
+ * @since 2.1.0
+ */
+@AutoConfiguration(after = CryptoAutoConfiguration.class)
+@ConditionalOnClass(JsonMapper.class)
+@EnableConfigurationProperties(CryptoProperties.class)
+public class JacksonCryptoAutoConfiguration {
+	/**
+	 * 注册加密工厂注册表初始化器。
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效。
+	 * </p>
+	 *
+	 * @param beanFactory Spring 容器
+	 * @param properties  加密相关配置属性
+	 * @return 加密工厂注册表初始化器
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(CryptoFactoryRegistryInitializer.class)
+	@Bean
+	public CryptoFactoryRegistryInitializer cryptoFactoryRegistryInitializer(ListableBeanFactory beanFactory,
+																			 CryptoProperties properties) {
+		return new CryptoFactoryRegistryInitializer(beanFactory, properties);
+	}
+}
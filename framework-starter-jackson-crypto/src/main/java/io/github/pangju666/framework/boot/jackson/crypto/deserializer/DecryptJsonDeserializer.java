@@ -18,6 +18,7 @@ package io.github.pangju666.framework.boot.jackson.crypto.deserializer;
 
 import io.github.pangju666.framework.boot.crypto.enums.Encoding;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyHandle;
 import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
 import io.github.pangju666.framework.boot.jackson.crypto.annotation.DecryptFormat;
 import io.github.pangju666.framework.boot.jackson.crypto.utils.CryptoFactoryRegistry;
@@ -48,8 +49,9 @@ import java.util.*;
  * 按密钥、编码与工厂对输入内容进行解密并转换为目标类型。继承 {@link tools.jackson.databind.ValueDeserializer} 类，可根据反序列化上下文动态创建或复用反序列化器实例。</p>
  *
  * <p>缓存：按“密钥摘要-编码-属性类型-工厂类名”维度缓存已创建的反序列化器实例，属性类型为 {@link JavaType#toString()} 的完整类型表示（集合/映射包含元素/值类型），密钥摘要为 SHA-256。</p>
- * <p>工厂优先级：当注解提供工厂类型时，优先使用该工厂；否则使用算法枚举关联的工厂；工厂获取通过 {@link CryptoFactoryRegistry} 进行 Spring Bean 优先与构造回退。</p>
- * <p>失败处理：上下文化阶段密钥解析或工厂获取失败时返回 {@link NullifyingDeserializer}；解密过程中发生错误时记录日志并返回 {@code null}。</p>
+ * <p>工厂优先级：当注解提供工厂类型时，优先使用该工厂；否则使用算法枚举关联的工厂；工厂获取通过 {@link CryptoFactoryRegistry} 进行 Spring Bean 优先与构造回退。
+ * 注解创建的实例只保存工厂类型，每次反序列化时从注册表获取工厂，因此容器中的工厂注册后（替换此前直接构造的回退实例）已缓存的反序列化器也会立即使用。</p>
+ * <p>失败处理：上下文化阶段密钥解析失败时返回 {@link NullifyingDeserializer}；反序列化阶段工厂获取失败或解密过程中发生错误时记录日志并返回 {@code null}。</p>
  *
  * @author pangju666
  * @see DecryptFormat
@@ -69,11 +71,11 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(DecryptJsonDeserializer.class);
 
 	/**
-	 * 解密密钥（已解析后的实际密钥值）
+	 * 解密密钥句柄（由已解析后的实际密钥值创建），解密时通过句柄获取解密器，避免每次计算密钥摘要
 	 *
-	 * @since 1.0.0
+	 * @since 2.1.0
 	 */
-	private final String key;
+	private final CryptoKeyHandle keyHandle;
 	/**
 	 * 字符串解密输入使用的编码方式
 	 *
@@ -86,6 +88,12 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
     private final CryptoFactory cryptoFactory;
+	/**
+	 * 加密工厂类型，不为 null 时每次反序列化通过 {@link CryptoFactoryRegistry} 获取工厂
+	 *
+	 * @since 2.1.0
+	 */
+	private final Class<? extends CryptoFactory> factoryClass;
     /**
      * 当前属性的 Java 类型（包含集合/映射的元素或值类型）。
      *
@@ -103,8 +111,9 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 */
 	public DecryptJsonDeserializer() {
 		this.cryptoFactory = null;
+		this.factoryClass = null;
 		this.encoding = null;
-		this.key = null;
+		this.keyHandle = null;
 		this.propertyJavaType = null;
 	}
 
@@ -118,8 +127,44 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
 	public DecryptJsonDeserializer(String key, Encoding encoding, JavaType propertyJavaType, CryptoFactory factory) {
-		this.key = key;
+		this(CryptoKeyHandle.of(key), encoding, propertyJavaType, factory);
+	}
+
+	/**
+	 * 指定密钥句柄、工厂、编码及目标/元素类型的构造方法
+	 *
+	 * @param keyHandle        解密密钥句柄
+	 * @param encoding         字符串解密使用的编码方式
+	 * @param propertyJavaType 当前属性的目标Java类型
+	 * @param factory          加密工厂实例
+	 * @since 2.1.0
+	 */
+	public DecryptJsonDeserializer(CryptoKeyHandle keyHandle, Encoding encoding, JavaType propertyJavaType,
+								   CryptoFactory factory) {
+		this.keyHandle = keyHandle;
 		this.cryptoFactory = factory;
+		this.factoryClass = null;
+		this.encoding = encoding;
+		this.propertyJavaType = propertyJavaType;
+	}
+
+	/**
+	 * 指定密钥句柄、工厂类型、编码及目标/元素类型的构造方法
+	 * <p>
+	 * 加密工厂在每次反序列化时通过 {@link CryptoFactoryRegistry#getOrCreate(Class)} 获取。
+	 * </p>
+	 *
+	 * @param keyHandle        解密密钥句柄
+	 * @param encoding         字符串解密使用的编码方式
+	 * @param propertyJavaType 当前属性的目标Java类型
+	 * @param factoryClass     加密工厂类型
+	 * @since 2.1.0
+	 */
+	private DecryptJsonDeserializer(CryptoKeyHandle keyHandle, Encoding encoding, JavaType propertyJavaType,
+									Class<? extends CryptoFactory> factoryClass) {
+		this.keyHandle = keyHandle;
+		this.cryptoFactory = null;
+		this.factoryClass = factoryClass;
 		this.encoding = encoding;
 		this.propertyJavaType = propertyJavaType;
 	}
@@ -128,8 +173,9 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
      * 将输入内容按目标类型解密并反序列化。
      * <p>
      * 根据 {@link #propertyJavaType} 进行类型分派；当前 token 为 JSON null 时直接返回 {@code null}；
-     * 对于 {@link BigDecimal} 与 {@link BigInteger}，兼容字符串输入与数值输入。
-     * 解密失败、密钥非法或十六进制解码失败时，统一记录日志并返回 {@code null}，不向外抛出相关异常。
+     * 对于 {@link BigDecimal} 与 {@link BigInteger}，兼容字符串输入与数值输入；
+     * 集合与映射按 token 流式读取，每读到一个元素即解密并写入目标容器，不会先构建中间的无类型结构。
+     * 无法获取加密工厂、解密失败、密钥非法或十六进制解码失败时，统一记录日志并返回 {@code null}，不向外抛出相关异常。
      * </p>
      *
      * @param p    JSON 输入解析器
@@ -143,11 +189,21 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 			return p.currentValue();
 		}
 		
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		// 读取任何内容前先获取一次工厂，失败时跳过整个值（包括数组或对象）并返回 null
+		try {
+			getCryptoFactory();
+		} catch (IllegalStateException e) {
+			LOGGER.error("无法获取或创建 CryptoFactory, class: {}", factoryClass.getName(), e);
+			p.skipChildren();
+			return null;
+		}
+
 		Class<?> targetType = propertyJavaType.getRawClass();
 		try {
-			if (p.currentToken() == JsonToken.VALUE_NULL) {
-				return null;
-			} else if (targetType == byte[].class) {
+			if (targetType == byte[].class) {
 				return readBytes(p.getBinaryValue());
 			} else if (targetType == String.class) {
 				return readString(p.getString());
@@ -170,15 +226,11 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 				}
 				return readBigInteger(p.getBigIntegerValue());
 			} else if (propertyJavaType instanceof CollectionType collectionType) {
-				if (targetType == List.class) {
-					return readList(p.readValueAs(List.class), collectionType);
-				} else if (targetType == Set.class) {
-					return readSet(p.readValueAs(Set.class), collectionType);
-				} else if (targetType == Collection.class) {
-					return readList(p.readValueAs(Collection.class), collectionType);
+				if (targetType == List.class || targetType == Set.class || targetType == Collection.class) {
+					return readCollection(p, context, collectionType);
 				}
 			} else if (targetType == Map.class && propertyJavaType instanceof MapType mapType) {
-				return readMap(p.readValueAs(Map.class), mapType);
+				return readMap(p, context, mapType);
 			}
 			return p.currentValue();
 		} catch (EncryptionOperationNotPossibleException e) {
@@ -246,7 +298,7 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
 	private byte[] readBytes(byte[] value) {
-		return CryptoUtils.decrypt(cryptoFactory, value, key);
+		return CryptoUtils.decrypt(getCryptoFactory(), value, keyHandle);
 	}
 
 	/**
@@ -258,7 +310,7 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
 	private String readString(String value) throws DecoderException {
-		return CryptoUtils.decryptString(cryptoFactory, value, key, encoding);
+		return CryptoUtils.decryptString(getCryptoFactory(), value, keyHandle, encoding);
 	}
 
 	/**
@@ -269,7 +321,7 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
 	private BigInteger readBigInteger(BigInteger value) {
-		return CryptoUtils.decryptBigInteger(cryptoFactory, value, key);
+		return CryptoUtils.decryptBigInteger(getCryptoFactory(), value, keyHandle);
 	}
 
 	/**
@@ -280,75 +332,76 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	 * @since 1.0.0
 	 */
 	private BigDecimal readBigDecimal(BigDecimal value) {
-		return CryptoUtils.decryptBigDecimal(cryptoFactory, value, key);
+		return CryptoUtils.decryptBigDecimal(getCryptoFactory(), value, keyHandle);
 	}
 
-    /**
-     * 分派解密并返回对应类型的值。
-     * <p>
-     * 基础类型支持：<code>byte[]</code>、{@link String}、{@link BigDecimal}、{@link BigInteger}。
-     * 当数值输入为字符串时，先进行类型转换再解密。
-     * </p>
-     * <p>
-     * 容器类型支持：当 {@code javaType} 为 {@link CollectionType} 或 {@link MapType} 时，
-     * 按元素/值类型分别调用 {@link #readList(Collection, CollectionType)}、{@link #readSet(Collection, CollectionType)}
-     * 与 {@link #readMap(Map, MapType)} 进行递归解密；映射键类型需为 {@code String}。
-     * </p>
-     * <p>
-     * 失败策略：解密失败、密钥非法或十六进制解码失败时记录日志并返回 {@code null}。
-     * </p>
-     *
-     * @param value    元素或容器的原始值
-     * @param javaType 该值对应的 {@link JavaType}，用于判定目标/元素/值类型
-     * @return 解密后的值；在不支持或失败时返回原值或 {@code null}
-     * @since 1.0.0
-     */
-    @SuppressWarnings("rawtypes")
-    private Object readValue(Object value, JavaType javaType) {
+	/**
+	 * 从当前 token 读取一个元素并按类型解密。
+	 * <p>
+	 * 基础类型支持：<code>byte[]</code>（Base64 字符串）、{@link String}、{@link BigDecimal}、{@link BigInteger}，
+	 * 数值类型兼容字符串输入与数值输入。
+	 * </p>
+	 * <p>
+	 * 容器类型支持：{@code List}/{@code Set}/{@code Collection} 与键类型为 {@code String} 的 {@code Map}，
+	 * 分别调用 {@link #readCollection(JsonParser, DeserializationContext, CollectionType)} 与
+	 * {@link #readMap(JsonParser, DeserializationContext, MapType)} 递归读取；其他类型交由 Jackson 按目标类型反序列化。
+	 * </p>
+	 * <p>
+	 * 失败策略：解密失败、密钥非法或解码失败时记录日志并返回 {@code null}，解析器仍会前进到下一个元素；
+	 * 基础类型遇到数组或对象 token 时交由 {@link DeserializationContext#handleUnexpectedToken(JavaType, JsonParser)} 处理（默认抛出异常）。
+	 * </p>
+	 *
+	 * @param p        JSON 输入解析器，当前 token 为元素的起始 token
+	 * @param context  反序列化上下文
+	 * @param javaType 元素对应的 {@link JavaType}
+	 * @return 解密后的值；JSON null 或失败时返回 {@code null}
+	 * @since 1.0.0
+	 */
+	private Object readValue(JsonParser p, DeserializationContext context, JavaType javaType) {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+
 		Class<?> targetType = javaType.getRawClass();
+		// 基础类型只接受标量 token，数组或对象交由上下文按类型不匹配处理，避免读取后解析器位置错乱
+		if ((targetType == byte[].class || targetType == String.class || targetType == BigDecimal.class ||
+			targetType == BigInteger.class) && !p.currentToken().isScalarValue()) {
+			return context.handleUnexpectedToken(javaType, p);
+		}
 		try {
-			if (Objects.isNull(value)) {
-				return null;
-			} else if (targetType == byte[].class) {
-				if (value instanceof String string) {
-					return readBytes(Base64.decodeBase64(string));
+			if (targetType == byte[].class) {
+				if (p.currentToken() == JsonToken.VALUE_STRING) {
+					return readBytes(Base64.decodeBase64(p.getString()));
 				}
-				return readBytes((byte[]) value);
+				return readBytes(p.getBinaryValue());
 			} else if (targetType == String.class) {
-				return readString((String) value);
+				return readString(p.getString());
 			} else if (targetType == BigDecimal.class) {
-				if (value instanceof String string) {
+				if (p.currentToken() == JsonToken.VALUE_STRING) {
 					try {
-						return readBigDecimal(new BigDecimal(string));
+						return readBigDecimal(new BigDecimal(p.getString()));
 					} catch (NumberFormatException ignored) {
 						return null;
 					}
-				} else if (value instanceof BigInteger bigInteger) {
-					return readBigDecimal(new BigDecimal(bigInteger.toString()));
 				}
-				return readBigDecimal((BigDecimal) value);
+				return readBigDecimal(p.getDecimalValue());
 			} else if (targetType == BigInteger.class) {
-				if (value instanceof String string) {
+				if (p.currentToken() == JsonToken.VALUE_STRING) {
 					try {
-						return readBigInteger(new BigInteger(string));
+						return readBigInteger(new BigInteger(p.getString()));
 					} catch (NumberFormatException ignored) {
 						return null;
 					}
 				}
-				return readBigInteger((BigInteger) value);
-			} else if (javaType instanceof CollectionType collectionType) {
-				if (targetType == List.class || targetType == Collection.class) {
-					return readList((List) value, collectionType);
-				} else if (targetType == Set.class) {
-					return readSet((Set) value, collectionType);
-				}
-			} else if (targetType == Map.class && javaType instanceof MapType mapType) {
-				Class<?> keyClass = mapType.getKeyType().getRawClass();
-				if (keyClass == String.class) {
-					return readMap((Map) value, mapType);
-				}
+				return readBigInteger(p.getBigIntegerValue());
+			} else if (javaType instanceof CollectionType collectionType &&
+				(targetType == List.class || targetType == Set.class || targetType == Collection.class)) {
+				return readCollection(p, context, collectionType);
+			} else if (targetType == Map.class && javaType instanceof MapType mapType &&
+				mapType.getKeyType().getRawClass() == String.class) {
+				return readMap(p, context, mapType);
 			}
-			return value;
+			return context.readValue(p, javaType);
 		} catch (EncryptionOperationNotPossibleException e) {
 			LOGGER.error("数据解密失败", e);
 			return null;
@@ -359,59 +412,61 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 	}
 
 	/**
-	 * 解密集合并返回列表。
+	 * 流式读取 JSON 数组并解密为集合。
 	 *
-	 * <p>行为：按 {@link CollectionType#getContentType()} 的元素类型递归调用 {@link #readValue(Object, JavaType)} 进行解密；
-	 * 元素为 {@code null} 时保留 {@code null}；失败时记录日志并写入 {@code null}。</p>
+	 * <p>行为：逐个读取数组元素，按 {@link CollectionType#getContentType()} 的元素类型调用
+	 * {@link #readValue(JsonParser, DeserializationContext, JavaType)} 解密后直接写入目标集合；
+	 * {@code Set} 返回 {@link HashSet}，其他返回 {@link ArrayList}。元素为 {@code null} 或解密失败时写入 {@code null}。</p>
 	 *
-	 * @param values 集合内容
-	 * @return 解密后的列表（与输入大小一致）
-	 * @since 1.0.0
+	 * @param p        JSON 输入解析器，当前 token 应为 {@link JsonToken#START_ARRAY}
+	 * @param context  反序列化上下文
+	 * @param javaType 集合类型
+	 * @return 解密后的集合
+	 * @since 2.1.0
 	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private List readList(Collection values, CollectionType javaType) {
-		List result = new ArrayList<>(values.size());
-		for (Object value : values) {
-			result.add(readValue(value, javaType.getContentType()));
+	private Collection readCollection(JsonParser p, DeserializationContext context, CollectionType javaType) {
+		if (!p.isExpectedStartArrayToken()) {
+			return (Collection) context.handleUnexpectedToken(javaType, p);
 		}
-		return result;
-	}
 
-	/**
-	 * 解密集合并返回集合（Set）。
-	 *
-	 * <p>行为：按 {@link CollectionType#getContentType()} 的元素类型递归调用 {@link #readValue(Object, JavaType)} 进行解密；
-	 * 元素为 {@code null} 时保留 {@code null}；失败时记录日志并写入 {@code null}。</p>
-	 *
-	 * @param values 集合内容
-	 * @return 解密后的集合（与输入大小一致）
-	 * @since 1.0.0
-	 */
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private Set readSet(Collection values, CollectionType javaType) {
-		Set result = new HashSet(values.size());
-		for (Object value : values) {
-			result.add(readValue(value, javaType.getContentType()));
+		JavaType contentType = javaType.getContentType();
+		Collection result = javaType.getRawClass() == Set.class ? new HashSet<>() : new ArrayList<>();
+		while (p.nextToken() != JsonToken.END_ARRAY) {
+			result.add(readValue(p, context, contentType));
 		}
 		return result;
 	}
 
 	/**
-	 * 解密映射并返回新的映射。
+	 * 流式读取 JSON 对象并解密为映射。
 	 *
-	 * <p>行为：不修改键；按 {@link MapType#getContentType()} 的值类型递归调用 {@link #readValue(Object, JavaType)} 进行解密并写入新映射。
+	 * <p>行为：不修改键；逐个读取属性值，按 {@link MapType#getContentType()} 的值类型调用
+	 * {@link #readValue(JsonParser, DeserializationContext, JavaType)} 解密后直接写入新映射。
 	 * 当值为 {@code null} 或解密失败时写入 {@code null}。</p>
 	 *
-	 * @param value 原映射内容
+	 * @param p        JSON 输入解析器，当前 token 应为 {@link JsonToken#START_OBJECT} 或 {@link JsonToken#PROPERTY_NAME}
+	 * @param context  反序列化上下文
+	 * @param javaType 映射类型
 	 * @return 解密后的映射（键保持原样）
 	 * @since 1.0.0
 	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private Map readMap(Map value, MapType javaType) {
-		Map result = new HashMap<>(value.size());
-		for (Object o : value.entrySet()) {
-			Map.Entry entry = (Map.Entry) o;
-			result.put(entry.getKey(), readValue(entry.getValue(), javaType.getContentType()));
+	private Map readMap(JsonParser p, DeserializationContext context, MapType javaType) {
+		String name;
+		if (p.isExpectedStartObjectToken()) {
+			name = p.nextName();
+		} else if (p.currentToken() == JsonToken.PROPERTY_NAME) {
+			name = p.currentName();
+		} else {
+			return (Map) context.handleUnexpectedToken(javaType, p);
+		}
+
+		JavaType contentType = javaType.getContentType();
+		Map result = new HashMap<>();
+		for (; Objects.nonNull(name); name = p.nextName()) {
+			p.nextToken();
+			result.put(name, readValue(p, context, contentType));
 		}
 		return result;
 	}
@@ -421,8 +476,8 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
      *
      * <p>缓存键：{@code sha256Hex(key)-encoding-javaType-factoryClassName}；按键复用实例。</p>
      * <p>工厂优先级：当注解提供工厂类型时，优先使用该工厂；否则使用算法枚举关联的工厂。</p>
-     * <p>工厂获取：通过 {@link CryptoFactoryRegistry#getOrCreate(Class)} 优先查找 Spring Bean，不存在则构造实例。</p>
-     * <p>失败处理：密钥无法解析或工厂 Bean 获取失败时返回 {@link NullifyingDeserializer#instance}。</p>
+     * <p>工厂获取：实例只保存工厂类型，反序列化时通过 {@link CryptoFactoryRegistry#getOrCreate(Class)} 优先查找 Spring Bean，不存在则构造实例。</p>
+     * <p>失败处理：密钥无法解析时返回 {@link NullifyingDeserializer#instance}。</p>
      *
      * @param annotation  解密格式注解
      * @param targetType  当前属性的 {@link JavaType}
@@ -430,9 +485,9 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
      * @since 1.0.0
      */
 	private ValueDeserializer<?> getDeserializer(DecryptFormat annotation, JavaType targetType) {
-		String cryptoKey;
+		CryptoKeyHandle keyHandle;
 		try {
-			cryptoKey = CryptoUtils.getKey(annotation.key());
+			keyHandle = CryptoKeyHandle.of(CryptoUtils.getKey(annotation.key()));
 		} catch (IllegalArgumentException e) {
 			LOGGER.error("无效的密钥，注解属性值：{}", annotation.key());
 			return NullifyingDeserializer.instance;
@@ -445,13 +500,21 @@ public final class DecryptJsonDeserializer extends ValueDeserializer<Object> {
 			factoryClass = annotation.algorithm().getFactoryClass();
 		}
 
-		try {
-			return new DecryptJsonDeserializer(cryptoKey, annotation.encoding(), targetType,
-					CryptoFactoryRegistry.getOrCreate(factoryClass));
-		} catch (IllegalStateException e) {
-			LOGGER.error("无法获取或创建 CryptoFactory, class: {}", factoryClass.getName(), e);
-			return NullifyingDeserializer.instance;
-		}
+		return new DecryptJsonDeserializer(keyHandle, annotation.encoding(), targetType, factoryClass);
+	}
+
+	/**
+	 * 获取加密工厂
+	 * <p>
+	 * 由注解创建的实例从 {@link CryptoFactoryRegistry} 获取（命中缓存时仅为一次映射查找），否则返回构造时传入的工厂。
+	 * </p>
+	 *
+	 * @return 加密工厂
+	 * @throws IllegalStateException 当注册表无法获取或创建工厂时抛出
+	 * @since 2.1.0
+	 */
+	private CryptoFactory getCryptoFactory() {
+		return Objects.nonNull(factoryClass) ? CryptoFactoryRegistry.getOrCreate(factoryClass) : cryptoFactory;
 	}
 
 	/**
@@ -18,6 +18,7 @@ package io.github.pangju666.framework.boot.jackson.crypto.serializer;
 
 import io.github.pangju666.framework.boot.crypto.enums.Encoding;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.CryptoKeyHandle;
 import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
 import io.github.pangju666.framework.boot.jackson.crypto.annotation.EncryptFormat;
 import io.github.pangju666.framework.boot.jackson.crypto.utils.CryptoFactoryRegistry;
@@ -29,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import tools.jackson.core.JacksonException;
 import tools.jackson.core.JsonGenerator;
 import tools.jackson.databind.BeanProperty;
+import tools.jackson.databind.JavaType;
 import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.ser.std.NullSerializer;
@@ -45,8 +47,12 @@ import java.util.Objects;
  * 按密钥、编码与工厂对输出内容进行加密。继承 {@link ValueSerializer}类，可根据属性上下文动态创建或复用序列化器实例。</p>
  *
  * <p>缓存：按“密钥摘要-编码-工厂类名”维度缓存已创建的序列化器实例，密钥摘要为 SHA-256。</p>
- * <p>工厂优先级：当注解提供工厂类型时，优先使用该工厂；否则使用算法枚举关联的工厂；工厂获取通过 {@link CryptoFactoryRegistry} 进行 Spring Bean 优先与构造回退。</p>
- * <p>失败处理：上下文化阶段密钥解析或工厂获取失败时返回 {@link NullSerializer}；序列化阶段加密失败记录日志并写出 JSON null。</p>
+ * <p>工厂优先级：当注解提供工厂类型时，优先使用该工厂；否则使用算法枚举关联的工厂；工厂获取通过 {@link CryptoFactoryRegistry} 进行 Spring Bean 优先与构造回退。
+ * 注解创建的实例只保存工厂类型，每次序列化时从注册表获取工厂，因此容器中的工厂注册后（替换此前直接构造的回退实例）已缓存的序列化器也会立即使用。</p>
+ * <p>失败处理：上下文化阶段密钥解析失败时返回 {@link NullSerializer}；序列化阶段工厂获取失败或加密失败记录日志并写出 JSON null。</p>
+ * <p>类型特化：上下文化阶段按属性声明类型（如 {@code List<String>}、{@code Map<String, BigDecimal>}）预先选定写出逻辑，
+ * 集合与映射的元素写出逻辑也只解析一次，序列化时不再逐个值进行类型判断；声明类型无法确定时（如 {@code Object}、
+ * {@code List<Object>}）回退为按运行时类型分派。</p>
  *
  * @author pangju666
  * @see EncryptFormat
@@ -65,11 +71,11 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(EncryptJsonSerializer.class);
 
 	/**
-	 * 加密密钥（已解析后的实际密钥值）
+	 * 加密密钥句柄（由已解析后的实际密钥值创建），序列化时通过句柄获取加密器，避免每次计算密钥摘要
 	 *
-	 * @since 1.0.0
+	 * @since 2.1.0
 	 */
-	private final String key;
+	private final CryptoKeyHandle keyHandle;
 	/**
 	 * 字符串加密输出使用的编码方式
 	 *
@@ -82,6 +88,18 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	 * @since 1.0.0
 	 */
 	private final CryptoFactory cryptoFactory;
+	/**
+	 * 加密工厂类型，不为 null 时每次序列化通过 {@link CryptoFactoryRegistry} 获取工厂
+	 *
+	 * @since 2.1.0
+	 */
+	private final Class<? extends CryptoFactory> factoryClass;
+	/**
+	 * 按属性声明类型选定的值写出逻辑
+	 *
+	 * @since 2.1.0
+	 */
+	private final ValueWriter valueWriter;
 
 	/**
 	 * 默认构造方法
@@ -93,8 +111,10 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	 */
 	public EncryptJsonSerializer() {
 		this.cryptoFactory = null;
+		this.factoryClass = null;
 		this.encoding = null;
-		this.key = null;
+		this.keyHandle = null;
+		this.valueWriter = null;
 	}
 
 	/**
@@ -106,15 +126,67 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	 * @since 1.0.0
 	 */
 	public EncryptJsonSerializer(String key, Encoding encoding, CryptoFactory cryptoFactory) {
-		this.key = key;
+		this(CryptoKeyHandle.of(key), encoding, cryptoFactory);
+	}
+
+	/**
+	 * 指定密钥句柄、编码与加密工厂的构造方法
+	 *
+	 * @param keyHandle     加密密钥句柄
+	 * @param encoding      字符串加密输出的编码方式
+	 * @param cryptoFactory 加密工厂实例
+	 * @since 2.1.0
+	 */
+	public EncryptJsonSerializer(CryptoKeyHandle keyHandle, Encoding encoding, CryptoFactory cryptoFactory) {
+		this(keyHandle, encoding, cryptoFactory, null);
+	}
+
+	/**
+	 * 指定密钥句柄、编码、加密工厂与值声明类型的构造方法
+	 * <p>
+	 * 按声明类型预先选定写出逻辑；声明类型为 {@code null} 或无法特化时按运行时类型分派。
+	 * </p>
+	 *
+	 * @param keyHandle     加密密钥句柄
+	 * @param encoding      字符串加密输出的编码方式
+	 * @param cryptoFactory 加密工厂实例
+	 * @param valueType     值的声明类型（可为 null）
+	 * @since 2.1.0
+	 */
+	public EncryptJsonSerializer(CryptoKeyHandle keyHandle, Encoding encoding, CryptoFactory cryptoFactory,
+								 JavaType valueType) {
+		this.keyHandle = keyHandle;
 		this.cryptoFactory = cryptoFactory;
+		this.factoryClass = null;
 		this.encoding = encoding;
+		this.valueWriter = createValueWriter(valueType);
+	}
+
+	/**
+	 * 指定密钥句柄、编码、加密工厂类型与值声明类型的构造方法
+	 * <p>
+	 * 加密工厂在每次序列化时通过 {@link CryptoFactoryRegistry#getOrCreate(Class)} 获取。
+	 * </p>
+	 *
+	 * @param keyHandle    加密密钥句柄
+	 * @param encoding     字符串加密输出的编码方式
+	 * @param factoryClass 加密工厂类型
+	 * @param valueType    值的声明类型（可为 null）
+	 * @since 2.1.0
+	 */
+	private EncryptJsonSerializer(CryptoKeyHandle keyHandle, Encoding encoding,
+								  Class<? extends CryptoFactory> factoryClass, JavaType valueType) {
+		this.keyHandle = keyHandle;
+		this.cryptoFactory = null;
+		this.factoryClass = factoryClass;
+		this.encoding = encoding;
+		this.valueWriter = createValueWriter(valueType);
 	}
 
 	/**
 	 * 将输入对象加密并写入 JSON
 	 * <p>
-	 * 根据对象的运行时类型进行分派处理并加密输出。若加密过程中发生异常（如密钥非法或操作不可执行），
+	 * 使用上下文化阶段按声明类型选定的写出逻辑加密输出。若无法获取加密工厂或加密过程中发生异常（如密钥非法或操作不可执行），
 	 * 记录错误日志并写入 JSON null，以保证序列化流程不中断。
 	 * </p>
 	 *
@@ -125,12 +197,20 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	 */
 	@Override
 	public void serialize(Object value, JsonGenerator gen, SerializationContext context) throws JacksonException {
+		if (Objects.isNull(valueWriter)) {
+			gen.writePOJO(value);
+			return;
+		}
+		// 写出任何内容前先获取一次工厂，失败时整体写出 JSON null，避免输出不完整的数组或对象
 		try {
-			if (Objects.isNull(cryptoFactory)) {
-				gen.writePOJO(value);
-			} else {
-				writeValue(value, gen);
-			}
+			getCryptoFactory();
+		} catch (IllegalStateException e) {
+			LOGGER.error("无法获取或创建 CryptoFactory, class: {}", factoryClass.getName(), e);
+			gen.writeNull();
+			return;
+		}
+		try {
+			valueWriter.write(value, gen);
 		} catch (EncryptionOperationNotPossibleException e) {
 			LOGGER.error("数据加密失败", e);
 			gen.writeNull();
@@ -144,10 +224,10 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
      * <ul>
      *   <li>属性为空时返回当前实例。</li>
      *   <li>未标注注解时，使用默认值序列化器。</li>
-     *   <li>密钥解析失败记录日志并返回 {@link NullSerializer}。</li>
+     *   <li>密钥解析为 {@link CryptoKeyHandle} 并由实例持有；解析失败记录日志并返回 {@link NullSerializer}。</li>
      *   <li>优先使用注解指定的工厂类型；未提供时使用算法枚举关联的工厂。</li>
-     *   <li>工厂获取通过 {@link CryptoFactoryRegistry} 完成，失败时返回 {@link NullSerializer}。</li>
-     *   <li>缓存键：{@code sha256Hex(key)-encoding-factoryClassName}；按键复用实例。</li>
+     *   <li>实例只保存工厂类型，工厂在序列化时通过 {@link CryptoFactoryRegistry} 获取。</li>
+     *   <li>按属性声明类型选定写出逻辑，见 {@link #createValueWriter(JavaType)}。</li>
      * </ul>
      *
      * @param context     序列化上下文
@@ -166,9 +246,9 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 			return context.findContentValueSerializer(property.getType(), property);
 		}
 
-		String cryptoKey;
+		CryptoKeyHandle keyHandle;
 		try {
-			cryptoKey = CryptoUtils.getKey(annotation.key());
+			keyHandle = CryptoKeyHandle.of(CryptoUtils.getKey(annotation.key()));
 		} catch (IllegalArgumentException e) {
 			LOGGER.error("无效的密钥，注解属性值：{}", annotation.key());
 			return NullSerializer.instance;
@@ -181,12 +261,21 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 			factoryClass = annotation.algorithm().getFactoryClass();
 		}
 
-		try {
-			return new EncryptJsonSerializer(cryptoKey, annotation.encoding(), CryptoFactoryRegistry.getOrCreate(factoryClass));
-		} catch (IllegalStateException e) {
-			LOGGER.error("无法获取或创建 CryptoFactory, class: {}", factoryClass.getName(), e);
-			return NullSerializer.instance;
-		}
+		return new EncryptJsonSerializer(keyHandle, annotation.encoding(), factoryClass, property.getType());
+	}
+
+	/**
+	 * 获取加密工厂
+	 * <p>
+	 * 由注解创建的实例从 {@link CryptoFactoryRegistry} 获取（命中缓存时仅为一次映射查找），否则返回构造时传入的工厂。
+	 * </p>
+	 *
+	 * @return 加密工厂
+	 * @throws IllegalStateException 当注册表无法获取或创建工厂时抛出
+	 * @since 2.1.0
+	 */
+	private CryptoFactory getCryptoFactory() {
+		return Objects.nonNull(factoryClass) ? CryptoFactoryRegistry.getOrCreate(factoryClass) : cryptoFactory;
 	}
 
 	/**
@@ -197,7 +286,7 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	 * @since 1.0.0
 	 */
 	private void writeBytes(byte[] value, JsonGenerator gen) {
-		gen.writeBinary(CryptoUtils.encrypt(cryptoFactory, value, key));
+		gen.writeBinary(CryptoUtils.encrypt(getCryptoFactory(), value, keyHandle));
 	}
 
 	/**
@@ -214,7 +303,7 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 		if (StringUtils.isBlank(value)) {
 			gen.writeString(value.toString());
 		} else {
-			gen.writeString(CryptoUtils.encryptString(cryptoFactory, value.toString(), key, encoding));
+			gen.writeString(CryptoUtils.encryptString(getCryptoFactory(), value.toString(), keyHandle, encoding));
 		}
 	}
 
@@ -232,8 +321,8 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 		if (Objects.isNull(value)) {
 			gen.writeNull();
 		} else {
-			gen.writeString(Objects.requireNonNull(CryptoUtils.encryptBigInteger(cryptoFactory,
-				value, key)).toString());
+			gen.writeString(Objects.requireNonNull(CryptoUtils.encryptBigInteger(getCryptoFactory(),
+				value, keyHandle)).toString());
 		}
 	}
 
@@ -251,8 +340,8 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 		if (Objects.isNull(value)) {
 			gen.writeNull();
 		} else {
-			gen.writeString(Objects.requireNonNull(CryptoUtils.encryptBigDecimal(cryptoFactory,
-				value, key)).toPlainString());
+			gen.writeString(Objects.requireNonNull(CryptoUtils.encryptBigDecimal(getCryptoFactory(),
+				value, keyHandle)).toPlainString());
 		}
 	}
 
@@ -273,9 +362,9 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 		} else if (value instanceof CharSequence charSequence) {
 			writeString(charSequence, gen);
 		} else if (value instanceof Iterable<?> iterable) {
-			writeIterable(iterable, gen);
+			writeIterable(iterable, this::writeValue, gen);
 		} else if (value instanceof Map<?, ?> map) {
-			writeMap(map, gen);
+			writeMap(map, this::writeValue, gen);
 		} else if (value instanceof BigDecimal bigDecimal) {
 			writeBigDecimal(bigDecimal, gen);
 		} else if (value instanceof BigInteger bigInteger) {
@@ -288,17 +377,22 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	/**
 	 * 加密并写出集合类型
 	 * <p>
-	 * 以 JSON 数组的形式输出集合内容，并对其中的每个元素进行递归分派加密。
+	 * 以 JSON 数组的形式输出集合内容，null 元素输出 JSON null，其余元素使用给定的写出逻辑加密。
 	 * </p>
 	 *
-	 * @param values 集合内容
-	 * @param gen    JSON 输出生成器
+	 * @param values        集合内容
+	 * @param elementWriter 元素写出逻辑
+	 * @param gen           JSON 输出生成器
 	 * @since 1.0.0
 	 */
-	private void writeIterable(Iterable<?> values, JsonGenerator gen) {
+	private void writeIterable(Iterable<?> values, ValueWriter elementWriter, JsonGenerator gen) {
 		gen.writeStartArray();
 		for (Object value : values) {
-			writeValue(value, gen);
+			if (Objects.isNull(value)) {
+				gen.writeNull();
+			} else {
+				elementWriter.write(value, gen);
+			}
 		}
 		gen.writeEndArray();
 	}
@@ -306,38 +400,82 @@ public final class EncryptJsonSerializer extends ValueSerializer<Object> {
 	/**
 	 * 加密并写出映射类型
 	 * <p>
-	 * 以 JSON 对象形式输出映射内容，根据值的类型进行分派加密后写出。
+	 * 以 JSON 对象形式输出映射内容，null 值输出 JSON null，其余值使用给定的写出逻辑加密。
 	 * </p>
 	 *
-	 * @param value 映射内容
-	 * @param gen   JSON 输出生成器
+	 * @param value            映射内容
+	 * @param entryValueWriter 映射值写出逻辑
+	 * @param gen              JSON 输出生成器
 	 * @since 1.0.0
 	 */
-	private void writeMap(Map<?, ?> value, JsonGenerator gen) {
+	private void writeMap(Map<?, ?> value, ValueWriter entryValueWriter, JsonGenerator gen) {
 		gen.writeStartObject();
 		for (var entry : value.entrySet()) {
-			if (entry.getValue() instanceof byte[] bytes) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeBytes(bytes, gen);
-			} else if (entry.getValue() instanceof CharSequence charSequence) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeString(charSequence, gen);
-			} else if (entry.getValue() instanceof Iterable<?> iterable) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeIterable(iterable, gen);
-			} else if (entry.getValue() instanceof Map<?, ?> map) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeMap(map, gen);
-			} else if (entry.getValue() instanceof BigDecimal bigDecimal) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeBigDecimal(bigDecimal, gen);
-			} else if (entry.getValue() instanceof BigInteger bigInteger) {
-				gen.writeName(Objects.toString(entry.getKey()));
-				writeBigInteger(bigInteger, gen);
+			gen.writeName(Objects.toString(entry.getKey()));
+			if (Objects.isNull(entry.getValue())) {
+				gen.writeNull();
 			} else {
-				gen.writePOJOProperty(Objects.toString(entry.getKey()), entry.getValue());
+				entryValueWriter.write(entry.getValue(), gen);
 			}
 		}
 		gen.writeEndObject();
 	}
+
+	/**
+	 * 按声明类型选定写出逻辑
+	 * <p>
+	 * <code>byte[]</code>、{@link CharSequence}、{@link BigDecimal}、{@link BigInteger} 直接绑定对应的加密写出方法；
+	 * {@link java.util.Collection} 与 {@link Map} 按元素（值）的声明类型递归选定元素写出逻辑。
+	 * 其他声明类型（如 {@code Object}、{@code Number}）的运行时值仍可能是受支持的类型，回退为 {@link #writeValue} 按运行时类型分派。
+	 * </p>
+	 *
+	 * @param type 声明类型（可为 null）
+	 * @return 写出逻辑
+	 * @since 2.1.0
+	 */
+	private ValueWriter createValueWriter(JavaType type) {
+		if (Objects.isNull(type)) {
+			return this::writeValue;
+		}
+
+		Class<?> rawClass = type.getRawClass();
+		if (rawClass == byte[].class) {
+			return (value, gen) -> writeBytes((byte[]) value, gen);
+		}
+		if (CharSequence.class.isAssignableFrom(rawClass)) {
+			return (value, gen) -> writeString((CharSequence) value, gen);
+		}
+		if (BigDecimal.class.isAssignableFrom(rawClass)) {
+			return (value, gen) -> writeBigDecimal((BigDecimal) value, gen);
+		}
+		if (BigInteger.class.isAssignableFrom(rawClass)) {
+			return (value, gen) -> writeBigInteger((BigInteger) value, gen);
+		}
+		if (type.isCollectionLikeType() && Iterable.class.isAssignableFrom(rawClass)) {
+			ValueWriter elementWriter = createValueWriter(type.getContentType());
+			return (value, gen) -> writeIterable((Iterable<?>) value, elementWriter, gen);
+		}
+		if (type.isMapLikeType() && Map.class.isAssignableFrom(rawClass)) {
+			ValueWriter entryValueWriter = createValueWriter(type.getContentType());
+			return (value, gen) -> writeMap((Map<?, ?>) value, entryValueWriter, gen);
+		}
+		return this::writeValue;
+	}
+
+	/**
+	 * 值写出逻辑
+	 *
+	 * @since 2.1.0
+	 */
+	@FunctionalInterface
+	private interface ValueWriter {
+		/**
+		 * 加密并写出非 null 值
+		 *
+		 * @param value 待写出的值
+		 * @param gen   JSON 输出生成器
+		 * @since 2.1.0
+		 */
+		void write(Object value, JsonGenerator gen);
+	}
 }
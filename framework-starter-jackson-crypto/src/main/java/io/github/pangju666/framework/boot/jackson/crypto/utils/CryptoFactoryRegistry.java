@@ -16,20 +16,31 @@
 
 package io.github.pangju666.framework.boot.jackson.crypto.utils;
 
+import io.github.pangju666.commons.crypto.transformation.impl.RSAOEAPWithSHA256Transformation;
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoProperties;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESSIVCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory;
+import io.github.pangju666.framework.boot.crypto.factory.impl.RSAEnvelopeCryptoFactory;
 import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory;
 import io.github.pangju666.framework.boot.jackson.crypto.deserializer.DecryptJsonDeserializer;
 import io.github.pangju666.framework.boot.jackson.crypto.serializer.EncryptJsonSerializer;
+import io.github.pangju666.framework.boot.jackson.crypto.autoconfigure.CryptoFactoryRegistryInitializer;
 import io.github.pangju666.framework.boot.spring.StaticSpringContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -40,10 +51,17 @@ import java.util.concurrent.ConcurrentHashMap;
  * </p>
  * <p>
  * 用途：在 Jackson 的加/解密组件中获取加密工厂实例，供
- * {@link EncryptJsonSerializer}与 {@link DecryptJsonDeserializer}在上下文化阶段选择并复用具体的工厂实现。
+ * {@link EncryptJsonSerializer}与 {@link DecryptJsonDeserializer}在加/解密时按工厂类型获取具体的工厂实现，
+ * 因此通过 {@link #registerManaged(CryptoFactory)} 替换回退实例后，已缓存的序列化器与反序列化器也会立即使用新实例。
  * </p>
  *
- * <p>特点：线程安全、惰性创建；对常见实现（AES、RSA、Strong、Basic）使用显式构造，其他实现通过反射调用无参构造。</p>
+ * <p>特点：线程安全、惰性创建；对内置实现（AES、RSA、Strong、Basic、AES‑GCM、RSA 信封）使用显式构造，其他实现通过反射调用无参构造。</p>
+ * <p>
+ * Spring 托管：由 {@link CryptoFactoryRegistryInitializer} 在容器初始化阶段调用 {@link #configure(BeanFactory, CryptoProperties)}
+ * 绑定容器与配置，使早于 {@link StaticSpringContext} 就绪的序列化也能获取容器中的工厂；
+ * 直接构造时按 {@link CryptoProperties} 设置缓存规模与 RSA 加密器池大小，并可通过 {@link CryptoProperties#isFactoryFallbackEnabled()} 禁止直接构造；
+ * 容器中已定义同类型 Bean 但暂时无法获取（如仍在创建中）时从不直接构造，避免产生与配置不一致的重复工厂实例。
+ * </p>
  *
  * @author pangju666
  * @see CryptoFactory
@@ -51,6 +69,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * @since 1.0.0
  */
 public final class CryptoFactoryRegistry {
+	/**
+	 * 日志记录器
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(CryptoFactoryRegistry.class);
+
     /**
      * 工厂实例缓存
      * <p>
@@ -60,34 +85,84 @@ public final class CryptoFactoryRegistry {
      * @since 1.0.0
      */
     private static final Map<String, CryptoFactory> CRYPTO_FACTORY_MAP = new ConcurrentHashMap<>(4);
-	
+	/**
+	 * 通过直接构造创建的工厂实例，容器中的同类型 Bean 注册时将替换这些实例。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Set<CryptoFactory> FALLBACK_FACTORIES = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 绑定的 Spring 容器，为 {@code null} 时使用 {@link StaticSpringContext#getBeanFactory()}。
+	 *
+	 * @since 2.1.0
+	 */
+	private static volatile BeanFactory beanFactory;
+	/**
+	 * 加密模块配置属性，为 {@code null} 时使用默认缓存规模并允许直接构造。
+	 *
+	 * @since 2.1.0
+	 */
+	private static volatile CryptoProperties cryptoProperties;
+
     private CryptoFactoryRegistry() {}
 
+	/**
+	 * 绑定 Spring 容器与加密模块配置。
+	 * <p>
+	 * 绑定后 {@link #getOrCreate(Class)} 优先从该容器获取工厂 Bean，不再依赖 {@link StaticSpringContext} 是否就绪；
+	 * 直接构造时使用配置中的缓存规模，且当 {@link CryptoProperties#isFactoryFallbackEnabled()} 为 {@code false} 时拒绝直接构造。
+	 * 传入 {@code null} 时恢复默认行为。
+	 * </p>
+	 *
+	 * @param beanFactory      Spring 容器（可为 null）
+	 * @param cryptoProperties 加密模块配置属性（可为 null）
+	 * @since 2.1.0
+	 */
+	public static void configure(BeanFactory beanFactory, CryptoProperties cryptoProperties) {
+		CryptoFactoryRegistry.beanFactory = beanFactory;
+		CryptoFactoryRegistry.cryptoProperties = cryptoProperties;
+	}
+
     /**
      * 获取或创建指定类型的加密工厂实例。
      * <p>
-     * 先尝试通过 Spring 容器获取 Bean；当容器为空或抛出 {@link BeansException} 时，回退到直接构造。
+     * 先尝试通过 Spring 容器获取 Bean；当容器为空，或容器中未定义该类型的 Bean 而抛出 {@link BeansException} 时，回退到直接构造。
+     * 容器中已定义该类型的 Bean 但获取失败时抛出 {@link IllegalStateException} 且不缓存结果，后续请求将重新尝试。
      * 结果按工厂类名缓存，后续重复请求将复用已存在实例。
      * </p>
      *
      * @param factoryClass 工厂实现类
 	 * @throws IllegalArgumentException 当{@code factoryClass}为{@code null}时抛出
+	 * @throws IllegalStateException 当容器中的工厂 Bean 暂不可用、需要直接构造但已禁用直接构造，或构造失败时抛出
      * @return 对应的 {@link CryptoFactory} 实例（来自容器或直接构造）
-	 * @see #getCryptoFactory(Class) 
+	 * @see #getCryptoFactory(Class, CryptoProperties)
      * @since 1.0.0
      */
     public static CryptoFactory getOrCreate(Class<? extends CryptoFactory> factoryClass) {
 		Assert.notNull(factoryClass, "factoryClass 不可为 null");
+		// 加/解密时每次调用都会经过此处，命中缓存时避免 computeIfAbsent 的加锁开销
+		CryptoFactory cryptoFactory = CRYPTO_FACTORY_MAP.get(factoryClass.getName());
+		if (Objects.nonNull(cryptoFactory)) {
+			return cryptoFactory;
+		}
         return CRYPTO_FACTORY_MAP.computeIfAbsent(factoryClass.getName(), k -> {
+			BeanFactory currentBeanFactory = beanFactory;
+			if (Objects.isNull(currentBeanFactory)) {
+				currentBeanFactory = StaticSpringContext.getBeanFactory();
+			}
             try {
-                BeanFactory beanFactory = StaticSpringContext.getBeanFactory();
-                if (Objects.nonNull(beanFactory)) {
-                    return beanFactory.getBean(factoryClass);
+                if (Objects.nonNull(currentBeanFactory)) {
+                    return currentBeanFactory.getBean(factoryClass);
                 } else {
-                    return getCryptoFactory(factoryClass);
+                    return createFallback(factoryClass);
                 }
             } catch (BeansException e) {
-                return getCryptoFactory(factoryClass);
+				if (currentBeanFactory instanceof ListableBeanFactory listableBeanFactory &&
+					listableBeanFactory.getBeanNamesForType(factoryClass, true, false).length > 0) {
+					throw new IllegalStateException("容器中的加密工厂 Bean 暂不可用，class: " + factoryClass.getName(), e);
+				}
+                return createFallback(factoryClass);
             }
         });
     }
@@ -105,29 +180,84 @@ public final class CryptoFactoryRegistry {
 	 */
 	public static void register(CryptoFactory cryptoFactory) {
 		Assert.notNull(cryptoFactory, "cryptoFactory 不可为 null");
-		CRYPTO_FACTORY_MAP.putIfAbsent(cryptoFactory.getClass().getName(), cryptoFactory);
+		CRYPTO_FACTORY_MAP.putIfAbsent(ClassUtils.getUserClass(cryptoFactory).getName(), cryptoFactory);
+	}
+
+	/**
+	 * 注册容器管理的加密工厂实例。
+	 * <p>
+	 * 与 {@link #register(CryptoFactory)} 不同，当已缓存的同类型实例是直接构造的回退实例时将被替换，
+	 * 使后续获取统一复用容器中按配置创建的工厂；手动注册或来自容器的实例保持不变。
+	 * 类型按 {@link ClassUtils#getUserClass(Object)} 解析，兼容 CGLIB 代理。
+	 * </p>
+	 *
+	 * @param cryptoFactory 容器中的加密工厂实例
+	 * @throws IllegalArgumentException 当{@code cryptoFactory}为{@code null}时抛出
+	 * @since 2.1.0
+	 */
+	public static void registerManaged(CryptoFactory cryptoFactory) {
+		Assert.notNull(cryptoFactory, "cryptoFactory 不可为 null");
+		String className = ClassUtils.getUserClass(cryptoFactory).getName();
+		CRYPTO_FACTORY_MAP.compute(className, (k, existing) -> {
+			if (Objects.isNull(existing) || FALLBACK_FACTORIES.remove(existing)) {
+				return cryptoFactory;
+			}
+			return existing;
+		});
+	}
+
+	/**
+	 * 回退到直接构造加密工厂实例。
+	 *
+	 * @param factoryClass 工厂实现类
+	 * @return 新创建的 {@link CryptoFactory} 实例
+	 * @throws IllegalStateException 已禁用直接构造或构造失败时抛出
+	 * @since 2.1.0
+	 */
+	private static CryptoFactory createFallback(Class<? extends CryptoFactory> factoryClass) {
+		CryptoProperties properties = cryptoProperties;
+		if (Objects.nonNull(properties) && !properties.isFactoryFallbackEnabled()) {
+			throw new IllegalStateException("容器中不存在加密工厂 Bean 且已禁用直接构造，class: " + factoryClass.getName());
+		}
+		LOGGER.warn("未能从 Spring 容器获取加密工厂，将直接构造实例，class: {}", factoryClass.getName());
+		CryptoFactory cryptoFactory = getCryptoFactory(factoryClass, properties);
+		FALLBACK_FACTORIES.add(cryptoFactory);
+		return cryptoFactory;
 	}
 
     /**
      * 直接构造加密工厂实例。
      * <p>
      * 对常见实现使用显式构造以避免反射开销；其余实现通过无参构造反射创建。
+     * 缓存规模与 RSA 加密器池大小读取自 {@link CryptoProperties}，未配置时使用默认值。
      * 当构造失败时抛出 {@link IllegalStateException} 封装原始异常。
      * </p>
      *
      * @param factoryClass 工厂实现类
+     * @param properties   加密模块配置属性（可为 null）
      * @return 新创建的 {@link CryptoFactory} 实例
      * @since 1.0.0
      */
-    private static CryptoFactory getCryptoFactory(Class<? extends CryptoFactory> factoryClass) {
+    private static CryptoFactory getCryptoFactory(Class<? extends CryptoFactory> factoryClass, CryptoProperties properties) {
+		if (Objects.isNull(properties)) {
+			properties = new CryptoProperties();
+		}
+		int maxKeySize = properties.getMaxCacheCryptoKeySize();
         if (factoryClass == AES256CryptoFactory.class) {
-            return new AES256CryptoFactory(16);
+            return new AES256CryptoFactory(maxKeySize);
         } else if (factoryClass == RSACryptoFactory.class) {
-            return new RSACryptoFactory(16);
+            return new RSACryptoFactory(maxKeySize, new RSAOEAPWithSHA256Transformation(),
+				properties.getRsaEncryptorPoolSize());
         } else if (factoryClass == StrongCryptoFactory.class) {
-            return new StrongCryptoFactory(16);
+            return new StrongCryptoFactory(maxKeySize);
         } else if (factoryClass == BasicCryptoFactory.class) {
-            return new BasicCryptoFactory(16);
+            return new BasicCryptoFactory(maxKeySize);
+        } else if (factoryClass == AESGCMCryptoFactory.class) {
+            return new AESGCMCryptoFactory(maxKeySize);
+        } else if (factoryClass == RSAEnvelopeCryptoFactory.class) {
+            return new RSAEnvelopeCryptoFactory(maxKeySize, properties.getRsaEncryptorPoolSize(), false);
+        } else if (factoryClass == AESSIVCryptoFactory.class) {
+            return new AESSIVCryptoFactory(maxKeySize);
         } else {
             try {
                 return factoryClass.getDeclaredConstructor().newInstance();
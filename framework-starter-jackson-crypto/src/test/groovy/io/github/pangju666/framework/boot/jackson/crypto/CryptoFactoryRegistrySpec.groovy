@@ -1,11 +1,15 @@
 package io.github.pangju666.framework.boot.jackson.crypto
 
 import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoAutoConfiguration
+import io.github.pangju666.framework.boot.crypto.autoconfigure.CryptoProperties
+import io.github.pangju666.framework.boot.crypto.enums.Encoding
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.AES256CryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.BasicCryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.RSACryptoFactory
 import io.github.pangju666.framework.boot.crypto.factory.impl.StrongCryptoFactory
+import io.github.pangju666.framework.boot.jackson.crypto.annotation.EncryptFormat
+import io.github.pangju666.framework.boot.jackson.crypto.autoconfigure.CryptoFactoryRegistryInitializer
 import io.github.pangju666.framework.boot.jackson.crypto.utils.CryptoFactoryRegistry
 import io.github.pangju666.framework.boot.spring.StaticSpringContext
 import org.jasypt.util.binary.BinaryEncryptor
@@ -14,14 +18,17 @@ import org.jasypt.util.numeric.IntegerNumberEncryptor
 import org.jasypt.util.text.TextEncryptor
 import org.springframework.beans.factory.BeanFactory
 import org.springframework.beans.factory.support.DefaultListableBeanFactory
+import org.springframework.beans.factory.support.RootBeanDefinition
 import org.springframework.boot.test.context.SpringBootContextLoader
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
+import tools.jackson.databind.json.JsonMapper
 
 import java.util.concurrent.Callable
 import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Executors
 import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
 
 @ContextConfiguration(classes = [CryptoAutoConfiguration.class], loader = SpringBootContextLoader.class)
 class CryptoFactoryRegistrySpec extends Specification {
@@ -32,6 +39,7 @@ class CryptoFactoryRegistrySpec extends Specification {
 
 	def cleanup() {
 		setBeanFactory(null)
+		CryptoFactoryRegistry.configure(null, null)
 		clearRegistry()
 	}
 
@@ -140,6 +148,113 @@ class CryptoFactoryRegistrySpec extends Specification {
 		results.every { it.is(results[0]) }
 	}
 
+	def "初始化器绑定容器：无需StaticSpringContext即可获取容器工厂"() {
+		given:
+		def bf = new DefaultListableBeanFactory()
+		def aes = new AES256CryptoFactory(16)
+		bf.registerSingleton("aes256CryptoFactory", aes)
+
+		when:
+		new CryptoFactoryRegistryInitializer(bf, new CryptoProperties())
+
+		then:
+		CryptoFactoryRegistry.getOrCreate(AES256CryptoFactory).is(aes)
+	}
+
+	def "初始化器预先注册容器工厂并替换回退实例"() {
+		given:
+		def fallback = CryptoFactoryRegistry.getOrCreate(StrongCryptoFactory)
+		def registered = new BasicCryptoFactory(16)
+		CryptoFactoryRegistry.register(registered)
+
+		def bf = new DefaultListableBeanFactory()
+		def strong = new StrongCryptoFactory(16)
+		def basic = new BasicCryptoFactory(16)
+		def rsa = new RSACryptoFactory(16)
+		bf.registerSingleton("strongCryptoFactory", strong)
+		bf.registerSingleton("basicCryptoFactory", basic)
+		bf.registerSingleton("rsaCryptoFactory", rsa)
+
+		when:
+		new CryptoFactoryRegistryInitializer(bf, new CryptoProperties()).afterSingletonsInstantiated()
+		setBeanFactory(null)
+		CryptoFactoryRegistry.configure(null, null)
+
+		then:
+		!CryptoFactoryRegistry.getOrCreate(StrongCryptoFactory).is(fallback)
+		CryptoFactoryRegistry.getOrCreate(StrongCryptoFactory).is(strong)
+		CryptoFactoryRegistry.getOrCreate(BasicCryptoFactory).is(registered)
+		CryptoFactoryRegistry.getOrCreate(RSACryptoFactory).is(rsa)
+	}
+
+	def "禁用直接构造：容器中不存在工厂时抛出IllegalStateException"() {
+		given:
+		def properties = new CryptoProperties()
+		properties.setFactoryFallbackEnabled(false)
+		new CryptoFactoryRegistryInitializer(new DefaultListableBeanFactory(), properties)
+
+		when:
+		CryptoFactoryRegistry.getOrCreate(AES256CryptoFactory)
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "容器中已定义工厂Bean但获取失败：不直接构造且不缓存"() {
+		given:
+		def bf = new DefaultListableBeanFactory()
+		def creating = true
+		def basic = new BasicCryptoFactory(16)
+		bf.registerBeanDefinition("basicCryptoFactory", new RootBeanDefinition(BasicCryptoFactory, {
+			if (creating) {
+				throw new IllegalStateException("creating")
+			}
+			basic
+		} as Supplier<BasicCryptoFactory>))
+		new CryptoFactoryRegistryInitializer(bf, new CryptoProperties())
+
+		when:
+		CryptoFactoryRegistry.getOrCreate(BasicCryptoFactory)
+
+		then:
+		thrown(IllegalStateException)
+
+		when:
+		creating = false
+
+		then:
+		CryptoFactoryRegistry.getOrCreate(BasicCryptoFactory).is(basic)
+	}
+
+	def "替换回退实例后已缓存的序列化器使用容器工厂"() {
+		given:
+		def mapper = JsonMapper.builder().build()
+		def dto = new MarkingDto(text: "plain")
+
+		when:
+		def before = mapper.writeValueAsString(dto)
+		CryptoFactoryRegistry.registerManaged(new MarkingCryptoFactory((byte) 2))
+		def after = mapper.writeValueAsString(dto)
+
+		then:
+		before == '{"text":"01"}'
+		after == '{"text":"02"}'
+	}
+
+	def "容器关闭后解除绑定"() {
+		given:
+		def bf = new DefaultListableBeanFactory()
+		bf.registerSingleton("aes256CryptoFactory", new AES256CryptoFactory(16))
+		def initializer = new CryptoFactoryRegistryInitializer(bf, new CryptoProperties())
+
+		when:
+		initializer.destroy()
+		def got = CryptoFactoryRegistry.getOrCreate(AES256CryptoFactory)
+
+		then:
+		!got.is(bf.getBean(AES256CryptoFactory))
+	}
+
 	private static void setBeanFactory(BeanFactory bf) {
 		def f = StaticSpringContext.class.getDeclaredField('BEAN_FACTORY')
 		f.setAccessible(true)
@@ -152,6 +267,24 @@ class CryptoFactoryRegistrySpec extends Specification {
 		((Map) f.get(null)).clear()
 	}
 
+	static class MarkingDto {
+		@EncryptFormat(key = "pwd", factory = [MarkingCryptoFactory], encoding = Encoding.HEX)
+		String text
+	}
+
+	static class MarkingCryptoFactory extends TestCryptoFactory {
+		final byte mark
+
+		MarkingCryptoFactory() { this((byte) 1) }
+
+		MarkingCryptoFactory(byte mark) { this.mark = mark }
+
+		@Override
+		BinaryEncryptor getBinaryEncryptor(String key) {
+			[encrypt: { byte[] data -> [mark] as byte[] }, decrypt: { byte[] data -> data }] as BinaryEncryptor
+		}
+	}
+
 	static class TestCryptoFactory implements CryptoFactory {
 		TestCryptoFactory() {}
 		@Override BinaryEncryptor getBinaryEncryptor(String key) { null }
@@ -15,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootContextLoader
 import org.springframework.core.env.Environment
 import org.springframework.test.context.ContextConfiguration
 import spock.lang.Specification
+import tools.jackson.databind.exc.MismatchedInputException
 import tools.jackson.databind.json.JsonMapper
 
 @ContextConfiguration(classes = [JacksonAutoConfiguration.class, JsonMapperAutoConfiguration.class, CryptoAutoConfiguration.class], loader = SpringBootContextLoader.class)
@@ -70,6 +71,12 @@ class DecryptFormatSpec extends Specification {
 
 		@DecryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256, encoding = Encoding.BASE64)
 		String nullText
+
+		@DecryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256, encoding = Encoding.BASE64)
+		Map<String, List<String>> mapListText
+
+		@DecryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256)
+		List<BigDecimal> listBigDec
 	}
 
 	def setupSpec() {
@@ -188,6 +195,38 @@ class DecryptFormatSpec extends Specification {
 		dto.mapBigDec.values().every { (it == new BigDecimal('7.89')) }
 	}
 
+	def "大数组与嵌套映射流式解密"() {
+		given:
+		def factory = new AES256CryptoFactory(16)
+		def values = (0..<1000).collect { new BigDecimal(it + '.5') }
+		def encrypted = values.collect { CryptoUtils.encryptBigDecimal(factory, it, 'pwd') }
+		def text = CryptoUtils.encryptString(factory, 'xyz', 'pwd', Encoding.BASE64)
+		def json = mapper.writeValueAsString([
+			listBigDec : encrypted,
+			mapListText: [a: [text, null, 'invalid'], b: []]
+		])
+
+		when:
+		def dto = mapper.readValue(json, Dto)
+
+		then:
+		dto.listBigDec.size() == 1000
+		dto.listBigDec.withIndex().every { it.v1.compareTo(values[it.v2]) == 0 }
+		dto.mapListText.a == ['xyz', null, null]
+		dto.mapListText.b == []
+	}
+
+	def "集合元素类型不匹配时抛出异常 #json"() {
+		when:
+		mapper.readValue(json, Dto)
+
+		then:
+		thrown(MismatchedInputException)
+
+		where:
+		json << ['{"listText":[["a"],"b"]}', '{"listBigDec":[{"a":1}]}', '{"mapBytes":{"x":["a"]}}']
+	}
+
 	def "非法HEX输入返回null"() {
 		given:
 		def json = mapper.writeValueAsString([invalidHex: 'zz'])
@@ -62,6 +62,15 @@ class EncryptFormatSpec extends Specification {
 
 		@EncryptFormat(key = "pwd", factory = [StrongCryptoFactory], encoding = Encoding.BASE64)
 		String strongText
+
+		@EncryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256)
+		Map<String, BigDecimal> mapDecimal
+
+		@EncryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256)
+		Map<String, List<String>> mapListText
+
+		@EncryptFormat(key = "pwd", algorithm = CryptoAlgorithm.AES256)
+		List<Number> listNumber
 	}
 
 	def setupSpec() {
@@ -225,4 +234,37 @@ class EncryptFormatSpec extends Specification {
 		then:
 		plain == "hello"
 	}
+
+	def "按声明类型特化：映射值加密可解密"() {
+		given:
+		def dto = new Dto(
+			mapDecimal: [a: new BigDecimal("1.5"), b: null],
+			mapListText: [x: ["m", null, "n"]]
+		)
+
+		when:
+		def node = (ObjectNode) mapper.readTree(mapper.writeValueAsString(dto))
+		def decimals = node.get("mapDecimal")
+		def texts = node.get("mapListText").get("x")
+
+		then:
+		CryptoUtils.decryptBigDecimal(new AES256CryptoFactory(16), new BigDecimal(decimals.get("a").asText()), "pwd") == new BigDecimal("1.5")
+		decimals.get("b").isNull()
+		CryptoUtils.decryptString(new AES256CryptoFactory(16), texts.get(0).asText(), "pwd", Encoding.BASE64) == "m"
+		texts.get(1).isNull()
+		CryptoUtils.decryptString(new AES256CryptoFactory(16), texts.get(2).asText(), "pwd", Encoding.BASE64) == "n"
+	}
+
+	def "声明类型无法特化时按运行时类型加密"() {
+		given:
+		def dto = new Dto(listNumber: [new BigDecimal("2.5"), 3])
+
+		when:
+		def node = (ObjectNode) mapper.readTree(mapper.writeValueAsString(dto))
+		def numbers = node.get("listNumber")
+
+		then:
+		CryptoUtils.decryptBigDecimal(new AES256CryptoFactory(16), new BigDecimal(numbers.get(0).asText()), "pwd") == new BigDecimal("2.5")
+		numbers.get(1).asInt() == 3
+	}
 }
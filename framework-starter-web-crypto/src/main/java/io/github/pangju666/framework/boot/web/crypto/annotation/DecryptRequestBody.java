@@ -141,4 +141,18 @@ public @interface DecryptRequestBody {
 	 * @since 1.0.0
 	 */
 	Class<? extends CryptoFactory>[] factory() default {};
+
+	/**
+	 * 是否按流式密文格式解密请求体。
+	 *
+	 * <p>为 {@code true} 时，请求体应为 {@link io.github.pangju666.framework.boot.crypto.utils.CryptoUtils#encryptStream}
+	 * 生成的流式密文经 {@link #encoding()} 编码后的文本，服务端边解码边解密，内存占用与请求体大小无关，适合大型 JSON 上传。
+	 * 要求工厂支持流式加解密（如 {@link CryptoAlgorithm#AES_GCM}），该格式与默认的整体密文格式不通用，客户端需同步调整。</p>
+	 * <p>仅对 JSON 请求体生效，{@code String} 请求体仍按整体密文格式解密；密文在读取过程中才会被认证，
+	 * 认证失败时由消息转换器按请求体不可读处理。</p>
+	 *
+	 * @return 是否按流式密文格式解密
+	 * @since 2.1.0
+	 */
+	boolean stream() default false;
 }
@@ -140,7 +140,8 @@ public @interface EncryptResponseBody {
 	/**
 	 * 用于加密的算法
 	 * <p>
-	 * 默认使用AES256算法
+	 * 默认使用AES256算法；需要使用 RSA 公钥加密响应体时，建议使用 {@link CryptoAlgorithm#RSA_ENVELOPE}，
+	 * 每个响应只执行一次 RSA 运算
 	 * </p>
 	 *
 	 * @return 加密算法
@@ -174,4 +175,17 @@ public @interface EncryptResponseBody {
 	 * @since 1.0.0
 	 */
 	Class<? extends CryptoFactory>[] factory() default {};
+
+	/**
+	 * 是否按流式密文格式加密响应数据。
+	 *
+	 * <p>为 {@code true} 时，{@code Result} 的 {@code data}（或包装后的响应对象）由 Jackson 直接序列化到加密、编码输出流，
+	 * 密文为 {@link io.github.pangju666.framework.boot.crypto.utils.CryptoUtils#encryptStream} 的流式格式经 {@link #encoding()} 编码后的文本，
+	 * 内存占用与响应大小无关。要求工厂支持流式加解密（如 {@link CryptoAlgorithm#AES_GCM}），该格式与默认的整体密文格式不通用，客户端需同步调整。</p>
+	 * <p>仅在使用 Jackson 消息转换器时生效，{@code String} 与 {@code byte[]} 响应体仍按整体密文格式加密。</p>
+	 *
+	 * @return 是否按流式密文格式加密
+	 * @since 2.1.0
+	 */
+	boolean stream() default false;
 }
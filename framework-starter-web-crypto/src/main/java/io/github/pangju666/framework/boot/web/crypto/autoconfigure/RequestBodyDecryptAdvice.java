@@ -44,15 +44,18 @@ import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.AbstractJsonHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdvice;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -87,6 +90,8 @@ import java.util.Objects;
  *     <li>{@link RequestDataDecryptFailureException}：解密失败。</li>
  *     <li>{@link ValidationException}：十六进制解码失败或加密请求体格式错误。</li>
  * </ul>
+ * 流式解密时，读取过程中的密文截断、认证失败与最后分块之后的多余数据同样以
+ * {@link RequestDataDecryptFailureException} 抛出，而不是由消息转换器包装为通用的读取异常。
  * </p>
  * <p>
  * 执行顺序：
@@ -113,7 +118,7 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 	public RequestBodyDecryptAdvice(List<CryptoFactory> cryptoFactories) {
 		this.cryptoFactoryMap = new HashMap<>(cryptoFactories.size());
 		for (CryptoFactory cryptoFactory : cryptoFactories) {
-			cryptoFactoryMap.put(cryptoFactory.getClass().getName(), cryptoFactory);
+			cryptoFactoryMap.put(ClassUtils.getUserClass(cryptoFactory).getName(), cryptoFactory);
 		}
 	}
 
@@ -150,7 +155,10 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 	 * <ul>
 	 *     <li>字符串消息转换器（{@link StringHttpMessageConverter}）直接放行，改由 {@link #afterBodyRead(Object, HttpInputMessage, MethodParameter, Type, Class)} 处理。</li>
 	 *     <li>获取注解与解析密钥（失败抛 {@link ServerException}）。</li>
-	 *     <li>读取原始请求体并按注解编码解密为明文字符串。</li>
+	 *     <li>请求体为空白时替换为空 JSON 对象。</li>
+	 *     <li>按注解编码边读取边解码请求体，不构建中间字符串：默认读取完整密文后解密为明文字节；
+	 *     {@link DecryptRequestBody#stream()} 为 {@code true} 时返回流式解密输入流，由消息转换器边读取边解密；
+	 *     消息转换器读到流结束、关闭流或反序列化完成后，会校验密文已读取到最后分块且之后没有多余数据。</li>
 	 * </ul>
 	 * </p>
 	 *
@@ -159,8 +167,9 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 	 * @param targetType    目标类型
 	 * @param converterType 当前使用的HTTP消息转换器类型
 	 * @return 包含解密明文的新输入消息；不处理字符串转换器
-	 * @throws ServerException  密钥无效或请求体读取失败
+	 * @throws ServerException  密钥无效、工厂不存在或不支持流式解密
 	 * @throws ServiceException 解密或十六进制解码失败
+	 * @throws IOException      请求体读取失败
 	 */
 	@Override
 	public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
@@ -189,29 +198,37 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 			throw new ServerException("未找到加密工厂：" + factoryClass.getSimpleName() + "，请检查是否已注册为 Spring Bean");
 		}
 
-		try (InputStream inputStream = inputMessage.getBody()) {
-			byte[] requestBody;
-			String rawRequestBodyStr = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-			if (StringUtils.isBlank(rawRequestBodyStr)) {
-				requestBody = Constants.EMPTY_JSON_OBJECT_STR.getBytes();
-			} else {
-				requestBody = CryptoUtils.decryptString(cryptoFactory, rawRequestBodyStr, key, annotation.encoding()).getBytes();
+		if (annotation.stream() && !cryptoFactory.supportsStream()) {
+			throw new ServerException("加密工厂不支持流式解密：" + factoryClass.getSimpleName());
+		}
+
+		PushbackInputStream inputStream = new PushbackInputStream(inputMessage.getBody());
+		try {
+			if (!hasContent(inputStream)) {
+				inputStream.close();
+				return new DecryptedHttpInputMessage(new ByteArrayInputStream(Constants.EMPTY_JSON_OBJECT_STR.getBytes()),
+					inputMessage.getHeaders());
 			}
-			return new HttpInputMessage() {
-				@Override
-				public InputStream getBody() {
-					return new ByteArrayInputStream(requestBody);
-				}
 
-				@Override
-				public HttpHeaders getHeaders() {
-					return inputMessage.getHeaders();
-				}
-			};
+			InputStream decodedStream = CryptoUtils.decodingStream(inputStream, annotation.encoding());
+			if (annotation.stream()) {
+				return new DecryptedHttpInputMessage(new VerifiedDecryptInputStream(
+					cryptoFactory.getStreamDecryptor(key).decryptStream(decodedStream), decodedStream), inputMessage.getHeaders());
+			}
+			try (decodedStream) {
+				byte[] requestBody = CryptoUtils.decrypt(cryptoFactory, decodedStream.readAllBytes(), key);
+				return new DecryptedHttpInputMessage(new ByteArrayInputStream(requestBody), inputMessage.getHeaders());
+			}
 		} catch (EncryptionOperationNotPossibleException e) {
 			throw new RequestDataDecryptFailureException("无效的加密请求体", e);
-		} catch (DecoderException e) {
-			throw new ValidationException("加密请求体格式错误，请勿手动修改请求内容");
+		} catch (IOException e) {
+			if (e.getCause() instanceof DecoderException) {
+				throw new ValidationException("加密请求体格式错误，请勿手动修改请求内容");
+			}
+			if (annotation.stream()) {
+				throw new RequestDataDecryptFailureException("无效的加密请求体", e);
+			}
+			throw e;
 		} catch (IllegalArgumentException e) {
 			throw new ServerException(e);
 		}
@@ -221,7 +238,7 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 	 * 在反序列化后处理原始值（字符串转换器场景）
 	 * <p>
 	 * 当消息转换器为 {@link StringHttpMessageConverter} 时，尝试对字符串正文按注解配置进行解密；
-	 * 其他转换器保持原值不变。
+	 * 其他转换器保持原值不变，流式解密时先校验密文已完整读取（消息转换器可能在读到流结束前停止读取）。
 	 * </p>
 	 *
 	 * @param body          反序列化后的对象
@@ -235,6 +252,10 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 	public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
 								Class<? extends HttpMessageConverter<?>> converterType) {
 		if (!StringHttpMessageConverter.class.isAssignableFrom(converterType)) {
+			if (inputMessage instanceof DecryptedHttpInputMessage message &&
+				message.body() instanceof VerifiedDecryptInputStream inputStream) {
+				inputStream.verify();
+			}
 			return body;
 		}
 
@@ -273,6 +294,25 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 		}
 	}
 
+	/**
+	 * 跳过输入流开头的空白字符，判断是否存在非空白内容。
+	 *
+	 * @param inputStream 请求体输入流，读取到的首个非空白字节会被回退
+	 * @return 存在非空白内容返回 {@code true}，否则返回 {@code false}
+	 * @throws IOException 读取失败时抛出
+	 * @since 2.1.0
+	 */
+	private static boolean hasContent(PushbackInputStream inputStream) throws IOException {
+		int b;
+		while ((b = inputStream.read()) != -1) {
+			if (!Character.isWhitespace(b)) {
+				inputStream.unread(b);
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * 处理空请求体：保持原样返回
 	 *
@@ -288,4 +328,145 @@ public class RequestBodyDecryptAdvice implements RequestBodyAdvice {
 								  Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
 		return body;
 	}
+
+	/**
+	 * 解密后的HTTP输入消息，沿用原始请求头。
+	 *
+	 * @param body    明文输入流
+	 * @param headers 原始请求头
+	 * @since 2.1.0
+	 */
+	private record DecryptedHttpInputMessage(InputStream body, HttpHeaders headers) implements HttpInputMessage {
+		@Override
+		public InputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+
+	/**
+	 * 流式解密输入流的完整性校验包装。
+	 * <p>
+	 * 分块解密流仅在读取下一分块时发现截断，且不会读取最后分块之后的数据；消息转换器解析完成后可能不再读取到流结束。
+	 * 因此在读到流结束、关闭流或 {@link RequestBodyDecryptAdvice#afterBodyRead(Object, HttpInputMessage, MethodParameter, Type, Class)}
+	 * 时读完剩余明文直到最后分块，并确认密文之后没有多余数据。读取过程中的异常转换为 {@link RequestDataDecryptFailureException}，
+	 * 编码格式错误转换为 {@link ValidationException}。
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class VerifiedDecryptInputStream extends FilterInputStream {
+		/**
+		 * 解码后的密文输入流，用于确认最后分块之后没有多余数据。
+		 *
+		 * @since 2.1.0
+		 */
+		private final InputStream encryptedStream;
+		/**
+		 * 是否已确认密文完整读取。
+		 *
+		 * @since 2.1.0
+		 */
+		private boolean verified;
+		/**
+		 * 首次校验失败的异常，后续校验直接抛出。
+		 *
+		 * @since 2.1.0
+		 */
+		private ValidationException failure;
+
+		/**
+		 * 构造校验包装。
+		 *
+		 * @param decryptedStream 流式解密输入流
+		 * @param encryptedStream 解码后的密文输入流
+		 * @since 2.1.0
+		 */
+		VerifiedDecryptInputStream(InputStream decryptedStream, InputStream encryptedStream) {
+			super(decryptedStream);
+			this.encryptedStream = encryptedStream;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b;
+			try {
+				b = super.read();
+			} catch (IOException e) {
+				throw fail(e);
+			}
+			if (b == -1) {
+				verify();
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int length;
+			try {
+				length = super.read(b, off, len);
+			} catch (IOException e) {
+				throw fail(e);
+			}
+			if (length == -1) {
+				verify();
+			}
+			return length;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				verify();
+			} finally {
+				super.close();
+			}
+		}
+
+		/**
+		 * 读完剩余明文直到最后分块，并确认之后没有多余密文；重复调用时返回首次校验的结果。
+		 *
+		 * @throws RequestDataDecryptFailureException 密文被截断、认证失败或最后分块之后存在多余数据
+		 * @throws ValidationException                密文编码格式错误
+		 * @since 2.1.0
+		 */
+		void verify() {
+			if (Objects.nonNull(failure)) {
+				throw failure;
+			}
+			if (verified) {
+				return;
+			}
+			try {
+				in.transferTo(OutputStream.nullOutputStream());
+				if (encryptedStream.read() != -1) {
+					throw new IOException("密文最后分块之后存在多余数据");
+				}
+			} catch (IOException e) {
+				throw fail(e);
+			}
+			verified = true;
+		}
+
+		/**
+		 * 记录并返回读取异常对应的业务异常。
+		 *
+		 * @param e 读取异常
+		 * @return 编码格式错误时为 {@link ValidationException}，否则为 {@link RequestDataDecryptFailureException}
+		 * @since 2.1.0
+		 */
+		private ValidationException fail(IOException e) {
+			if (e.getCause() instanceof DecoderException) {
+				failure = new ValidationException("加密请求体格式错误，请勿手动修改请求内容");
+			} else {
+				failure = new RequestDataDecryptFailureException("无效的加密请求体", e);
+			}
+			return failure;
+		}
+	}
 }
@@ -19,6 +19,7 @@ package io.github.pangju666.framework.boot.web.crypto.autoconfigure;
 
 import io.github.pangju666.commons.crypto.key.RSAKeyPair;
 import io.github.pangju666.commons.lang.utils.JsonUtils;
+import io.github.pangju666.framework.boot.crypto.encryptor.StreamEncryptor;
 import io.github.pangju666.framework.boot.crypto.enums.Encoding;
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory;
 import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils;
@@ -27,9 +28,12 @@ import io.github.pangju666.framework.spring.utils.SpELUtils;
 import io.github.pangju666.framework.web.exception.base.ServerException;
 import io.github.pangju666.framework.web.model.Result;
 import jakarta.servlet.Servlet;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -49,10 +53,24 @@ import org.springframework.http.converter.json.AbstractJsonHttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.core.Base64Variants;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.JacksonSerializable;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.jsontype.TypeSerializer;
 
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.security.spec.InvalidKeySpecException;
 import java.util.HashMap;
 import java.util.List;
@@ -117,12 +135,45 @@ import java.util.Objects;
 @RestControllerAdvice
 public class ResponseBodyEncryptAdvice implements ResponseBodyAdvice<Object> {
 	private final Map<String, CryptoFactory> cryptoFactoryMap;
+	/**
+	 * 使用 Jackson 消息转换器时用于序列化待加密数据的映射器
+	 *
+	 * @since 2.1.0
+	 */
+	private final JsonMapper jsonMapper;
 
 	public ResponseBodyEncryptAdvice(List<CryptoFactory> cryptoFactories) {
+		this(cryptoFactories, new JsonMapper());
+	}
+
+	/**
+	 * 构造响应体加密通知，优先使用容器中的 Jackson 映射器。
+	 *
+	 * @param cryptoFactories    容器中的加密工厂
+	 * @param jsonMapperProvider 容器中的 Jackson 映射器，不存在时使用默认映射器
+	 * @since 2.1.0
+	 */
+	@Autowired
+	public ResponseBodyEncryptAdvice(List<CryptoFactory> cryptoFactories, ObjectProvider<JsonMapper> jsonMapperProvider) {
+		this(cryptoFactories, jsonMapperProvider.getIfAvailable(JsonMapper::new));
+	}
+
+	/**
+	 * 构造响应体加密通知。
+	 *
+	 * @param cryptoFactories 容器中的加密工厂
+	 * @param jsonMapper      用于序列化待加密数据的 Jackson 映射器，应与消息转换器使用的映射器一致
+	 * @since 2.1.0
+	 */
+	public ResponseBodyEncryptAdvice(List<CryptoFactory> cryptoFactories, JsonMapper jsonMapper) {
+		Assert.notNull(jsonMapper, "jsonMapper 不可为 null");
+
+
 		this.cryptoFactoryMap = new HashMap<>(cryptoFactories.size());
 		for (CryptoFactory cryptoFactory : cryptoFactories) {
-			cryptoFactoryMap.put(cryptoFactory.getClass().getName(), cryptoFactory);
+			cryptoFactoryMap.put(ClassUtils.getUserClass(cryptoFactory).getName(), cryptoFactory);
 		}
+		this.jsonMapper = jsonMapper;
 	}
 
 	/**
@@ -175,6 +226,8 @@ public class ResponseBodyEncryptAdvice implements ResponseBodyAdvice<Object> {
 	 *             <li>{@code byte[]}：{@link CryptoUtils#encrypt(CryptoFactory, byte[], String)}。</li>
 	 *             <li>{@link Result}：仅加密 {@code data}。若 {@code data} 为 {@code String} 或 {@code byte[]} 按类型直接加密；否则转 JSON 后加密。</li>
 	 *             <li>其他对象：先转 JSON 字符串，再执行加密。</li>
+	 *             <li>使用 Jackson 消息转换器时，{@code data} 由 Jackson 直接序列化为字节后加密，密文在写出响应时直接编码写入输出流，
+	 *             不构建中间字符串；{@link EncryptResponseBody#stream()} 为 {@code true} 时改为在写出响应时边序列化边加密。</li>
 	 *         </ul>
 	 *     </li>
 	 *     <li>异常处理：加密失败或密钥无效时抛出 {@link ServerException}。</li>
@@ -232,6 +285,26 @@ public class ResponseBodyEncryptAdvice implements ResponseBodyAdvice<Object> {
 				return CryptoUtils.encryptString(cryptoFactory, charSequence.toString(), key, annotation.encoding());
 			} else if (ByteArrayHttpMessageConverter.class.isAssignableFrom(selectedConverterType) && body instanceof byte[] bytes) {
 				return CryptoUtils.encrypt(cryptoFactory, bytes, key);
+			} else if (JacksonJsonHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+				Result<?> result = body instanceof Result<?> bodyResult ? bodyResult : Result.ok(body);
+				if (Objects.isNull(result.data())) {
+					return body;
+				}
+				if (annotation.stream()) {
+					if (!cryptoFactory.supportsStream()) {
+						throw new ServerException("加密工厂不支持流式加密：" + factoryClass.getSimpleName());
+					}
+					return new Result<>(result.code(), result.message(), new StreamEncryptedData(result.data(),
+						cryptoFactory.getStreamEncryptor(key), annotation.encoding(), jsonMapper));
+				}
+				if (result.data() instanceof CharSequence charSequence) {
+					return new Result<>(result.code(), result.message(), CryptoUtils.encryptString(cryptoFactory,
+						charSequence.toString(), key, annotation.encoding()));
+				} else if (result.data() instanceof byte[] bytes) {
+					return new Result<>(result.code(), result.message(), CryptoUtils.encrypt(cryptoFactory, bytes, key));
+				}
+				byte[] ciphertext = CryptoUtils.encrypt(cryptoFactory, jsonMapper.writeValueAsBytes(result.data()), key);
+				return new Result<>(result.code(), result.message(), new EncryptedData(ciphertext, annotation.encoding()));
 			} else if (body instanceof Result<?> result) {
 				if (Objects.isNull(result.data())) {
 					return body;
@@ -256,4 +329,149 @@ public class ResponseBodyEncryptAdvice implements ResponseBodyAdvice<Object> {
 			throw new ServerException(e);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 整体加密后的响应数据，序列化时将密文按编码直接写入 JSON 字符串，不构建中间字符串。
+	 *
+	 * @param ciphertext 密文
+	 * @param encoding   编码方式
+	 * @since 2.1.0
+	 */
+	private record EncryptedData(byte[] ciphertext, Encoding encoding) implements JacksonSerializable {
+		@Override
+		public void serialize(JsonGenerator gen, SerializationContext ctxt) {
+			switch (encoding) {
+				case BASE64 -> gen.writeBinary(Base64Variants.MODIFIED_FOR_URL, ciphertext, 0, ciphertext.length);
+				case HEX -> {
+					char[] chars = Hex.encodeHex(ciphertext);
+					gen.writeString(chars, 0, chars.length);
+				}
+			}
+		}
+
+		@Override
+		public void serializeWithType(JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+			serialize(gen, ctxt);
+		}
+	}
+
+	/**
+	 * 流式加密的响应数据，序列化时由 Jackson 将数据直接写入加密、编码输出流。
+	 * <p>
+	 * 编码后的密文仅包含 JSON 字符串安全字符，因此在写出字符串起始引号后直接写入生成器的输出目标，无需转义。
+	 * 仅在数据完整写出后关闭加密流；写出失败时放弃加密流，不写出带结束标记的最后一个分块，使截断的密文无法通过认证。
+	 * </p>
+	 *
+	 * @param data            待加密数据
+	 * @param streamEncryptor 流式加密器
+	 * @param encoding        编码方式
+	 * @param jsonMapper      用于序列化数据的 Jackson 映射器
+	 * @since 2.1.0
+	 */
+	private record StreamEncryptedData(Object data, StreamEncryptor streamEncryptor, Encoding encoding,
+									   JsonMapper jsonMapper) implements JacksonSerializable {
+		@Override
+		public void serialize(JsonGenerator gen, SerializationContext ctxt) {
+			gen.writeRawValue("\"");
+			gen.flush();
+			try {
+				OutputStream encryptOutput = streamEncryptor.encryptStream(
+					CryptoUtils.encodingStream(getOutputTarget(gen), encoding));
+				if (data instanceof CharSequence charSequence) {
+					encryptOutput.write(charSequence.toString().getBytes(StandardCharsets.UTF_8));
+				} else if (data instanceof byte[] bytes) {
+					encryptOutput.write(bytes);
+				} else {
+					jsonMapper.writeValue(new UncloseableOutputStream(encryptOutput), data);
+				}
+				// 不使用 try-with-resources：关闭会写出最后一个分块，只能在数据完整写出后进行
+				encryptOutput.close();
+			} catch (IOException e) {
+				throw JacksonIOException.construct(e);
+			}
+			gen.writeRaw('"');
+		}
+
+		@Override
+		public void serializeWithType(JsonGenerator gen, SerializationContext ctxt, TypeSerializer typeSer) {
+			serialize(gen, ctxt);
+		}
+
+		private static OutputStream getOutputTarget(JsonGenerator gen) {
+			Object target = gen.streamWriteOutputTarget();
+			if (target instanceof OutputStream outputStream) {
+				return new UncloseableOutputStream(outputStream);
+			} else if (target instanceof Writer writer) {
+				return new AsciiWriterOutputStream(writer);
+			}
+			throw new IllegalStateException("不支持的 JSON 输出目标：" + target);
+		}
+	}
+
+	/**
+	 * 将 ASCII 字节按字符写入 {@link Writer} 的输出流，关闭时仅刷新、不关闭被包装的写入器。
+	 * <p>
+	 * 编码后的密文均为 ASCII 字符，因此逐字节转换为字符即可，无需字符集解码。
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class AsciiWriterOutputStream extends OutputStream {
+		private final Writer writer;
+		private final char[] buffer = new char[1024];
+
+		AsciiWriterOutputStream(Writer writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			writer.write(b & 0xFF);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			while (len > 0) {
+				int count = Math.min(len, buffer.length);
+				for (int i = 0; i < count; i++) {
+					buffer[i] = (char) (b[off + i] & 0xFF);
+				}
+				writer.write(buffer, 0, count);
+				off += count;
+				len -= count;
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
+	/**
+	 * 关闭时仅刷新、不关闭被包装流的输出流。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class UncloseableOutputStream extends FilterOutputStream {
+		UncloseableOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jasypt.exceptions.EncryptionOperationNotPossibleException;
 import org.springframework.core.MethodParameter;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -82,7 +83,7 @@ public class EncryptRequestParamArgumentResolver implements HandlerMethodArgumen
 	public EncryptRequestParamArgumentResolver(List<CryptoFactory> cryptoFactories) {
 		this.cryptoFactoryMap = new HashMap<>(cryptoFactories.size());
 		for (CryptoFactory cryptoFactory : cryptoFactories) {
-			cryptoFactoryMap.put(cryptoFactory.getClass().getName(), cryptoFactory);
+			cryptoFactoryMap.put(ClassUtils.getUserClass(cryptoFactory).getName(), cryptoFactory);
 		}
 	}
 
@@ -2,11 +2,14 @@ package io.github.pangju666.framework.boot.web.crypto
 
 import io.github.pangju666.framework.boot.crypto.enums.Encoding
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
 import io.github.pangju666.framework.boot.web.crypto.annotation.DecryptRequestBody
 import io.github.pangju666.framework.boot.web.crypto.autoconfigure.RequestBodyDecryptAdvice
 import io.github.pangju666.framework.web.exception.base.ServerException
 import io.github.pangju666.framework.web.exception.base.ValidationException
 import org.apache.commons.codec.binary.Base64
+import org.apache.commons.codec.binary.Hex
 import org.jasypt.exceptions.EncryptionOperationNotPossibleException
 import org.jasypt.util.binary.BinaryEncryptor
 import org.jasypt.util.numeric.DecimalNumberEncryptor
@@ -77,6 +80,9 @@ class DecryptRequestBodySpec extends Specification {
 		void hexStr(@DecryptRequestBody(factory = [TestCryptoFactory], key = "k", encoding = Encoding.HEX) String s) {}
 		void badKey(@DecryptRequestBody(factory = [TestCryptoFactory], key = "", encoding = Encoding.BASE64) String s) {}
 		void throwing(@DecryptRequestBody(factory = [ThrowingCryptoFactory], key = "k", encoding = Encoding.BASE64) String s) {}
+		void hexJson(@DecryptRequestBody(factory = [TestCryptoFactory], key = "k", encoding = Encoding.HEX) Object o) {}
+		void streamJson(@DecryptRequestBody(factory = [AESGCMCryptoFactory], key = "k", encoding = Encoding.BASE64, stream = true) Object o) {}
+		void streamUnsupported(@DecryptRequestBody(factory = [TestCryptoFactory], key = "k", stream = true) Object o) {}
 	}
 
 	static MethodParameter param(String name, Class<?> type) {
@@ -219,5 +225,108 @@ class DecryptRequestBodySpec extends Specification {
 		ex.message.contains("无效的加密请求数据")
 	}
 
+	def "beforeBodyRead decodes HEX JSON payload"() {
+		given:
+		def plaintext = '{"a":1}'
+		def input = new SimpleInputMessage(Hex.encodeHexString(("X-" + plaintext).getBytes(StandardCharsets.UTF_8)))
+		def p = param("hexJson", Object)
+
+		when:
+		def outMsg = advice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+
+		then:
+		new String(outMsg.getBody().readAllBytes(), StandardCharsets.UTF_8) == plaintext
+	}
+
+	def "beforeBodyRead stream-decrypts large JSON payload"() {
+		given:
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new RequestBodyDecryptAdvice([factory])
+		def plaintext = '[' + (0..<20_000).collect { '{"id":' + it + '}' }.join(',') + ']'
+		def encrypted = new ByteArrayOutputStream()
+		CryptoUtils.encryptStream(factory, new ByteArrayInputStream(plaintext.getBytes(StandardCharsets.UTF_8)), encrypted, "k")
+		def input = new SimpleInputMessage(Base64.encodeBase64URLSafeString(encrypted.toByteArray()))
+		def p = param("streamJson", Object)
+
+		when:
+		def outMsg = streamAdvice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+
+		then:
+		new String(outMsg.getBody().readAllBytes(), StandardCharsets.UTF_8) == plaintext
+	}
+
+	def "stream decryption rejects truncated ciphertext when the converter stops reading early"() {
+		given:
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new RequestBodyDecryptAdvice([factory])
+		def encrypted = streamEncrypt(factory, largeJson())
+		def input = new SimpleInputMessage(Base64.encodeBase64URLSafeString(Arrays.copyOf(encrypted, 100_000)))
+		def p = param("streamJson", Object)
+
+		when:
+		def outMsg = streamAdvice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+		outMsg.getBody().readNBytes(16)
+		streamAdvice.afterBodyRead([:], outMsg, p, Object, MappingJackson2HttpMessageConverter)
+
+		then:
+		def ex = thrown(RequestDataDecryptFailureException)
+		ex.message.contains("无效的加密请求体")
+	}
+
+	def "stream decryption rejects data after the last chunk"() {
+		given:
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new RequestBodyDecryptAdvice([factory])
+		def encrypted = streamEncrypt(factory, largeJson())
+		def input = new SimpleInputMessage(Base64.encodeBase64URLSafeString(Arrays.copyOf(encrypted, encrypted.length + 3)))
+		def p = param("streamJson", Object)
+
+		when:
+		def outMsg = streamAdvice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+		outMsg.getBody().withCloseable { it.readNBytes(16) }
+
+		then:
+		thrown(RequestDataDecryptFailureException)
+	}
+
+	def "stream decryption reports tampered chunks as RequestDataDecryptFailureException"() {
+		given:
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new RequestBodyDecryptAdvice([factory])
+		def encrypted = streamEncrypt(factory, largeJson())
+		encrypted[100_000] = (byte) (encrypted[100_000] ^ 1)
+		def input = new SimpleInputMessage(Base64.encodeBase64URLSafeString(encrypted))
+		def p = param("streamJson", Object)
+
+		when:
+		def outMsg = streamAdvice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+		outMsg.getBody().readAllBytes()
+
+		then:
+		thrown(RequestDataDecryptFailureException)
+	}
+
+	def "beforeBodyRead throws ServerException when factory does not support stream"() {
+		given:
+		def p = param("streamUnsupported", Object)
+		def input = new SimpleInputMessage(Base64.encodeBase64URLSafeString("X-{}".bytes))
+
+		when:
+		advice.beforeBodyRead(input, p, Object, MappingJackson2HttpMessageConverter)
+
+		then:
+		thrown(ServerException)
+	}
+
+	static String largeJson() {
+		'[' + (0..<20_000).collect { '{"id":' + it + '}' }.join(',') + ']'
+	}
+
+	static byte[] streamEncrypt(CryptoFactory factory, String plaintext) {
+		def encrypted = new ByteArrayOutputStream()
+		CryptoUtils.encryptStream(factory, new ByteArrayInputStream(plaintext.getBytes(StandardCharsets.UTF_8)), encrypted, "k")
+		encrypted.toByteArray()
+	}
+
 	class D { void noAnno(String s) {} }
 }
@@ -2,6 +2,8 @@ package io.github.pangju666.framework.boot.web.crypto
 
 import io.github.pangju666.framework.boot.crypto.enums.Encoding
 import io.github.pangju666.framework.boot.crypto.factory.CryptoFactory
+import io.github.pangju666.framework.boot.crypto.factory.impl.AESGCMCryptoFactory
+import io.github.pangju666.framework.boot.crypto.utils.CryptoUtils
 import io.github.pangju666.framework.boot.web.crypto.annotation.EncryptResponseBody
 import io.github.pangju666.framework.boot.web.crypto.autoconfigure.ResponseBodyEncryptAdvice
 import io.github.pangju666.framework.web.exception.base.ServerException
@@ -19,11 +21,16 @@ import org.springframework.http.MediaType
 import org.springframework.http.converter.ByteArrayHttpMessageConverter
 import org.springframework.http.converter.HttpMessageConverter
 import org.springframework.http.converter.StringHttpMessageConverter
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter
 import org.springframework.http.server.ServerHttpRequest
 import org.springframework.http.server.ServerHttpResponse
 import spock.lang.Specification
 import spock.lang.Unroll
+import tools.jackson.core.JacksonException
+import tools.jackson.databind.json.JsonMapper
+
+import java.nio.charset.StandardCharsets
 
 class EncryptResponseBodySpec extends Specification {
 	static class TestBinaryEncryptor implements BinaryEncryptor {
@@ -112,6 +119,14 @@ class EncryptResponseBodySpec extends Specification {
 		Object o() { null }
 	}
 
+	static class StreamController {
+		@EncryptResponseBody(factory = [AESGCMCryptoFactory], key = "k", stream = true)
+		Object o() { null }
+
+		@EncryptResponseBody(factory = [TestCryptoFactory], key = "k", stream = true)
+		Object unsupported() { null }
+	}
+
 	static MethodParameter returnType(Class<?> c, String m) {
 		new MethodParameter(c.getDeclaredMethod(m), -1)
 	}
@@ -244,6 +259,103 @@ class EncryptResponseBodySpec extends Specification {
 		new String(Base64.decodeBase64(res as String)) == "my-secret:abc"
 	}
 
+	def "beforeBodyWrite serializes Result data through Jackson converter"() {
+		given:
+		def jsonMapper = new JsonMapper()
+		def jacksonAdvice = new ResponseBodyEncryptAdvice(factories, jsonMapper)
+		def rt = returnType(MethodAnnoController, "o")
+		def body = Result.ok([a: 1, b: "x"])
+
+		when:
+		def out = jacksonAdvice.beforeBodyWrite(body, rt, null, JacksonJsonHttpMessageConverter, Mock(ServerHttpRequest), Mock(ServerHttpResponse)) as Result
+		def json = jsonMapper.readTree(jsonMapper.writeValueAsString(out))
+		def data = json.get("data").asString()
+
+		then:
+		out.code() == body.code()
+		!data.contains("=")
+		new String(Base64.decodeBase64(data)) == 'X-{"a":1,"b":"x"}'
+	}
+
+	def "beforeBodyWrite stream-encrypts data while Jackson writes response"() {
+		given:
+		def jsonMapper = new JsonMapper()
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new ResponseBodyEncryptAdvice([factory], jsonMapper)
+		def rt = returnType(StreamController, "o")
+		def body = (0..<20_000).collect { [id: it] }
+
+		when:
+		def out = streamAdvice.beforeBodyWrite(body, rt, null, JacksonJsonHttpMessageConverter, Mock(ServerHttpRequest), Mock(ServerHttpResponse))
+		def output = new ByteArrayOutputStream()
+		jsonMapper.writeValue(output, out)
+		def data = jsonMapper.readTree(output.toByteArray()).get("data").asString()
+		def decrypted = factory.getStreamDecryptor("k").decryptStream(CryptoUtils.decodingStream(
+			new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII)), Encoding.BASE64)).readAllBytes()
+
+		then:
+		new String(decrypted, StandardCharsets.UTF_8) == jsonMapper.writeValueAsString(body)
+	}
+
+	def "stream-encrypts data when Jackson writes to a Writer"() {
+		given:
+		def jsonMapper = new JsonMapper()
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new ResponseBodyEncryptAdvice([factory], jsonMapper)
+		def rt = returnType(StreamController, "o")
+		def body = (0..<5_000).collect { [id: it, name: "名称" + it] }
+
+		when:
+		def out = streamAdvice.beforeBodyWrite(body, rt, null, JacksonJsonHttpMessageConverter, Mock(ServerHttpRequest), Mock(ServerHttpResponse))
+		def data = jsonMapper.readTree(jsonMapper.writeValueAsString(out)).get("data").asString()
+		def decrypted = factory.getStreamDecryptor("k").decryptStream(CryptoUtils.decodingStream(
+			new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII)), Encoding.BASE64)).readAllBytes()
+
+		then:
+		new String(decrypted, StandardCharsets.UTF_8) == jsonMapper.writeValueAsString(body)
+	}
+
+	def "stream encryption leaves ciphertext unterminated when serialization fails"() {
+		given:
+		def jsonMapper = new JsonMapper()
+		def factory = new AESGCMCryptoFactory(16)
+		def streamAdvice = new ResponseBodyEncryptAdvice([factory], jsonMapper)
+		def rt = returnType(StreamController, "o")
+		def body = (0..<20_000).collect { [id: it] } + [new FailingBean()]
+		def output = new ByteArrayOutputStream()
+
+		when:
+		def out = streamAdvice.beforeBodyWrite(body, rt, null, JacksonJsonHttpMessageConverter, Mock(ServerHttpRequest), Mock(ServerHttpResponse))
+		jsonMapper.writeValue(output, out)
+
+		then:
+		thrown(JacksonException)
+
+		when:
+		def written = output.toString(StandardCharsets.US_ASCII)
+		def data = written.substring(written.indexOf('"data":"') + 8)
+		factory.getStreamDecryptor("k").decryptStream(CryptoUtils.decodingStream(
+			new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII)), Encoding.BASE64)).readAllBytes()
+
+		then:
+		thrown(IOException)
+	}
+
+	static class FailingBean {
+		String getValue() { throw new IllegalStateException("boom") }
+	}
+
+	def "beforeBodyWrite throws ServerException when factory does not support stream"() {
+		given:
+		def rt = returnType(StreamController, "unsupported")
+
+		when:
+		advice.beforeBodyWrite([a: 1], rt, null, JacksonJsonHttpMessageConverter, Mock(ServerHttpRequest), Mock(ServerHttpResponse))
+
+		then:
+		thrown(ServerException)
+	}
+
 	class NoAnno { String s() { "" } }
 
 	@EncryptResponseBody(factory = [TestCryptoFactory], key = "", encoding = Encoding.BASE64)
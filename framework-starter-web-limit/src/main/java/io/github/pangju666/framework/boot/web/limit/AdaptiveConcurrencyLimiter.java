@@ -0,0 +1,226 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.limit;
+
+import io.github.pangju666.framework.boot.web.limit.annotation.RateLimit;
+import io.github.pangju666.framework.boot.web.limit.interceptor.RateLimitInterceptor;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于 AIMD（加性增、乘性减）算法的自适应并发限流器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>为标注了 {@code @RateLimit(adaptive = true)} 的路由维护一个动态并发上限，
+ *   根据处理耗时与错误情况自动调整，在服务饱和前主动拒绝多余请求。</li>
+ *   <li>与 {@link RateLimiter} 的静态速率限制叠加使用：先执行速率检查，再执行并发检查。</li>
+ * </ul>
+ *
+ * <p><strong>算法</strong></p>
+ * <ul>
+ *   <li>请求处理失败（抛出异常或响应状态码 ≥ 500）或耗时超过 {@code latencyThreshold} 时，
+ *   并发上限乘以 {@code backoffRatio}（乘性减）。</li>
+ *   <li>请求正常完成且当前并发数达到上限的一半以上时，并发上限加 1（加性增）；
+ *   未充分使用时不增长，避免空闲期上限无限膨胀。</li>
+ *   <li>并发上限始终位于 {@code [minLimit, maxLimit]} 区间内。</li>
+ * </ul>
+ *
+ * <p><strong>内存占用</strong></p>
+ * <ul>
+ *   <li>状态按处理器方法（路由）维护，而非按限流键维护，状态数量不超过应用中的路由数，
+ *   不会因 SpEL 键或请求源的变化而增长。</li>
+ *   <li>每个路由仅保存两个计数器，不保存历史样本。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see RateLimit#adaptive()
+ * @see RateLimitInterceptor
+ * @since 2.1.0
+ */
+public class AdaptiveConcurrencyLimiter {
+	/**
+	 * 路由到并发上限状态的映射。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<Method, RouteLimit> routeLimits = new ConcurrentHashMap<>();
+	/**
+	 * 初始并发上限。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int initialLimit;
+	/**
+	 * 最小并发上限。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int minLimit;
+	/**
+	 * 最大并发上限。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int maxLimit;
+	/**
+	 * 乘性减的回退系数。
+	 *
+	 * @since 2.1.0
+	 */
+	private final double backoffRatio;
+	/**
+	 * 耗时阈值（纳秒），超过该值的请求视为过载信号。
+	 *
+	 * @since 2.1.0
+	 */
+	private final long latencyThresholdNanos;
+
+	/**
+	 * 构造自适应并发限流器。
+	 *
+	 * @param initialLimit     初始并发上限，必须位于 {@code [minLimit, maxLimit]} 区间内
+	 * @param minLimit         最小并发上限，必须大于 0
+	 * @param maxLimit         最大并发上限，必须不小于 {@code minLimit}
+	 * @param backoffRatio     回退系数，取值范围 {@code (0, 1)}
+	 * @param latencyThreshold 耗时阈值，必须为正数
+	 * @throws IllegalArgumentException 参数不合法时抛出
+	 * @since 2.1.0
+	 */
+	public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+									  Duration latencyThreshold) {
+		Assert.isTrue(minLimit > 0, "minLimit 必须大于0");
+		Assert.isTrue(maxLimit >= minLimit, "maxLimit 必须大于等于 minLimit");
+		Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit, "initialLimit 必须位于 minLimit 与 maxLimit 之间");
+		Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "backoffRatio 必须位于0到1之间");
+		Assert.notNull(latencyThreshold, "latencyThreshold 不可为 null");
+		Assert.isTrue(!latencyThreshold.isNegative() && !latencyThreshold.isZero(), "latencyThreshold 必须为正数");
+
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.backoffRatio = backoffRatio;
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+	}
+
+	/**
+	 * 尝试为指定路由获取一个并发许可。
+	 *
+	 * @param route 路由对应的处理器方法
+	 * @return 获取成功返回路由状态（用于完成后回调 {@link RouteLimit#release(long, boolean)}）；已达上限返回 {@code null}
+	 * @since 2.1.0
+	 */
+	public RouteLimit tryAcquire(Method route) {
+		RouteLimit routeLimit = routeLimits.computeIfAbsent(route, k -> new RouteLimit());
+		return routeLimit.tryAcquire() ? routeLimit : null;
+	}
+
+	/**
+	 * 获取当前所有路由的并发上限状态（只读视图），可用于监控。
+	 *
+	 * @return 路由到并发上限状态的只读映射
+	 * @since 2.1.0
+	 */
+	public Map<Method, RouteLimit> getRouteLimits() {
+		return Collections.unmodifiableMap(routeLimits);
+	}
+
+	/**
+	 * 单个路由的并发上限状态。
+	 *
+	 * <p>线程安全：并发数与上限均使用原子变量维护，无锁。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	public final class RouteLimit {
+		/**
+		 * 当前正在处理的请求数。
+		 *
+		 * @since 2.1.0
+		 */
+		private final AtomicInteger inflight = new AtomicInteger();
+		/**
+		 * 当前并发上限。
+		 *
+		 * @since 2.1.0
+		 */
+		private final AtomicInteger limit = new AtomicInteger(initialLimit);
+
+		private RouteLimit() {
+		}
+
+		/**
+		 * 尝试占用一个并发许可。
+		 *
+		 * @return 未达上限返回 {@code true}；否则返回 {@code false}
+		 * @since 2.1.0
+		 */
+		private boolean tryAcquire() {
+			while (true) {
+				int current = inflight.get();
+				if (current >= limit.get()) {
+					return false;
+				}
+				if (inflight.compareAndSet(current, current + 1)) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * 释放并发许可并依据本次请求的处理结果调整并发上限。
+		 *
+		 * @param latencyNanos 请求处理耗时（纳秒）
+		 * @param failed       请求是否处理失败
+		 * @since 2.1.0
+		 */
+		public void release(long latencyNanos, boolean failed) {
+			int current = inflight.getAndDecrement();
+			if (failed || latencyNanos > latencyThresholdNanos) {
+				limit.updateAndGet(value -> Math.max(minLimit, (int) (value * backoffRatio)));
+			} else if (current * 2 >= limit.get()) {
+				limit.updateAndGet(value -> Math.min(maxLimit, value + 1));
+			}
+		}
+
+		/**
+		 * 获取当前并发上限。
+		 *
+		 * @return 当前并发上限
+		 * @since 2.1.0
+		 */
+		public int getLimit() {
+			return limit.get();
+		}
+
+		/**
+		 * 获取当前正在处理的请求数。
+		 *
+		 * @return 当前并发数
+		 * @since 2.1.0
+		 */
+		public int getInflight() {
+			return inflight.get();
+		}
+	}
+}
@@ -0,0 +1,490 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.limit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 基于压缩前缀树（Radix Trie）的 IP 地址段集合。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>存储任意数量的 IPv4/IPv6 CIDR 地址段（如 {@code 10.0.0.0/8}、{@code 2001:db8::/32}），
+ *   用于判断某个 IP 是否落在任一地址段内。</li>
+ *   <li>IPv4 与 IPv6 分别维护一棵按位分支的二叉前缀树，单分支路径被压缩为一个节点。</li>
+ * </ul>
+ *
+ * <p><strong>性能</strong></p>
+ * <ul>
+ *   <li>查询最多比较地址位数（IPv4 为 32 位，IPv6 为 128 位）次，与地址段数量无关，
+ *   即使存储数十万个地址段也保持常数时间。</li>
+ *   <li>被已有地址段完全覆盖的地址段不会产生新节点。</li>
+ *   <li>IP 按字面量自行解析，不经过 {@link java.net.InetAddress}，客户端伪造的非法地址或主机名不会触发 DNS 查询。</li>
+ * </ul>
+ *
+ * <p><strong>线程安全</strong></p>
+ * <ul>
+ *   <li>{@link #add(String)} 非线程安全，应在构建阶段完成；构建完成后的并发查询是安全的。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see IpRateLimitSourceExtractor
+ * @since 2.1.0
+ */
+public class IpRangeTrie {
+	/**
+	 * IPv4 地址段的根节点。
+	 *
+	 * @since 2.1.0
+	 */
+	private Node ipv4Root;
+	/**
+	 * IPv6 地址段的根节点。
+	 *
+	 * @since 2.1.0
+	 */
+	private Node ipv6Root;
+	/**
+	 * 已添加的地址段数量。
+	 *
+	 * @since 2.1.0
+	 */
+	private int size;
+
+	/**
+	 * 构造空的地址段集合。
+	 *
+	 * @since 2.1.0
+	 */
+	public IpRangeTrie() {
+	}
+
+	/**
+	 * 使用给定的地址段构造集合。
+	 *
+	 * @param ranges 地址段列表，格式为 CIDR 或单个 IP
+	 * @throws IllegalArgumentException 存在无法解析的地址段时抛出
+	 * @since 2.1.0
+	 */
+	public IpRangeTrie(Collection<String> ranges) {
+		if (Objects.nonNull(ranges)) {
+			for (String range : ranges) {
+				add(range);
+			}
+		}
+	}
+
+	/**
+	 * 添加一个地址段。
+	 *
+	 * <p>支持 CIDR（如 {@code 192.168.0.0/16}）与单个 IP（视为 {@code /32} 或 {@code /128}）。</p>
+	 *
+	 * @param range 地址段
+	 * @throws IllegalArgumentException 地址段为空、IP 无法解析或前缀长度越界时抛出
+	 * @since 2.1.0
+	 */
+	public void add(String range) {
+		Assert.hasText(range, "range 不可为空");
+
+		String trimmed = range.trim();
+		int slashIndex = trimmed.indexOf('/');
+		String address = slashIndex == -1 ? trimmed : trimmed.substring(0, slashIndex);
+		byte[] bytes = toAddressBytes(address);
+		Assert.notNull(bytes, "无效的IP地址：" + range);
+
+		int maxLength = bytes.length * Byte.SIZE;
+		int prefixLength = maxLength;
+		if (slashIndex != -1) {
+			String prefix = trimmed.substring(slashIndex + 1);
+			Assert.isTrue(StringUtils.isNumeric(prefix), "无效的前缀长度：" + range);
+			prefixLength = Integer.parseInt(prefix);
+			Assert.isTrue(prefixLength <= maxLength, "前缀长度超出范围：" + range);
+		}
+
+		mask(bytes, prefixLength);
+		if (bytes.length == 4) {
+			ipv4Root = insert(ipv4Root, bytes, prefixLength);
+		} else {
+			ipv6Root = insert(ipv6Root, bytes, prefixLength);
+		}
+		++size;
+	}
+
+	/**
+	 * 判断 IP 是否落在任一地址段内。
+	 *
+	 * @param ip IP 字符串（IPv4/IPv6）
+	 * @return 命中任一地址段返回 {@code true}；IP 无法解析或未命中返回 {@code false}
+	 * @since 2.1.0
+	 */
+	public boolean contains(String ip) {
+		byte[] bytes = toAddressBytes(ip);
+		return Objects.nonNull(bytes) && contains(bytes);
+	}
+
+	/**
+	 * 判断地址字节是否落在任一地址段内。
+	 *
+	 * @param address 地址字节，长度为 4（IPv4）或 16（IPv6）
+	 * @return 命中任一地址段返回 {@code true}；否则返回 {@code false}
+	 * @since 2.1.0
+	 */
+	public boolean contains(byte[] address) {
+		int maxLength = address.length * Byte.SIZE;
+		Node node = address.length == 4 ? ipv4Root : ipv6Root;
+		while (Objects.nonNull(node)) {
+			if (commonPrefixLength(address, node.bits, node.length) < node.length) {
+				return false;
+			}
+			if (node.terminal) {
+				return true;
+			}
+			if (node.length == maxLength) {
+				return false;
+			}
+			node = node.child(bitAt(address, node.length));
+		}
+		return false;
+	}
+
+	/**
+	 * 集合是否为空。
+	 *
+	 * @return 未添加任何地址段返回 {@code true}
+	 * @since 2.1.0
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 获取已添加的地址段数量（包含被其他地址段覆盖的地址段）。
+	 *
+	 * @return 地址段数量
+	 * @since 2.1.0
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 将 IP 字面量解析为地址字节。
+	 *
+	 * <p>仅接受点分十进制 IPv4 与 IPv6 字面量（支持 {@code ::} 压缩、内嵌 IPv4 尾部与 {@code %} 区域标识），
+	 * 不会执行 DNS 查询；IPv4 映射的 IPv6 地址会被解析为 IPv4 地址。</p>
+	 *
+	 * @param ip IP 字符串
+	 * @return 地址字节（IPv4 为 4 字节，IPv6 为 16 字节）；不是合法 IP 字面量时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	public static byte[] toAddressBytes(String ip) {
+		if (StringUtils.isBlank(ip)) {
+			return null;
+		}
+		String address = ip.trim();
+		if (address.indexOf(':') == -1) {
+			return parseIpv4(address, 0, address.length());
+		}
+		byte[] bytes = parseIpv6(address);
+		if (Objects.nonNull(bytes) && isIpv4Mapped(bytes)) {
+			return Arrays.copyOfRange(bytes, 12, 16);
+		}
+		return bytes;
+	}
+
+	/**
+	 * 将地址字节中前缀长度之后的位清零。
+	 *
+	 * @param bytes        地址字节
+	 * @param prefixLength 前缀长度
+	 * @since 2.1.0
+	 */
+	static void mask(byte[] bytes, int prefixLength) {
+		int fullBytes = prefixLength / Byte.SIZE;
+		int remainBits = prefixLength % Byte.SIZE;
+		if (fullBytes < bytes.length && remainBits != 0) {
+			bytes[fullBytes] &= (byte) (0xFF << (Byte.SIZE - remainBits));
+			++fullBytes;
+		}
+		for (int i = fullBytes; i < bytes.length; i++) {
+			bytes[i] = 0;
+		}
+	}
+
+	/**
+	 * 解析点分十进制 IPv4 字面量。
+	 *
+	 * @param address 地址字符串
+	 * @param start   起始位置（包含）
+	 * @param end     结束位置（不包含）
+	 * @return 4 字节地址；格式非法时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	private static byte[] parseIpv4(String address, int start, int end) {
+		byte[] bytes = new byte[4];
+		int index = 0;
+		int value = 0;
+		int digits = 0;
+		for (int i = start; i <= end; i++) {
+			if (i == end || address.charAt(i) == '.') {
+				if (digits == 0 || index == bytes.length) {
+					return null;
+				}
+				bytes[index++] = (byte) value;
+				value = 0;
+				digits = 0;
+				continue;
+			}
+			char ch = address.charAt(i);
+			if (ch < '0' || ch > '9' || ++digits > 3) {
+				return null;
+			}
+			value = value * 10 + (ch - '0');
+			if (value > 255) {
+				return null;
+			}
+		}
+		return index == bytes.length ? bytes : null;
+	}
+
+	/**
+	 * 解析 IPv6 字面量。
+	 *
+	 * @param address 地址字符串（包含 {@code :}）
+	 * @return 16 字节地址；格式非法时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	private static byte[] parseIpv6(String address) {
+		int end = address.indexOf('%');
+		if (end == -1) {
+			end = address.length();
+		}
+		if (end < 2) {
+			return null;
+		}
+
+		byte[] bytes = new byte[16];
+		int index = 0;
+		int compressIndex = -1;
+		int i = 0;
+		if (address.charAt(0) == ':') {
+			if (address.charAt(1) != ':') {
+				return null;
+			}
+			compressIndex = 0;
+			i = 2;
+		}
+		while (i < end) {
+			int groupEnd = i;
+			boolean embeddedIpv4 = false;
+			while (groupEnd < end && address.charAt(groupEnd) != ':') {
+				embeddedIpv4 |= address.charAt(groupEnd) == '.';
+				++groupEnd;
+			}
+			if (groupEnd == i) {
+				return null;
+			}
+			if (embeddedIpv4) {
+				// 内嵌 IPv4 只能作为最后两组
+				if (groupEnd != end || index > 12) {
+					return null;
+				}
+				byte[] ipv4 = parseIpv4(address, i, end);
+				if (Objects.isNull(ipv4)) {
+					return null;
+				}
+				System.arraycopy(ipv4, 0, bytes, index, 4);
+				index += 4;
+				break;
+			}
+			if (groupEnd - i > 4 || index == bytes.length) {
+				return null;
+			}
+			int value = 0;
+			for (int j = i; j < groupEnd; j++) {
+				int digit = hexDigit(address.charAt(j));
+				if (digit == -1) {
+					return null;
+				}
+				value = (value << 4) | digit;
+			}
+			bytes[index++] = (byte) (value >>> 8);
+			bytes[index++] = (byte) value;
+
+			i = groupEnd;
+			if (i < end) {
+				++i;
+				if (i == end) {
+					return null;
+				}
+				if (address.charAt(i) == ':') {
+					if (compressIndex != -1) {
+						return null;
+					}
+					compressIndex = index;
+					++i;
+				}
+			}
+		}
+
+		if (compressIndex == -1) {
+			return index == bytes.length ? bytes : null;
+		}
+		if (index == bytes.length) {
+			return null;
+		}
+		int tailLength = index - compressIndex;
+		System.arraycopy(bytes, compressIndex, bytes, bytes.length - tailLength, tailLength);
+		Arrays.fill(bytes, compressIndex, bytes.length - tailLength, (byte) 0);
+		return bytes;
+	}
+
+	private static int hexDigit(char ch) {
+		if (ch >= '0' && ch <= '9') {
+			return ch - '0';
+		}
+		if (ch >= 'a' && ch <= 'f') {
+			return ch - 'a' + 10;
+		}
+		if (ch >= 'A' && ch <= 'F') {
+			return ch - 'A' + 10;
+		}
+		return -1;
+	}
+
+	private static boolean isIpv4Mapped(byte[] bytes) {
+		for (int i = 0; i < 10; i++) {
+			if (bytes[i] != 0) {
+				return false;
+			}
+		}
+		return bytes[10] == (byte) 0xFF && bytes[11] == (byte) 0xFF;
+	}
+
+	private static Node insert(Node root, byte[] bits, int length) {
+		if (Objects.isNull(root)) {
+			return new Node(bits, length, true);
+		}
+
+		Node parent = null;
+		Node node = root;
+		while (true) {
+			int common = commonPrefixLength(bits, node.bits, Math.min(length, node.length));
+			if (common == node.length) {
+				// 当前节点是新地址段的前缀
+				if (length == node.length) {
+					node.terminal = true;
+					node.zero = null;
+					node.one = null;
+					return root;
+				}
+				if (node.terminal) {
+					// 已被更大的地址段覆盖
+					return root;
+				}
+				int bit = bitAt(bits, node.length);
+				Node child = node.child(bit);
+				if (Objects.isNull(child)) {
+					node.setChild(bit, new Node(bits, length, true));
+					return root;
+				}
+				parent = node;
+				node = child;
+				continue;
+			}
+
+			Node replacement;
+			if (common == length) {
+				// 新地址段覆盖当前节点及其子树
+				replacement = new Node(bits, length, true);
+			} else {
+				byte[] splitBits = bits.clone();
+				mask(splitBits, common);
+				replacement = new Node(splitBits, common, false);
+				replacement.setChild(bitAt(node.bits, common), node);
+				replacement.setChild(bitAt(bits, common), new Node(bits, length, true));
+			}
+			if (Objects.isNull(parent)) {
+				return replacement;
+			}
+			parent.setChild(bitAt(bits, parent.length), replacement);
+			return root;
+		}
+	}
+
+	private static int commonPrefixLength(byte[] a, byte[] b, int limit) {
+		int length = 0;
+		for (int i = 0; length < limit; i++) {
+			int diff = (a[i] ^ b[i]) & 0xFF;
+			if (diff != 0) {
+				length += Integer.numberOfLeadingZeros(diff) - 24;
+				break;
+			}
+			length += Byte.SIZE;
+		}
+		return Math.min(length, limit);
+	}
+
+	private static int bitAt(byte[] bytes, int index) {
+		return (bytes[index / Byte.SIZE] >>> (Byte.SIZE - 1 - index % Byte.SIZE)) & 1;
+	}
+
+	/**
+	 * 前缀树节点，表示一段被压缩的公共前缀。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class Node {
+		/**
+		 * 前缀位（前缀长度之后的位均为 0）。
+		 */
+		final byte[] bits;
+		/**
+		 * 前缀长度（位）。
+		 */
+		final int length;
+		/**
+		 * 该节点是否对应一个已添加的地址段。
+		 */
+		boolean terminal;
+		Node zero;
+		Node one;
+
+		Node(byte[] bits, int length, boolean terminal) {
+			this.bits = bits;
+			this.length = length;
+			this.terminal = terminal;
+		}
+
+		Node child(int bit) {
+			return bit == 0 ? zero : one;
+		}
+
+		void setChild(int bit, Node child) {
+			if (bit == 0) {
+				zero = child;
+			} else {
+				one = child;
+			}
+		}
+	}
+}
@@ -20,6 +20,11 @@ import io.github.pangju666.framework.boot.web.limit.annotation.RateLimit;
 import io.github.pangju666.framework.boot.web.limit.interceptor.RateLimitInterceptor;
 import io.github.pangju666.framework.web.servlet.utils.HttpRequestUtils;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.Assert;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Objects;
 
 /**
  * 基于 IP 的限流源提取器。
@@ -28,6 +33,7 @@ import jakarta.servlet.http.HttpServletRequest;
  * <ul>
  *   <li>实现 {@link RateLimitSourceExtractor}，返回客户端 IP 作为限流源。</li>
  *   <li>使用 {@link HttpRequestUtils#getIpAddress(HttpServletRequest)} 获取真实 IP，兼容代理与负载均衡。</li>
+ *   <li>支持按 CIDR 前缀聚合：同一网段内的地址共享限流配额，避免客户端在 IPv6 /64 等网段内轮换地址绕过限流。</li>
  * </ul>
  *
  * <p><strong>用法示例</strong></p>
@@ -39,6 +45,7 @@ import jakarta.servlet.http.HttpServletRequest;
  * <ul>
  *   <li>确保代理正确设置转发头（如 X-Forwarded-For、X-Real-IP）。</li>
  *   <li>不适合用户级限流；用户限流应使用用户标识提取器。</li>
+ *   <li>前缀长度为地址全长（IPv4 为 32，IPv6 为 128）时不做聚合，直接返回原始 IP 字符串。</li>
  * </ul>
  *
  * @author pangju666
@@ -48,17 +55,89 @@ import jakarta.servlet.http.HttpServletRequest;
  * @since 1.0.0
  */
 public class IpRateLimitSourceExtractor implements RateLimitSourceExtractor {
+	/**
+	 * IPv4 地址位数。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int IPV4_BITS = 32;
+	/**
+	 * IPv6 地址位数。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int IPV6_BITS = 128;
+
+	/**
+	 * IPv4 聚合前缀长度。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int ipv4PrefixLength;
+	/**
+	 * IPv6 聚合前缀长度。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int ipv6PrefixLength;
+
+	/**
+	 * 构造不做网段聚合的提取器，直接使用客户端 IP 作为限流源。
+	 *
+	 * @since 1.0.0
+	 */
+	public IpRateLimitSourceExtractor() {
+		this(IPV4_BITS, IPV6_BITS);
+	}
+
+	/**
+	 * 构造按网段聚合的提取器。
+	 *
+	 * @param ipv4PrefixLength IPv4 聚合前缀长度，取值范围 {@code [0, 32]}
+	 * @param ipv6PrefixLength IPv6 聚合前缀长度，取值范围 {@code [0, 128]}
+	 * @throws IllegalArgumentException 前缀长度越界时抛出
+	 * @since 2.1.0
+	 */
+	public IpRateLimitSourceExtractor(int ipv4PrefixLength, int ipv6PrefixLength) {
+		Assert.isTrue(ipv4PrefixLength >= 0 && ipv4PrefixLength <= IPV4_BITS, "ipv4PrefixLength 必须位于0到32之间");
+		Assert.isTrue(ipv6PrefixLength >= 0 && ipv6PrefixLength <= IPV6_BITS, "ipv6PrefixLength 必须位于0到128之间");
+
+		this.ipv4PrefixLength = ipv4PrefixLength;
+		this.ipv6PrefixLength = ipv6PrefixLength;
+	}
+
     /**
-     * 返回客户端 IP 作为限流源标识。
+     * 返回客户端 IP（或其所在网段）作为限流源标识。
      *
      * <p>通过 {@link HttpRequestUtils#getIpAddress(HttpServletRequest)} 获取真实 IP；
      * 无法获取时回退为 {@code request.getRemoteAddr()}。</p>
+     * <p>配置了聚合前缀时返回 CIDR 形式的网段，如 {@code 2001:db8:0:0:0:0:0:0/64}；
+     * IP 无法解析时返回原始字符串。</p>
      *
      * @param request 当前 HTTP 请求
-     * @return 客户端 IP 字符串（IPv4/IPv6），不为 {@code null}
+     * @return 客户端 IP 或网段字符串（IPv4/IPv6），不为 {@code null}
      */
 	@Override
 	public String getSource(HttpServletRequest request) {
-		return HttpRequestUtils.getIpAddress(request);
+		String ip = HttpRequestUtils.getIpAddress(request);
+		// 未配置聚合时跳过地址解析
+		boolean ipv6 = ip.indexOf(':') != -1;
+		if (ipv6 ? ipv6PrefixLength == IPV6_BITS : ipv4PrefixLength == IPV4_BITS) {
+			return ip;
+		}
+		byte[] address = IpRangeTrie.toAddressBytes(ip);
+		if (Objects.isNull(address)) {
+			return ip;
+		}
+		int prefixLength = address.length == 4 ? ipv4PrefixLength : ipv6PrefixLength;
+		if (prefixLength == address.length * Byte.SIZE) {
+			return ip;
+		}
+		IpRangeTrie.mask(address, prefixLength);
+		try {
+			return InetAddress.getByAddress(address).getHostAddress() + "/" + prefixLength;
+		} catch (UnknownHostException e) {
+			return ip;
+		}
 	}
 }
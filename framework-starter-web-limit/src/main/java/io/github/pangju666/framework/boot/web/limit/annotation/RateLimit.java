@@ -16,6 +16,7 @@
 
 package io.github.pangju666.framework.boot.web.limit.annotation;
 
+import io.github.pangju666.framework.boot.web.limit.AdaptiveConcurrencyLimiter;
 import io.github.pangju666.framework.boot.web.limit.exception.RateLimitException;
 import io.github.pangju666.framework.boot.web.limit.RateLimitSourceExtractor;
 import io.github.pangju666.framework.boot.web.limit.IpRateLimitSourceExtractor;
@@ -40,6 +41,7 @@ import java.util.concurrent.TimeUnit;
  *     <li>支持自定义请求源提取器</li>
  *     <li>支持自定义限流键</li>
  *     <li>支持自定义错误消息</li>
+ *     <li>支持依据处理耗时与错误率自适应调整并发上限</li>
  * </ul>
  * </p>
  * <p>
@@ -259,6 +261,22 @@ public @interface RateLimit {
 	 */
 	String message() default "请求次数已达上限，请稍候再试";
 
+	/**
+	 * 是否启用自适应并发限流
+	 * <p>
+	 * 启用后，除{@link #rate()}的静态速率限制外，框架还会为该路由维护一个动态并发上限，
+	 * 依据请求处理耗时与错误情况按 AIMD 算法自动调整，超过上限的请求会被拒绝并抛出{@link RateLimitException}。
+	 * </p>
+	 * <p>
+	 * 并发上限的初始值、上下限、回退系数与耗时阈值通过{@code pangju.web.rate-limit.adaptive}配置。
+	 * </p>
+	 *
+	 * @return 是否启用自适应并发限流，默认为{@code false}
+	 * @see AdaptiveConcurrencyLimiter
+	 * @since 2.1.0
+	 */
+	boolean adaptive() default false;
+
 	/**
 	 * 请求限流作用域枚举
 	 * <p>
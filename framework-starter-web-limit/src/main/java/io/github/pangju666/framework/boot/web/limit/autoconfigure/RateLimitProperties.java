@@ -18,6 +18,10 @@ package io.github.pangju666.framework.boot.web.limit.autoconfigure;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 速率限制配置属性类
  * <p>
@@ -38,6 +42,28 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *         redisson-client-ref: redissonClient
  *         # Redis键前缀
  *         key-prefix: rate-limit
+ *       # 自适应并发限流配置（当注解 adaptive = true 时生效）
+ *       adaptive:
+ *         initial-limit: 20
+ *         min-limit: 1
+ *         max-limit: 200
+ *         backoff-ratio: 0.9
+ *         latency-threshold: 1s
+ *       # IP 配置
+ *       ip:
+ *         # IP 源聚合前缀长度（SOURCE 作用域下同一网段共享配额）
+ *         ipv4-prefix-length: 32
+ *         ipv6-prefix-length: 64
+ *         # 允许名单（命中后跳过限流，仅对 @RateLimit 接口生效）
+ *         allow-list:
+ *           - 10.0.0.0/8
+ *         # 拒绝名单（命中后直接拒绝，优先于允许名单，仅对 @RateLimit 接口生效）
+ *         deny-list:
+ *           - 203.0.113.0/24
+ *           - 2001:db8::/32
+ *         # 受信任代理（仅直连地址命中时名单匹配才读取转发请求头）
+ *         trusted-proxies:
+ *           - 10.0.0.1
  * </pre>
  * </p>
  *
@@ -70,6 +96,24 @@ public class RateLimitProperties {
 	 * @since 1.0.0
 	 */
 	private Redisson redisson = new Redisson();
+	/**
+	 * 自适应并发限流配置
+	 * <p>
+	 * 对标注了{@code @RateLimit(adaptive = true)}的路由生效。
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	private Adaptive adaptive = new Adaptive();
+	/**
+	 * IP 配置
+	 * <p>
+	 * 包含 IP 源聚合前缀长度与允许/拒绝名单。
+	 * </p>
+	 *
+	 * @since 2.1.0
+	 */
+	private Ip ip = new Ip();
 
 	public Type getType() {
 		return type;
@@ -87,6 +131,22 @@ public class RateLimitProperties {
 		this.redisson = redisson;
 	}
 
+	public Adaptive getAdaptive() {
+		return adaptive;
+	}
+
+	public void setAdaptive(Adaptive adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	public Ip getIp() {
+		return ip;
+	}
+
+	public void setIp(Ip ip) {
+		this.ip = ip;
+	}
+
 	/**
 	 * 限流实现类型枚举
 	 * <p>
@@ -167,4 +227,208 @@ public class RateLimitProperties {
 			this.keyPrefix = keyPrefix;
 		}
 	}
+
+	/**
+	 * 自适应并发限流配置内部类
+	 * <p>
+	 * 用于配置 AIMD（加性增、乘性减）算法的参数。
+	 * </p>
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static class Adaptive {
+		/**
+		 * 初始并发上限
+		 * <p>
+		 * 每个路由首次被访问时的并发上限，默认为20。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private int initialLimit = 20;
+		/**
+		 * 最小并发上限
+		 * <p>
+		 * 并发上限回退时不会低于该值，默认为1。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private int minLimit = 1;
+		/**
+		 * 最大并发上限
+		 * <p>
+		 * 并发上限增长时不会超过该值，默认为200。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private int maxLimit = 200;
+		/**
+		 * 回退系数
+		 * <p>
+		 * 出现错误或超时时并发上限乘以该系数，取值范围为 (0, 1)，默认为0.9。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private double backoffRatio = 0.9;
+		/**
+		 * 耗时阈值
+		 * <p>
+		 * 请求处理耗时超过该值时视为过载信号，触发并发上限回退，默认为1秒。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private Duration latencyThreshold = Duration.ofSeconds(1);
+
+		public int getInitialLimit() {
+			return initialLimit;
+		}
+
+		public void setInitialLimit(int initialLimit) {
+			this.initialLimit = initialLimit;
+		}
+
+		public int getMinLimit() {
+			return minLimit;
+		}
+
+		public void setMinLimit(int minLimit) {
+			this.minLimit = minLimit;
+		}
+
+		public int getMaxLimit() {
+			return maxLimit;
+		}
+
+		public void setMaxLimit(int maxLimit) {
+			this.maxLimit = maxLimit;
+		}
+
+		public double getBackoffRatio() {
+			return backoffRatio;
+		}
+
+		public void setBackoffRatio(double backoffRatio) {
+			this.backoffRatio = backoffRatio;
+		}
+
+		public Duration getLatencyThreshold() {
+			return latencyThreshold;
+		}
+
+		public void setLatencyThreshold(Duration latencyThreshold) {
+			this.latencyThreshold = latencyThreshold;
+		}
+	}
+
+	/**
+	 * IP 配置内部类
+	 * <p>
+	 * 用于配置基于 IP 的限流源聚合方式与允许/拒绝名单。
+	 * 名单中的每一项可以是 CIDR 网段（如 {@code 192.168.0.0/16}）或单个 IP。
+	 * </p>
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static class Ip {
+		/**
+		 * IPv4 聚合前缀长度
+		 * <p>
+		 * {@link io.github.pangju666.framework.boot.web.limit.IpRateLimitSourceExtractor}
+		 * 会将 IPv4 地址截断到该前缀长度后作为限流源，取值范围为 [0, 32]，默认为32（不聚合）。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private int ipv4PrefixLength = 32;
+		/**
+		 * IPv6 聚合前缀长度
+		 * <p>
+		 * {@link io.github.pangju666.framework.boot.web.limit.IpRateLimitSourceExtractor}
+		 * 会将 IPv6 地址截断到该前缀长度后作为限流源，取值范围为 [0, 128]，默认为128（不聚合）。
+		 * 客户端通常可在 /64 网段内任意轮换地址，建议设置为64。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private int ipv6PrefixLength = 128;
+		/**
+		 * 允许名单
+		 * <p>
+		 * 来源 IP 命中该名单时跳过限流检查。仅对标注了 {@link io.github.pangju666.framework.boot.web.limit.annotation.RateLimit}
+		 * 的接口生效，未标注的接口不检查来源 IP。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private List<String> allowList = new ArrayList<>();
+		/**
+		 * 拒绝名单
+		 * <p>
+		 * 来源 IP 命中该名单时直接返回 403 响应，优先于允许名单。仅对标注了
+		 * {@link io.github.pangju666.framework.boot.web.limit.annotation.RateLimit} 的接口生效，
+		 * 需要全局拒绝访问时应在网关或过滤器层处理。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private List<String> denyList = new ArrayList<>();
+		/**
+		 * 受信任代理
+		 * <p>
+		 * 允许名单与拒绝名单默认只匹配 {@code request.getRemoteAddr()}，不读取客户端可任意伪造的
+		 * {@code X-Forwarded-For}、{@code X-Real-IP} 请求头，否则任何客户端都可以通过请求头冒充允许名单地址跳过限流。
+		 * 仅当直连地址命中该列表（单个 IP 或 CIDR 网段）时，才从 {@code X-Forwarded-For} 中自右向左取第一个非受信任代理地址。
+		 * 已通过 {@code server.forward-headers-strategy} 由容器改写直连地址时无需配置。
+		 * </p>
+		 *
+		 * @since 2.1.0
+		 */
+		private List<String> trustedProxies = new ArrayList<>();
+
+		public int getIpv4PrefixLength() {
+			return ipv4PrefixLength;
+		}
+
+		public void setIpv4PrefixLength(int ipv4PrefixLength) {
+			this.ipv4PrefixLength = ipv4PrefixLength;
+		}
+
+		public int getIpv6PrefixLength() {
+			return ipv6PrefixLength;
+		}
+
+		public void setIpv6PrefixLength(int ipv6PrefixLength) {
+			this.ipv6PrefixLength = ipv6PrefixLength;
+		}
+
+		public List<String> getAllowList() {
+			return allowList;
+		}
+
+		public void setAllowList(List<String> allowList) {
+			this.allowList = allowList;
+		}
+
+		public List<String> getDenyList() {
+			return denyList;
+		}
+
+		public void setDenyList(List<String> denyList) {
+			this.denyList = denyList;
+		}
+
+		public List<String> getTrustedProxies() {
+			return trustedProxies;
+		}
+
+		public void setTrustedProxies(List<String> trustedProxies) {
+			this.trustedProxies = trustedProxies;
+		}
+	}
 }
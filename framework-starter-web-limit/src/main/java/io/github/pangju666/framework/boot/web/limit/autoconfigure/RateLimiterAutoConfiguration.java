@@ -17,6 +17,8 @@
 package io.github.pangju666.framework.boot.web.limit.autoconfigure;
 
 import io.github.pangju666.framework.boot.web.autoconfigure.WebMvcConfigurerAutoConfiguration;
+import io.github.pangju666.framework.boot.web.limit.AdaptiveConcurrencyLimiter;
+import io.github.pangju666.framework.boot.web.limit.IpRangeTrie;
 import io.github.pangju666.framework.boot.web.limit.IpRateLimitSourceExtractor;
 import io.github.pangju666.framework.boot.web.limit.RateLimiter;
 import io.github.pangju666.framework.boot.web.limit.interceptor.RateLimitInterceptor;
@@ -26,9 +28,11 @@ import jakarta.servlet.Servlet;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.util.CollectionUtils;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -52,6 +56,9 @@ import org.springframework.web.servlet.DispatcherServlet;
  *   <li>导入 {@link Resilience4jConfiguration} 与 {@link RedissonConfiguration}</li>
  *   <li>实际生效的限流实现由各自配置类的条件与 {@code type} 属性共同决定</li>
  *   <li>注册 {@link IpRateLimitSourceExtractor}，供 {@link RateLimitInterceptor} 在 {@code SOURCE} 作用域下使用</li>
+ *   <li>注册 {@link AdaptiveConcurrencyLimiter}，供 {@link RateLimitInterceptor} 在 {@code adaptive = true} 时使用</li>
+ *   <li>依据 {@code ip.allow-list}/{@code ip.deny-list} 构建 {@link IpRangeTrie}，供 {@link RateLimitInterceptor} 在限流前检查来源 IP；
+ *   来源 IP 为直连地址，仅当直连地址属于 {@code ip.trusted-proxies} 时才采用转发请求头中的地址</li>
  * </ul>
  * <p><b>注意事项</b></p>
  * <ul>
@@ -76,20 +83,51 @@ import org.springframework.web.servlet.DispatcherServlet;
 public class RateLimiterAutoConfiguration {
 	/**
 	 * 注册基于 IP 的限流源提取器
+	 * <p>
+	 * 聚合前缀长度来自 {@link RateLimitProperties#getIp()}。
+	 * </p>
 	 *
+	 * @param properties 限流配置属性
 	 * @return {@link IpRateLimitSourceExtractor} 实例
 	 * @see IpRateLimitSourceExtractor
 	 * @since 1.0.0
 	 */
 	@Bean
-	public IpRateLimitSourceExtractor ipRateLimitSourceExtractor() {
-		return new IpRateLimitSourceExtractor();
+	public IpRateLimitSourceExtractor ipRateLimitSourceExtractor(RateLimitProperties properties) {
+		RateLimitProperties.Ip ip = properties.getIp();
+		return new IpRateLimitSourceExtractor(ip.getIpv4PrefixLength(), ip.getIpv6PrefixLength());
+	}
+
+	/**
+	 * 注册自适应并发限流器
+	 * <p>
+	 * 当容器中不存在同类型 Bean 时生效，参数来自 {@link RateLimitProperties#getAdaptive()}。
+	 * </p>
+	 *
+	 * @param properties 限流配置属性
+	 * @return {@link AdaptiveConcurrencyLimiter} 实例
+	 * @see AdaptiveConcurrencyLimiter
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean
+	@Bean
+	public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(RateLimitProperties properties) {
+		RateLimitProperties.Adaptive adaptive = properties.getAdaptive();
+		return new AdaptiveConcurrencyLimiter(adaptive.getInitialLimit(), adaptive.getMinLimit(),
+			adaptive.getMaxLimit(), adaptive.getBackoffRatio(), adaptive.getLatencyThreshold());
 	}
 
 	@Order(Ordered.HIGHEST_PRECEDENCE + 2)
 	@ConditionalOnBean(RateLimiter.class)
 	@Bean
-	public RateLimitInterceptor rateLimitInterceptor(RateLimiter rateLimiter) {
-		return new RateLimitInterceptor(rateLimiter);
+	public RateLimitInterceptor rateLimitInterceptor(RateLimiter rateLimiter,
+													 AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+													 RateLimitProperties properties) {
+		RateLimitProperties.Ip ip = properties.getIp();
+		IpRangeTrie allowList = CollectionUtils.isEmpty(ip.getAllowList()) ? null : new IpRangeTrie(ip.getAllowList());
+		IpRangeTrie denyList = CollectionUtils.isEmpty(ip.getDenyList()) ? null : new IpRangeTrie(ip.getDenyList());
+		IpRangeTrie trustedProxies = CollectionUtils.isEmpty(ip.getTrustedProxies()) ? null :
+			new IpRangeTrie(ip.getTrustedProxies());
+		return new RateLimitInterceptor(rateLimiter, adaptiveConcurrencyLimiter, allowList, denyList, trustedProxies);
 	}
 }
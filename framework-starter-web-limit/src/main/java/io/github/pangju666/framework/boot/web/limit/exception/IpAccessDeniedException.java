@@ -0,0 +1,65 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.limit.exception;
+
+import io.github.pangju666.framework.web.annotation.HttpException;
+import io.github.pangju666.framework.web.enums.HttpExceptionType;
+import io.github.pangju666.framework.web.exception.base.ValidationException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * IP 访问拒绝异常
+ * <p>
+ * 当请求来源 IP 命中限流拒绝名单时抛出该异常。
+ * 该异常被标记为HTTP异常，会被自动转换为HTTP 403（Forbidden）响应。
+ * </p>
+ * <p>
+ * 异常特性：
+ * <ul>
+ *     <li>HTTP状态码：403 Forbidden</li>
+ *     <li>异常代码：411</li>
+ *     <li>异常类型：VALIDATION（验证类异常）</li>
+ *     <li>日志记录：false（该异常不会被记录到应用日志中）</li>
+ * </ul>
+ * </p>
+ *
+ * @author pangju666
+ * @see RateLimitException
+ * @see ValidationException
+ * @since 2.1.0
+ */
+@HttpException(code = 411, type = HttpExceptionType.VALIDATION, description = "IP访问拒绝错误", log = false, status = HttpStatus.FORBIDDEN)
+public class IpAccessDeniedException extends ValidationException {
+	/**
+	 * 使用默认错误消息构造异常
+	 *
+	 * @since 2.1.0
+	 */
+	public IpAccessDeniedException() {
+		super("禁止访问");
+	}
+
+	/**
+	 * 使用错误消息构造异常
+	 *
+	 * @param message 错误消息
+	 * @since 2.1.0
+	 */
+	public IpAccessDeniedException(String message) {
+		super(message);
+	}
+}
@@ -17,7 +17,10 @@
 package io.github.pangju666.framework.boot.web.limit.interceptor;
 
 import io.github.pangju666.framework.boot.spring.StaticSpringContext;
+import io.github.pangju666.framework.boot.web.limit.AdaptiveConcurrencyLimiter;
+import io.github.pangju666.framework.boot.web.limit.IpRangeTrie;
 import io.github.pangju666.framework.boot.web.limit.annotation.RateLimit;
+import io.github.pangju666.framework.boot.web.limit.exception.IpAccessDeniedException;
 import io.github.pangju666.framework.boot.web.limit.exception.RateLimitException;
 import io.github.pangju666.framework.boot.web.limit.RateLimitSourceExtractor;
 import io.github.pangju666.framework.boot.web.limit.RateLimiter;
@@ -35,7 +38,10 @@ import org.springframework.expression.ParseException;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.web.method.HandlerMethod;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -49,7 +55,13 @@ import java.util.Objects;
  * <p><strong>行为</strong></p>
  * <ul>
  *   <li>识别方法或类上的注解，生成限流键（支持前缀、SpEL、源维度）。</li>
+ *   <li>限流检查前先匹配来源 IP：命中拒绝名单写入 403 响应，命中允许名单直接放行。
+ *   IP 名单只对标注了 {@link RateLimit} 的处理器生效，未标注的请求直接放行。</li>
+ *   <li>名单匹配的来源 IP 默认为 {@link HttpServletRequest#getRemoteAddr()}，不信任客户端可伪造的转发请求头；
+ *   仅当直连地址属于受信任代理时，才从 {@code X-Forwarded-For} 中自右向左取第一个非受信任代理地址（不存在时使用 {@code X-Real-IP}）。</li>
  *   <li>调用 {@link RateLimiter#tryAcquire(String, RateLimit, HttpServletRequest)} 非阻塞判定是否允许请求。</li>
+ *   <li>当 {@link RateLimit#adaptive()} 为 {@code true} 时，再通过 {@link AdaptiveConcurrencyLimiter} 执行自适应并发检查，
+ *   并在请求完成后依据耗时与响应状态调整并发上限。</li>
  *   <li>超限时写入 429 响应；异常时写入 500 响应。</li>
  *   <li>拦截范围：拦截所有路径（{@code /**}），不排除路径。</li>
  * </ul>
@@ -63,12 +75,61 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class RateLimitInterceptor extends BaseHttpInterceptor {
+	/**
+	 * 请求属性名：当前请求占用的自适应并发许可。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String ADAPTIVE_LIMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".ADAPTIVE_LIMIT";
+	/**
+	 * 请求属性名：获取自适应并发许可时的纳秒时间戳。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String ADAPTIVE_START_TIME_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".ADAPTIVE_START_TIME";
+	/**
+	 * 转发客户端地址链的请求头名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String X_FORWARDED_FOR_HEADER = "X-Forwarded-For";
+	/**
+	 * 转发客户端真实地址的请求头名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final String X_REAL_IP_HEADER = "X-Real-IP";
+
     /**
 	 * 限流器实现，用于执行速率限制检查。
 	 *
 	 * @since 1.0.0
 	 */
     private final RateLimiter rateLimiter;
+	/**
+	 * 自适应并发限流器，为 {@code null} 时忽略 {@link RateLimit#adaptive()}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+	/**
+	 * IP 允许名单，命中时跳过限流；为 {@code null} 时不检查。
+	 *
+	 * @since 2.1.0
+	 */
+	private final IpRangeTrie allowList;
+	/**
+	 * IP 拒绝名单，命中时拒绝请求；为 {@code null} 时不检查。
+	 *
+	 * @since 2.1.0
+	 */
+	private final IpRangeTrie denyList;
+	/**
+	 * 受信任代理地址，只有直连地址命中时才读取转发请求头；为 {@code null} 时只使用直连地址。
+	 *
+	 * @since 2.1.0
+	 */
+	private final IpRangeTrie trustedProxies;
 
     /**
      * 初始化拦截器，拦截所有路径（{@code /**}）。
@@ -77,10 +138,54 @@ public class RateLimitInterceptor extends BaseHttpInterceptor {
      * @since 1.0.0
      */
     public RateLimitInterceptor(RateLimiter requestLimiter) {
-        super(Collections.emptySet());
-        this.rateLimiter = requestLimiter;
+        this(requestLimiter, null);
     }
 
+	/**
+	 * 初始化拦截器，拦截所有路径（{@code /**}），并启用自适应并发限流。
+	 *
+	 * @param requestLimiter             限流器实现，用于执行限流检查（不可为 null）。
+	 * @param adaptiveConcurrencyLimiter 自适应并发限流器（可为 null，为 null 时忽略 {@link RateLimit#adaptive()}）。
+	 * @since 2.1.0
+	 */
+	public RateLimitInterceptor(RateLimiter requestLimiter, AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) {
+		this(requestLimiter, adaptiveConcurrencyLimiter, null, null);
+	}
+
+	/**
+	 * 初始化拦截器，拦截所有路径（{@code /**}），并启用自适应并发限流与 IP 名单检查。
+	 *
+	 * @param requestLimiter             限流器实现，用于执行限流检查（不可为 null）。
+	 * @param adaptiveConcurrencyLimiter 自适应并发限流器（可为 null，为 null 时忽略 {@link RateLimit#adaptive()}）。
+	 * @param allowList                  IP 允许名单（可为 null），命中时跳过限流。
+	 * @param denyList                   IP 拒绝名单（可为 null），命中时写入 403 响应，优先于允许名单。
+	 * @since 2.1.0
+	 */
+	public RateLimitInterceptor(RateLimiter requestLimiter, AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+								IpRangeTrie allowList, IpRangeTrie denyList) {
+		this(requestLimiter, adaptiveConcurrencyLimiter, allowList, denyList, null);
+	}
+
+	/**
+	 * 初始化拦截器，拦截所有路径（{@code /**}），并启用自适应并发限流与 IP 名单检查，名单匹配时信任指定代理的转发请求头。
+	 *
+	 * @param requestLimiter             限流器实现，用于执行限流检查（不可为 null）。
+	 * @param adaptiveConcurrencyLimiter 自适应并发限流器（可为 null，为 null 时忽略 {@link RateLimit#adaptive()}）。
+	 * @param allowList                  IP 允许名单（可为 null），命中时跳过限流。
+	 * @param denyList                   IP 拒绝名单（可为 null），命中时写入 403 响应，优先于允许名单。
+	 * @param trustedProxies             受信任代理地址（可为 null），为 null 时名单只匹配 {@link HttpServletRequest#getRemoteAddr()}。
+	 * @since 2.1.0
+	 */
+	public RateLimitInterceptor(RateLimiter requestLimiter, AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+								IpRangeTrie allowList, IpRangeTrie denyList, IpRangeTrie trustedProxies) {
+		super(Collections.emptySet());
+		this.rateLimiter = requestLimiter;
+		this.adaptiveConcurrencyLimiter = adaptiveConcurrencyLimiter;
+		this.allowList = allowList;
+		this.denyList = denyList;
+		this.trustedProxies = trustedProxies;
+	}
+
     /**
      * 请求处理前进行限流检查：查找注解→生成键→尝试获取→写入响应。
      *
@@ -101,12 +206,37 @@ public class RateLimitInterceptor extends BaseHttpInterceptor {
 				return true;
 			}
 
+			if (Objects.nonNull(allowList) || Objects.nonNull(denyList)) {
+				byte[] address = resolveClientAddress(request);
+				if (Objects.nonNull(address)) {
+					if (Objects.nonNull(denyList) && denyList.contains(address)) {
+						HttpResponseBuilder.from(response).writeHttpException(new IpAccessDeniedException());
+						return false;
+					}
+					if (Objects.nonNull(allowList) && allowList.contains(address)) {
+						return true;
+					}
+				}
+			}
+
 			try {
 				String key = generateKey(annotation, request);
 				if (!rateLimiter.tryAcquire(key, annotation, request)) {
 					HttpResponseBuilder.from(response).writeHttpException(new RateLimitException(annotation));
 					return false;
 				}
+				// 异步请求再次分派时复用首次分派获取的并发许可
+				if (annotation.adaptive() && Objects.nonNull(adaptiveConcurrencyLimiter) &&
+					Objects.isNull(request.getAttribute(ADAPTIVE_LIMIT_ATTRIBUTE))) {
+					AdaptiveConcurrencyLimiter.RouteLimit routeLimit = adaptiveConcurrencyLimiter.tryAcquire(
+						handlerMethod.getMethod());
+					if (Objects.isNull(routeLimit)) {
+						HttpResponseBuilder.from(response).writeHttpException(new RateLimitException(annotation));
+						return false;
+					}
+					request.setAttribute(ADAPTIVE_LIMIT_ATTRIBUTE, routeLimit);
+					request.setAttribute(ADAPTIVE_START_TIME_ATTRIBUTE, System.nanoTime());
+				}
 			} catch (Exception e) {
 				HttpResponseBuilder.from(response).writeHttpException(new ServerException(e));
 				return false;
@@ -115,6 +245,26 @@ public class RateLimitInterceptor extends BaseHttpInterceptor {
 		return true;
 	}
 
+	/**
+	 * 请求完成后释放自适应并发许可，并依据耗时与处理结果调整并发上限。
+	 *
+	 * <p>处理失败判定：存在未处理异常，或响应状态码大于等于 500。</p>
+	 *
+	 * @param request  当前 HTTP 请求
+	 * @param response 当前 HTTP 响应
+	 * @param handler  当前处理器
+	 * @param ex       处理过程中未被解析的异常（可为 null）
+	 * @since 2.1.0
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (request.getAttribute(ADAPTIVE_LIMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.RouteLimit routeLimit) {
+			request.removeAttribute(ADAPTIVE_LIMIT_ATTRIBUTE);
+			long latencyNanos = System.nanoTime() - (long) request.getAttribute(ADAPTIVE_START_TIME_ATTRIBUTE);
+			routeLimit.release(latencyNanos, Objects.nonNull(ex) || response.getStatus() >= 500);
+		}
+	}
+
     /**
      * 根据注解与请求生成限流键。
      *
@@ -154,4 +304,44 @@ public class RateLimitInterceptor extends BaseHttpInterceptor {
 		}
 		return keyBuilder.toString();
 	}
+
+	/**
+	 * 解析用于 IP 名单匹配的客户端地址。
+	 * <p>
+	 * 直连地址不属于受信任代理时直接使用直连地址，忽略转发请求头；否则自右向左遍历 {@code X-Forwarded-For}，
+	 * 返回第一个不属于受信任代理的地址，遇到无法解析的地址时停止并使用已确认的最后一个代理地址；
+	 * 不存在 {@code X-Forwarded-For} 时使用 {@code X-Real-IP}。
+	 * </p>
+	 *
+	 * @param request 当前 HTTP 请求
+	 * @return 客户端地址字节；直连地址无法解析时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	private byte[] resolveClientAddress(HttpServletRequest request) {
+		byte[] address = IpRangeTrie.toAddressBytes(request.getRemoteAddr());
+		if (Objects.isNull(trustedProxies) || Objects.isNull(address) || !trustedProxies.contains(address)) {
+			return address;
+		}
+
+		List<String> forwardedAddresses = new ArrayList<>();
+		Enumeration<String> forwardedHeaders = request.getHeaders(X_FORWARDED_FOR_HEADER);
+		while (Objects.nonNull(forwardedHeaders) && forwardedHeaders.hasMoreElements()) {
+			Collections.addAll(forwardedAddresses, StringUtils.split(forwardedHeaders.nextElement(), ','));
+		}
+		if (forwardedAddresses.isEmpty()) {
+			byte[] realAddress = IpRangeTrie.toAddressBytes(request.getHeader(X_REAL_IP_HEADER));
+			return Objects.nonNull(realAddress) ? realAddress : address;
+		}
+		for (int i = forwardedAddresses.size() - 1; i >= 0; i--) {
+			byte[] forwardedAddress = IpRangeTrie.toAddressBytes(forwardedAddresses.get(i));
+			if (Objects.isNull(forwardedAddress)) {
+				break;
+			}
+			address = forwardedAddress;
+			if (!trustedProxies.contains(address)) {
+				break;
+			}
+		}
+		return address;
+	}
 }
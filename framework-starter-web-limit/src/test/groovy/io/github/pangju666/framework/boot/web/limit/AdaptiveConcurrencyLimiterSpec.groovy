@@ -0,0 +1,111 @@
+package io.github.pangju666.framework.boot.web.limit
+
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+class AdaptiveConcurrencyLimiterSpec extends Specification {
+	def route = Object.getMethod("toString")
+
+	def "达到并发上限后拒绝请求"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5d, Duration.ofSeconds(1))
+
+		expect:
+		limiter.tryAcquire(route) != null
+		limiter.tryAcquire(route) != null
+		limiter.tryAcquire(route) == null
+	}
+
+	def "释放许可后可再次获取"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5d, Duration.ofSeconds(1))
+
+		when:
+		def routeLimit = limiter.tryAcquire(route)
+		routeLimit.release(TimeUnit.MILLISECONDS.toNanos(1), false)
+
+		then:
+		routeLimit.inflight == 0
+		limiter.tryAcquire(route) != null
+	}
+
+	def "处理失败时乘性减少并发上限"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, 0.5d, Duration.ofSeconds(1))
+
+		when:
+		def routeLimit = limiter.tryAcquire(route)
+		routeLimit.release(TimeUnit.MILLISECONDS.toNanos(1), true)
+
+		then:
+		routeLimit.limit == 5
+
+		when:
+		3.times {
+			limiter.tryAcquire(route).release(TimeUnit.MILLISECONDS.toNanos(1), true)
+		}
+
+		then:
+		routeLimit.limit == 2
+	}
+
+	def "耗时超过阈值时乘性减少并发上限"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(10, 1, 20, 0.5d, Duration.ofMillis(100))
+
+		when:
+		def routeLimit = limiter.tryAcquire(route)
+		routeLimit.release(TimeUnit.SECONDS.toNanos(1), false)
+
+		then:
+		routeLimit.limit == 5
+	}
+
+	def "充分使用且正常完成时加性增加并发上限"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(2, 1, 3, 0.5d, Duration.ofSeconds(1))
+
+		when:
+		def first = limiter.tryAcquire(route)
+		def second = limiter.tryAcquire(route)
+		second.release(TimeUnit.MILLISECONDS.toNanos(1), false)
+
+		then:
+		first.limit == 3
+
+		when:
+		limiter.tryAcquire(route)
+		limiter.tryAcquire(route).release(TimeUnit.MILLISECONDS.toNanos(1), false)
+
+		then:
+		first.limit == 3
+	}
+
+	def "未充分使用时不增加并发上限"() {
+		given:
+		def limiter = new AdaptiveConcurrencyLimiter(10, 1, 20, 0.5d, Duration.ofSeconds(1))
+
+		when:
+		limiter.tryAcquire(route).release(TimeUnit.MILLISECONDS.toNanos(1), false)
+
+		then:
+		limiter.routeLimits.get(route).limit == 10
+	}
+
+	def "非法参数抛出IllegalArgumentException"() {
+		when:
+		new AdaptiveConcurrencyLimiter(initial, min, max, ratio, Duration.ofSeconds(1))
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		initial | min | max | ratio
+		1       | 0   | 10  | 0.5d
+		1       | 2   | 1   | 0.5d
+		20      | 1   | 10  | 0.5d
+		5       | 1   | 10  | 1.0d
+	}
+}
@@ -0,0 +1,138 @@
+package io.github.pangju666.framework.boot.web.limit
+
+import io.github.pangju666.framework.boot.web.limit.annotation.RateLimit
+import io.github.pangju666.framework.boot.web.limit.interceptor.RateLimitInterceptor
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.web.method.HandlerMethod
+import spock.lang.Specification
+
+class IpRangeTrieSpec extends Specification {
+	def trie = new IpRangeTrie([
+		"10.0.0.0/8",
+		"192.168.1.0/24",
+		"192.168.2.0/24",
+		"203.0.113.7",
+		"2001:db8::/32"
+	])
+
+	def "命中地址段 #ip"() {
+		expect:
+		trie.contains(ip)
+
+		where:
+		ip << ["10.1.2.3", "192.168.1.255", "192.168.2.1", "203.0.113.7", "2001:db8:1::1"]
+	}
+
+	def "未命中地址段 #ip"() {
+		expect:
+		!trie.contains(ip)
+
+		where:
+		ip << ["11.0.0.1", "192.168.3.1", "203.0.113.8", "2001:db9::1", "::1", "unknown", ""]
+	}
+
+	def "仅解析IP字面量 #ip"() {
+		expect:
+		IpRangeTrie.toAddressBytes(ip) == null
+
+		where:
+		ip << ["999.1.1.1", "1.2.3", "1.2.3.4.5", "localhost", "example.com", "1::2::3", "1:2:3:4:5:6:7:8:9", "g::1"]
+	}
+
+	def "IPv4映射地址与区域标识"() {
+		expect:
+		IpRangeTrie.toAddressBytes("::ffff:192.168.1.1") == [192, 168, 1, 1] as byte[]
+		IpRangeTrie.toAddressBytes("fe80::1%eth0") == InetAddress.getByName("fe80::1").getAddress()
+		trie.contains("::ffff:10.1.2.3")
+	}
+
+	def "更大的地址段覆盖已有地址段"() {
+		when:
+		trie.add("192.168.0.0/16")
+
+		then:
+		trie.contains("192.168.3.1")
+		trie.contains("192.168.1.1")
+		trie.size() == 6
+	}
+
+	def "非法地址段抛出IllegalArgumentException"() {
+		when:
+		new IpRangeTrie().add(range)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		range << ["", "localhost", "10.0.0.0/33", "2001:db8::/129", "10.0.0.0/a"]
+	}
+
+	def "IP源提取器按前缀聚合"() {
+		given:
+		def extractor = new IpRateLimitSourceExtractor(24, 64)
+		def request = new MockHttpServletRequest()
+		request.setRemoteAddr(ip)
+
+		expect:
+		extractor.getSource(request) == source
+
+		where:
+		ip                    | source
+		"192.168.1.100"       | "192.168.1.0/24"
+		"2001:db8:0:0:1::1"   | "2001:db8:0:0:0:0:0:0/64"
+		"2001:db8:0:0:ffff::" | "2001:db8:0:0:0:0:0:0/64"
+	}
+
+	def "IP源提取器默认不聚合"() {
+		given:
+		def request = new MockHttpServletRequest()
+		request.setRemoteAddr("2001:db8::1")
+
+		expect:
+		new IpRateLimitSourceExtractor().getSource(request) == "2001:db8::1"
+	}
+
+	static class LimitedController {
+		@RateLimit(rate = 1)
+		void method() {}
+	}
+
+	def "允许名单只信任受信任代理转发的地址 remote=#remoteAddr forwarded=#forwarded"() {
+		given:
+		def rateLimiter = Mock(RateLimiter)
+		def interceptor = new RateLimitInterceptor(rateLimiter, null, new IpRangeTrie(["10.0.0.0/8"]), null,
+			new IpRangeTrie(["192.168.0.1"]))
+		def request = new MockHttpServletRequest()
+		request.setRemoteAddr(remoteAddr)
+		request.addHeader("X-Forwarded-For", forwarded)
+		def handler = new HandlerMethod(new LimitedController(), LimitedController.getMethod("method"))
+
+		when:
+		def result = interceptor.preHandle(request, new MockHttpServletResponse(), handler)
+
+		then:
+		result
+		(skipped ? 0 : 1) * rateLimiter.tryAcquire(_, _, _) >> true
+
+		where:
+		remoteAddr    | forwarded                        | skipped
+		"203.0.113.9" | "10.0.0.5"                       | false
+		"192.168.0.1" | "10.0.0.5"                       | true
+		"192.168.0.1" | "10.0.0.5, 203.0.113.9"          | false
+		"192.168.0.1" | "203.0.113.9, 10.0.0.5"          | true
+	}
+
+	def "拒绝名单不受伪造的转发请求头影响"() {
+		given:
+		def interceptor = new RateLimitInterceptor(Mock(RateLimiter), null, null, new IpRangeTrie(["203.0.113.0/24"]))
+		def request = new MockHttpServletRequest()
+		request.setRemoteAddr("203.0.113.9")
+		request.addHeader("X-Forwarded-For", "10.0.0.5")
+		request.addHeader("X-Real-IP", "10.0.0.5")
+		def handler = new HandlerMethod(new LimitedController(), LimitedController.getMethod("method"))
+
+		expect:
+		!interceptor.preHandle(request, new MockHttpServletResponse(), handler)
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.framework.web.exception.base.ValidationException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 边读取边计算摘要的请求包装器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>调用 {@link #expectDigest(byte[])} 后，请求体在被读取的同时送入增量 SHA-256 摘要，
+ *   读取到流末尾时与期望摘要进行常量时间比较，不一致时抛出 {@link ValidationException}。</li>
+ *   <li>请求体由读取方直接读取时不会被缓存，大请求体也只需读取一次，不产生额外内存拷贝。</li>
+ *   <li>请求体不经过消息转换器读取时（表单提交、处理器直接读取请求等），可调用 {@link #verifyAndCache()} 立即读取并校验完整请求体，
+ *   之后的输入流、字符读取器与 {@code application/x-www-form-urlencoded} 表单参数均基于缓存的请求体提供。</li>
+ *   <li>未设置期望摘要时直接委托原始请求，不产生额外开销。</li>
+ * </ul>
+ *
+ * <p><strong>注意事项</strong></p>
+ * <ul>
+ *   <li>必须在请求体被读取前设置期望摘要，通常由签名拦截器在签名校验通过后设置。</li>
+ *   <li>读取方未读取到流末尾时（例如 JSON 解析在根对象结束后停止读取），需调用 {@link #verify()} 读取剩余内容并完成校验。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.framework.boot.web.signature.filter.BodyDigestFilter
+ * @since 2.1.0
+ */
+public class BodyDigestRequestWrapper extends HttpServletRequestWrapper {
+	/**
+	 * 剩余请求体读取缓冲区大小。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int DRAIN_BUFFER_SIZE = 8192;
+
+	/**
+	 * 期望的请求体摘要，为 {@code null} 时不计算摘要。
+	 *
+	 * @since 2.1.0
+	 */
+	private byte[] expectedDigest;
+	/**
+	 * 增量摘要计算器。
+	 *
+	 * @since 2.1.0
+	 */
+	private MessageDigest messageDigest;
+	/**
+	 * 计算摘要的输入流（延迟创建）。
+	 *
+	 * @since 2.1.0
+	 */
+	private DigestServletInputStream inputStream;
+	/**
+	 * 基于摘要输入流的字符读取器（延迟创建）。
+	 *
+	 * @since 2.1.0
+	 */
+	private BufferedReader reader;
+	/**
+	 * 设置期望摘要前请求体是否已被读取。
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean bodyRead;
+	/**
+	 * 是否已完成摘要比较。
+	 *
+	 * @since 2.1.0
+	 */
+	private boolean verified;
+	/**
+	 * 通过 {@link #verifyAndCache()} 缓存的请求体，为 {@code null} 时未缓存。
+	 *
+	 * @since 2.1.0
+	 */
+	private byte[] cachedBody;
+	/**
+	 * 基于缓存请求体的输入流（延迟创建）。
+	 *
+	 * @since 2.1.0
+	 */
+	private ServletInputStream cachedInputStream;
+	/**
+	 * 基于缓存请求体解析的表单参数（延迟创建）。
+	 *
+	 * @since 2.1.0
+	 */
+	private Map<String, String[]> formParameters;
+
+	/**
+	 * 包装请求。
+	 *
+	 * @param request 原始请求
+	 * @since 2.1.0
+	 */
+	public BodyDigestRequestWrapper(HttpServletRequest request) {
+		super(request);
+	}
+
+	/**
+	 * 设置期望的请求体 SHA-256 摘要，之后读取的请求体将被计算摘要。
+	 *
+	 * @param expectedDigest 期望摘要（32 字节）
+	 * @throws IllegalArgumentException 摘要长度不正确时抛出
+	 * @throws IllegalStateException    请求体已被读取时抛出
+	 * @since 2.1.0
+	 */
+	public void expectDigest(byte[] expectedDigest) {
+		Assert.isTrue(Objects.nonNull(expectedDigest) && expectedDigest.length == 32, "expectedDigest 长度必须为32");
+		Assert.state(!bodyRead && Objects.isNull(this.expectedDigest), "请求体已被读取或已设置期望摘要");
+
+		this.expectedDigest = expectedDigest;
+		this.messageDigest = DigestUtils.getSha256Digest();
+	}
+
+	/**
+	 * 设置期望摘要前请求体是否已被读取（读取后无法再校验请求体）。
+	 *
+	 * @return 已读取返回 {@code true}
+	 * @since 2.1.0
+	 */
+	public boolean isBodyRead() {
+		return bodyRead;
+	}
+
+	/**
+	 * 读取剩余的请求体并完成摘要校验。
+	 *
+	 * <p>未设置期望摘要或已完成校验时直接返回。</p>
+	 *
+	 * @throws IOException         读取请求体失败时抛出
+	 * @throws ValidationException 请求体摘要不一致时抛出
+	 * @since 2.1.0
+	 */
+	public void verify() throws IOException {
+		if (Objects.isNull(expectedDigest) || verified) {
+			return;
+		}
+		ServletInputStream servletInputStream = getInputStream();
+		byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+		while (servletInputStream.read(buffer) != -1) {
+			// 读取到流末尾时自动完成校验
+		}
+	}
+
+	/**
+	 * 立即读取完整请求体并完成摘要校验，校验通过后缓存请求体。
+	 *
+	 * <p>用于请求体不经过消息转换器读取的接口，保证控制器方法执行前请求体已被校验；
+	 * 之后的 {@link #getInputStream()}、{@link #getReader()} 与表单参数均基于缓存的请求体提供。</p>
+	 *
+	 * @throws IOException           读取请求体失败时抛出
+	 * @throws ValidationException   请求体摘要不一致时抛出
+	 * @throws IllegalStateException 未设置期望摘要或请求体已开始读取时抛出
+	 * @since 2.1.0
+	 */
+	public void verifyAndCache() throws IOException {
+		Assert.state(Objects.nonNull(expectedDigest), "未设置期望摘要");
+		if (Objects.nonNull(cachedBody)) {
+			return;
+		}
+		Assert.state(Objects.isNull(inputStream) && Objects.isNull(reader), "请求体已开始读取");
+
+		// 读取到流末尾时完成校验，摘要不一致时抛出异常且不缓存请求体
+		byte[] body = getInputStream().readAllBytes();
+		this.cachedBody = body;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if (Objects.nonNull(cachedBody)) {
+			if (Objects.isNull(cachedInputStream)) {
+				cachedInputStream = new CachedServletInputStream(cachedBody);
+			}
+			return cachedInputStream;
+		}
+		if (Objects.isNull(expectedDigest)) {
+			bodyRead = true;
+			return super.getInputStream();
+		}
+		if (Objects.isNull(inputStream)) {
+			inputStream = new DigestServletInputStream(super.getInputStream());
+		}
+		return inputStream;
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		if (Objects.isNull(expectedDigest)) {
+			bodyRead = true;
+			return super.getReader();
+		}
+		if (Objects.isNull(reader)) {
+			String characterEncoding = getCharacterEncoding();
+			Charset charset = StringUtils.isNotBlank(characterEncoding) ?
+				Charset.forName(characterEncoding) : StandardCharsets.ISO_8859_1;
+			reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+		return reader;
+	}
+
+	@Override
+	public String getParameter(String name) {
+		Map<String, String[]> parameters = getFormParameters();
+		if (Objects.isNull(parameters)) {
+			return super.getParameter(name);
+		}
+		String[] values = parameters.get(name);
+		return Objects.isNull(values) ? null : values[0];
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		Map<String, String[]> parameters = getFormParameters();
+		return Objects.isNull(parameters) ? super.getParameterMap() : parameters;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		Map<String, String[]> parameters = getFormParameters();
+		return Objects.isNull(parameters) ? super.getParameterNames() : Collections.enumeration(parameters.keySet());
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		Map<String, String[]> parameters = getFormParameters();
+		if (Objects.isNull(parameters)) {
+			return super.getParameterValues(name);
+		}
+		String[] values = parameters.get(name);
+		return Objects.isNull(values) ? null : values.clone();
+	}
+
+	/**
+	 * 获取基于缓存请求体解析的表单参数。
+	 *
+	 * <p>原始请求解析表单参数时会绕过摘要直接读取请求体，因此在设置期望摘要前访问表单参数会将请求体标记为已读取。</p>
+	 *
+	 * @return 查询参数与表单参数合并后的参数映射；不是表单请求或请求体未缓存时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	private Map<String, String[]> getFormParameters() {
+		if (!isFormContent()) {
+			return null;
+		}
+		if (Objects.isNull(cachedBody)) {
+			if (Objects.isNull(expectedDigest)) {
+				bodyRead = true;
+			}
+			return null;
+		}
+		if (Objects.isNull(formParameters)) {
+			String characterEncoding = getCharacterEncoding();
+			Charset charset = StringUtils.isNotBlank(characterEncoding) ?
+				Charset.forName(characterEncoding) : StandardCharsets.UTF_8;
+			Map<String, List<String>> parameters = new LinkedHashMap<>();
+			parseParameters(getQueryString(), StandardCharsets.UTF_8, parameters);
+			parseParameters(new String(cachedBody, charset), charset, parameters);
+
+			Map<String, String[]> parameterMap = new LinkedHashMap<>(parameters.size());
+			parameters.forEach((name, values) -> parameterMap.put(name, values.toArray(String[]::new)));
+			formParameters = Collections.unmodifiableMap(parameterMap);
+		}
+		return formParameters;
+	}
+
+	private boolean isFormContent() {
+		String contentType = getContentType();
+		return StringUtils.startsWithIgnoreCase(contentType, MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+	}
+
+	private static void parseParameters(String content, Charset charset, Map<String, List<String>> parameters) {
+		if (StringUtils.isEmpty(content)) {
+			return;
+		}
+		for (String pair : StringUtils.split(content, '&')) {
+			int index = pair.indexOf('=');
+			try {
+				String name = URLDecoder.decode(index == -1 ? pair : pair.substring(0, index), charset);
+				String value = index == -1 ? "" : URLDecoder.decode(pair.substring(index + 1), charset);
+				parameters.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+			} catch (IllegalArgumentException e) {
+				// 与 Servlet 容器一致，忽略无法解码的参数
+			}
+		}
+	}
+
+	/**
+	 * 比较计算出的摘要与期望摘要。
+	 *
+	 * @throws ValidationException 摘要不一致时抛出
+	 * @since 2.1.0
+	 */
+	private void finish() {
+		if (verified) {
+			return;
+		}
+		verified = true;
+		if (!MessageDigest.isEqual(messageDigest.digest(), expectedDigest)) {
+			throw new ValidationException("请求体签名错误");
+		}
+	}
+
+	/**
+	 * 基于缓存请求体的输入流。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class CachedServletInputStream extends ServletInputStream {
+		private final ByteArrayInputStream delegate;
+
+		CachedServletInputStream(byte[] body) {
+			this.delegate = new ByteArrayInputStream(body);
+		}
+
+		@Override
+		public int read() {
+			return delegate.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			return delegate.read(b, off, len);
+		}
+
+		@Override
+		public boolean isFinished() {
+			return delegate.available() == 0;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			throw new UnsupportedOperationException("缓存的请求体不支持异步读取");
+		}
+
+		@Override
+		public int available() {
+			return delegate.available();
+		}
+	}
+
+	/**
+	 * 将读取的字节送入摘要计算器的输入流。
+	 *
+	 * @since 2.1.0
+	 */
+	private final class DigestServletInputStream extends ServletInputStream {
+		private final ServletInputStream delegate;
+
+		DigestServletInputStream(ServletInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = delegate.read();
+			if (b == -1) {
+				finish();
+			} else {
+				messageDigest.update((byte) b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = delegate.read(b, off, len);
+			if (count == -1) {
+				finish();
+			} else {
+				messageDigest.update(b, off, count);
+			}
+			return count;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return delegate.isFinished();
+		}
+
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			delegate.setReadListener(readListener);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return delegate.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 带缓存的签名密钥存储器（装饰器）。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>包装任意 {@link SecretKeyStorer}，将密钥缓存在内存中，签名校验时无需每次访问数据库或 Redis。</li>
+ *   <li>基于 Caffeine 实现，缓存容量与过期时间均有上限。</li>
+ * </ul>
+ *
+ * <p><strong>缓存策略</strong></p>
+ * <ul>
+ *   <li>容量：超过 {@code maximumSize} 后按访问频率淘汰。</li>
+ *   <li>过期：已存在的密钥写入 {@code expireAfterWrite} 后过期。</li>
+ *   <li>提前刷新：写入超过 {@code refreshAfterWrite} 后的首次访问会触发异步重新加载，
+ *   加载完成前继续返回旧值，加载失败时保留旧值。</li>
+ *   <li>负缓存：不存在的应用 ID 同样缓存，过期时间为 {@code negativeExpireAfterWrite}，
+ *   避免使用随机应用 ID 的请求穿透到外部存储。</li>
+ *   <li>预热：{@link #preload()} 通过 {@link SecretKeyStorer#loadAllSecretKeys()} 批量写入缓存。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see SecretKeyStorer
+ * @see JdbcSecretKeyStorer
+ * @see RedisSecretKeyStorer
+ * @since 2.1.0
+ */
+public class CachingSecretKeyStorer implements SecretKeyStorer {
+	/**
+	 * 被装饰的密钥存储器。
+	 *
+	 * @since 2.1.0
+	 */
+	private final SecretKeyStorer delegate;
+	/**
+	 * 应用 ID 到签名密钥的缓存，值为空表示应用 ID 不存在。
+	 *
+	 * @since 2.1.0
+	 */
+	private final LoadingCache<String, Optional<String>> cache;
+
+	/**
+	 * 构造带缓存的密钥存储器。
+	 *
+	 * @param delegate                 被装饰的密钥存储器（不可为 null）
+	 * @param maximumSize              最大缓存数量，必须大于 0
+	 * @param expireAfterWrite         已存在密钥的过期时间，必须为正数
+	 * @param refreshAfterWrite        提前刷新时间（可为 null，为 null 时不提前刷新）
+	 * @param negativeExpireAfterWrite 不存在的应用 ID 的过期时间，必须为正数
+	 * @throws IllegalArgumentException 参数不合法时抛出
+	 * @since 2.1.0
+	 */
+	public CachingSecretKeyStorer(SecretKeyStorer delegate, long maximumSize, Duration expireAfterWrite,
+								  Duration refreshAfterWrite, Duration negativeExpireAfterWrite) {
+		Assert.notNull(delegate, "delegate 不可为 null");
+		Assert.isTrue(maximumSize > 0, "maximumSize 必须大于0");
+		Assert.isTrue(Objects.nonNull(expireAfterWrite) && isPositive(expireAfterWrite), "expireAfterWrite 必须为正数");
+		Assert.isTrue(Objects.nonNull(negativeExpireAfterWrite) && isPositive(negativeExpireAfterWrite),
+			"negativeExpireAfterWrite 必须为正数");
+
+		this.delegate = delegate;
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfter(new SecretKeyExpiry(expireAfterWrite.toNanos(), negativeExpireAfterWrite.toNanos()));
+		if (Objects.nonNull(refreshAfterWrite) && isPositive(refreshAfterWrite)) {
+			builder.refreshAfterWrite(refreshAfterWrite);
+		}
+		this.cache = builder.build(appId -> Optional.ofNullable(
+			StringUtils.defaultIfBlank(delegate.loadSecretKey(appId), null)));
+	}
+
+	/**
+	 * 从缓存中获取签名密钥，未命中时从被装饰的存储器加载。
+	 *
+	 * @param appId 应用 ID
+	 * @return 签名密钥；应用 ID 不存在时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	@Override
+	public String loadSecretKey(String appId) {
+		return cache.get(appId).orElse(null);
+	}
+
+	/**
+	 * 从被装饰的存储器批量加载全部密钥（不经过缓存）。
+	 *
+	 * @return 应用 ID 与签名密钥的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, String> loadAllSecretKeys() {
+		return delegate.loadAllSecretKeys();
+	}
+
+	/**
+	 * 批量加载全部密钥并写入缓存。
+	 *
+	 * @return 写入缓存的密钥数量
+	 * @since 2.1.0
+	 */
+	public int preload() {
+		Map<String, String> secretKeys = delegate.loadAllSecretKeys();
+		int count = 0;
+		for (Map.Entry<String, String> entry : secretKeys.entrySet()) {
+			if (StringUtils.isNotBlank(entry.getKey()) && StringUtils.isNotBlank(entry.getValue())) {
+				cache.put(entry.getKey(), Optional.of(entry.getValue()));
+				++count;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 使指定应用 ID 的缓存失效，下次访问时重新加载。
+	 *
+	 * @param appId 应用 ID
+	 * @since 2.1.0
+	 */
+	public void invalidate(String appId) {
+		cache.invalidate(appId);
+	}
+
+	/**
+	 * 使全部缓存失效。
+	 *
+	 * @since 2.1.0
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private static boolean isPositive(Duration duration) {
+		return !duration.isNegative() && !duration.isZero();
+	}
+
+	/**
+	 * 按密钥是否存在区分过期时间的过期策略。
+	 *
+	 * @since 2.1.0
+	 */
+	private record SecretKeyExpiry(long expireNanos, long negativeExpireNanos) implements Expiry<String, Optional<String>> {
+		@Override
+		public long expireAfterCreate(String key, Optional<String> value, long currentTime) {
+			return value.isPresent() ? expireNanos : negativeExpireNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Optional<String> value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Optional<String> value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
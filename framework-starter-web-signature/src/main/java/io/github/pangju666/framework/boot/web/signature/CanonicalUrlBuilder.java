@@ -0,0 +1,228 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URLEncoder;
+import java.util.Objects;
+
+/**
+ * 请求参数签名的规范化 URL 构建工具。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>从请求 URL 与查询字符串构建参与签名的规范化 URL：移除签名与应用 ID 参数后，
+ *   对（请求 URL + ? + 剩余查询参数）整体进行 URL 编码。</li>
+ *   <li>编码结果与 {@link URLEncoder#encode(String, java.nio.charset.Charset)}（UTF-8）一致。</li>
+ * </ul>
+ *
+ * <p><strong>规则</strong></p>
+ * <ul>
+ *   <li>按参数名精确匹配排除参数（如排除 {@code sign} 时不会误排除 {@code signType}）。</li>
+ *   <li>剩余参数保持原始顺序（客户端按发送顺序计算签名）。</li>
+ *   <li>参数片段按 {@code &} 拆分，与 {@link String#split(String)} 一致：保留开头与中间的空片段，忽略末尾的空片段。</li>
+ *   <li>查询字符串为 {@code null} 或参数全部被排除时不追加 {@code ?}。</li>
+ * </ul>
+ *
+ * <p><strong>性能</strong></p>
+ * <ul>
+ *   <li>单次遍历查询字符串，直接编码写入一个预估容量的 {@link StringBuilder}，
+ *   不拆分字符串、不创建中间集合，也不对拼接后的 URL 再次复制编码。</li>
+ *   <li>{@link #appendTo(StringBuilder, CharSequence, String, String...)} 可直接写入调用方的构建器（如签名字符串），
+ *   无需生成规范化 URL 的中间字符串。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see io.github.pangju666.framework.boot.web.signature.interceptor.SignatureInterceptor
+ * @since 2.1.0
+ */
+public final class CanonicalUrlBuilder {
+	/**
+	 * 十六进制字符（大写）。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	/**
+	 * ASCII 字符是否无需编码，与 {@link URLEncoder} 保持一致。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final boolean[] UNRESERVED = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			UNRESERVED[c] = true;
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			UNRESERVED[c] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			UNRESERVED[c] = true;
+		}
+		UNRESERVED['-'] = true;
+		UNRESERVED['_'] = true;
+		UNRESERVED['.'] = true;
+		UNRESERVED['*'] = true;
+	}
+
+	private CanonicalUrlBuilder() {
+	}
+
+	/**
+	 * 构建规范化 URL。
+	 *
+	 * @param requestUrl         请求 URL（不包含查询字符串）
+	 * @param queryString        查询字符串（可为 null）
+	 * @param excludedParamNames 需要排除的参数名（精确匹配）
+	 * @return URL 编码后的规范化 URL
+	 * @see #appendTo(StringBuilder, CharSequence, String, String...)
+	 * @since 2.1.0
+	 */
+	public static String build(CharSequence requestUrl, String queryString, String... excludedParamNames) {
+		// 多数字符无需编码，预留少量扩展空间即可避免扩容
+		StringBuilder builder = new StringBuilder(estimateLength(requestUrl, queryString));
+		return appendTo(builder, requestUrl, queryString, excludedParamNames).toString();
+	}
+
+	/**
+	 * 构建规范化 URL 并追加到指定构建器。
+	 *
+	 * @param builder            目标构建器
+	 * @param requestUrl         请求 URL（不包含查询字符串）
+	 * @param queryString        查询字符串（可为 null）
+	 * @param excludedParamNames 需要排除的参数名（精确匹配）
+	 * @return 目标构建器
+	 * @since 2.1.0
+	 */
+	public static StringBuilder appendTo(StringBuilder builder, CharSequence requestUrl, String queryString,
+										 String... excludedParamNames) {
+		appendEncoded(builder, requestUrl, 0, requestUrl.length());
+		if (Objects.isNull(queryString)) {
+			return builder;
+		}
+		if (queryString.isEmpty()) {
+			// 与 "".split("&") 一致，视为一个空片段
+			return builder.append("%3F");
+		}
+
+		// 与 String.split 一致，忽略末尾的空片段
+		int queryEnd = queryString.length();
+		while (queryEnd > 0 && queryString.charAt(queryEnd - 1) == '&') {
+			--queryEnd;
+		}
+		boolean first = true;
+		int start = 0;
+		while (start < queryEnd) {
+			int end = queryString.indexOf('&', start);
+			if (end == -1 || end > queryEnd) {
+				end = queryEnd;
+			}
+			if (!isExcluded(queryString, start, end, excludedParamNames)) {
+				// '?' 与 '&' 的编码结果
+				builder.append(first ? "%3F" : "%26");
+				appendEncoded(builder, queryString, start, end);
+				first = false;
+			}
+			start = end + 1;
+		}
+		return builder;
+	}
+
+	/**
+	 * 预估规范化 URL 的长度，用于初始化构建器容量。
+	 *
+	 * @param requestUrl  请求 URL（不包含查询字符串）
+	 * @param queryString 查询字符串（可为 null）
+	 * @return 预估长度
+	 * @since 2.1.0
+	 */
+	public static int estimateLength(CharSequence requestUrl, String queryString) {
+		return (requestUrl.length() + StringUtils.length(queryString)) * 5 / 4 + 16;
+	}
+
+	/**
+	 * 判断查询参数片段的参数名是否在排除列表中。
+	 *
+	 * @param queryString        查询字符串
+	 * @param start              片段起始位置（包含）
+	 * @param end                片段结束位置（不包含）
+	 * @param excludedParamNames 需要排除的参数名
+	 * @return 参数名完全一致返回 {@code true}
+	 * @since 2.1.0
+	 */
+	static boolean isExcluded(String queryString, int start, int end, String... excludedParamNames) {
+		int nameEnd = queryString.indexOf('=', start);
+		if (nameEnd == -1 || nameEnd > end) {
+			nameEnd = end;
+		}
+		int nameLength = nameEnd - start;
+		for (String paramName : excludedParamNames) {
+			if (paramName.length() == nameLength && queryString.regionMatches(start, paramName, 0, nameLength)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 按 {@code application/x-www-form-urlencoded}（UTF-8）规则编码字符序列片段并追加到构建器。
+	 *
+	 * @param builder 目标构建器
+	 * @param source  源字符序列
+	 * @param start   起始位置（包含）
+	 * @param end     结束位置（不包含）
+	 * @since 2.1.0
+	 */
+	static void appendEncoded(StringBuilder builder, CharSequence source, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c < 0x80) {
+				if (UNRESERVED[c]) {
+					builder.append(c);
+				} else if (c == ' ') {
+					builder.append('+');
+				} else {
+					appendByte(builder, c);
+				}
+			} else if (c < 0x800) {
+				appendByte(builder, 0xC0 | (c >> 6));
+				appendByte(builder, 0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(source.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, source.charAt(++i));
+				appendByte(builder, 0xF0 | (codePoint >> 18));
+				appendByte(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+				appendByte(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+				appendByte(builder, 0x80 | (codePoint & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				// 与 UTF-8 编码器一致，无法配对的代理字符替换为 '?'
+				appendByte(builder, '?');
+			} else {
+				appendByte(builder, 0xE0 | (c >> 12));
+				appendByte(builder, 0x80 | ((c >> 6) & 0x3F));
+				appendByte(builder, 0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private static void appendByte(StringBuilder builder, int b) {
+		builder.append('%')
+			.append(HEX_DIGITS[(b >> 4) & 0x0F])
+			.append(HEX_DIGITS[b & 0x0F]);
+	}
+}
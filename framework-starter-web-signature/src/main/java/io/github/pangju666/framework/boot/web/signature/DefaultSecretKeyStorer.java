@@ -99,4 +99,15 @@ public class DefaultSecretKeyStorer implements SecretKeyStorer {
 	public String loadSecretKey(String appId) {
 		return secretKeyMap.get(appId);
 	}
+
+	/**
+	 * 返回内存中的全部密钥映射（只读）。
+	 *
+	 * @return 应用 ID 与签名密钥的只读映射。
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, String> loadAllSecretKeys() {
+		return Collections.unmodifiableMap(secretKeyMap);
+	}
 }
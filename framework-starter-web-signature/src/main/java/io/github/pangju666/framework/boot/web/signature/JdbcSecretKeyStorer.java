@@ -0,0 +1,125 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 基于数据库表的签名密钥存储器。
+ * <p>
+ * 从指定数据表中按应用 ID 查询签名密钥，表结构只需包含应用 ID 列与密钥列。
+ * 每次调用都会访问数据库，建议配合 {@link CachingSecretKeyStorer} 使用。
+ * </p>
+ *
+ * <p>执行的 SQL：</p>
+ * <ul>
+ *     <li>单个加载：{@code SELECT {secretKeyColumn} FROM {tableName} WHERE {appIdColumn} = ?}</li>
+ *     <li>批量加载：{@code SELECT {appIdColumn}, {secretKeyColumn} FROM {tableName}}</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see SecretKeyStorer
+ * @see CachingSecretKeyStorer
+ * @since 2.1.0
+ */
+public class JdbcSecretKeyStorer implements SecretKeyStorer {
+	/**
+	 * SQL 标识符格式（表名、列名），防止配置值被拼接为任意 SQL。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?$");
+
+	/**
+	 * JDBC 模板。
+	 *
+	 * @since 2.1.0
+	 */
+	private final JdbcTemplate jdbcTemplate;
+	/**
+	 * 单个密钥查询 SQL。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String selectSql;
+	/**
+	 * 全部密钥查询 SQL。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String selectAllSql;
+
+	/**
+	 * 构造数据库密钥存储器。
+	 *
+	 * @param jdbcTemplate    JDBC 模板（不可为 null）
+	 * @param tableName       表名
+	 * @param appIdColumn     应用 ID 列名
+	 * @param secretKeyColumn 密钥列名
+	 * @throws IllegalArgumentException 参数为空或不是合法的 SQL 标识符时抛出
+	 * @since 2.1.0
+	 */
+	public JdbcSecretKeyStorer(JdbcTemplate jdbcTemplate, String tableName, String appIdColumn, String secretKeyColumn) {
+		Assert.notNull(jdbcTemplate, "jdbcTemplate 不可为 null");
+		checkIdentifier(tableName, "tableName");
+		checkIdentifier(appIdColumn, "appIdColumn");
+		checkIdentifier(secretKeyColumn, "secretKeyColumn");
+
+		this.jdbcTemplate = jdbcTemplate;
+		this.selectSql = "SELECT " + secretKeyColumn + " FROM " + tableName + " WHERE " + appIdColumn + " = ?";
+		this.selectAllSql = "SELECT " + appIdColumn + ", " + secretKeyColumn + " FROM " + tableName;
+	}
+
+	/**
+	 * 按应用 ID 查询签名密钥。
+	 *
+	 * @param appId 应用 ID
+	 * @return 签名密钥；不存在时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	@Override
+	public String loadSecretKey(String appId) {
+		List<String> secretKeys = jdbcTemplate.queryForList(selectSql, String.class, appId);
+		return secretKeys.isEmpty() ? null : secretKeys.get(0);
+	}
+
+	/**
+	 * 查询全部签名密钥。
+	 *
+	 * @return 应用 ID 与签名密钥的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, String> loadAllSecretKeys() {
+		Map<String, String> secretKeys = new HashMap<>();
+		jdbcTemplate.query(selectAllSql, rs -> {
+			secretKeys.put(rs.getString(1), rs.getString(2));
+		});
+		return secretKeys;
+	}
+
+	private static void checkIdentifier(String identifier, String name) {
+		Assert.hasText(identifier, name + " 不可为空");
+		Assert.isTrue(IDENTIFIER_PATTERN.matcher(identifier).matches(), name + " 不是合法的SQL标识符：" + identifier);
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.commons.lang.concurrent.SystemClock;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于内存的时间分桶随机数存储器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>将时间划分为固定长度的时间片，维护一个由 {@code bucketCount} 个桶组成的环形数组，
+ *   随机数按其过期时间落入对应时间片的桶中。</li>
+ *   <li>时间片过去后整个桶被一次性清空复用，无需逐条扫描过期数据。</li>
+ *   <li>适合单机部署；集群部署请使用 {@link RedisNonceStorer}。</li>
+ * </ul>
+ *
+ * <p><strong>容量</strong></p>
+ * <ul>
+ *   <li>可记录的最长有效期为 {@link #getWindow()}（不小于构造时的 {@code window}），
+ *   因此 {@code window} 应不小于签名有效期的两倍（允许时间戳在服务端时间前后各偏移一个有效期）。
+ *   有效期超出容量时抛出 {@link IllegalArgumentException} 而不是截断，避免随机数被提前清除后可被重放。</li>
+ *   <li>记录总数不超过 {@code maxSize}；达到上限时抛出 {@link IllegalStateException} 拒绝新的随机数（视为暂时无法校验，而不是重放），
+ *   以保证重放防护不会因淘汰数据而失效。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see NonceStorer
+ * @see RedisNonceStorer
+ * @since 2.1.0
+ */
+public class LocalNonceStorer implements NonceStorer {
+	/**
+	 * 时间片长度（毫秒）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final long sliceMillis;
+	/**
+	 * 环形桶数组。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Bucket[] buckets;
+	/**
+	 * 最大记录数。
+	 *
+	 * @since 2.1.0
+	 */
+	private final int maxSize;
+	/**
+	 * 当前记录数。
+	 *
+	 * @since 2.1.0
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+	/**
+	 * 最近一次清理过期桶时的时间片。
+	 *
+	 * @since 2.1.0
+	 */
+	private final AtomicLong lastSweepSlice = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * 构造随机数存储器。
+	 *
+	 * @param window      随机数最长保留时间，必须为正数。
+	 * @param bucketCount 桶数量，必须大于 1；桶越多清理粒度越细，单次查询需检查的桶也越多。
+	 * @param maxSize     最大记录数，必须大于 0。
+	 * @throws IllegalArgumentException 参数不合法时抛出
+	 * @since 2.1.0
+	 */
+	public LocalNonceStorer(Duration window, int bucketCount, int maxSize) {
+		Assert.notNull(window, "window 不可为 null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "window 必须为正数");
+		Assert.isTrue(bucketCount > 1, "bucketCount 必须大于1");
+		Assert.isTrue(maxSize > 0, "maxSize 必须大于0");
+
+		// 桶 s 在时间片 s + bucketCount 开始时才会被复用，保证至少保留 window
+		this.sliceMillis = Math.max(1, (window.toMillis() + bucketCount - 2) / (bucketCount - 1));
+		this.maxSize = maxSize;
+		this.buckets = new Bucket[bucketCount];
+		for (int i = 0; i < bucketCount; i++) {
+			this.buckets[i] = new Bucket();
+		}
+	}
+
+	/**
+	 * 当随机数不存在时记录该随机数。
+	 *
+	 * @param nonce    随机数。
+	 * @param expireAt 随机数的过期时间戳（毫秒）。
+	 * @return 随机数首次出现返回 {@code true}；已存在或已过期时返回 {@code false}。
+	 * @throws IllegalArgumentException 过期时间超出可记录的最长有效期时抛出
+	 * @throws IllegalStateException    记录数达到容量上限时抛出
+	 * @since 2.1.0
+	 */
+	@Override
+	public boolean putIfAbsent(String nonce, long expireAt) {
+		long now = SystemClock.now();
+		if (expireAt <= now) {
+			return false;
+		}
+
+		long currentSlice = now / sliceMillis;
+		sweep(currentSlice);
+
+		for (Bucket bucket : buckets) {
+			if (bucket.slice >= currentSlice && bucket.nonces.contains(nonce)) {
+				return false;
+			}
+		}
+
+		long targetSlice = expireAt / sliceMillis;
+		// 目标时间片超出环形数组范围时会与仍在有效期内的桶冲突，截断则会提前清除随机数，因此直接拒绝
+		Assert.isTrue(targetSlice <= currentSlice + buckets.length - 1,
+			"随机数有效期超出存储窗口，请增大 window：" + getWindow());
+		Bucket bucket = buckets[(int) Math.floorMod(targetSlice, (long) buckets.length)];
+		synchronized (bucket) {
+			if (bucket.slice < targetSlice) {
+				size.addAndGet(-bucket.nonces.size());
+				bucket.nonces.clear();
+				bucket.slice = targetSlice;
+			}
+			if (bucket.nonces.contains(nonce)) {
+				return false;
+			}
+			if (size.get() >= maxSize) {
+				throw new IllegalStateException("随机数存储已满，当前记录数：" + size.get());
+			}
+			if (bucket.nonces.add(nonce)) {
+				size.incrementAndGet();
+				return true;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 获取可保证记录的最长有效期。
+	 *
+	 * @return 最长有效期，不小于构造时的 {@code window}
+	 * @since 2.1.0
+	 */
+	public Duration getWindow() {
+		return Duration.ofMillis(sliceMillis * (buckets.length - 1));
+	}
+
+	/**
+	 * 获取当前记录数。
+	 *
+	 * @return 当前记录数
+	 * @since 2.1.0
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	/**
+	 * 进入新的时间片时清空所有已过期的桶。
+	 *
+	 * @param currentSlice 当前时间片
+	 * @since 2.1.0
+	 */
+	private void sweep(long currentSlice) {
+		long lastSlice = lastSweepSlice.get();
+		if (lastSlice >= currentSlice || !lastSweepSlice.compareAndSet(lastSlice, currentSlice)) {
+			return;
+		}
+		for (Bucket bucket : buckets) {
+			synchronized (bucket) {
+				if (bucket.slice < currentSlice && !bucket.nonces.isEmpty()) {
+					size.addAndGet(-bucket.nonces.size());
+					bucket.nonces.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 时间片桶。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final class Bucket {
+		/**
+		 * 桶对应的时间片，随机数在该时间片结束后过期。
+		 */
+		volatile long slice = Long.MIN_VALUE;
+		/**
+		 * 桶内记录的随机数。
+		 */
+		final Set<String> nonces = ConcurrentHashMap.newKeySet();
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+
+/**
+ * 请求随机数（Nonce）存储器接口。
+ * <p>
+ * 用于记录已使用过的随机数，配合时间戳校验防止签名请求在有效期内被重放。
+ * 实现类需要保证“判断是否存在”与“写入”是一个原子操作。
+ * </p>
+ *
+ * <p>主要功能：</p>
+ * <ul>
+ *     <li>在随机数首次出现时记录并返回 {@code true}。</li>
+ *     <li>在随机数已存在（重放请求）时返回 {@code false}。</li>
+ *     <li>无法记录随机数（如存储已满）时抛出 {@link IllegalStateException}，不能返回 {@code false}，
+ *     否则正常请求会被当作重放请求拒绝。</li>
+ *     <li>随机数在过期时间后自动失效，不会无限占用存储空间。</li>
+ * </ul>
+ *
+ * <p>内置实现：</p>
+ * <ul>
+ *     <li>{@link LocalNonceStorer}：基于内存的时间分桶存储，适合单机部署。</li>
+ *     <li>{@link RedisNonceStorer}：基于 Redis {@code SET NX PX} 的存储，适合集群部署，每次校验仅一次网络往返。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see LocalNonceStorer
+ * @see RedisNonceStorer
+ * @see Signature#nonce()
+ * @since 2.1.0
+ */
+public interface NonceStorer {
+	/**
+	 * 当随机数不存在时记录该随机数。
+	 *
+	 * @param nonce    随机数（已包含应用 ID 等命名空间信息）。
+	 * @param expireAt 随机数的过期时间戳（毫秒），过期后允许被清除。
+	 * @return 随机数首次出现返回 {@code true}；已存在（重放请求）或已过期时返回 {@code false}。
+	 * @throws IllegalStateException 无法记录随机数（如存储已满）时抛出
+	 * @since 2.1.0
+	 */
+	boolean putIfAbsent(String nonce, long expireAt);
+}
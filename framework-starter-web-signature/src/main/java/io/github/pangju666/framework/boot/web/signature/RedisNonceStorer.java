@@ -0,0 +1,85 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.commons.lang.concurrent.SystemClock;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redis 的随机数存储器。
+ * <p>
+ * 使用 {@code SET key value NX PX ttl} 原子写入随机数，多个应用实例共享同一份已使用随机数记录，
+ * 适合集群部署。每次校验仅产生一次 Redis 网络往返，过期的随机数由 Redis 自动删除。
+ * </p>
+ *
+ * <p>键格式：{@code {keyPrefix}:{nonce}}</p>
+ *
+ * @author pangju666
+ * @see NonceStorer
+ * @since 2.1.0
+ */
+public class RedisNonceStorer implements NonceStorer {
+	/**
+	 * Redis 字符串模板。
+	 *
+	 * @since 2.1.0
+	 */
+	private final StringRedisTemplate redisTemplate;
+	/**
+	 * Redis 键前缀。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String keyPrefix;
+
+	/**
+	 * 构造 Redis 随机数存储器。
+	 *
+	 * @param redisTemplate Redis 字符串模板（不可为 null）。
+	 * @param keyPrefix     Redis 键前缀（可为空，为空时不添加前缀）。
+	 * @since 2.1.0
+	 */
+	public RedisNonceStorer(StringRedisTemplate redisTemplate, String keyPrefix) {
+		Assert.notNull(redisTemplate, "redisTemplate 不可为 null");
+
+		this.redisTemplate = redisTemplate;
+		this.keyPrefix = StringUtils.isBlank(keyPrefix) ? StringUtils.EMPTY : keyPrefix + ":";
+	}
+
+	/**
+	 * 当随机数不存在时写入 Redis，并以剩余有效期作为过期时间。
+	 *
+	 * @param nonce    随机数。
+	 * @param expireAt 随机数的过期时间戳（毫秒）。
+	 * @return 写入成功返回 {@code true}；键已存在或已过期返回 {@code false}。
+	 * @since 2.1.0
+	 */
+	@Override
+	public boolean putIfAbsent(String nonce, long expireAt) {
+		long ttl = expireAt - SystemClock.now();
+		if (ttl <= 0) {
+			return false;
+		}
+		Boolean result = redisTemplate.opsForValue().setIfAbsent(keyPrefix + nonce, "1", ttl,
+			TimeUnit.MILLISECONDS);
+		return Boolean.TRUE.equals(result);
+	}
+}
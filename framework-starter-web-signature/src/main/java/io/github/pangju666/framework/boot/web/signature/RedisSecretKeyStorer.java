@@ -0,0 +1,95 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * 基于 Redis 哈希的签名密钥存储器。
+ * <p>
+ * 密钥保存在一个 Redis 哈希中，字段为应用 ID，值为签名密钥。
+ * 使用动态 Redis 数据源时，传入对应数据源的 {@link StringRedisTemplate}（Bean 名称为 {@code {name}StringRedisTemplate}）即可。
+ * 每次调用都会访问 Redis，建议配合 {@link CachingSecretKeyStorer} 使用。
+ * </p>
+ *
+ * <p>执行的命令：</p>
+ * <ul>
+ *     <li>单个加载：{@code HGET {key} {appId}}</li>
+ *     <li>批量加载：{@code HGETALL {key}}</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see SecretKeyStorer
+ * @see CachingSecretKeyStorer
+ * @since 2.1.0
+ */
+public class RedisSecretKeyStorer implements SecretKeyStorer {
+	/**
+	 * Redis 哈希操作。
+	 *
+	 * @since 2.1.0
+	 */
+	private final HashOperations<String, String, String> hashOperations;
+	/**
+	 * 保存密钥的 Redis 哈希键。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String key;
+
+	/**
+	 * 构造 Redis 密钥存储器。
+	 *
+	 * @param redisTemplate Redis 字符串模板（不可为 null）
+	 * @param key           保存密钥的 Redis 哈希键（不可为空）
+	 * @since 2.1.0
+	 */
+	public RedisSecretKeyStorer(StringRedisTemplate redisTemplate, String key) {
+		Assert.notNull(redisTemplate, "redisTemplate 不可为 null");
+		Assert.hasText(key, "key 不可为空");
+
+		this.hashOperations = redisTemplate.opsForHash();
+		this.key = key;
+	}
+
+	/**
+	 * 按应用 ID 查询签名密钥。
+	 *
+	 * @param appId 应用 ID
+	 * @return 签名密钥；不存在时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	@Override
+	public String loadSecretKey(String appId) {
+		return hashOperations.get(key, appId);
+	}
+
+	/**
+	 * 查询全部签名密钥。
+	 *
+	 * @return 应用 ID 与签名密钥的映射
+	 * @since 2.1.0
+	 */
+	@Override
+	public Map<String, String> loadAllSecretKeys() {
+		return hashOperations.entries(key);
+	}
+}
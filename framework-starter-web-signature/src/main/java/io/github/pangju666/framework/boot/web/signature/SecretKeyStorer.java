@@ -18,6 +18,9 @@ package io.github.pangju666.framework.boot.web.signature;
 
 import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * 签名密钥存储器接口。
  * <p>
@@ -29,6 +32,7 @@ import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
  * <ul>
  *     <li>根据指定的应用 ID，动态加载签名所需的密钥。</li>
  *     <li>支持自定义实现，以满足密钥管理的不同需求。</li>
+ *     <li>使用公钥签名算法（Ed25519、ECDSA P-256）时，返回调用方的公钥（Base64 编码的 X.509 格式）。</li>
  * </ul>
  *
  * <p>使用场景：</p>
@@ -68,4 +72,18 @@ public interface SecretKeyStorer {
 	 * @since 1.0.0
 	 */
 	String loadSecretKey(String appId);
+
+	/**
+	 * 批量加载全部签名密钥。
+	 * <p>
+	 * 用于在应用启动时预热 {@link CachingSecretKeyStorer} 的缓存。
+	 * 默认返回空映射，表示不支持批量加载。
+	 * </p>
+	 *
+	 * @return 应用 ID 与签名密钥的映射，不为 {@code null}。
+	 * @since 2.1.0
+	 */
+	default Map<String, String> loadAllSecretKeys() {
+		return Collections.emptyMap();
+	}
 }
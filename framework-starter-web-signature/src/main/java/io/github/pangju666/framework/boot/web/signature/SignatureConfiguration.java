@@ -33,6 +33,8 @@ import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm
  *   <li>{@link #signatureHeaderName}：HTTP 请求头中的签名字段名称。</li>
  *   <li>{@link #appIdHeaderName}：HTTP 请求头中的应用 ID 字段名称。</li>
  *   <li>{@link #timestampHeaderName}：HTTP 请求头中的时间戳字段名称。</li>
+ *   <li>{@link #nonceHeaderName}：HTTP 请求头中的随机数字段名称。</li>
+ *   <li>{@link #bodyDigestHeaderName}：HTTP 请求头中的请求体摘要字段名称。</li>
  *   <li>{@link #signatureParamName}：HTTP 请求参数中的签名字段名称。</li>
  *   <li>{@link #appIdParamName}：HTTP 请求参数中的应用 ID 字段名称。</li>
  * </ul>
@@ -43,6 +45,8 @@ import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm
  * config.setSignatureHeaderName("X-Signature");
  * config.setAppIdHeaderName("X-App-Id");
  * config.setTimestampHeaderName("X-Timestamp");
+ * config.setNonceHeaderName("X-Nonce");
+ * config.setBodyDigestHeaderName("X-Body-Digest");
  * config.setSignatureParamName("sign");
  * config.setAppIdParamName("appId");
  * </code></pre>
@@ -78,6 +82,18 @@ public class SignatureConfiguration {
 	 * @since 1.0.0
 	 */
 	private String timestampHeaderName;
+	/**
+	 * HTTP 请求头中随机数字段的名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private String nonceHeaderName;
+	/**
+	 * HTTP 请求头中请求体摘要字段的名称。
+	 *
+	 * @since 2.1.0
+	 */
+	private String bodyDigestHeaderName;
 	/**
 	 * HTTP 请求参数中的签名字段名称。
 	 *
@@ -115,6 +131,22 @@ public class SignatureConfiguration {
 		this.timestampHeaderName = timestampHeaderName;
 	}
 
+	public String getNonceHeaderName() {
+		return nonceHeaderName;
+	}
+
+	public void setNonceHeaderName(String nonceHeaderName) {
+		this.nonceHeaderName = nonceHeaderName;
+	}
+
+	public String getBodyDigestHeaderName() {
+		return bodyDigestHeaderName;
+	}
+
+	public void setBodyDigestHeaderName(String bodyDigestHeaderName) {
+		this.bodyDigestHeaderName = bodyDigestHeaderName;
+	}
+
 	public String getSignatureParamName() {
 		return signatureParamName;
 	}
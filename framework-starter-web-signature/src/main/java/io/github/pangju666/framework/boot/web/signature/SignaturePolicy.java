@@ -0,0 +1,100 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 预编译的接口签名策略。
+ *
+ * <p>由 {@link Signature} 注解编译而来，签名校验时直接读取，无需重复解析注解与换算时间。</p>
+ *
+ * @param type          签名信息来源
+ * @param algorithm     签名算法
+ * @param appIds        允许的应用 ID 集合，为空集合时不限制
+ * @param timeoutMillis 签名有效期（毫秒）
+ * @param nonce         是否启用随机数校验
+ * @param body          是否校验请求体
+ * @param streamingBody 请求体是否由消息转换器读取（处理器方法存在 {@code @RequestBody} 或 {@code HttpEntity} 参数），
+ *                      为 {@code true} 时边读取边校验，否则在拦截器中读取并缓存完整请求体后校验
+ * @author pangju666
+ * @see SignaturePolicyRegistry
+ * @since 2.1.0
+ */
+public record SignaturePolicy(Signature.SignatureType type, SignatureAlgorithm algorithm, Set<String> appIds,
+							  long timeoutMillis, boolean nonce, boolean body, boolean streamingBody) {
+	/**
+	 * 从注解编译签名策略。
+	 *
+	 * @param annotation 签名注解
+	 * @return 签名策略
+	 * @throws IllegalArgumentException 请求参数签名启用随机数或请求体校验时抛出
+	 * @since 2.1.0
+	 */
+	public static SignaturePolicy of(Signature annotation) {
+		return of(annotation, false);
+	}
+
+	/**
+	 * 从注解编译签名策略。
+	 *
+	 * @param annotation    签名注解
+	 * @param streamingBody 请求体是否由消息转换器读取
+	 * @return 签名策略
+	 * @throws IllegalArgumentException 请求参数签名启用随机数或请求体校验时抛出
+	 * @since 2.1.0
+	 */
+	public static SignaturePolicy of(Signature annotation, boolean streamingBody) {
+		Assert.isTrue(annotation.type() != Signature.SignatureType.PARAM || (!annotation.nonce() && !annotation.body()),
+			"请求参数签名不支持随机数与请求体校验，请使用 HEADER 或 ANY 签名方式");
+		Set<String> appIds = annotation.appId().length == 0 ? Collections.emptySet() : Set.copyOf(Arrays.asList(annotation.appId()));
+		return new SignaturePolicy(annotation.type(), annotation.algorithm(), appIds,
+			annotation.timeUnit().toMillis(annotation.timeout()), annotation.nonce(), annotation.body(),
+			annotation.body() && streamingBody);
+	}
+
+	/**
+	 * 判断是否只能使用请求头签名。
+	 * <p>
+	 * 请求参数签名不包含时间戳、随机数与请求体摘要，启用随机数或请求体校验时必须使用请求头签名，
+	 * 否则调用方省略请求头即可绕过防重放校验或篡改请求体。
+	 * </p>
+	 *
+	 * @return 启用随机数或请求体校验时返回 {@code true}
+	 * @since 2.1.0
+	 */
+	public boolean requiresHeaders() {
+		return nonce || body;
+	}
+
+	/**
+	 * 判断应用 ID 是否被允许。
+	 *
+	 * @param appId 应用 ID
+	 * @return 未限制应用 ID 或应用 ID 在允许集合中返回 {@code true}
+	 * @since 2.1.0
+	 */
+	public boolean isAllowed(String appId) {
+		return appIds.isEmpty() || appIds.contains(appId);
+	}
+}
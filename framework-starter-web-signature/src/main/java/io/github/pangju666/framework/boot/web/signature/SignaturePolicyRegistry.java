@@ -0,0 +1,147 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature;
+
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 接口签名策略注册表。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>按处理器方法缓存由 {@link Signature} 编译得到的 {@link SignaturePolicy}，
+ *   未标注注解的处理器同样缓存，请求时只需两次哈希查找。</li>
+ *   <li>方法注解优先于类注解；类注解按处理器的实际 Bean 类型解析，
+ *   因此继承自同一父类的方法在不同控制器中可以拥有不同的策略。</li>
+ *   <li>可在启动时通过 {@link #compile(Collection)} 预编译全部处理器方法，未预编译的处理器在首次请求时编译。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see SignaturePolicy
+ * @see io.github.pangju666.framework.boot.web.signature.interceptor.SignatureInterceptor
+ * @since 2.1.0
+ */
+public class SignaturePolicyRegistry {
+	/**
+	 * Bean 类型 → 方法 → 签名策略（未标注注解时为空）。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<Class<?>, Map<Method, Optional<SignaturePolicy>>> policies = new ConcurrentHashMap<>();
+
+	/**
+	 * 预编译处理器方法的签名策略。
+	 *
+	 * @param handlerMethods 处理器方法集合
+	 * @since 2.1.0
+	 */
+	public void compile(Collection<HandlerMethod> handlerMethods) {
+		for (HandlerMethod handlerMethod : handlerMethods) {
+			getPolicy(handlerMethod);
+		}
+	}
+
+	/**
+	 * 获取处理器方法的签名策略。
+	 *
+	 * @param handlerMethod 处理器方法
+	 * @return 签名策略；未标注 {@link Signature} 时返回 {@code null}
+	 * @since 2.1.0
+	 */
+	public SignaturePolicy getPolicy(HandlerMethod handlerMethod) {
+		Map<Method, Optional<SignaturePolicy>> methodPolicies = policies.get(handlerMethod.getBeanType());
+		if (Objects.isNull(methodPolicies)) {
+			methodPolicies = policies.computeIfAbsent(handlerMethod.getBeanType(), k -> new ConcurrentHashMap<>());
+		}
+		Optional<SignaturePolicy> policy = methodPolicies.get(handlerMethod.getMethod());
+		if (Objects.isNull(policy)) {
+			policy = methodPolicies.computeIfAbsent(handlerMethod.getMethod(), k -> resolve(handlerMethod));
+		}
+		return policy.orElse(null);
+	}
+
+	/**
+	 * 获取已编译且启用随机数校验的策略中最长的签名有效期。
+	 *
+	 * @return 最长签名有效期（毫秒）；不存在启用随机数校验的策略时返回 0
+	 * @since 2.1.0
+	 */
+	public long getMaxNonceTimeoutMillis() {
+		long maxTimeoutMillis = 0;
+		for (Map<Method, Optional<SignaturePolicy>> methodPolicies : policies.values()) {
+			for (Optional<SignaturePolicy> policy : methodPolicies.values()) {
+				if (policy.isPresent() && policy.get().nonce()) {
+					maxTimeoutMillis = Math.max(maxTimeoutMillis, policy.get().timeoutMillis());
+				}
+			}
+		}
+		return maxTimeoutMillis;
+	}
+
+	/**
+	 * 获取已编译的处理器方法数量。
+	 *
+	 * @return 已编译的处理器方法数量
+	 * @since 2.1.0
+	 */
+	public int size() {
+		int size = 0;
+		for (Map<Method, Optional<SignaturePolicy>> methodPolicies : policies.values()) {
+			size += methodPolicies.size();
+		}
+		return size;
+	}
+
+	private static Optional<SignaturePolicy> resolve(HandlerMethod handlerMethod) {
+		Signature annotation = handlerMethod.getMethodAnnotation(Signature.class);
+		if (Objects.isNull(annotation)) {
+			annotation = handlerMethod.getBeanType().getAnnotation(Signature.class);
+		}
+		if (Objects.isNull(annotation)) {
+			return Optional.empty();
+		}
+		return Optional.of(SignaturePolicy.of(annotation, isStreamingBody(handlerMethod)));
+	}
+
+	/**
+	 * 判断处理器方法的请求体是否由消息转换器读取。
+	 *
+	 * @param handlerMethod 处理器方法
+	 * @return 存在 {@link RequestBody} 或 {@link HttpEntity} 参数时返回 {@code true}
+	 * @since 2.1.0
+	 */
+	private static boolean isStreamingBody(HandlerMethod handlerMethod) {
+		for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+			if (parameter.hasParameterAnnotation(RequestBody.class) ||
+				HttpEntity.class.isAssignableFrom(parameter.getParameterType())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -35,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  *     <li>配置签名字段的存在位置（参数或请求头）。</li>
  *     <li>支持多种哈希算法生成签名，如 {@link SignatureAlgorithm#SHA256}。</li>
  *     <li>设置请求的签名校验有效期，避免重复请求或时效性攻击。</li>
+ *     <li>支持请求头签名携带随机数（Nonce），拒绝有效期内的重放请求。</li>
  * </ul>
  *
  * <p>适用场景：</p>
@@ -47,12 +48,23 @@ import java.util.concurrent.TimeUnit;
  * <ul>
  *     <li>
  *         <p>请求头签名</p>
- *         拼接字符串（应用ID + &amp; + 密钥 + &amp; + 请求URL（不包含请求参数也无需URL编码） + &amp; + 时间戳），然后根据签名算法计算摘要
+ *         拼接字符串（应用ID + &amp; + 密钥 + &amp; + 请求URL（不包含请求参数也无需URL编码） + &amp; + 时间戳），然后根据签名算法计算摘要；
+ *         启用 {@link #nonce()} 时拼接字符串末尾追加（&amp; + 随机数）；
+ *         启用 {@link #body()} 时再追加（&amp; + 请求体摘要）
  *     </li>
  *     <li>
  *         <p>请求参数签名</p>
  *        拼接字符串（应用ID + &amp; + 密钥 + &amp; + URL编码后请求URL（包含请求参数）），然后根据签名算法计算摘要
  *     </li>
+ *     <li>
+ *         <p>HMAC 算法（{@link SignatureAlgorithm#HMAC_SHA256}、{@link SignatureAlgorithm#HMAC_SHA512}）</p>
+ *         密钥不参与拼接而作为 HMAC 密钥，对去掉密钥后的拼接字符串计算消息认证码，签名值为小写十六进制字符串
+ *     </li>
+ *     <li>
+ *         <p>公钥签名算法（{@link SignatureAlgorithm#ED25519}、{@link SignatureAlgorithm#ECDSA_P256}）</p>
+ *         调用方使用私钥对去掉密钥后的拼接字符串签名，签名值为十六进制字符串；
+ *         服务端的密钥存储器中保存调用方的公钥（Base64 编码的 X.509 格式），无需保存共享密钥
+ *     </li>
  * </ul>
  *
  * <p>使用示例：</p>
@@ -144,6 +156,45 @@ public @interface Signature {
 	 */
 	TimeUnit timeUnit() default TimeUnit.MINUTES;
 
+	/**
+	 * 是否启用随机数（Nonce）防重放校验。
+	 * <p>
+	 * 仅支持请求头签名：{@link SignatureType#PARAM} 下启用时策略编译失败，{@link SignatureType#ANY} 下不再接受请求参数签名。
+	 * 启用后请求必须携带随机数请求头，随机数参与签名计算，
+	 * 同一应用 ID 的同一随机数在签名有效期内只能使用一次；
+	 * 同时拒绝时间戳超前服务端时间超过 {@link #timeout()} 的请求。
+	 * </p>
+	 * <p>
+	 * 已使用的随机数由 {@link io.github.pangju666.framework.boot.web.signature.NonceStorer} 记录。
+	 * </p>
+	 *
+	 * @return 是否启用随机数校验，默认为 {@code false}。
+	 * @since 2.1.0
+	 */
+	boolean nonce() default false;
+
+	/**
+	 * 是否校验请求体。
+	 * <p>
+	 * 仅支持请求头签名：{@link SignatureType#PARAM} 下启用时策略编译失败，{@link SignatureType#ANY} 下不再接受请求参数签名。
+	 * 启用后请求必须携带请求体摘要请求头（请求体原始字节的 SHA-256 摘要，十六进制字符串），
+	 * 摘要参与签名计算，不一致时拒绝请求。
+	 * </p>
+	 * <ul>
+	 *     <li>处理器方法存在 {@code @RequestBody} 或 {@code HttpEntity} 参数时，请求体在被消息转换器读取的同时计算摘要，
+	 *     读取完毕后与请求头比较，请求体不会被缓存，适用于大请求体。</li>
+	 *     <li>其他处理器方法（表单提交、直接读取请求等）在拦截器中读取并缓存完整请求体后立即校验，
+	 *     之后的请求体与表单参数均基于缓存提供。{@code multipart} 请求不支持请求体校验。</li>
+	 * </ul>
+	 * <p>
+	 * 需要注册 {@link io.github.pangju666.framework.boot.web.signature.filter.BodyDigestFilter}（自动配置默认注册）。
+	 * </p>
+	 *
+	 * @return 是否校验请求体，默认为 {@code false}。
+	 * @since 2.1.0
+	 */
+	boolean body() default false;
+
 	/**
 	 * 签名校验类型枚举。
 	 *
@@ -0,0 +1,95 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature.autoconfigure;
+
+import io.github.pangju666.framework.boot.web.signature.BodyDigestRequestWrapper;
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+import io.github.pangju666.framework.web.exception.base.ServerException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+/**
+ * 请求体摘要校验通知。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>对启用 {@link Signature#body()} 的接口，在消息转换器读取请求体后调用 {@link BodyDigestRequestWrapper#verify()}，
+ *   读取转换器未读取的剩余内容并完成摘要校验，保证控制器方法执行前请求体已被校验。</li>
+ *   <li>请求体为空时同样校验，防止签名时声明了请求体而请求实际未携带。</li>
+ *   <li>仅处理请求体由消息转换器读取的接口，其他接口由签名拦截器通过 {@link BodyDigestRequestWrapper#verifyAndCache()} 校验。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see BodyDigestRequestWrapper
+ * @see Signature#body()
+ * @since 2.1.0
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ControllerAdvice
+public class BodyDigestRequestBodyAdvice extends RequestBodyAdviceAdapter {
+	@Override
+	public boolean supports(MethodParameter methodParameter, Type targetType,
+							Class<? extends HttpMessageConverter<?>> converterType) {
+		Signature annotation = methodParameter.getMethodAnnotation(Signature.class);
+		if (Objects.isNull(annotation)) {
+			annotation = methodParameter.getContainingClass().getAnnotation(Signature.class);
+		}
+		return Objects.nonNull(annotation) && annotation.body();
+	}
+
+	@Override
+	public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+								Class<? extends HttpMessageConverter<?>> converterType) {
+		verify();
+		return body;
+	}
+
+	@Override
+	public Object handleEmptyBody(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+								  Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+		verify();
+		return body;
+	}
+
+	private void verify() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+			BodyDigestRequestWrapper request = WebUtils.getNativeRequest(servletRequestAttributes.getRequest(),
+				BodyDigestRequestWrapper.class);
+			if (Objects.nonNull(request)) {
+				try {
+					request.verify();
+				} catch (IOException e) {
+					throw new ServerException("请求体读取失败", e);
+				}
+			}
+		}
+	}
+}
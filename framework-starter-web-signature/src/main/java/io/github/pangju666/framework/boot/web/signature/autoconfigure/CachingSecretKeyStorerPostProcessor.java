@@ -0,0 +1,111 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature.autoconfigure;
+
+import io.github.pangju666.framework.boot.web.signature.CachingSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.JdbcSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.RedisSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.SecretKeyStorer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.Assert;
+
+/**
+ * 签名密钥缓存后置处理器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>启用密钥缓存（{@code pangju.web.signature.storer.cache.enabled = true}，默认关闭）时，
+ *   将本模块自动配置注册的 {@link JdbcSecretKeyStorer} 与 {@link RedisSecretKeyStorer} Bean 替换为包装了原实例的 {@link CachingSecretKeyStorer}。</li>
+ *   <li>替换后的 Bean 可按 {@link CachingSecretKeyStorer} 类型注入，
+ *   在密钥轮换或吊销时调用 {@link CachingSecretKeyStorer#invalidate(String)} 或 {@link CachingSecretKeyStorer#invalidateAll()} 使缓存立即失效。</li>
+ *   <li>应用自行定义的密钥存储器 Bean 从不替换，避免改变其注入类型与密钥吊销的生效时间；需要缓存时请自行包装为 {@link CachingSecretKeyStorer}。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see CachingSecretKeyStorer
+ * @see SignatureProperties.Storer.Cache
+ * @since 2.1.0
+ */
+public class CachingSecretKeyStorerPostProcessor implements BeanPostProcessor {
+	/**
+	 * 本模块自动配置注册的数据库密钥存储器 Bean 名称。
+	 *
+	 * @since 2.1.0
+	 */
+	static final String JDBC_SECRET_KEY_STORER_BEAN_NAME = "jdbcSecretKeyStorer";
+	/**
+	 * 本模块自动配置注册的 Redis 密钥存储器 Bean 名称。
+	 *
+	 * @since 2.1.0
+	 */
+	static final String REDIS_SECRET_KEY_STORER_BEAN_NAME = "redisSecretKeyStorer";
+
+	/**
+	 * 签名配置属性提供者，延迟到处理第一个密钥存储器时才获取。
+	 *
+	 * @since 2.1.0
+	 */
+	private final ObjectProvider<SignatureProperties> propertiesProvider;
+
+	/**
+	 * 使用签名配置属性提供者构造。
+	 *
+	 * @param propertiesProvider 签名配置属性提供者
+	 * @throws IllegalArgumentException 当 {@code propertiesProvider} 为 null 时抛出
+	 * @since 2.1.0
+	 */
+	public CachingSecretKeyStorerPostProcessor(ObjectProvider<SignatureProperties> propertiesProvider) {
+		Assert.notNull(propertiesProvider, "propertiesProvider 不可为 null");
+
+		this.propertiesProvider = propertiesProvider;
+	}
+
+	/**
+	 * 启用缓存时将本模块注册的密钥存储器包装为 {@link CachingSecretKeyStorer}。
+	 *
+	 * @param bean     Bean 实例
+	 * @param beanName Bean 名称
+	 * @return 包装后的密钥存储器，其他 Bean 原样返回
+	 * @since 2.1.0
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!isBuiltInStorer(bean, beanName)) {
+			return bean;
+		}
+		SignatureProperties.Storer.Cache cache = propertiesProvider.getObject().getStorer().getCache();
+		if (!cache.isEnabled()) {
+			return bean;
+		}
+		return new CachingSecretKeyStorer((SecretKeyStorer) bean, cache.getMaximumSize(), cache.getExpireAfterWrite(),
+			cache.getRefreshAfterWrite(), cache.getNegativeExpireAfterWrite());
+	}
+
+	/**
+	 * 判断 Bean 是否为本模块自动配置注册的密钥存储器。
+	 *
+	 * @param bean     Bean 实例
+	 * @param beanName Bean 名称
+	 * @return Bean 名称与类型均与自动配置注册的数据库或 Redis 密钥存储器一致时返回 {@code true}
+	 * @since 2.1.0
+	 */
+	private static boolean isBuiltInStorer(Object bean, String beanName) {
+		return (bean.getClass() == JdbcSecretKeyStorer.class && JDBC_SECRET_KEY_STORER_BEAN_NAME.equals(beanName)) ||
+			(bean.getClass() == RedisSecretKeyStorer.class && REDIS_SECRET_KEY_STORER_BEAN_NAME.equals(beanName));
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature.autoconfigure;
+
+import io.github.pangju666.framework.boot.web.signature.LocalNonceStorer;
+import io.github.pangju666.framework.boot.web.signature.NonceStorer;
+import io.github.pangju666.framework.boot.web.signature.RedisNonceStorer;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 随机数存储器自动配置。
+ *
+ * <p><strong>行为</strong></p>
+ * <ul>
+ *   <li>{@code pangju.web.signature.nonce.type = LOCAL}（默认）时注册 {@link LocalNonceStorer}。</li>
+ *   <li>{@code pangju.web.signature.nonce.type = REDIS} 且类路径存在 {@link StringRedisTemplate} 时注册 {@link RedisNonceStorer}。</li>
+ *   <li>容器中已存在 {@link NonceStorer} Bean 时均不注册。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see NonceStorer
+ * @see SignatureProperties.Nonce
+ * @since 2.1.0
+ */
+class NonceStorerConfiguration {
+	/**
+	 * 本地随机数存储器配置。
+	 *
+	 * @since 2.1.0
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(prefix = "pangju.web.signature.nonce", value = "type", havingValue = "LOCAL", matchIfMissing = true)
+	static class LocalConfiguration {
+		@ConditionalOnMissingBean(NonceStorer.class)
+		@Bean
+		public LocalNonceStorer localNonceStorer(SignatureProperties properties) {
+			SignatureProperties.Nonce.Local local = properties.getNonce().getLocal();
+			return new LocalNonceStorer(local.getWindow(), local.getBucketCount(), local.getMaxSize());
+		}
+	}
+
+	/**
+	 * Redis 随机数存储器配置。
+	 *
+	 * @since 2.1.0
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(StringRedisTemplate.class)
+	@ConditionalOnProperty(prefix = "pangju.web.signature.nonce", value = "type", havingValue = "REDIS")
+	static class RedisConfiguration {
+		@ConditionalOnMissingBean(NonceStorer.class)
+		@Bean
+		public RedisNonceStorer redisNonceStorer(SignatureProperties properties, BeanFactory beanFactory) {
+			SignatureProperties.Nonce.Redis redis = properties.getNonce().getRedis();
+			StringRedisTemplate redisTemplate;
+			if (StringUtils.hasText(redis.getRedisTemplateRef())) {
+				redisTemplate = beanFactory.getBean(redis.getRedisTemplateRef(), StringRedisTemplate.class);
+			} else {
+				redisTemplate = beanFactory.getBean(StringRedisTemplate.class);
+			}
+			return new RedisNonceStorer(redisTemplate, redis.getKeyPrefix());
+		}
+	}
+}
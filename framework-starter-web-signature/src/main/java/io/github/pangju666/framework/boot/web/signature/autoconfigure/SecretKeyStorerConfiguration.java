@@ -0,0 +1,94 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature.autoconfigure;
+
+import io.github.pangju666.framework.boot.web.signature.JdbcSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.RedisSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.SecretKeyStorer;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 外部密钥存储器自动配置。
+ *
+ * <p><strong>行为</strong></p>
+ * <ul>
+ *   <li>{@code pangju.web.signature.storer.type = JDBC} 且类路径存在 {@link JdbcTemplate} 时注册 {@link JdbcSecretKeyStorer}。</li>
+ *   <li>{@code pangju.web.signature.storer.type = REDIS} 且类路径存在 {@link StringRedisTemplate} 时注册 {@link RedisSecretKeyStorer}。</li>
+ *   <li>容器中已存在 {@link SecretKeyStorer} Bean 时均不注册。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see SecretKeyStorer
+ * @see SignatureProperties.Storer
+ * @since 2.1.0
+ */
+class SecretKeyStorerConfiguration {
+	/**
+	 * 数据库密钥存储器配置。
+	 *
+	 * @since 2.1.0
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(JdbcTemplate.class)
+	@ConditionalOnProperty(prefix = "pangju.web.signature.storer", value = "type", havingValue = "JDBC")
+	static class JdbcConfiguration {
+		@ConditionalOnMissingBean(SecretKeyStorer.class)
+		@Bean(CachingSecretKeyStorerPostProcessor.JDBC_SECRET_KEY_STORER_BEAN_NAME)
+		public JdbcSecretKeyStorer jdbcSecretKeyStorer(SignatureProperties properties, BeanFactory beanFactory) {
+			SignatureProperties.Storer.Jdbc jdbc = properties.getStorer().getJdbc();
+			JdbcTemplate jdbcTemplate;
+			if (StringUtils.hasText(jdbc.getJdbcTemplateRef())) {
+				jdbcTemplate = beanFactory.getBean(jdbc.getJdbcTemplateRef(), JdbcTemplate.class);
+			} else {
+				jdbcTemplate = beanFactory.getBean(JdbcTemplate.class);
+			}
+			return new JdbcSecretKeyStorer(jdbcTemplate, jdbc.getTableName(), jdbc.getAppIdColumn(),
+				jdbc.getSecretKeyColumn());
+		}
+	}
+
+	/**
+	 * Redis 密钥存储器配置。
+	 *
+	 * @since 2.1.0
+	 */
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(StringRedisTemplate.class)
+	@ConditionalOnProperty(prefix = "pangju.web.signature.storer", value = "type", havingValue = "REDIS")
+	static class RedisConfiguration {
+		@ConditionalOnMissingBean(SecretKeyStorer.class)
+		@Bean(CachingSecretKeyStorerPostProcessor.REDIS_SECRET_KEY_STORER_BEAN_NAME)
+		public RedisSecretKeyStorer redisSecretKeyStorer(SignatureProperties properties, BeanFactory beanFactory) {
+			SignatureProperties.Storer.Redis redis = properties.getStorer().getRedis();
+			StringRedisTemplate redisTemplate;
+			if (StringUtils.hasText(redis.getRedisTemplateRef())) {
+				redisTemplate = beanFactory.getBean(redis.getRedisTemplateRef(), StringRedisTemplate.class);
+			} else {
+				redisTemplate = beanFactory.getBean(StringRedisTemplate.class);
+			}
+			return new RedisSecretKeyStorer(redisTemplate, redis.getKey());
+		}
+	}
+}
@@ -17,22 +17,40 @@
 package io.github.pangju666.framework.boot.web.signature.autoconfigure;
 
 import io.github.pangju666.framework.boot.web.autoconfigure.WebMvcConfigurerAutoConfiguration;
+import io.github.pangju666.framework.boot.web.signature.CachingSecretKeyStorer;
 import io.github.pangju666.framework.boot.web.signature.DefaultSecretKeyStorer;
+import io.github.pangju666.framework.boot.web.signature.LocalNonceStorer;
+import io.github.pangju666.framework.boot.web.signature.NonceStorer;
 import io.github.pangju666.framework.boot.web.signature.SecretKeyStorer;
 import io.github.pangju666.framework.boot.web.signature.SignatureConfiguration;
+import io.github.pangju666.framework.boot.web.signature.SignaturePolicyRegistry;
+import io.github.pangju666.framework.boot.web.signature.filter.BodyDigestFilter;
 import io.github.pangju666.framework.boot.web.signature.interceptor.SignatureInterceptor;
+import io.github.pangju666.framework.web.lang.WebConstants;
 import io.github.pangju666.framework.web.model.Result;
 import jakarta.servlet.Servlet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.Duration;
+import java.util.Collections;
 
 /**
  * 签名功能自动配置。
@@ -52,7 +70,13 @@ import org.springframework.web.servlet.DispatcherServlet;
  *
  * <p><strong>行为</strong></p>
  * <ul>
+ *   <li>按 {@code pangju.web.signature.storer.type} 注册数据库或 Redis 密钥存储器。</li>
  *   <li>当上下文中缺少 {@link SecretKeyStorer} 时，注册 {@link DefaultSecretKeyStorer}，从 {@link SignatureProperties#getSecretKeys()} 加载密钥映射。</li>
+ *   <li>启用密钥缓存时（默认关闭），通过 {@link CachingSecretKeyStorerPostProcessor} 将本模块注册的数据库或 Redis 密钥存储器 Bean 替换为 {@link CachingSecretKeyStorer}，
+ *   可按该类型注入后使缓存失效；应用就绪后预热缓存，预热失败仅记录日志。</li>
+ *   <li>按 {@code pangju.web.signature.nonce.type} 注册 {@link NonceStorer}（本地或 Redis），用于随机数防重放校验。</li>
+ *   <li>注册 {@link BodyDigestFilter} 与 {@link BodyDigestRequestBodyAdvice}，用于 {@code @Signature(body = true)} 的流式请求体校验。</li>
+ *   <li>注册 {@link SignaturePolicyRegistry}，并在所有单例初始化完成后预编译全部处理器方法的签名策略。</li>
  *   <li>当存在 {@link SecretKeyStorer} 时，创建并暴露 {@link SignatureInterceptor} Bean（优先级 {@link Ordered#HIGHEST_PRECEDENCE} + 1），其配置来自 {@link SignatureProperties}。</li>
  * </ul>
  *
@@ -74,7 +98,16 @@ import org.springframework.web.servlet.DispatcherServlet;
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ConditionalOnClass({Servlet.class, DispatcherServlet.class, Result.class})
 @EnableConfigurationProperties(SignatureProperties.class)
+@Import({NonceStorerConfiguration.LocalConfiguration.class, NonceStorerConfiguration.RedisConfiguration.class,
+	SecretKeyStorerConfiguration.JdbcConfiguration.class, SecretKeyStorerConfiguration.RedisConfiguration.class})
 public class SignatureAutoConfiguration {
+	/**
+	 * 日志记录器
+	 *
+	 * @since 2.1.0
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(SignatureAutoConfiguration.class);
+
 	/**
 	 * 注册默认签名密钥存储器。
 	 * <p>
@@ -92,17 +125,107 @@ public class SignatureAutoConfiguration {
 		return new DefaultSecretKeyStorer(properties.getSecretKeys());
 	}
 
+	/**
+	 * 注册签名密钥缓存后置处理器，启用缓存时将本模块注册的密钥存储器 Bean 替换为 {@link CachingSecretKeyStorer}。
+	 *
+	 * @param propertiesProvider 签名配置属性提供者
+	 * @return 签名密钥缓存后置处理器
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean(CachingSecretKeyStorerPostProcessor.class)
+	@Bean
+	public static CachingSecretKeyStorerPostProcessor cachingSecretKeyStorerPostProcessor(
+		ObjectProvider<SignatureProperties> propertiesProvider) {
+		return new CachingSecretKeyStorerPostProcessor(propertiesProvider);
+	}
+
+	/**
+	 * 应用就绪后预热全部 {@link CachingSecretKeyStorer} 的缓存。
+	 * <p>
+	 * 预热在启动完成后执行，外部存储不可用时仅记录日志，不影响应用启动；未命中的密钥仍按需加载。
+	 * </p>
+	 *
+	 * @param cachingSecretKeyStorers 带缓存的密钥存储器
+	 * @param properties              签名配置属性
+	 * @return 缓存预热监听器
+	 * @since 2.1.0
+	 */
+	@Bean
+	public ApplicationListener<ApplicationReadyEvent> signatureSecretKeyPreloader(
+		ObjectProvider<CachingSecretKeyStorer> cachingSecretKeyStorers, SignatureProperties properties) {
+		return event -> {
+			if (!properties.getStorer().getCache().isPreload()) {
+				return;
+			}
+			cachingSecretKeyStorers.orderedStream().forEach(cachingSecretKeyStorer -> {
+				try {
+					int count = cachingSecretKeyStorer.preload();
+					LOGGER.info("签名密钥缓存预热完成，共加载 {} 个密钥", count);
+				} catch (RuntimeException e) {
+					LOGGER.warn("签名密钥缓存预热失败，密钥将在首次使用时加载", e);
+				}
+			});
+		};
+	}
+
+	/**
+	 * 注册签名策略注册表。
+	 *
+	 * @return 签名策略注册表
+	 * @since 2.1.0
+	 */
+	@ConditionalOnMissingBean
+	@Bean
+	public SignaturePolicyRegistry signaturePolicyRegistry() {
+		return new SignaturePolicyRegistry();
+	}
+
+	/**
+	 * 在所有单例初始化完成后，预编译 {@link RequestMappingHandlerMapping} 中全部处理器方法的签名策略，
+	 * 使请求处理时不再解析注解。
+	 * <p>
+	 * 使用 {@link LocalNonceStorer} 时，校验其存储窗口不小于启用随机数校验的最长签名有效期的两倍，
+	 * 不满足时启动失败，避免随机数在有效期内被清除后可被重放。
+	 * </p>
+	 *
+	 * @param policyRegistry  签名策略注册表
+	 * @param handlerMappings 请求映射处理器
+	 * @param nonceStorer     随机数存储器（可能不存在）
+	 * @return 预编译初始化器
+	 * @throws IllegalStateException 本地随机数存储窗口小于最长签名有效期的两倍时抛出
+	 * @since 2.1.0
+	 */
+	@Bean
+	public SmartInitializingSingleton signaturePolicyRegistryInitializer(SignaturePolicyRegistry policyRegistry,
+																		 ObjectProvider<RequestMappingHandlerMapping> handlerMappings,
+																		 ObjectProvider<NonceStorer> nonceStorer) {
+		return () -> {
+			handlerMappings.orderedStream()
+				.forEach(handlerMapping -> policyRegistry.compile(handlerMapping.getHandlerMethods().values()));
+			if (nonceStorer.getIfAvailable() instanceof LocalNonceStorer localNonceStorer) {
+				long requiredMillis = policyRegistry.getMaxNonceTimeoutMillis() * 2;
+				if (localNonceStorer.getWindow().toMillis() < requiredMillis) {
+					throw new IllegalStateException("本地随机数存储窗口 " + localNonceStorer.getWindow() +
+						" 小于签名有效期的两倍 " + Duration.ofMillis(requiredMillis) +
+						"，请增大 pangju.web.signature.nonce.local.window");
+				}
+			}
+		};
+	}
+
 	/**
 	 * 注册签名拦截器 Bean。
 	 *
 	 * <p><strong>行为</strong></p>
 	 * <ul>
 	 *   <li>根据 {@link SignatureProperties} 构建 {@link SignatureConfiguration}，包含头部与参数字段名。</li>
-	 *   <li>依赖 {@link SecretKeyStorer} 提供按 AppId 获取密钥的能力。</li>
+	 *   <li>依赖 {@link SecretKeyStorer} 提供按 AppId 获取密钥的能力；启用缓存时注入的是 {@link CachingSecretKeyStorerPostProcessor} 包装后的 {@link CachingSecretKeyStorer}。</li>
 	 *   <li>拦截器优先级为 {@link Ordered#HIGHEST_PRECEDENCE} + 1；实际添加到 MVC 由 {@link WebMvcConfigurerAutoConfiguration} 统一处理。</li>
 	 * </ul>
 	 *
 	 * @param secretKeyStorer 密钥存储器（按应用标识符提供签名密钥）
+	 * @param nonceStorer     随机数存储器（可能不存在）
+	 * @param policyRegistry  签名策略注册表
 	 * @param properties      签名配置属性（头部与参数字段名、密钥映射等）
 	 * @return 签名拦截器实例
 	 * @since 1.0.0
@@ -110,13 +233,46 @@ public class SignatureAutoConfiguration {
 	@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 	@ConditionalOnBean(SecretKeyStorer.class)
 	@Bean
-	public SignatureInterceptor signatureInterceptor(SecretKeyStorer secretKeyStorer, SignatureProperties properties) {
+	public SignatureInterceptor signatureInterceptor(SecretKeyStorer secretKeyStorer, ObjectProvider<NonceStorer> nonceStorer,
+													 SignaturePolicyRegistry policyRegistry, SignatureProperties properties) {
 		SignatureConfiguration signatureConfiguration = new SignatureConfiguration();
 		signatureConfiguration.setSignatureHeaderName(properties.getSignatureHeaderName());
 		signatureConfiguration.setAppIdHeaderName(properties.getAppIdHeaderName());
 		signatureConfiguration.setTimestampHeaderName(properties.getTimestampHeaderName());
+		signatureConfiguration.setNonceHeaderName(properties.getNonceHeaderName());
+		signatureConfiguration.setBodyDigestHeaderName(properties.getBodyDigestHeaderName());
 		signatureConfiguration.setSignatureParamName(properties.getSignatureParamName());
 		signatureConfiguration.setAppIdParamName(properties.getAppIdParamName());
-		return new SignatureInterceptor(signatureConfiguration, secretKeyStorer);
+
+		return new SignatureInterceptor(signatureConfiguration, secretKeyStorer, nonceStorer.getIfAvailable(),
+			policyRegistry);
+	}
+
+	/**
+	 * 注册请求体摘要过滤器。
+	 *
+	 * <p>过滤器将请求包装为可计算摘要的请求，应用所有 URL，顺序为 {@link BodyDigestFilter#ORDER}。</p>
+	 *
+	 * @return 用于注册请求体摘要过滤器的注册 Bean
+	 * @since 2.1.0
+	 */
+	@Bean
+	public FilterRegistrationBean<BodyDigestFilter> bodyDigestFilterRegistrationBean() {
+		FilterRegistrationBean<BodyDigestFilter> filterRegistrationBean = new FilterRegistrationBean<>(
+			new BodyDigestFilter(Collections.emptySet()));
+		filterRegistrationBean.addUrlPatterns(WebConstants.FILTER_ANY_URL_PATTERN);
+		filterRegistrationBean.setOrder(BodyDigestFilter.ORDER);
+		return filterRegistrationBean;
+	}
+
+	/**
+	 * 注册请求体摘要校验通知，在控制器方法执行前完成请求体校验。
+	 *
+	 * @return 请求体摘要校验通知
+	 * @since 2.1.0
+	 */
+	@Bean
+	public BodyDigestRequestBodyAdvice bodyDigestRequestBodyAdvice() {
+		return new BodyDigestRequestBodyAdvice();
 	}
 }
@@ -18,6 +18,7 @@ package io.github.pangju666.framework.boot.web.signature.autoconfigure;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -32,9 +33,13 @@ import java.util.Map;
  *     <li>{@code signatureHeaderName}：HTTP 请求头中签名字段的名称，默认值为 {@code X-Signature}。</li>
  *     <li>{@code appIdHeaderName}：HTTP 请求头中应用 ID 字段的名称，默认值为 {@code X-App-Id}。</li>
  *     <li>{@code timestampHeaderName}：HTTP 请求头中时间戳字段的名称，默认值为 {@code X-Timestamp}。</li>
+ *     <li>{@code nonceHeaderName}：HTTP 请求头中随机数字段的名称，默认值为 {@code X-Nonce}。</li>
+ *     <li>{@code bodyDigestHeaderName}：HTTP 请求头中请求体摘要字段的名称，默认值为 {@code X-Body-Digest}。</li>
  *     <li>{@code signatureParamName}：HTTP 请求参数中的签名字段名称，默认值为 {@code apiSignature}。</li>
  *     <li>{@code appIdParamName}：HTTP 请求参数中的应用 ID 字段名称，默认值为 {@code apiAppId}。</li>
  *     <li>{@code secretKeys}：应用 ID 及对应密钥的配置。</li>
+ *     <li>{@code nonce}：随机数存储配置。</li>
+ *     <li>{@code storer}：密钥存储器类型与缓存配置。</li>
  * </ul>
  *
  * <p>适用场景：</p>
@@ -51,11 +56,37 @@ import java.util.Map;
  *       signature-header-name: X-Signature
  *       app-id-header-name: X-App-Id
  *       timestamp-header-name: X-Timestamp
+ *       nonce-header-name: X-Nonce
+ *       body-digest-header-name: X-Body-Digest
  *       signature-param-name: apiSignature
  *       app-id-param-name: apiAppId
  *       secret-keys:
  *         app1: secretKey1
  *         app2: secretKey2
+ *       nonce:
+ *         # 随机数存储类型：LOCAL 或 REDIS
+ *         type: LOCAL
+ *         local:
+ *           window: 10m
+ *           bucket-count: 10
+ *           max-size: 100000
+ *         redis:
+ *           redis-template-ref: stringRedisTemplate
+ *           key-prefix: signature-nonce
+ *       storer:
+ *         # 密钥存储器类型：DEFAULT、JDBC 或 REDIS
+ *         type: JDBC
+ *         jdbc:
+ *           table-name: sys_app
+ *           app-id-column: app_id
+ *           secret-key-column: secret_key
+ *         cache:
+ *           enabled: true
+ *           maximum-size: 1000
+ *           expire-after-write: 10m
+ *           refresh-after-write: 1m
+ *           negative-expire-after-write: 30s
+ *           preload: true
  * </code></pre>
  *
  * @author pangju666
@@ -84,6 +115,20 @@ public class SignatureProperties {
 	 * @since 1.0.0
 	 */
 	private String timestampHeaderName = "X-Timestamp";
+	/**
+	 * HTTP 请求头中随机数字段的名称。
+	 * <p>默认值为 {@code X-Nonce}。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	private String nonceHeaderName = "X-Nonce";
+	/**
+	 * HTTP 请求头中请求体摘要字段的名称。
+	 * <p>默认值为 {@code X-Body-Digest}。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	private String bodyDigestHeaderName = "X-Body-Digest";
 	/**
 	 * HTTP 请求参数中的签名字段名称。
 	 * <p>默认值为 {@code apiSignature}。</p>
@@ -110,11 +155,57 @@ public class SignatureProperties {
 	 *         app1: secretKey1
 	 *         app2: secretKey2
 	 * </code></pre>
+	 * 使用公钥签名算法时，值为调用方的公钥（Base64 编码的 X.509 格式）。
 	 * </p>
 	 *
 	 * @since 1.0.0
 	 */
 	private Map<String, String> secretKeys;
+	/**
+	 * 随机数存储配置。
+	 * <p>对启用了 {@code @Signature(nonce = true)} 的接口生效。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	private Nonce nonce = new Nonce();
+	/**
+	 * 密钥存储器配置。
+	 *
+	 * @since 2.1.0
+	 */
+	private Storer storer = new Storer();
+
+	public Storer getStorer() {
+		return storer;
+	}
+
+	public void setStorer(Storer storer) {
+		this.storer = storer;
+	}
+
+	public Nonce getNonce() {
+		return nonce;
+	}
+
+	public void setNonce(Nonce nonce) {
+		this.nonce = nonce;
+	}
+
+	public String getNonceHeaderName() {
+		return nonceHeaderName;
+	}
+
+	public void setNonceHeaderName(String nonceHeaderName) {
+		this.nonceHeaderName = nonceHeaderName;
+	}
+
+	public String getBodyDigestHeaderName() {
+		return bodyDigestHeaderName;
+	}
+
+	public void setBodyDigestHeaderName(String bodyDigestHeaderName) {
+		this.bodyDigestHeaderName = bodyDigestHeaderName;
+	}
 
 	public Map<String, String> getSecretKeys() {
 		return secretKeys;
@@ -163,4 +254,456 @@ public class SignatureProperties {
 	public void setAppIdParamName(String appIdParamName) {
 		this.appIdParamName = appIdParamName;
 	}
+
+	/**
+	 * 随机数存储配置。
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static class Nonce {
+		/**
+		 * 随机数存储类型。
+		 * <p>默认值为 {@link Type#LOCAL}。</p>
+		 *
+		 * @since 2.1.0
+		 */
+		private Type type = Type.LOCAL;
+		/**
+		 * 本地随机数存储配置。
+		 *
+		 * @since 2.1.0
+		 */
+		private Local local = new Local();
+		/**
+		 * Redis 随机数存储配置。
+		 *
+		 * @since 2.1.0
+		 */
+		private Redis redis = new Redis();
+
+		public Type getType() {
+			return type;
+		}
+
+		public void setType(Type type) {
+			this.type = type;
+		}
+
+		public Local getLocal() {
+			return local;
+		}
+
+		public void setLocal(Local local) {
+			this.local = local;
+		}
+
+		public Redis getRedis() {
+			return redis;
+		}
+
+		public void setRedis(Redis redis) {
+			this.redis = redis;
+		}
+
+		/**
+		 * 随机数存储类型。
+		 *
+		 * @since 2.1.0
+		 */
+		public enum Type {
+			/**
+			 * 基于内存的时间分桶存储，适合单机部署。
+			 *
+			 * @since 2.1.0
+			 */
+			LOCAL,
+			/**
+			 * 基于 Redis 的存储，适合集群部署。
+			 *
+			 * @since 2.1.0
+			 */
+			REDIS
+		}
+
+		/**
+		 * 本地随机数存储配置。
+		 *
+		 * @since 2.1.0
+		 */
+		public static class Local {
+			/**
+			 * 随机数最长保留时间。
+			 * <p>应不小于启用随机数校验的最长签名有效期的两倍，否则启动失败，默认值为 10 分钟。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private Duration window = Duration.ofMinutes(10);
+			/**
+			 * 时间分桶数量。
+			 * <p>默认值为 10。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private int bucketCount = 10;
+			/**
+			 * 最大记录数。
+			 * <p>达到上限时拒绝新的随机数，默认值为 100000。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private int maxSize = 100000;
+
+			public Duration getWindow() {
+				return window;
+			}
+
+			public void setWindow(Duration window) {
+				this.window = window;
+			}
+
+			public int getBucketCount() {
+				return bucketCount;
+			}
+
+			public void setBucketCount(int bucketCount) {
+				this.bucketCount = bucketCount;
+			}
+
+			public int getMaxSize() {
+				return maxSize;
+			}
+
+			public void setMaxSize(int maxSize) {
+				this.maxSize = maxSize;
+			}
+		}
+
+		/**
+		 * Redis 随机数存储配置。
+		 *
+		 * @since 2.1.0
+		 */
+		public static class Redis {
+			/**
+			 * {@link org.springframework.data.redis.core.StringRedisTemplate} 的 Bean 名称。
+			 * <p>为空时使用容器中默认的 {@code StringRedisTemplate}。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private String redisTemplateRef;
+			/**
+			 * Redis 键前缀。
+			 * <p>默认值为 {@code signature-nonce}。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private String keyPrefix = "signature-nonce";
+
+			public String getRedisTemplateRef() {
+				return redisTemplateRef;
+			}
+
+			public void setRedisTemplateRef(String redisTemplateRef) {
+				this.redisTemplateRef = redisTemplateRef;
+			}
+
+			public String getKeyPrefix() {
+				return keyPrefix;
+			}
+
+			public void setKeyPrefix(String keyPrefix) {
+				this.keyPrefix = keyPrefix;
+			}
+		}
+	}
+
+	/**
+	 * 密钥存储器配置。
+	 *
+	 * @author pangju666
+	 * @since 2.1.0
+	 */
+	public static class Storer {
+		/**
+		 * 密钥存储器类型。
+		 * <p>默认值为 {@link Type#DEFAULT}，即从 {@code secret-keys} 配置加载。</p>
+		 *
+		 * @since 2.1.0
+		 */
+		private Type type = Type.DEFAULT;
+		/**
+		 * 数据库密钥存储器配置。
+		 *
+		 * @since 2.1.0
+		 */
+		private Jdbc jdbc = new Jdbc();
+		/**
+		 * Redis 密钥存储器配置。
+		 *
+		 * @since 2.1.0
+		 */
+		private Redis redis = new Redis();
+		/**
+		 * 密钥缓存配置。
+		 *
+		 * @since 2.1.0
+		 */
+		private Cache cache = new Cache();
+
+		public Type getType() {
+			return type;
+		}
+
+		public void setType(Type type) {
+			this.type = type;
+		}
+
+		public Jdbc getJdbc() {
+			return jdbc;
+		}
+
+		public void setJdbc(Jdbc jdbc) {
+			this.jdbc = jdbc;
+		}
+
+		public Redis getRedis() {
+			return redis;
+		}
+
+		public void setRedis(Redis redis) {
+			this.redis = redis;
+		}
+
+		public Cache getCache() {
+			return cache;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		/**
+		 * 密钥存储器类型。
+		 *
+		 * @since 2.1.0
+		 */
+		public enum Type {
+			/**
+			 * 从 {@code pangju.web.signature.secret-keys} 配置加载。
+			 *
+			 * @since 2.1.0
+			 */
+			DEFAULT,
+			/**
+			 * 从数据库表加载。
+			 *
+			 * @since 2.1.0
+			 */
+			JDBC,
+			/**
+			 * 从 Redis 哈希加载。
+			 *
+			 * @since 2.1.0
+			 */
+			REDIS
+		}
+
+		/**
+		 * 数据库密钥存储器配置。
+		 *
+		 * @since 2.1.0
+		 */
+		public static class Jdbc {
+			/**
+			 * {@link org.springframework.jdbc.core.JdbcTemplate} 的 Bean 名称。
+			 * <p>为空时使用容器中默认的 {@code JdbcTemplate}。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private String jdbcTemplateRef;
+			/**
+			 * 表名。
+			 *
+			 * @since 2.1.0
+			 */
+			private String tableName;
+			/**
+			 * 应用 ID 列名，默认值为 {@code app_id}。
+			 *
+			 * @since 2.1.0
+			 */
+			private String appIdColumn = "app_id";
+			/**
+			 * 密钥列名，默认值为 {@code secret_key}。
+			 *
+			 * @since 2.1.0
+			 */
+			private String secretKeyColumn = "secret_key";
+
+			public String getJdbcTemplateRef() {
+				return jdbcTemplateRef;
+			}
+
+			public void setJdbcTemplateRef(String jdbcTemplateRef) {
+				this.jdbcTemplateRef = jdbcTemplateRef;
+			}
+
+			public String getTableName() {
+				return tableName;
+			}
+
+			public void setTableName(String tableName) {
+				this.tableName = tableName;
+			}
+
+			public String getAppIdColumn() {
+				return appIdColumn;
+			}
+
+			public void setAppIdColumn(String appIdColumn) {
+				this.appIdColumn = appIdColumn;
+			}
+
+			public String getSecretKeyColumn() {
+				return secretKeyColumn;
+			}
+
+			public void setSecretKeyColumn(String secretKeyColumn) {
+				this.secretKeyColumn = secretKeyColumn;
+			}
+		}
+
+		/**
+		 * Redis 密钥存储器配置。
+		 *
+		 * @since 2.1.0
+		 */
+		public static class Redis {
+			/**
+			 * {@link org.springframework.data.redis.core.StringRedisTemplate} 的 Bean 名称。
+			 * <p>为空时使用容器中默认的 {@code StringRedisTemplate}；使用动态 Redis 数据源时填写 {@code {name}StringRedisTemplate}。</p>
+			 *
+			 * @since 2.1.0
+			 */
+			private String redisTemplateRef;
+			/**
+			 * 保存密钥的 Redis 哈希键，默认值为 {@code signature-secret-keys}。
+			 *
+			 * @since 2.1.0
+			 */
+			private String key = "signature-secret-keys";
+
+			public String getRedisTemplateRef() {
+				return redisTemplateRef;
+			}
+
+			public void setRedisTemplateRef(String redisTemplateRef) {
+				this.redisTemplateRef = redisTemplateRef;
+			}
+
+			public String getKey() {
+				return key;
+			}
+
+			public void setKey(String key) {
+				this.key = key;
+			}
+		}
+
+		/**
+		 * 密钥缓存配置。
+		 * <p>仅对本模块按 {@link Storer#getType()} 注册的数据库或 Redis 存储器生效，应用自行定义的存储器不受影响。
+		 * 启用后吊销或轮换的密钥最长在 {@link #getExpireAfterWrite()} 内仍然有效，
+		 * 新增的应用 ID 最长在 {@link #getNegativeExpireAfterWrite()} 内仍被拒绝，除非主动使缓存失效。</p>
+		 *
+		 * @since 2.1.0
+		 */
+		public static class Cache {
+			/**
+			 * 是否启用缓存，默认值为 {@code false}。
+			 *
+			 * @since 2.1.0
+			 */
+			private boolean enabled = false;
+			/**
+			 * 最大缓存数量，默认值为 1000。
+			 *
+			 * @since 2.1.0
+			 */
+			private long maximumSize = 1000;
+			/**
+			 * 密钥过期时间，默认值为 10 分钟。
+			 *
+			 * @since 2.1.0
+			 */
+			private Duration expireAfterWrite = Duration.ofMinutes(10);
+			/**
+			 * 提前刷新时间，默认值为 1 分钟；应小于过期时间。
+			 *
+			 * @since 2.1.0
+			 */
+			private Duration refreshAfterWrite = Duration.ofMinutes(1);
+			/**
+			 * 不存在的应用 ID 的缓存时间，默认值为 30 秒。
+			 *
+			 * @since 2.1.0
+			 */
+			private Duration negativeExpireAfterWrite = Duration.ofSeconds(30);
+			/**
+			 * 是否在应用就绪后批量预热缓存，预热失败仅记录日志，默认值为 {@code true}。
+			 *
+			 * @since 2.1.0
+			 */
+			private boolean preload = true;
+
+			public boolean isEnabled() {
+				return enabled;
+			}
+
+			public void setEnabled(boolean enabled) {
+				this.enabled = enabled;
+			}
+
+			public long getMaximumSize() {
+				return maximumSize;
+			}
+
+			public void setMaximumSize(long maximumSize) {
+				this.maximumSize = maximumSize;
+			}
+
+			public Duration getExpireAfterWrite() {
+				return expireAfterWrite;
+			}
+
+			public void setExpireAfterWrite(Duration expireAfterWrite) {
+				this.expireAfterWrite = expireAfterWrite;
+			}
+
+			public Duration getRefreshAfterWrite() {
+				return refreshAfterWrite;
+			}
+
+			public void setRefreshAfterWrite(Duration refreshAfterWrite) {
+				this.refreshAfterWrite = refreshAfterWrite;
+			}
+
+			public Duration getNegativeExpireAfterWrite() {
+				return negativeExpireAfterWrite;
+			}
+
+			public void setNegativeExpireAfterWrite(Duration negativeExpireAfterWrite) {
+				this.negativeExpireAfterWrite = negativeExpireAfterWrite;
+			}
+
+			public boolean isPreload() {
+				return preload;
+			}
+
+			public void setPreload(boolean preload) {
+				this.preload = preload;
+			}
+		}
+	}
 }
@@ -16,9 +16,30 @@
 
 package io.github.pangju666.framework.boot.web.signature.enums;
 
-import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 
 /**
@@ -36,6 +57,10 @@ import java.util.function.Function;
  *   <li>{@link #SHA256}：安全性与性能均衡，通用推荐。</li>
  *   <li>{@link #SHA512}：更高安全性，适用于高安全需求。</li>
  *   <li>{@link #MD5}：速度快但安全性较弱，不建议用于安全场景。</li>
+ *   <li>{@link #HMAC_SHA256}：以密钥作为 HMAC 密钥计算消息认证码，密钥不参与拼接，推荐。</li>
+ *   <li>{@link #HMAC_SHA512}：HMAC-SHA512 消息认证码，适用于高安全需求。</li>
+ *   <li>{@link #ED25519}：Ed25519 公钥签名，服务端只需保存调用方公钥，无需共享密钥。</li>
+ *   <li>{@link #ECDSA_P256}：ECDSA（P-256 曲线，SHA-256）公钥签名，签名为 DER 编码。</li>
  * </ul>
  *
  * <p><strong>使用示例</strong></p>
@@ -43,6 +68,12 @@ import java.util.function.Function;
  * {@code
  * SignatureAlgorithm algorithm = SignatureAlgorithm.SHA256;
  * String digest = algorithm.computeDigest("plain-text");
+ *
+ * SignatureAlgorithm hmac = SignatureAlgorithm.HMAC_SHA256;
+ * byte[] mac = hmac.computeHmac("secret-key", "app-1", "http://localhost/api", "1700000000000");
+ *
+ * SignatureAlgorithm ed25519 = SignatureAlgorithm.ED25519;
+ * boolean verified = ed25519.verify(base64PublicKey, signatureBytes, "app-1", "http://localhost/api", "1700000000000");
  * }
  * </pre>
  *
@@ -50,11 +81,15 @@ import java.util.function.Function;
  * <ul>
  *   <li>返回值为小写十六进制字符串（基于 Apache Commons Codec）。</li>
  *   <li>输入字符串不可为 {@code null}，否则可能抛出 {@link NullPointerException}。</li>
- *   <li>涉及安全场景时优先选择 {@link #SHA256} 或 {@link #SHA512}。</li>
+ *   <li>涉及安全场景时优先选择 {@link #HMAC_SHA256} 或 {@link #HMAC_SHA512}。</li>
+ *   <li>HMAC 算法按密钥缓存已初始化的 {@link Mac} 实例池，避免每次校验重复初始化；
+ *   池按密钥隔离，兼容虚拟线程（不依赖线程本地变量）。</li>
+ *   <li>公钥签名算法按公钥缓存解析后的 {@link PublicKey} 与已初始化的 {@link Signature} 实例池，
+ *   公钥变更（密钥轮换）后自动使用新的缓存项。</li>
  * </ul>
  *
  * @author pangju666
- * @see Signature
+ * @see io.github.pangju666.framework.boot.web.signature.annotation.Signature
  * @since 1.0.0
  */
 public enum SignatureAlgorithm {
@@ -85,12 +120,126 @@ public enum SignatureAlgorithm {
 	 *
 	 * @since 1.0.0
 	 */
-	MD5(DigestUtils::md5Hex);
+	MD5(DigestUtils::md5Hex),
+	/**
+	 * HMAC-SHA256 消息认证码算法。
+	 * <p>以签名密钥作为 HMAC 密钥对规范化请求计算消息认证码，推荐用于签名校验。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	HMAC_SHA256("HmacSHA256"),
+	/**
+	 * HMAC-SHA512 消息认证码算法。
+	 * <p>以签名密钥作为 HMAC 密钥对规范化请求计算消息认证码，适合高安全性需求场景。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	HMAC_SHA512("HmacSHA512"),
+	/**
+	 * Ed25519 公钥签名算法。
+	 * <p>调用方使用私钥签名，服务端使用 Base64 编码的 X.509 格式公钥校验，推荐用于无需共享密钥的场景。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	ED25519("Ed25519", "Ed25519"),
+	/**
+	 * ECDSA（P-256 曲线，SHA-256）公钥签名算法。
+	 * <p>签名为 DER 编码，服务端使用 Base64 编码的 X.509 格式公钥校验。</p>
+	 *
+	 * @since 2.1.0
+	 */
+	ECDSA_P256("EC", "SHA256withECDSA");
+
+	/**
+	 * 单个 HMAC 算法最多缓存的密钥数量，超出后清空重建，防止密钥轮换导致缓存无限增长。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int MAX_CACHED_SECRET_KEYS = 256;
+	/**
+	 * P-256（secp256r1）曲线参数，用于校验 {@link #ECDSA_P256} 公钥的曲线。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final ECParameterSpec P256_PARAMETER_SPEC = loadP256ParameterSpec();
 
 	private final Function<String, String> digestFunction;
+	/**
+	 * HMAC 算法名称，摘要算法为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String macAlgorithm;
+	/**
+	 * 密钥到已初始化 {@link Mac} 实例池的映射，摘要算法为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<String, Queue<Mac>> macPools;
+	/**
+	 * 公钥算法名称（{@link KeyFactory} 使用），非公钥签名算法为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String keyAlgorithm;
+	/**
+	 * 签名算法名称（{@link Signature} 使用），非公钥签名算法为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final String signatureAlgorithm;
+	/**
+	 * 公钥到校验器的映射，非公钥签名算法为 {@code null}。
+	 *
+	 * @since 2.1.0
+	 */
+	private final Map<String, Verifier> verifiers;
 
 	SignatureAlgorithm(Function<String, String> digestFunction) {
 		this.digestFunction = digestFunction;
+		this.macAlgorithm = null;
+		this.macPools = null;
+		this.keyAlgorithm = null;
+		this.signatureAlgorithm = null;
+		this.verifiers = null;
+	}
+
+	SignatureAlgorithm(String macAlgorithm) {
+		this.digestFunction = null;
+		this.macAlgorithm = macAlgorithm;
+		this.macPools = new ConcurrentHashMap<>();
+		this.keyAlgorithm = null;
+		this.signatureAlgorithm = null;
+		this.verifiers = null;
+	}
+
+	SignatureAlgorithm(String keyAlgorithm, String signatureAlgorithm) {
+		this.digestFunction = null;
+		this.macAlgorithm = null;
+		this.macPools = null;
+		this.keyAlgorithm = keyAlgorithm;
+		this.signatureAlgorithm = signatureAlgorithm;
+		this.verifiers = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * 是否为 HMAC 算法。
+	 *
+	 * @return HMAC 算法返回 {@code true}；摘要算法返回 {@code false}
+	 * @since 2.1.0
+	 */
+	public boolean isHmac() {
+		return Objects.nonNull(macAlgorithm);
+	}
+
+	/**
+	 * 是否为公钥签名算法。
+	 *
+	 * @return 公钥签名算法返回 {@code true}；否则返回 {@code false}
+	 * @since 2.1.0
+	 */
+	public boolean isAsymmetric() {
+		return Objects.nonNull(signatureAlgorithm);
 	}
 
 	/**
@@ -102,9 +251,203 @@ public enum SignatureAlgorithm {
 	 *
 	 * @param rawStr 原始字符串（不可为 {@code null}）
 	 * @return 摘要值（小写十六进制字符串）
+	 * @throws UnsupportedOperationException 当前算法为 HMAC 或公钥签名算法时抛出
 	 * @since 1.0.0
 	 */
 	public String computeDigest(String rawStr) {
+		if (Objects.isNull(digestFunction)) {
+			throw new UnsupportedOperationException(name() + " 不是摘要算法，请使用 computeHmac 或 verify");
+		}
 		return digestFunction.apply(rawStr);
 	}
+
+	/**
+	 * 计算规范化请求的 HMAC 消息认证码。
+	 *
+	 * <p>
+	 * 规范化请求为各组成部分以 {@code &} 连接后的 UTF-8 字节，各部分依次写入 {@link Mac}，不会拼接中间字符串。
+	 * </p>
+	 *
+	 * @param secretKey 签名密钥（不可为空）
+	 * @param parts     规范化请求的组成部分（不可包含 {@code null}）
+	 * @return 消息认证码原始字节
+	 * @throws UnsupportedOperationException 当前算法不是 HMAC 算法时抛出
+	 * @since 2.1.0
+	 */
+	public byte[] computeHmac(String secretKey, CharSequence... parts) {
+		if (!isHmac()) {
+			throw new UnsupportedOperationException(name() + " 不是 HMAC 算法，请使用 computeDigest 计算");
+		}
+
+		Queue<Mac> pool = macPools.get(secretKey);
+		if (Objects.isNull(pool)) {
+			if (macPools.size() >= MAX_CACHED_SECRET_KEYS) {
+				macPools.clear();
+			}
+			pool = macPools.computeIfAbsent(secretKey, key -> new ConcurrentLinkedQueue<>());
+		}
+		Mac mac = pool.poll();
+		if (Objects.isNull(mac)) {
+			mac = createMac(secretKey);
+		}
+		try {
+			for (int i = 0; i < parts.length; i++) {
+				if (i > 0) {
+					mac.update((byte) '&');
+				}
+				mac.update(encodeUtf8(parts[i]));
+			}
+			return mac.doFinal();
+		} catch (RuntimeException e) {
+			mac.reset();
+			throw e;
+		} finally {
+			pool.offer(mac);
+		}
+	}
+
+	/**
+	 * 计算规范化请求的 HMAC 消息认证码，并以小写十六进制形式返回。
+	 *
+	 * @param secretKey 签名密钥（不可为空）
+	 * @param parts     规范化请求的组成部分（不可包含 {@code null}）
+	 * @return 消息认证码（小写十六进制字符串）
+	 * @throws UnsupportedOperationException 当前算法不是 HMAC 算法时抛出
+	 * @see #computeHmac(String, CharSequence...)
+	 * @since 2.1.0
+	 */
+	public String computeHmacHex(String secretKey, CharSequence... parts) {
+		return Hex.encodeHexString(computeHmac(secretKey, parts));
+	}
+
+	/**
+	 * 使用公钥校验规范化请求的签名。
+	 *
+	 * <p>
+	 * 规范化请求为各组成部分以 {@code &} 连接后的 UTF-8 字节，各部分依次写入 {@link Signature}，不会拼接中间字符串。
+	 * 公钥首次使用时解析并缓存，之后复用已初始化的 {@link Signature} 实例。
+	 * </p>
+	 *
+	 * @param publicKey Base64 编码的 X.509 格式公钥（不可为空）
+	 * @param signature 签名原始字节
+	 * @param parts     规范化请求的组成部分（不可包含 {@code null}）
+	 * @return 签名有效返回 {@code true}；签名无效或格式错误返回 {@code false}
+	 * @throws UnsupportedOperationException 当前算法不是公钥签名算法时抛出
+	 * @throws IllegalArgumentException      公钥无效时抛出
+	 * @since 2.1.0
+	 */
+	public boolean verify(String publicKey, byte[] signature, CharSequence... parts) {
+		if (!isAsymmetric()) {
+			throw new UnsupportedOperationException(name() + " 不是公钥签名算法");
+		}
+
+		Verifier verifier = verifiers.get(publicKey);
+		if (Objects.isNull(verifier)) {
+			if (verifiers.size() >= MAX_CACHED_SECRET_KEYS) {
+				verifiers.clear();
+			}
+			verifier = verifiers.computeIfAbsent(publicKey, this::createVerifier);
+		}
+		Signature instance = verifier.pool().poll();
+		if (Objects.isNull(instance)) {
+			instance = createSignature(verifier.publicKey());
+		}
+		try {
+			for (int i = 0; i < parts.length; i++) {
+				if (i > 0) {
+					instance.update((byte) '&');
+				}
+				instance.update(encodeUtf8(parts[i]));
+			}
+			boolean verified = instance.verify(signature);
+			// verify 调用后实例恢复为 initVerify 后的状态，可直接复用
+			verifier.pool().offer(instance);
+			return verified;
+		} catch (SignatureException e) {
+			// 签名格式错误时实例状态不确定，不放回池中
+			return false;
+		}
+	}
+
+	/**
+	 * 将规范化请求的组成部分编码为 UTF-8 字节，字符串直接编码，其他字符序列（如 {@link StringBuilder}）不复制为中间字符串。
+	 *
+	 * @param part 组成部分
+	 * @return UTF-8 字节缓冲区
+	 * @since 2.1.0
+	 */
+	private static ByteBuffer encodeUtf8(CharSequence part) {
+		if (part instanceof String str) {
+			return ByteBuffer.wrap(str.getBytes(StandardCharsets.UTF_8));
+		}
+		return StandardCharsets.UTF_8.encode(CharBuffer.wrap(part));
+	}
+
+	private Verifier createVerifier(String publicKey) {
+		PublicKey key;
+		try {
+			key = KeyFactory.getInstance(keyAlgorithm).generatePublic(
+				new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("无效的 " + name() + " 公钥", e);
+		}
+		if (key instanceof ECPublicKey ecPublicKey && !isP256(ecPublicKey.getParams())) {
+			throw new IllegalArgumentException("无效的 " + name() + " 公钥，仅支持 P-256 曲线");
+		}
+		return new Verifier(key, new ConcurrentLinkedQueue<>());
+	}
+
+	/**
+	 * 判断曲线参数是否为 P-256（secp256r1）：比较曲线、基点、阶与余因子，仅比较域长度无法排除其他 256 位曲线。
+	 *
+	 * @param params 公钥的曲线参数
+	 * @return 为 P-256 曲线返回 {@code true}，否则返回 {@code false}
+	 * @since 2.1.0
+	 */
+	private static boolean isP256(ECParameterSpec params) {
+		return P256_PARAMETER_SPEC.getCurve().equals(params.getCurve()) &&
+			P256_PARAMETER_SPEC.getGenerator().equals(params.getGenerator()) &&
+			P256_PARAMETER_SPEC.getOrder().equals(params.getOrder()) &&
+			P256_PARAMETER_SPEC.getCofactor() == params.getCofactor();
+	}
+
+	private static ECParameterSpec loadP256ParameterSpec() {
+		try {
+			AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+			parameters.init(new ECGenParameterSpec("secp256r1"));
+			return parameters.getParameterSpec(ECParameterSpec.class);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("加载 secp256r1 曲线参数失败", e);
+		}
+	}
+
+	private Signature createSignature(PublicKey publicKey) {
+		try {
+			Signature signature = Signature.getInstance(signatureAlgorithm);
+			signature.initVerify(publicKey);
+			return signature;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("初始化 " + signatureAlgorithm + " 失败", e);
+		}
+	}
+
+	private Mac createMac(String secretKey) {
+		try {
+			Mac mac = Mac.getInstance(macAlgorithm);
+			mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), macAlgorithm));
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("初始化 " + macAlgorithm + " 失败", e);
+		}
+	}
+
+	/**
+	 * 已解析的公钥与已初始化的签名实例池。
+	 *
+	 * @param publicKey 公钥
+	 * @param pool      签名实例池
+	 * @since 2.1.0
+	 */
+	private record Verifier(PublicKey publicKey, Queue<Signature> pool) {
+	}
 }
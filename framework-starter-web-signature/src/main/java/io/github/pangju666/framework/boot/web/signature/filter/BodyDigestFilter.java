@@ -0,0 +1,75 @@
+/*
+ *   Copyright 2025 pangju666
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.github.pangju666.framework.boot.web.signature.filter;
+
+import io.github.pangju666.framework.boot.web.signature.BodyDigestRequestWrapper;
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
+import io.github.pangju666.framework.web.servlet.BaseHttpRequestFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 请求体摘要过滤器。
+ *
+ * <p><strong>概述</strong></p>
+ * <ul>
+ *   <li>将请求包装为 {@link BodyDigestRequestWrapper}，供签名拦截器在启用 {@link Signature#body()} 时设置期望摘要。</li>
+ *   <li>包装器在未设置期望摘要时直接委托原始请求，对未启用请求体校验的接口没有额外开销。</li>
+ *   <li>注册顺序为 {@link #ORDER}，位于跨域（{@link Ordered#HIGHEST_PRECEDENCE} + 1）、请求日志（+ 2）
+ *   与异常信息（+ 3）过滤器之后，先于其他读取请求体的过滤器包装请求。</li>
+ * </ul>
+ *
+ * @author pangju666
+ * @see BodyDigestRequestWrapper
+ * @see Signature#body()
+ * @since 2.1.0
+ */
+public class BodyDigestFilter extends BaseHttpRequestFilter {
+	/**
+	 * 过滤器注册顺序。
+	 *
+	 * @since 2.1.0
+	 */
+	public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 4;
+
+	/**
+	 * 构造过滤器。
+	 *
+	 * @param excludePathPatterns 需要排除的路径匹配规则
+	 * @since 2.1.0
+	 */
+	public BodyDigestFilter(Set<String> excludePathPatterns) {
+		super(excludePathPatterns);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		if (Objects.isNull(WebUtils.getNativeRequest(request, BodyDigestRequestWrapper.class))) {
+			request = new BodyDigestRequestWrapper(request);
+		}
+		filterChain.doFilter(request, response);
+	}
+}
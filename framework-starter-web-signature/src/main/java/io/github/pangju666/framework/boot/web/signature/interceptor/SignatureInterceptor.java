@@ -17,23 +17,32 @@
 package io.github.pangju666.framework.boot.web.signature.interceptor;
 
 import io.github.pangju666.commons.lang.concurrent.SystemClock;
+import io.github.pangju666.framework.boot.web.signature.BodyDigestRequestWrapper;
+import io.github.pangju666.framework.boot.web.signature.CanonicalUrlBuilder;
+import io.github.pangju666.framework.boot.web.signature.NonceStorer;
+import io.github.pangju666.framework.boot.web.signature.SignaturePolicy;
+import io.github.pangju666.framework.boot.web.signature.SignaturePolicyRegistry;
 import io.github.pangju666.framework.boot.web.signature.annotation.Signature;
 import io.github.pangju666.framework.boot.web.signature.SignatureConfiguration;
+import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm;
 import io.github.pangju666.framework.boot.web.signature.SecretKeyStorer;
+import io.github.pangju666.framework.web.exception.base.ServerException;
 import io.github.pangju666.framework.web.exception.base.ValidationException;
 import io.github.pangju666.framework.web.servlet.BaseHttpInterceptor;
 import io.github.pangju666.framework.web.servlet.HttpResponseBuilder;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.Strings;
 import org.springframework.web.bind.MissingRequestValueException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.util.WebUtils;
 
-import java.net.URLEncoder;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -51,8 +60,12 @@ import java.util.Objects;
  *     <li>校验请求是否包含必要的签名字段（如 appId、签名值）。</li>
  *     <li>从 {@link SignatureConfiguration} 配置中获取签名字段名称，支持灵活自定义。</li>
  *     <li>通过 {@link SecretKeyStorer} 动态加载对应 appId 的签名密钥，计算签名并进行对比。</li>
- *     <li>支持多种签名计算算法（如 MD5、SHA256）。</li>
+ *     <li>支持多种签名计算算法（如 MD5、SHA256、HMAC-SHA256），签名比较为常量时间比较。</li>
+ *     <li>支持公钥签名算法（Ed25519、ECDSA P-256），此时 {@link SecretKeyStorer} 提供的是调用方公钥。</li>
  *     <li>检查签名的时效性，拒绝超时签名。</li>
+ *     <li>通过 {@link NonceStorer} 记录已使用的随机数，拒绝有效期内的重放请求。</li>
+ *     <li>通过 {@link BodyDigestRequestWrapper} 校验请求体摘要，拒绝请求体被篡改的请求：请求体由消息转换器读取时边读取边计算，
+ *     否则在拦截器中读取并缓存完整请求体后立即校验。</li>
  * </ul>
  *
  * <p>适用场景：</p>
@@ -68,6 +81,8 @@ import java.util.Objects;
  *     <li>比对请求的 appId 是否在注解允许的范围内。</li>
  *     <li>计算签名并与请求中的签名值比较。</li>
  *     <li>验证签名的时间戳是否在允许的时间范围内。</li>
+ *     <li>启用随机数校验时，记录随机数并拒绝重复使用。</li>
+ *     <li>启用请求体校验时，设置期望的请求体摘要，请求体读取完毕后校验。</li>
  * </ol>
  *
  * @author pangju666
@@ -78,6 +93,13 @@ import java.util.Objects;
  * @since 1.0.0
  */
 public class SignatureInterceptor extends BaseHttpInterceptor {
+	/**
+	 * 请求体摘要（SHA-256）字节长度。
+	 *
+	 * @since 2.1.0
+	 */
+	private static final int BODY_DIGEST_LENGTH = 32;
+
 	/**
 	 * 签名功能的核心配置。
 	 * <p>
@@ -100,6 +122,26 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 * @since 1.0.0
 	 */
 	private final SecretKeyStorer secretKeyStorer;
+	/**
+	 * 随机数存储器。
+	 * <p>
+	 * 用于在 {@link Signature#nonce()} 启用时记录已使用的随机数，为 {@code null} 时启用随机数校验的接口将返回服务器错误。
+	 * </p>
+	 *
+	 * @see NonceStorer
+	 * @since 2.1.0
+	 */
+	private final NonceStorer nonceStorer;
+	/**
+	 * 签名策略注册表。
+	 * <p>
+	 * 按处理器方法缓存预编译的 {@link SignaturePolicy}，避免每次请求解析注解。
+	 * </p>
+	 *
+	 * @see SignaturePolicyRegistry
+	 * @since 2.1.0
+	 */
+	private final SignaturePolicyRegistry policyRegistry;
 
 	/**
 	 * 构造函数，初始化拦截器。
@@ -113,9 +155,38 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 * @since 1.0.0
 	 */
 	public SignatureInterceptor(SignatureConfiguration configuration, SecretKeyStorer secretKeyStorer) {
+		this(configuration, secretKeyStorer, null);
+	}
+
+	/**
+	 * 构造函数，初始化拦截器并启用随机数防重放校验。
+	 *
+	 * @param configuration   签名相关配置类，定义如签名字段名称及位置等信息。
+	 * @param secretKeyStorer 签名密钥存储器，用于根据 appId 动态加载签名密钥。
+	 * @param nonceStorer     随机数存储器，用于记录已使用的随机数。
+	 * @since 2.1.0
+	 */
+	public SignatureInterceptor(SignatureConfiguration configuration, SecretKeyStorer secretKeyStorer,
+								NonceStorer nonceStorer) {
+		this(configuration, secretKeyStorer, nonceStorer, new SignaturePolicyRegistry());
+	}
+
+	/**
+	 * 构造函数，初始化拦截器并使用指定的签名策略注册表（通常已在启动时预编译）。
+	 *
+	 * @param configuration   签名相关配置类，定义如签名字段名称及位置等信息。
+	 * @param secretKeyStorer 签名密钥存储器，用于根据 appId 动态加载签名密钥。
+	 * @param nonceStorer     随机数存储器，用于记录已使用的随机数（可为 null）。
+	 * @param policyRegistry  签名策略注册表。
+	 * @since 2.1.0
+	 */
+	public SignatureInterceptor(SignatureConfiguration configuration, SecretKeyStorer secretKeyStorer,
+								NonceStorer nonceStorer, SignaturePolicyRegistry policyRegistry) {
 		super(Collections.emptySet());
 		this.configuration = configuration;
 		this.secretKeyStorer = secretKeyStorer;
+		this.nonceStorer = nonceStorer;
+		this.policyRegistry = policyRegistry;
 	}
 
 	/**
@@ -123,6 +194,8 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 * <p>
 	 * 针对带有 {@link Signature} 注解的方法或类，执行签名校验逻辑。
 	 * 根据注解配置的签名校验类型，选择从请求头或请求参数中提取签名进行验证。
+	 * 请求参数签名不包含时间戳、随机数与请求体摘要，因此策略要求请求头签名（见 {@link SignaturePolicy#requiresHeaders()}）时，
+	 * {@link Signature.SignatureType#ANY} 不会回退到请求参数签名，未携带签名请求头的请求直接拒绝。
 	 * </p>
 	 *
 	 * @param request  当前的 HTTP 请求。
@@ -135,28 +208,24 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	@Override
 	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws MissingRequestValueException {
 		if (handler instanceof HandlerMethod handlerMethod) {
-			Signature annotation = handlerMethod.getMethodAnnotation(Signature.class);
-			if (Objects.isNull(annotation)) {
-				Class<?> targetClass = handlerMethod.getBeanType();
-				annotation = targetClass.getAnnotation(Signature.class);
-				if (Objects.isNull(annotation)) {
-					return true;
-				}
+			SignaturePolicy policy = policyRegistry.getPolicy(handlerMethod);
+			if (Objects.isNull(policy)) {
+				return true;
 			}
 
-			return switch (annotation.type()) {
-				case HEADER -> validateSignatureByHeaders(request, response, annotation);
-				case PARAM -> validateSignatureByParams(request, response, annotation);
-				default -> {
-					String signatureHeader = request.getHeader(configuration.getSignatureHeaderName());
-					String timestampHeader = request.getHeader(configuration.getTimestampHeaderName());
-					if (StringUtils.isAllBlank(signatureHeader, timestampHeader)) {
-						yield validateSignatureByParams(request, response, annotation);
-					} else {
-						yield validateSignatureByHeaders(request, response, annotation);
-					}
+			if (policy.type() == Signature.SignatureType.PARAM) {
+				return validateSignatureByParams(request, response, policy);
+			}
+			String signatureHeader = request.getHeader(configuration.getSignatureHeaderName());
+			String timestampHeader = request.getHeader(configuration.getTimestampHeaderName());
+			if (policy.type() == Signature.SignatureType.ANY && StringUtils.isAllBlank(signatureHeader, timestampHeader)) {
+				if (policy.requiresHeaders()) {
+					HttpResponseBuilder.from(response).writeHttpException(new ValidationException("该接口仅支持请求头签名"));
+					return false;
 				}
-			};
+				return validateSignatureByParams(request, response, policy);
+			}
+			return validateSignatureByHeaders(request, response, policy, signatureHeader, timestampHeader);
 		}
 		return true;
 	}
@@ -169,18 +238,18 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 *
 	 * @param request    HTTP 请求。
 	 * @param response   HTTP 响应。
-	 * @param annotation 签名注解实例。
+	 * @param policy     签名策略。
 	 * @return 如果签名校验通过，返回 {@code true}，否则返回 {@code false}。
 	 * @throws MissingServletRequestParameterException 当缺少必要的请求参数时抛出。
 	 * @since 1.0.0
 	 */
 	private boolean validateSignatureByParams(HttpServletRequest request, HttpServletResponse response,
-											  Signature annotation) throws MissingServletRequestParameterException {
+											  SignaturePolicy policy) throws MissingServletRequestParameterException {
 		String appId = request.getParameter(configuration.getAppIdParamName());
 		if (StringUtils.isBlank(appId)) {
 			throw new MissingServletRequestParameterException(configuration.getAppIdParamName(), "string");
 		}
-		if (ArrayUtils.isNotEmpty(annotation.appId()) && !ArrayUtils.contains(annotation.appId(), appId)) {
+		if (!policy.isAllowed(appId)) {
 			HttpResponseBuilder.from(response).writeHttpException(new ValidationException("不是指定的appId"));
 			return false;
 		}
@@ -196,11 +265,16 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 			return false;
 		}
 
-		String requestUrl = getRequestUrl(request);
-		String signStr = StringUtils.joinWith("&", appId, secretKey, requestUrl);
-		String expectSignature = annotation.algorithm().computeDigest(signStr);
-
-		if (!Strings.CS.equals(expectSignature, signature)) {
+		SignatureAlgorithm algorithm = policy.algorithm();
+		boolean verified;
+		if (algorithm.isHmac() || algorithm.isAsymmetric()) {
+			verified = verifySignature(algorithm, signature, secretKey, appId, appendRequestUrl(new StringBuilder(), request));
+		} else {
+			// 摘要算法直接在签名字符串缓冲区中构建规范化 URL，不生成中间字符串
+			StringBuilder signStrBuilder = new StringBuilder(appId).append('&').append(secretKey).append('&');
+			verified = matchesDigest(algorithm, signature, appendRequestUrl(signStrBuilder, request));
+		}
+		if (!verified) {
 			HttpResponseBuilder.from(response).writeHttpException(new ValidationException("签名错误"));
 			return false;
 		}
@@ -215,53 +289,137 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 *
 	 * @param request    HTTP 请求。
 	 * @param response   HTTP 响应。
-	 * @param annotation 签名注解实例。
+	 * @param policy     签名策略。
+	 * @param signature  签名请求头的值。
+	 * @param timestamp  时间戳请求头的值。
 	 * @return 如果签名校验通过，返回 {@code true}，否则返回 {@code false}。
 	 * @throws MissingRequestValueException 当缺少必要的请求头时抛出。
 	 * @since 1.0.0
 	 */
 	private boolean validateSignatureByHeaders(HttpServletRequest request, HttpServletResponse response,
-											   Signature annotation) throws MissingRequestValueException {
+											   SignaturePolicy policy, String signature, String timestamp)
+		throws MissingRequestValueException {
 		try {
 			String appId = request.getHeader(configuration.getAppIdHeaderName());
 			if (StringUtils.isBlank(appId)) {
 				throw new MissingRequestValueException("缺少请求头：" + configuration.getAppIdHeaderName());
 			}
-			if (ArrayUtils.isNotEmpty(annotation.appId()) && !ArrayUtils.contains(annotation.appId(), appId)) {
+			if (!policy.isAllowed(appId)) {
 				HttpResponseBuilder.from(response).writeHttpException(new ValidationException("不是指定的appId"));
 				return false;
 			}
 
-            String signature = request.getHeader(configuration.getSignatureHeaderName());
             if (StringUtils.isBlank(signature)) {
                 throw new MissingRequestValueException("缺少请求头：" + configuration.getSignatureHeaderName());
             }
 
-			String timestamp = request.getHeader(configuration.getTimestampHeaderName());
 			if (StringUtils.isBlank(timestamp)) {
 				throw new MissingRequestValueException("缺少请求头：" + configuration.getTimestampHeaderName());
 			}
 			Long requestTimestamp = Long.parseLong(timestamp);
 			Long nowTimestamp = SystemClock.now();
-			if (nowTimestamp - requestTimestamp > annotation.timeUnit().toMillis(annotation.timeout())) {
+			long timeoutMillis = policy.timeoutMillis();
+			if (nowTimestamp - requestTimestamp > timeoutMillis) {
 				HttpResponseBuilder.from(response).writeHttpException(new ValidationException("签名已过期"));
 				return false;
 			}
 
+			String nonce = null;
+			if (policy.nonce()) {
+				nonce = request.getHeader(configuration.getNonceHeaderName());
+				if (StringUtils.isBlank(nonce)) {
+					throw new MissingRequestValueException("缺少请求头：" + configuration.getNonceHeaderName());
+				}
+				// 拒绝超前时间戳，否则随机数需要保留的时间将不受有效期约束
+				if (requestTimestamp - nowTimestamp > timeoutMillis) {
+					HttpResponseBuilder.from(response).writeHttpException(new ValidationException("无效的时间戳"));
+					return false;
+				}
+			}
+
+			String bodyDigest = null;
+			byte[] bodyDigestBytes = null;
+			BodyDigestRequestWrapper bodyDigestRequest = null;
+			if (policy.body()) {
+				bodyDigest = request.getHeader(configuration.getBodyDigestHeaderName());
+				if (StringUtils.isBlank(bodyDigest)) {
+					throw new MissingRequestValueException("缺少请求头：" + configuration.getBodyDigestHeaderName());
+				}
+				try {
+					bodyDigestBytes = Hex.decodeHex(bodyDigest);
+				} catch (DecoderException e) {
+					HttpResponseBuilder.from(response).writeHttpException(new ValidationException("无效的请求体摘要"));
+					return false;
+				}
+				if (bodyDigestBytes.length != BODY_DIGEST_LENGTH) {
+					HttpResponseBuilder.from(response).writeHttpException(new ValidationException("无效的请求体摘要"));
+					return false;
+				}
+				bodyDigestRequest = WebUtils.getNativeRequest(request, BodyDigestRequestWrapper.class);
+				if (Objects.isNull(bodyDigestRequest) || bodyDigestRequest.isBodyRead()) {
+					HttpResponseBuilder.from(response).writeHttpException(new ServerException("未注册请求体摘要过滤器或请求体已被读取"));
+					return false;
+				}
+			}
+
 			String secretKey = secretKeyStorer.loadSecretKey(appId);
 			if (StringUtils.isBlank(secretKey)) {
 				HttpResponseBuilder.from(response).writeHttpException(new ValidationException("应用标识符不存在"));
 				return false;
 			}
 
-			String requestUrl = request.getRequestURL().toString();
-			String signStr = StringUtils.joinWith("&", appId, secretKey, requestUrl, timestamp);
-			String expectSignature = annotation.algorithm().computeDigest(signStr);
-
-			if (!Strings.CS.equals(expectSignature, signature)) {
+			List<String> parts = new ArrayList<>(5);
+			parts.add(appId);
+			parts.add(request.getRequestURL().toString());
+			parts.add(timestamp);
+			if (Objects.nonNull(nonce)) {
+				parts.add(nonce);
+			}
+			if (Objects.nonNull(bodyDigest)) {
+				parts.add(bodyDigest);
+			}
+			if (!verifySignature(policy.algorithm(), signature, secretKey, parts.toArray(String[]::new))) {
 				HttpResponseBuilder.from(response).writeHttpException(new ValidationException("签名错误"));
 				return false;
 			}
+
+			// 签名通过后再记录随机数，避免伪造请求占用存储空间
+			if (Objects.nonNull(nonce)) {
+				if (Objects.isNull(nonceStorer)) {
+					HttpResponseBuilder.from(response).writeHttpException(new ServerException("未配置随机数存储器"));
+					return false;
+				}
+				try {
+					if (!nonceStorer.putIfAbsent(appId + ":" + nonce, requestTimestamp + timeoutMillis)) {
+						HttpResponseBuilder.from(response).writeHttpException(new ValidationException("重复的请求"));
+						return false;
+					}
+				} catch (IllegalArgumentException e) {
+					HttpResponseBuilder.from(response).writeHttpException(new ServerException(e));
+					return false;
+				} catch (IllegalStateException e) {
+					// 存储已满等无法记录的情况不是重放，返回服务端错误而不是“重复的请求”
+					HttpResponseBuilder.from(response).writeHttpException(new ServerException("随机数记录失败，请稍后重试", e));
+					return false;
+				}
+			}
+
+			// 请求体由消息转换器读取时边读取边计算摘要，读取完毕后与请求头比较；
+			// 否则（表单提交、处理器直接读取请求等）在此读取并缓存完整请求体后校验，避免绕过校验
+			if (Objects.nonNull(bodyDigestRequest)) {
+				bodyDigestRequest.expectDigest(bodyDigestBytes);
+				if (!policy.streamingBody()) {
+					try {
+						bodyDigestRequest.verifyAndCache();
+					} catch (ValidationException e) {
+						HttpResponseBuilder.from(response).writeHttpException(e);
+						return false;
+					} catch (IOException e) {
+						HttpResponseBuilder.from(response).writeHttpException(new ServerException("请求体读取失败", e));
+						return false;
+					}
+				}
+			}
 			return true;
 		} catch (NumberFormatException e) {
 			HttpResponseBuilder.from(response).writeHttpException(new ValidationException("无效的时间戳"));
@@ -270,7 +428,71 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	}
 
 	/**
-	 * 获取请求的完整 URL（不包含签名相关参数）。
+	 * 使用常量时间比较校验签名。
+	 * <p>
+	 * 摘要算法：对（{@code parts[0]} + &amp; + 密钥 + &amp; + 其余部分）计算十六进制摘要后与签名比较。
+	 * HMAC 算法：以密钥作为 HMAC 密钥，对各部分以 &amp; 连接后的字节计算消息认证码，
+	 * 与十六进制解码后的签名字节比较。
+	 * 公钥签名算法：密钥为 Base64 编码的 X.509 格式公钥，对各部分以 &amp; 连接后的字节校验十六进制解码后的签名。
+	 * </p>
+	 *
+	 * @param algorithm 签名算法
+	 * @param signature 请求中的签名值
+	 * @param secretKey 签名密钥
+	 * @param parts     规范化请求的组成部分，第一个元素为应用 ID
+	 * @return 签名一致返回 {@code true}，否则返回 {@code false}
+	 * @throws ServerException 公钥签名算法下应用公钥无效时抛出
+	 * @since 2.1.0
+	 */
+	private boolean verifySignature(SignatureAlgorithm algorithm, String signature, String secretKey,
+									CharSequence... parts) {
+		if (algorithm.isAsymmetric()) {
+			byte[] actualSignature;
+			try {
+				actualSignature = Hex.decodeHex(signature);
+			} catch (DecoderException e) {
+				return false;
+			}
+			try {
+				return algorithm.verify(secretKey, actualSignature, parts);
+			} catch (IllegalArgumentException e) {
+				throw new ServerException("应用公钥无效", e);
+			}
+		}
+		if (algorithm.isHmac()) {
+			byte[] actualSignature;
+			try {
+				actualSignature = Hex.decodeHex(signature);
+			} catch (DecoderException e) {
+				return false;
+			}
+			return MessageDigest.isEqual(algorithm.computeHmac(secretKey, parts), actualSignature);
+		}
+
+		StringBuilder signStrBuilder = new StringBuilder(parts[0]).append('&').append(secretKey);
+		for (int i = 1; i < parts.length; i++) {
+			signStrBuilder.append('&').append(parts[i]);
+		}
+		return matchesDigest(algorithm, signature, signStrBuilder);
+	}
+
+	/**
+	 * 使用常量时间比较签名字符串的十六进制摘要与签名。
+	 *
+	 * @param algorithm 摘要算法
+	 * @param signature 请求中的签名值
+	 * @param signStr   签名字符串
+	 * @return 签名一致返回 {@code true}，否则返回 {@code false}
+	 * @since 2.1.0
+	 */
+	private boolean matchesDigest(SignatureAlgorithm algorithm, String signature, CharSequence signStr) {
+		String expectSignature = algorithm.computeDigest(signStr.toString());
+		return MessageDigest.isEqual(expectSignature.getBytes(StandardCharsets.UTF_8),
+			signature.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 追加请求的完整 URL（不包含签名相关参数）。
 	 * <p>
 	 * 该方法从 HTTP 请求中提取请求的完整 URL（包括路径和查询参数），
 	 * 并移除签名相关的参数（如签名值和应用 ID），以便在签名校验时构造签名字符串进行对比。
@@ -279,29 +501,22 @@ public class SignatureInterceptor extends BaseHttpInterceptor {
 	 *
 	 * <p>主要功能：</p>
 	 * <ul>
-	 *     <li>移除签名参数（如 {@code AppId} 和 {@code Signature} 参数）。</li>
-	 *     <li>对剩余的 URL 包含的查询参数进行重新拼接。</li>
+	 *     <li>按参数名精确匹配移除签名参数（如 {@code AppId} 和 {@code Signature} 参数）。</li>
+	 *     <li>对剩余的 URL 包含的查询参数按原始顺序重新拼接，查询字符串为空时仅使用请求 URL。</li>
 	 *     <li>对最终生成的 URL 进行 UTF-8 编码。</li>
 	 * </ul>
 	 *
+	 * @param builder 目标构建器，处理后的 URL 直接追加到其末尾。
 	 * @param request 当前的 HTTP 请求对象。
-	 * @return 处理后的完整 URL 字符串，已经移除了签名相关参数并经过 URL 编码。
+	 * @return 目标构建器，已追加移除签名相关参数并经过 URL 编码的完整 URL。
+	 * @see CanonicalUrlBuilder
 	 * @since 1.0.0
 	 */
-	private String getRequestUrl(HttpServletRequest request) {
-		String requestUrl = request.getRequestURL().toString();
+	private StringBuilder appendRequestUrl(StringBuilder builder, HttpServletRequest request) {
+		StringBuffer requestUrl = request.getRequestURL();
 		String queryString = request.getQueryString();
-		List<String> queryParams = new ArrayList<>();
-		for (String queryParam : queryString.split("&")) {
-			if (!Strings.CS.startsWithAny(queryParam, configuration.getSignatureParamName(),
-				configuration.getAppIdParamName())) {
-				queryParams.add(queryParam);
-			}
-		}
-		if (queryParams.isEmpty()) {
-			return URLEncoder.encode(requestUrl, StandardCharsets.UTF_8);
-		}
-		return URLEncoder.encode(requestUrl + "?" + StringUtils.join(queryParams, "&"),
-			StandardCharsets.UTF_8);
+		builder.ensureCapacity(builder.length() + CanonicalUrlBuilder.estimateLength(requestUrl, queryString));
+		return CanonicalUrlBuilder.appendTo(builder, requestUrl, queryString,
+			configuration.getSignatureParamName(), configuration.getAppIdParamName());
 	}
 }
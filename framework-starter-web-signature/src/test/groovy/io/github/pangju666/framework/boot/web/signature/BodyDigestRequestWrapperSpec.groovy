@@ -0,0 +1,125 @@
+package io.github.pangju666.framework.boot.web.signature
+
+import io.github.pangju666.framework.web.exception.base.ValidationException
+import org.apache.commons.codec.digest.DigestUtils
+import org.springframework.mock.web.MockHttpServletRequest
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class BodyDigestRequestWrapperSpec extends Specification {
+	def body = '{"name":"pangju666","items":[1,2,3]}'.getBytes(StandardCharsets.UTF_8)
+
+	def wrap(byte[] content) {
+		def request = new MockHttpServletRequest()
+		request.setContent(content)
+		request.setCharacterEncoding("UTF-8")
+		return new BodyDigestRequestWrapper(request)
+	}
+
+	def "摘要一致时完整读取请求体"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256(body))
+
+		expect:
+		wrapper.getInputStream().readAllBytes() == body
+	}
+
+	def "摘要不一致时读取到末尾抛出ValidationException"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256("tampered"))
+
+		when:
+		wrapper.getInputStream().readAllBytes()
+
+		then:
+		thrown(ValidationException)
+	}
+
+	def "通过字符读取器读取时同样校验"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256("tampered"))
+
+		when:
+		wrapper.getReader().text
+
+		then:
+		thrown(ValidationException)
+	}
+
+	def "未读取到末尾时verify读取剩余内容并校验"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256(body))
+		wrapper.getInputStream().read(new byte[4])
+
+		when:
+		wrapper.verify()
+
+		then:
+		noExceptionThrown()
+
+		when:
+		def tampered = wrap(body)
+		tampered.expectDigest(DigestUtils.sha256("tampered"))
+		tampered.getInputStream().read(new byte[4])
+		tampered.verify()
+
+		then:
+		thrown(ValidationException)
+	}
+
+	def "请求体已读取后不可设置期望摘要"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.getInputStream().readAllBytes()
+
+		when:
+		wrapper.expectDigest(DigestUtils.sha256(body))
+
+		then:
+		wrapper.isBodyRead()
+		thrown(IllegalStateException)
+	}
+
+	def "verifyAndCache摘要不一致时抛出ValidationException"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256("other".getBytes(StandardCharsets.UTF_8)))
+
+		when:
+		wrapper.verifyAndCache()
+
+		then:
+		thrown(ValidationException)
+	}
+
+	def "verifyAndCache通过后可重复读取缓存的请求体"() {
+		given:
+		def wrapper = wrap(body)
+		wrapper.expectDigest(DigestUtils.sha256(body))
+
+		when:
+		wrapper.verifyAndCache()
+
+		then:
+		wrapper.getReader().readLine() == new String(body, StandardCharsets.UTF_8)
+	}
+
+	def "设置期望摘要前访问表单参数时标记请求体已读取"() {
+		given:
+		def request = new MockHttpServletRequest("POST", "/")
+		request.setContentType("application/x-www-form-urlencoded")
+		request.setContent("a=1".bytes)
+		def wrapper = new BodyDigestRequestWrapper(request)
+
+		when:
+		wrapper.getParameter("a")
+
+		then:
+		wrapper.isBodyRead()
+	}
+}
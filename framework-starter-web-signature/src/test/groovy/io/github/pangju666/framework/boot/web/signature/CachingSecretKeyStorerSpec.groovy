@@ -0,0 +1,99 @@
+package io.github.pangju666.framework.boot.web.signature
+
+import io.github.pangju666.framework.boot.web.signature.autoconfigure.CachingSecretKeyStorerPostProcessor
+import io.github.pangju666.framework.boot.web.signature.autoconfigure.SignatureProperties
+import org.springframework.beans.factory.support.DefaultListableBeanFactory
+import org.springframework.data.redis.core.StringRedisTemplate
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CachingSecretKeyStorerSpec extends Specification {
+	def delegate = Mock(SecretKeyStorer)
+	def storer = new CachingSecretKeyStorer(delegate, 100, Duration.ofMinutes(10), null, Duration.ofSeconds(30))
+
+	def "命中缓存时不再访问外部存储"() {
+		when:
+		def first = storer.loadSecretKey("app")
+		def second = storer.loadSecretKey("app")
+
+		then:
+		1 * delegate.loadSecretKey("app") >> "secret"
+		first == "secret"
+		second == "secret"
+	}
+
+	def "不存在的应用ID同样被缓存"() {
+		when:
+		def first = storer.loadSecretKey("missing")
+		def second = storer.loadSecretKey("missing")
+
+		then:
+		1 * delegate.loadSecretKey("missing") >> null
+		first == null
+		second == null
+	}
+
+	def "预热后直接命中缓存"() {
+		when:
+		def count = storer.preload()
+		def secretKey = storer.loadSecretKey("app")
+
+		then:
+		1 * delegate.loadAllSecretKeys() >> ["app": "secret", "blank": ""]
+		0 * delegate.loadSecretKey(_)
+		count == 1
+		secretKey == "secret"
+	}
+
+	def "失效后重新加载"() {
+		when:
+		storer.loadSecretKey("app")
+		storer.invalidate("app")
+		def secretKey = storer.loadSecretKey("app")
+
+		then:
+		2 * delegate.loadSecretKey("app") >>> ["old", "new"]
+		secretKey == "new"
+	}
+
+	def "后置处理器仅替换自动配置注册的密钥存储器"() {
+		given:
+		def properties = new SignatureProperties()
+		properties.getStorer().getCache().setEnabled(enabled)
+		def beanFactory = new DefaultListableBeanFactory()
+		beanFactory.registerSingleton("signatureProperties", properties)
+		def postProcessor = new CachingSecretKeyStorerPostProcessor(beanFactory.getBeanProvider(SignatureProperties))
+		def redisStorer = new RedisSecretKeyStorer(new StringRedisTemplate(), "signature-secret-keys")
+		def defaultStorer = new DefaultSecretKeyStorer([:])
+
+		expect:
+		(postProcessor.postProcessAfterInitialization(redisStorer, "redisSecretKeyStorer") instanceof CachingSecretKeyStorer) == enabled
+		postProcessor.postProcessAfterInitialization(redisStorer, "customStorer").is(redisStorer)
+		postProcessor.postProcessAfterInitialization(delegate, "redisSecretKeyStorer").is(delegate)
+		postProcessor.postProcessAfterInitialization(defaultStorer, "defaultStorer").is(defaultStorer)
+		postProcessor.postProcessAfterInitialization(storer, "cachingStorer").is(storer)
+
+		where:
+		enabled << [true, false]
+	}
+
+	def "密钥缓存默认关闭"() {
+		expect:
+		!new SignatureProperties().getStorer().getCache().isEnabled()
+	}
+
+	def "非法参数抛出IllegalArgumentException"() {
+		when:
+		new CachingSecretKeyStorer(delegate, maximumSize, expire, null, negativeExpire)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		maximumSize | expire                | negativeExpire
+		0           | Duration.ofMinutes(1) | Duration.ofSeconds(1)
+		10          | Duration.ZERO         | Duration.ofSeconds(1)
+		10          | Duration.ofMinutes(1) | null
+	}
+}
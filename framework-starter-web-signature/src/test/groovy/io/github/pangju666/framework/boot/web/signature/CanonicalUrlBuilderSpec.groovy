@@ -0,0 +1,66 @@
+package io.github.pangju666.framework.boot.web.signature
+
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class CanonicalUrlBuilderSpec extends Specification {
+	def url = "http://localhost/api/test"
+
+	def "移除签名参数并整体URL编码 #queryString"() {
+		expect:
+		CanonicalUrlBuilder.build(url, queryString, "sign", "appId") ==
+			URLEncoder.encode(expected, StandardCharsets.UTF_8)
+
+		where:
+		queryString                          | expected
+		null                                 | "http://localhost/api/test"
+		""                                   | "http://localhost/api/test?"
+		"appId=app&sign=xx"                  | "http://localhost/api/test"
+		"appId=app&sign=xx&k=v"              | "http://localhost/api/test?k=v"
+		"k=v&appId=app&b=2&sign=xx"          | "http://localhost/api/test?k=v&b=2"
+		"signType=md5&appIdList=1&sign"      | "http://localhost/api/test?signType=md5&appIdList=1"
+		"k=v&&sign=xx&"                      | "http://localhost/api/test?k=v&"
+		"&k=v&&"                             | "http://localhost/api/test?&k=v"
+		"&&"                                 | "http://localhost/api/test"
+		"name=胖橘&emoji=😀&q=a b+c"          | "http://localhost/api/test?name=胖橘&emoji=😀&q=a b+c"
+	}
+
+	def "与String.split拆分语义一致 #queryString"() {
+		given:
+		def params = queryString.split("&").findAll { !it.startsWith("sign=") && !it.startsWith("appId=") }
+		def expected = params.isEmpty() ? url : url + "?" + params.join("&")
+
+		expect:
+		CanonicalUrlBuilder.build(url, queryString, "sign", "appId") ==
+			URLEncoder.encode(expected, StandardCharsets.UTF_8)
+
+		where:
+		queryString << ["", "a=1", "a=1&", "&a=1", "a=1&&b=2&&&", "&", "sign=1&&appId=2", "a&&sign=x&b"]
+	}
+
+	def "追加到已有构建器"() {
+		given:
+		def builder = new StringBuilder("app&secret&")
+
+		when:
+		CanonicalUrlBuilder.appendTo(builder, url, "appId=app&k=v&sign=xx", "sign", "appId")
+
+		then:
+		builder.toString() == "app&secret&" + URLEncoder.encode(url + "?k=v", StandardCharsets.UTF_8)
+	}
+
+	def "编码结果与URLEncoder一致"() {
+		given:
+		def builder = new StringBuilder()
+
+		when:
+		CanonicalUrlBuilder.appendEncoded(builder, value, 0, value.length())
+
+		then:
+		builder.toString() == URLEncoder.encode(value, StandardCharsets.UTF_8)
+
+		where:
+		value << ["abcXYZ019-_.*", "~!@#\$%^&()+=?/", "中文é", "😀", "\uD800", "a\uDC00b"]
+	}
+}
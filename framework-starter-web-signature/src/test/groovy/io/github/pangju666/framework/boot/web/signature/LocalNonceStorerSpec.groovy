@@ -0,0 +1,84 @@
+package io.github.pangju666.framework.boot.web.signature
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class LocalNonceStorerSpec extends Specification {
+	def "首次记录成功 重复记录失败"() {
+		given:
+		def storer = new LocalNonceStorer(Duration.ofMinutes(2), 4, 16)
+		def expireAt = System.currentTimeMillis() + 60000
+
+		expect:
+		storer.putIfAbsent("app:n-1", expireAt)
+		!storer.putIfAbsent("app:n-1", expireAt)
+		storer.putIfAbsent("app:n-2", expireAt)
+		storer.size() == 2
+	}
+
+	def "已过期的随机数拒绝记录"() {
+		given:
+		def storer = new LocalNonceStorer(Duration.ofMinutes(2), 4, 16)
+
+		expect:
+		!storer.putIfAbsent("app:n-1", System.currentTimeMillis() - 1)
+	}
+
+	def "达到容量上限时抛出IllegalStateException 重放仍返回false"() {
+		given:
+		def storer = new LocalNonceStorer(Duration.ofMinutes(2), 4, 2)
+		def expireAt = System.currentTimeMillis() + 60000
+
+		expect:
+		storer.putIfAbsent("n-1", expireAt)
+		storer.putIfAbsent("n-2", expireAt)
+		!storer.putIfAbsent("n-1", expireAt)
+
+		when:
+		storer.putIfAbsent("n-3", expireAt)
+
+		then:
+		thrown(IllegalStateException)
+	}
+
+	def "过期后桶被清空并允许再次记录"() {
+		given:
+		def storer = new LocalNonceStorer(Duration.ofMillis(300), 4, 16)
+
+		when:
+		storer.putIfAbsent("n-1", System.currentTimeMillis() + 50)
+		Thread.sleep(400)
+
+		then:
+		storer.putIfAbsent("n-1", System.currentTimeMillis() + 50)
+		storer.size() == 1
+	}
+
+	def "有效期超出存储窗口时抛出IllegalArgumentException而不截断"() {
+		given:
+		def storer = new LocalNonceStorer(Duration.ofMinutes(2), 4, 16)
+
+		when:
+		storer.putIfAbsent("n-1", System.currentTimeMillis() + storer.getWindow().toMillis() + 60000)
+
+		then:
+		storer.getWindow() >= Duration.ofMinutes(2)
+		thrown(IllegalArgumentException)
+		storer.size() == 0
+	}
+
+	def "非法参数抛出IllegalArgumentException"() {
+		when:
+		new LocalNonceStorer(window, bucketCount, maxSize)
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		window               | bucketCount | maxSize
+		Duration.ZERO        | 4           | 16
+		Duration.ofMinutes(1) | 1          | 16
+		Duration.ofMinutes(1) | 4          | 0
+	}
+}
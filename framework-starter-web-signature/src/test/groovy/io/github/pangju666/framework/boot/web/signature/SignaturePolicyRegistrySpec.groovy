@@ -0,0 +1,96 @@
+package io.github.pangju666.framework.boot.web.signature
+
+import io.github.pangju666.framework.boot.web.signature.annotation.Signature
+import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm
+import org.springframework.web.method.HandlerMethod
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class SignaturePolicyRegistrySpec extends Specification {
+	def registry = new SignaturePolicyRegistry()
+
+	static class BaseController {
+		void inherited() {}
+	}
+
+	@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.HMAC_SHA256, appId = ["a", "b", "a"],
+		timeout = 30, timeUnit = TimeUnit.SECONDS, nonce = true)
+	static class SignedController extends BaseController {
+		@Signature(type = Signature.SignatureType.PARAM)
+		void method() {}
+	}
+
+	static class PlainController extends BaseController {
+	}
+
+	static class ParamNonceController {
+		@Signature(type = Signature.SignatureType.PARAM, nonce = true)
+		void method() {}
+
+		@Signature(type = Signature.SignatureType.PARAM, body = true)
+		void body() {}
+	}
+
+	def "编译注解为签名策略"() {
+		when:
+		def policy = registry.getPolicy(new HandlerMethod(new SignedController(), BaseController.getMethod("inherited")))
+
+		then:
+		policy.type() == Signature.SignatureType.HEADER
+		policy.algorithm() == SignatureAlgorithm.HMAC_SHA256
+		policy.appIds() == ["a", "b"] as Set
+		policy.timeoutMillis() == 30000
+		policy.nonce()
+		!policy.body()
+		policy.isAllowed("a")
+		!policy.isAllowed("c")
+	}
+
+	def "请求参数签名启用随机数或请求体校验时编译失败 #method"() {
+		when:
+		registry.getPolicy(new HandlerMethod(new ParamNonceController(), ParamNonceController.getMethod(method)))
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		method << ["method", "body"]
+	}
+
+	def "方法注解优先于类注解"() {
+		expect:
+		registry.getPolicy(new HandlerMethod(new SignedController(), SignedController.getMethod("method"))).type() ==
+			Signature.SignatureType.PARAM
+	}
+
+	def "同一父类方法在不同控制器中策略不同"() {
+		given:
+		def method = BaseController.getMethod("inherited")
+
+		expect:
+		registry.getPolicy(new HandlerMethod(new SignedController(), method)) != null
+		registry.getPolicy(new HandlerMethod(new PlainController(), method)) == null
+	}
+
+	def "预编译后直接命中缓存"() {
+		given:
+		def handlerMethod = new HandlerMethod(new SignedController(), SignedController.getMethod("method"))
+
+		when:
+		registry.compile([handlerMethod, new HandlerMethod(new PlainController(), BaseController.getMethod("inherited"))])
+
+		then:
+		registry.size() == 2
+		registry.getPolicy(handlerMethod).is(registry.getPolicy(handlerMethod))
+	}
+
+	def "统计启用随机数校验的最长签名有效期"() {
+		when:
+		registry.compile([new HandlerMethod(new SignedController(), SignedController.getMethod("method")),
+						  new HandlerMethod(new SignedController(), BaseController.getMethod("inherited"))])
+
+		then:
+		registry.getMaxNonceTimeoutMillis() == 30000
+	}
+}
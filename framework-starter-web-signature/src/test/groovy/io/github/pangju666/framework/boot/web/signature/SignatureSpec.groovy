@@ -3,16 +3,27 @@ package io.github.pangju666.framework.boot.web.signature
 import io.github.pangju666.framework.boot.web.signature.annotation.Signature
 import io.github.pangju666.framework.boot.web.signature.enums.SignatureAlgorithm
 import io.github.pangju666.framework.boot.web.signature.interceptor.SignatureInterceptor
+import io.github.pangju666.framework.web.exception.base.ValidationException
 import jakarta.servlet.ServletOutputStream
 import jakarta.servlet.WriteListener
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
+import org.apache.commons.codec.binary.Hex
+import org.apache.commons.codec.digest.DigestUtils
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
 import org.springframework.web.bind.MissingRequestValueException
 import org.springframework.web.bind.MissingServletRequestParameterException
+import org.springframework.web.bind.annotation.RequestBody
 import org.springframework.web.method.HandlerMethod
 import spock.lang.Specification
 
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
 import java.nio.charset.StandardCharsets
+import java.security.KeyPairGenerator
+import java.security.spec.ECGenParameterSpec
+import java.time.Duration
 import java.util.concurrent.TimeUnit
 
 class SignatureSpec extends Specification {
@@ -31,6 +42,8 @@ class SignatureSpec extends Specification {
 		config.setSignatureHeaderName("X-Signature")
 		config.setAppIdHeaderName("X-App-Id")
 		config.setTimestampHeaderName("X-Timestamp")
+		config.setNonceHeaderName("X-Nonce")
+		config.setBodyDigestHeaderName("X-Body-Digest")
 		config.setSignatureParamName("sign")
 		config.setAppIdParamName("appId")
 
@@ -62,6 +75,39 @@ class SignatureSpec extends Specification {
 		void method() {}
 	}
 
+	static class ControllerHeaderHmac {
+		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.HMAC_SHA256, timeout = 1)
+		void method() {}
+	}
+
+	static class ControllerParamHmac {
+		@Signature(type = Signature.SignatureType.PARAM, algorithm = SignatureAlgorithm.HMAC_SHA512, timeout = 1)
+		void method() {}
+	}
+
+	static class ControllerHeaderNonce {
+		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.SHA256, timeout = 1, nonce = true)
+		void method() {}
+	}
+
+	static class ControllerHeaderBody {
+		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.SHA256, timeout = 1, body = true)
+		void method() {}
+
+		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.SHA256, timeout = 1, body = true)
+		void stream(@RequestBody String body) {}
+	}
+
+	static class ControllerHeaderEd25519 {
+		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.ED25519, timeout = 1)
+		void method() {}
+	}
+
+	static class ControllerParamEcdsa {
+		@Signature(type = Signature.SignatureType.PARAM, algorithm = SignatureAlgorithm.ECDSA_P256, timeout = 1)
+		void method() {}
+	}
+
 	static class ControllerHeaderWhitelist {
 		@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.SHA256, timeout = 1, appId = ["ok"])
 		void method() {}
@@ -70,6 +116,12 @@ class SignatureSpec extends Specification {
 	static class ControllerAny {
 		@Signature(type = Signature.SignatureType.ANY, algorithm = SignatureAlgorithm.SHA256, timeout = 1)
 		void method() {}
+
+		@Signature(type = Signature.SignatureType.ANY, algorithm = SignatureAlgorithm.SHA256, timeout = 1, nonce = true)
+		void nonce() {}
+
+		@Signature(algorithm = SignatureAlgorithm.SHA256, timeout = 1, body = true)
+		void body(@RequestBody String body) {}
 	}
 
 	@Signature(type = Signature.SignatureType.HEADER, algorithm = SignatureAlgorithm.SHA256, timeout = 1)
@@ -364,4 +416,333 @@ class SignatureSpec extends Specification {
 		expect:
 		interceptor.preHandle(request, response, handler)
 	}
-}
\ No newline at end of file
+
+	def "HEADER 随机数首次使用通过 重放返回false"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def ts = System.currentTimeMillis().toString()
+		def nonceInterceptor = new SignatureInterceptor(config, secretKeyStorer, new LocalNonceStorer(Duration.ofMinutes(2), 4, 16))
+		def handler = new HandlerMethod(new ControllerHeaderNonce(), ControllerHeaderNonce.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> ts
+		request.getHeader("X-Nonce") >> "n-1"
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		def expected = SignatureAlgorithm.SHA256.computeDigest([appId, secret, "http://localhost/api/test", ts, "n-1"].join("&"))
+		request.getHeader("X-Signature") >> expected
+
+		expect:
+		nonceInterceptor.preHandle(request, response, handler)
+		!nonceInterceptor.preHandle(request, response, handler)
+	}
+
+	def "ANY 启用随机数时不回退到参数签名 返回false"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def nonceInterceptor = new SignatureInterceptor(config, secretKeyStorer, new LocalNonceStorer(Duration.ofMinutes(2), 4, 16))
+		def handler = new HandlerMethod(new ControllerAny(), ControllerAny.class.getMethod("nonce"))
+		def mockResponse = new MockHttpServletResponse()
+		mockResponse.setCharacterEncoding(StandardCharsets.UTF_8.name())
+		request.getQueryString() >> "appId=${appId}&sign=xx"
+		def encodedUrl = URLEncoder.encode("http://localhost/api/test", StandardCharsets.UTF_8)
+		request.getParameter("appId") >> appId
+		request.getParameter("sign") >> SignatureAlgorithm.SHA256.computeDigest([appId, secret, encodedUrl].join("&"))
+
+		when:
+		def result = nonceInterceptor.preHandle(request, mockResponse, handler)
+
+		then:
+		!result
+		0 * secretKeyStorer.loadSecretKey(_)
+		mockResponse.getContentAsString().contains("该接口仅支持请求头签名")
+	}
+
+	def "HEADER 随机数存储已满时返回服务端错误而不是重复请求"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def nonceStorer = new LocalNonceStorer(Duration.ofMinutes(2), 4, 1)
+		nonceStorer.putIfAbsent("other:n-0", System.currentTimeMillis() + 60000)
+		def nonceInterceptor = new SignatureInterceptor(config, secretKeyStorer, nonceStorer)
+		def handler = new HandlerMethod(new ControllerHeaderNonce(), ControllerHeaderNonce.class.getMethod("method"))
+		def ts = System.currentTimeMillis().toString()
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> ts
+		request.getHeader("X-Nonce") >> "n-1"
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		request.getHeader("X-Signature") >> SignatureAlgorithm.SHA256.computeDigest([appId, secret, "http://localhost/api/test", ts, "n-1"].join("&"))
+
+		def mockResponse = new MockHttpServletResponse()
+		mockResponse.setCharacterEncoding(StandardCharsets.UTF_8.name())
+
+		expect:
+		!nonceInterceptor.preHandle(request, mockResponse, handler)
+		!mockResponse.getContentAsString().contains("重复的请求")
+	}
+
+	def "HEADER 启用随机数时缺少nonce抛出异常"() {
+		given:
+		def nonceInterceptor = new SignatureInterceptor(config, secretKeyStorer, new LocalNonceStorer(Duration.ofMinutes(2), 4, 16))
+		def handler = new HandlerMethod(new ControllerHeaderNonce(), ControllerHeaderNonce.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> "app-1"
+		request.getHeader("X-Signature") >> "x"
+		request.getHeader("X-Timestamp") >> System.currentTimeMillis().toString()
+		request.getHeader("X-Nonce") >> ""
+
+		when:
+		nonceInterceptor.preHandle(request, response, handler)
+
+		then:
+		thrown(MissingRequestValueException)
+	}
+
+	def "HEADER 启用随机数时超前timestamp 返回false"() {
+		given:
+		def nonceInterceptor = new SignatureInterceptor(config, secretKeyStorer, new LocalNonceStorer(Duration.ofMinutes(2), 4, 16))
+		def handler = new HandlerMethod(new ControllerHeaderNonce(), ControllerHeaderNonce.class.getMethod("method"))
+		def future = (System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5)).toString()
+		request.getHeader("X-App-Id") >> "app-1"
+		request.getHeader("X-Signature") >> "x"
+		request.getHeader("X-Timestamp") >> future
+		request.getHeader("X-Nonce") >> "n-1"
+
+		expect:
+		!nonceInterceptor.preHandle(request, response, handler)
+	}
+
+	def "HEADER HMAC 成功校验（密钥不参与拼接）"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def ts = System.currentTimeMillis().toString()
+		def handler = new HandlerMethod(new ControllerHeaderHmac(), ControllerHeaderHmac.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> ts
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		def mac = Mac.getInstance("HmacSHA256")
+		mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+		def expected = Hex.encodeHexString(mac.doFinal([appId, "http://localhost/api/test", ts].join("&").getBytes(StandardCharsets.UTF_8)))
+		request.getHeader("X-Signature") >> expected
+
+		expect:
+		interceptor.preHandle(request, response, handler)
+		interceptor.preHandle(request, response, handler)
+	}
+
+	def "HEADER HMAC 非十六进制签名 返回false"() {
+		given:
+		def appId = "app-1"
+		def handler = new HandlerMethod(new ControllerHeaderHmac(), ControllerHeaderHmac.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> System.currentTimeMillis().toString()
+		secretKeyStorer.loadSecretKey(appId) >> "s3cr3t"
+		request.getHeader("X-Signature") >> "not-hex"
+
+		expect:
+		!interceptor.preHandle(request, response, handler)
+	}
+
+	def "PARAM HMAC 成功校验"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def handler = new HandlerMethod(new ControllerParamHmac(), ControllerParamHmac.class.getMethod("method"))
+		request.getQueryString() >> "appId=${appId}&sign=xx&k=v"
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		def encodedUrl = URLEncoder.encode("http://localhost/api/test?k=v", StandardCharsets.UTF_8)
+		def expected = SignatureAlgorithm.HMAC_SHA512.computeHmacHex(secret, appId, encodedUrl)
+		request.getParameter("appId") >> appId
+		request.getParameter("sign") >> expected.toUpperCase()
+
+		expect:
+		interceptor.preHandle(request, response, handler)
+	}
+
+	def "HEADER 请求体摘要参与签名 读取篡改的请求体时抛出异常"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def ts = System.currentTimeMillis().toString()
+		def bodyDigest = DigestUtils.sha256Hex('{"amount":1}')
+		def handler = new HandlerMethod(new ControllerHeaderBody(), ControllerHeaderBody.class.getMethod("stream", String))
+		def mockRequest = new MockHttpServletRequest("POST", "/api/test")
+		mockRequest.addHeader("X-App-Id", appId)
+		mockRequest.addHeader("X-Timestamp", ts)
+		mockRequest.addHeader("X-Body-Digest", bodyDigest)
+		mockRequest.addHeader("X-Signature", SignatureAlgorithm.SHA256.computeDigest(
+			[appId, secret, "http://localhost/api/test", ts, bodyDigest].join("&")))
+		mockRequest.setContent('{"amount":100}'.getBytes(StandardCharsets.UTF_8))
+		def bodyRequest = new BodyDigestRequestWrapper(mockRequest)
+		secretKeyStorer.loadSecretKey(appId) >> secret
+
+		expect:
+		interceptor.preHandle(bodyRequest, response, handler)
+
+		when:
+		bodyRequest.getInputStream().readAllBytes()
+
+		then:
+		thrown(ValidationException)
+	}
+
+	def "ANY 启用请求体校验时拒绝参数签名的请求"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def handler = new HandlerMethod(new ControllerAny(), ControllerAny.class.getMethod("body", String))
+		def mockResponse = new MockHttpServletResponse()
+		mockResponse.setCharacterEncoding(StandardCharsets.UTF_8.name())
+		request.getQueryString() >> "appId=${appId}&sign=xx"
+		def encodedUrl = URLEncoder.encode("http://localhost/api/test", StandardCharsets.UTF_8)
+		request.getParameter("appId") >> appId
+		request.getParameter("sign") >> SignatureAlgorithm.SHA256.computeDigest([appId, secret, encodedUrl].join("&"))
+
+		when:
+		def result = interceptor.preHandle(request, mockResponse, handler)
+
+		then:
+		!result
+		0 * secretKeyStorer.loadSecretKey(_)
+		mockResponse.getContentAsString().contains("该接口仅支持请求头签名")
+	}
+
+	def "HEADER 无@RequestBody参数时在拦截器中校验请求体 篡改时返回false"() {
+		given:
+		def bodyRequest = bodyDigestRequest('{"amount":1}', '{"amount":100}', "application/json")
+
+		expect:
+		!interceptor.preHandle(bodyRequest, response, new HandlerMethod(new ControllerHeaderBody(),
+			ControllerHeaderBody.class.getMethod("method")))
+	}
+
+	def "HEADER 表单提交在拦截器中校验请求体 通过后参数来自缓存的请求体"() {
+		given:
+		def body = "amount=1&name=%E6%B5%8B%E8%AF%95"
+		def bodyRequest = bodyDigestRequest(body, body, "application/x-www-form-urlencoded")
+
+		expect:
+		interceptor.preHandle(bodyRequest, response, new HandlerMethod(new ControllerHeaderBody(),
+			ControllerHeaderBody.class.getMethod("method")))
+		bodyRequest.getParameter("amount") == "1"
+		bodyRequest.getParameter("name") == "测试"
+		bodyRequest.getInputStream().readAllBytes() == body.getBytes(StandardCharsets.UTF_8)
+	}
+
+	def bodyDigestRequest(String signedBody, String actualBody, String contentType) {
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def ts = System.currentTimeMillis().toString()
+		def bodyDigest = DigestUtils.sha256Hex(signedBody)
+		def mockRequest = new MockHttpServletRequest("POST", "/api/test")
+		mockRequest.addHeader("X-App-Id", appId)
+		mockRequest.addHeader("X-Timestamp", ts)
+		mockRequest.addHeader("X-Body-Digest", bodyDigest)
+		mockRequest.addHeader("X-Signature", SignatureAlgorithm.SHA256.computeDigest(
+			[appId, secret, "http://localhost/api/test", ts, bodyDigest].join("&")))
+		mockRequest.setContentType(contentType)
+		mockRequest.setCharacterEncoding("UTF-8")
+		mockRequest.setContent(actualBody.getBytes(StandardCharsets.UTF_8))
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		return new BodyDigestRequestWrapper(mockRequest)
+	}
+
+	def "HEADER 启用请求体校验时未注册过滤器 返回false"() {
+		given:
+		def appId = "app-1"
+		def handler = new HandlerMethod(new ControllerHeaderBody(), ControllerHeaderBody.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> System.currentTimeMillis().toString()
+		request.getHeader("X-Signature") >> "x"
+		request.getHeader("X-Body-Digest") >> DigestUtils.sha256Hex("")
+		secretKeyStorer.loadSecretKey(appId) >> "s3cr3t"
+
+		expect:
+		!interceptor.preHandle(request, response, handler)
+	}
+
+	def "PARAM 无查询字符串时校验"() {
+		given:
+		def appId = "app-1"
+		def secret = "s3cr3t"
+		def handler = new HandlerMethod(new ControllerParam(), ControllerParam.class.getMethod("method"))
+		request.getQueryString() >> null
+		secretKeyStorer.loadSecretKey(appId) >> secret
+		def encodedUrl = URLEncoder.encode("http://localhost/api/test", StandardCharsets.UTF_8)
+		def expected = SignatureAlgorithm.SHA256.computeDigest([appId, secret, encodedUrl].join("&"))
+		request.getParameter("appId") >> appId
+		request.getParameter("sign") >> expected
+
+		expect:
+		interceptor.preHandle(request, response, handler)
+	}
+
+	def "HEADER Ed25519 公钥校验签名"() {
+		given:
+		def appId = "app-1"
+		def ts = System.currentTimeMillis().toString()
+		def keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair()
+		def handler = new HandlerMethod(new ControllerHeaderEd25519(), ControllerHeaderEd25519.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> ts
+		secretKeyStorer.loadSecretKey(appId) >> Base64.encoder.encodeToString(keyPair.public.encoded)
+		def signer = java.security.Signature.getInstance("Ed25519")
+		signer.initSign(keyPair.private)
+		signer.update([appId, "http://localhost/api/test", ts].join("&").getBytes(StandardCharsets.UTF_8))
+		request.getHeader("X-Signature") >> Hex.encodeHexString(signer.sign())
+
+		expect:
+		interceptor.preHandle(request, response, handler)
+		interceptor.preHandle(request, response, handler)
+	}
+
+	def "HEADER Ed25519 签名不匹配 返回false"() {
+		given:
+		def appId = "app-1"
+		def keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair()
+		def handler = new HandlerMethod(new ControllerHeaderEd25519(), ControllerHeaderEd25519.class.getMethod("method"))
+		request.getHeader("X-App-Id") >> appId
+		request.getHeader("X-Timestamp") >> System.currentTimeMillis().toString()
+		secretKeyStorer.loadSecretKey(appId) >> Base64.encoder.encodeToString(keyPair.public.encoded)
+		request.getHeader("X-Signature") >> Hex.encodeHexString(new byte[64])
+
+		expect:
+		!interceptor.preHandle(request, response, handler)
+	}
+
+	def "PARAM ECDSA P-256 公钥校验签名"() {
+		given:
+		def appId = "app-1"
+		def generator = KeyPairGenerator.getInstance("EC")
+		generator.initialize(new ECGenParameterSpec("secp256r1"))
+		def keyPair = generator.generateKeyPair()
+		def handler = new HandlerMethod(new ControllerParamEcdsa(), ControllerParamEcdsa.class.getMethod("method"))
+		request.getQueryString() >> "appId=${appId}&sign=xx&k=v"
+		secretKeyStorer.loadSecretKey(appId) >> Base64.encoder.encodeToString(keyPair.public.encoded)
+		def encodedUrl = URLEncoder.encode("http://localhost/api/test?k=v", StandardCharsets.UTF_8)
+		def signer = java.security.Signature.getInstance("SHA256withECDSA")
+		signer.initSign(keyPair.private)
+		signer.update([appId, encodedUrl].join("&").getBytes(StandardCharsets.UTF_8))
+		request.getParameter("appId") >> appId
+		request.getParameter("sign") >> Hex.encodeHexString(signer.sign())
+
+		expect:
+		interceptor.preHandle(request, response, handler)
+	}
+
+	def "ECDSA_P256 拒绝非 P-256 曲线公钥 #curve"() {
+		given:
+		def generator = KeyPairGenerator.getInstance("EC")
+		generator.initialize(new ECGenParameterSpec(curve))
+		def publicKey = Base64.encoder.encodeToString(generator.generateKeyPair().public.encoded)
+
+		when:
+		SignatureAlgorithm.ECDSA_P256.verify(publicKey, new byte[64], "app-1")
+
+		then:
+		thrown(IllegalArgumentException)
+
+		where:
+		curve << ["secp384r1", "secp521r1"]
+	}
+}